@@ -22,9 +22,12 @@ import org.apache.logging.log4j.Logger;
 import org.codelibs.fess.annotation.Secured;
 import org.codelibs.fess.util.RenderDataUtil;
 import org.codelibs.fione.app.web.base.FioneAdminAction;
+import org.codelibs.fione.cache.DiskCache;
+import org.codelibs.fione.cache.ResponseCache;
 import org.codelibs.fione.h2o.bindings.pojos.CloudV3;
 import org.codelibs.fione.h2o.bindings.pojos.ShutdownV3;
 import org.codelibs.fione.helper.H2oHelper;
+import org.codelibs.fione.helper.ProjectHelper;
 import org.lastaflute.web.Execute;
 import org.lastaflute.web.response.HtmlResponse;
 import org.lastaflute.web.ruts.process.ActionRuntime;
@@ -40,6 +43,15 @@ public class AdminSystemmlAction extends FioneAdminAction {
     @Resource
     private H2oHelper h2oHelper;
 
+    @Resource
+    private ProjectHelper projectHelper;
+
+    @Resource
+    private ResponseCache responseCache;
+
+    @Resource
+    private DiskCache diskCache;
+
     // ===================================================================================
     //                                                                               Hook
     //                                                                              ======
@@ -93,6 +105,9 @@ public class AdminSystemmlAction extends FioneAdminAction {
         final String token = doubleSubmitManager.saveToken(myTokenGroupType());
         return asHtml(path_AdminSystemml_AdminSystemmlJsp).renderWith(data -> {
             RenderDataUtil.register(data, "token", token);
+            RenderDataUtil.register(data, "cacheStats", responseCache.getStats());
+            RenderDataUtil.register(data, "diskCache", diskCache);
+            RenderDataUtil.register(data, "lockStats", projectHelper.getLockStats());
             try {
                 final Response<CloudV3> cloudStatusResponse = h2oHelper.getCloudStatus().execute();
                 if (logger.isDebugEnabled()) {
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Delivers invalidations to the caches.
+ * Operations which change a project, a frame or a model publish its tag,
+ * and each listener evicts only the entries which have the tag.
+ */
+public class CacheInvalidationBus {
+
+    private static final Logger logger = LogManager.getLogger(CacheInvalidationBus.class);
+
+    protected final List<InvalidationListener> listenerList = new CopyOnWriteArrayList<>();
+
+    public void addListener(final InvalidationListener listener) {
+        listenerList.add(listener);
+    }
+
+    public void publish(final CacheTag... tags) {
+        for (final CacheTag tag : tags) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Invalidate {}", tag);
+            }
+            for (final InvalidationListener listener : listenerList) {
+                try {
+                    listener.invalidate(tag);
+                } catch (final Exception e) {
+                    logger.warn("Failed to invalidate {} in {}", tag, listener, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.cache;
+
+import org.codelibs.core.lang.StringUtil;
+import org.codelibs.fione.h2o.bindings.H2oApi;
+import org.codelibs.fione.h2o.bindings.pojos.FramesV3;
+
+/**
+ * An immutable key of {@link ResponseCache}.
+ * The hash code is computed once, so a cache hit costs a hash lookup and a few comparisons.
+ */
+public final class CacheKey {
+
+    private final String projectId;
+
+    private final String id;
+
+    private final String column;
+
+    private final long rowOffset;
+
+    private final int rowCount;
+
+    private final int columnOffset;
+
+    private final int columnCount;
+
+    private final int hash;
+
+    private CacheKey(final String projectId, final String id, final String column, final long rowOffset, final int rowCount,
+            final int columnOffset, final int columnCount) {
+        this.projectId = projectId;
+        this.id = id;
+        this.column = column;
+        this.rowOffset = rowOffset;
+        this.rowCount = rowCount;
+        this.columnOffset = columnOffset;
+        this.columnCount = columnCount;
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((projectId == null) ? 0 : projectId.hashCode());
+        result = prime * result + ((id == null) ? 0 : id.hashCode());
+        result = prime * result + ((column == null) ? 0 : column.hashCode());
+        result = prime * result + (int) (rowOffset ^ (rowOffset >>> 32));
+        result = prime * result + rowCount;
+        result = prime * result + columnOffset;
+        result = prime * result + columnCount;
+        hash = result;
+    }
+
+    /**
+     * Creates a key of a whole object, such as a frame summary, a leaderboard or a model.
+     */
+    public static CacheKey of(final String projectId, final String id) {
+        return new CacheKey(projectId, id, null, 0L, 0, 0, 0);
+    }
+
+    /**
+     * Creates a key of the frame page or the column requested by the parameters.
+     */
+    public static CacheKey of(final FramesV3 params) {
+        return new CacheKey(null, H2oApi.keyToString(params.frameId), StringUtil.isEmpty(params.column) ? null : params.column,
+                params.rowOffset, params.rowCount, params.columnOffset, params.columnCount);
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public long getRowOffset() {
+        return rowOffset;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnOffset() {
+        return columnOffset;
+    }
+
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CacheKey)) {
+            return false;
+        }
+        final CacheKey other = (CacheKey) obj;
+        if (hash != other.hash || rowOffset != other.rowOffset || rowCount != other.rowCount || columnOffset != other.columnOffset
+                || columnCount != other.columnCount) {
+            return false;
+        }
+        return equals(id, other.id) && equals(column, other.column) && equals(projectId, other.projectId);
+    }
+
+    private static boolean equals(final String s1, final String s2) {
+        return s1 == null ? s2 == null : s1.equals(s2);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder();
+        if (projectId != null) {
+            buf.append(projectId).append('/');
+        }
+        buf.append(id);
+        if (column != null) {
+            buf.append('#').append(column);
+        }
+        if (rowCount != 0 || columnCount != 0) {
+            buf.append('[').append(rowOffset).append('+').append(rowCount).append(',').append(columnOffset).append('+').append(columnCount)
+                    .append(']');
+        }
+        return buf.toString();
+    }
+}
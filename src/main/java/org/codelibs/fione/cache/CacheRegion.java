@@ -0,0 +1,119 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.cache;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.LeaderboardV99;
+import org.codelibs.fione.h2o.bindings.pojos.ModelSchemaBaseV3;
+
+/**
+ * A typed region of {@link ResponseCache}.
+ * Each region has its own time to live and its share of the heap budget.
+ */
+public final class CacheRegion<V> {
+
+    public static final CacheRegion<FrameV3> FRAME_SUMMARY =
+            new CacheRegion<>("frameSummary", FrameV3.class, CacheTag.FRAME, TimeUnit.MINUTES.toMillis(10), 20);
+
+    public static final CacheRegion<FrameV3> FRAME_DATA =
+            new CacheRegion<>("frameData", FrameV3.class, CacheTag.FRAME, TimeUnit.MINUTES.toMillis(10), 30);
+
+    public static final CacheRegion<ColV3> COLUMN_DATA =
+            new CacheRegion<>("columnData", ColV3.class, CacheTag.FRAME, TimeUnit.MINUTES.toMillis(10), 15);
+
+    /** Leaderboards of running AutoML jobs, which get new models while the job runs. */
+    public static final CacheRegion<LeaderboardV99> LEADERBOARD =
+            new CacheRegion<>("leaderboard", LeaderboardV99.class, CacheTag.LEADERBOARD, TimeUnit.MINUTES.toMillis(1), 5);
+
+    /** Leaderboards of finished AutoML jobs, which are not changed any more. */
+    public static final CacheRegion<LeaderboardV99> FINISHED_LEADERBOARD =
+            new CacheRegion<>("finishedLeaderboard", LeaderboardV99.class, CacheTag.LEADERBOARD, TimeUnit.DAYS.toMillis(1), 5);
+
+    public static final CacheRegion<ModelSchemaBaseV3> MODEL =
+            new CacheRegion<>("model", ModelSchemaBaseV3.class, CacheTag.MODEL, TimeUnit.MINUTES.toMillis(30), 25);
+
+    private static final List<CacheRegion<?>> VALUES =
+            List.of(FRAME_SUMMARY, FRAME_DATA, COLUMN_DATA, LEADERBOARD, FINISHED_LEADERBOARD, MODEL);
+
+    private final String name;
+
+    private final Class<V> type;
+
+    private final String tagType;
+
+    private final long defaultTtl;
+
+    private final int heapRatio;
+
+    private CacheRegion(final String name, final Class<V> type, final String tagType, final long defaultTtl, final int heapRatio) {
+        this.name = name;
+        this.type = type;
+        this.tagType = tagType;
+        this.defaultTtl = defaultTtl;
+        this.heapRatio = heapRatio;
+    }
+
+    public static List<CacheRegion<?>> values() {
+        return VALUES;
+    }
+
+    public static CacheRegion<?> valueOf(final String name) {
+        for (final CacheRegion<?> region : VALUES) {
+            if (region.name.equals(name)) {
+                return region;
+            }
+        }
+        throw new IllegalArgumentException("Unknown cache region: " + name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<V> getType() {
+        return type;
+    }
+
+    /**
+     * @return the type of {@link CacheTag} which the ids of keys in this region have
+     */
+    public String getTagType() {
+        return tagType;
+    }
+
+    /**
+     * @return the time to live in milliseconds
+     */
+    public long getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    /**
+     * @return the percentage of the heap budget of {@link ResponseCache}
+     */
+    public int getHeapRatio() {
+        return heapRatio;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
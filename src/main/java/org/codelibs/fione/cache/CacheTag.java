@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.cache;
+
+/**
+ * A tag of cache entries, which names a project or an H2O object the entries depend on.
+ * Entries are evicted by their tags through {@link CacheInvalidationBus}.
+ */
+public final class CacheTag {
+
+    public static final String PROJECT = "project";
+
+    public static final String FRAME = "frame";
+
+    public static final String MODEL = "model";
+
+    public static final String LEADERBOARD = "leaderboard";
+
+    private final String type;
+
+    private final String name;
+
+    private CacheTag(final String type, final String name) {
+        this.type = type;
+        this.name = name;
+    }
+
+    public static CacheTag of(final String type, final String name) {
+        if (type == null || name == null) {
+            throw new IllegalArgumentException("type and name are required: " + type + ":" + name);
+        }
+        return new CacheTag(type, name);
+    }
+
+    public static CacheTag project(final String projectId) {
+        return of(PROJECT, projectId);
+    }
+
+    public static CacheTag frame(final String frameId) {
+        return of(FRAME, frameId);
+    }
+
+    public static CacheTag model(final String modelId) {
+        return of(MODEL, modelId);
+    }
+
+    public static CacheTag leaderboard(final String leaderboardId) {
+        return of(LEADERBOARD, leaderboardId);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * type.hashCode() + name.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CacheTag)) {
+            return false;
+        }
+        final CacheTag other = (CacheTag) obj;
+        return type.equals(other.type) && name.equals(other.name);
+    }
+
+    @Override
+    public String toString() {
+        return type + ":" + name;
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.codelibs.fione.h2o.bindings.H2oApi;
+import org.codelibs.fione.util.StringCodecUtil;
+
+import com.google.gson.Gson;
+
+/**
+ * A second-level cache of {@link ResponseCache} on the local disk, which survives restarts.
+ * An entry is a file with a header and deflated JSON, and is valid only for the same checksum,
+ * such as the checksum of a frame. Least recently used files are deleted when the total size exceeds maxSize.
+ * The cache is disabled until the directory is set.
+ */
+public class DiskCache implements InvalidationListener {
+
+    private static final Logger logger = LogManager.getLogger(DiskCache.class);
+
+    protected static final int MAGIC = 0x46494331; // FIC1
+
+    protected static final String FILE_SUFFIX = ".bin";
+
+    protected long maxSize = 1024L * 1024L * 1024L;
+
+    protected final Gson gson = H2oApi.createGson().newBuilder().serializeSpecialFloatingPointValues().create();
+
+    protected final Map<Path, Long> fileSizeMap = new ConcurrentHashMap<>();
+
+    protected final AtomicLong totalSize = new AtomicLong();
+
+    protected final LongAdder hitCount = new LongAdder();
+
+    protected final LongAdder missCount = new LongAdder();
+
+    protected final LongAdder evictionCount = new LongAdder();
+
+    private volatile Path directory;
+
+    /**
+     * Sets the directory and loads the index of its files.
+     *
+     * @param directory the directory, or null to disable the cache
+     */
+    public synchronized void setDirectory(final Path directory) {
+        if (directory != null && directory.equals(this.directory)) {
+            return;
+        }
+        fileSizeMap.clear();
+        totalSize.set(0L);
+        this.directory = null;
+        if (directory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> stream = Files.walk(directory)) {
+                stream.filter(p -> p.getFileName().toString().endsWith(FILE_SUFFIX)).forEach(p -> {
+                    try {
+                        final long size = Files.size(p);
+                        fileSizeMap.put(p, size);
+                        totalSize.addAndGet(size);
+                    } catch (final IOException e) {
+                        logger.warn("Failed to read {}", p, e);
+                    }
+                });
+            }
+            this.directory = directory;
+            logger.info("Disk cache: {} ({} files, {} bytes)", directory, fileSizeMap.size(), totalSize.get());
+        } catch (final IOException e) {
+            logger.warn("Failed to use {} for the disk cache.", directory, e);
+        }
+    }
+
+    public void setMaxSize(final long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * @return the cached value, or null if it is not found or has another checksum
+     */
+    public <V> V get(final CacheRegion<V> cacheRegion, final String id, final long checksum) {
+        final Path path = getPath(cacheRegion, id);
+        if (path == null || !fileSizeMap.containsKey(path)) {
+            missCount.increment();
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readLong() != checksum) {
+                missCount.increment();
+                return null;
+            }
+            final V value;
+            try (Reader reader = new InputStreamReader(new InflaterInputStream(in), StandardCharsets.UTF_8)) {
+                value = gson.fromJson(reader, cacheRegion.getType());
+            }
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            hitCount.increment();
+            return value;
+        } catch (final Exception e) {
+            logger.warn("Failed to read {}", path, e);
+            delete(path);
+            missCount.increment();
+            return null;
+        }
+    }
+
+    public <V> void put(final CacheRegion<V> cacheRegion, final String id, final long checksum, final V value) {
+        final Path path = getPath(cacheRegion, id);
+        if (path == null || value == null) {
+            return;
+        }
+        Path tempFile = null;
+        try {
+            Files.createDirectories(path.getParent());
+            tempFile = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeLong(checksum);
+                final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (Writer writer = new OutputStreamWriter(new DeflaterOutputStream(out, deflater), StandardCharsets.UTF_8)) {
+                    gson.toJson(value, writer);
+                } finally {
+                    deflater.end();
+                }
+            }
+            final long size = Files.size(tempFile);
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tempFile = null;
+            final Long oldSize = fileSizeMap.put(path, size);
+            totalSize.addAndGet(size - (oldSize != null ? oldSize : 0L));
+            if (logger.isDebugEnabled()) {
+                logger.debug("Stored {}: {} bytes", path, size);
+            }
+        } catch (final Exception e) {
+            logger.warn("Failed to store {}", path, e);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (final IOException e) {
+                    // ignore
+                }
+            }
+        }
+        if (totalSize.get() > maxSize) {
+            evict();
+        }
+    }
+
+    public void remove(final CacheRegion<?> cacheRegion, final String id) {
+        final Path path = getPath(cacheRegion, id);
+        if (path != null) {
+            delete(path);
+        }
+    }
+
+    @Override
+    public void invalidate(final CacheTag tag) {
+        if (CacheTag.FRAME.equals(tag.getType())) {
+            remove(CacheRegion.FRAME_SUMMARY, tag.getName());
+        } else if (CacheTag.LEADERBOARD.equals(tag.getType())) {
+            remove(CacheRegion.FINISHED_LEADERBOARD, tag.getName());
+        }
+    }
+
+    /**
+     * Deletes least recently used files until the total size is 90% of maxSize.
+     */
+    protected synchronized void evict() {
+        final long targetSize = maxSize / 10 * 9;
+        if (totalSize.get() <= targetSize) {
+            return;
+        }
+        final List<Path> paths = new ArrayList<>(fileSizeMap.keySet());
+        final Map<Path, Long> timeMap = new HashMap<>();
+        paths.forEach(p -> {
+            try {
+                timeMap.put(p, Files.getLastModifiedTime(p).toMillis());
+            } catch (final IOException e) {
+                timeMap.put(p, 0L);
+            }
+        });
+        paths.sort(Comparator.comparing(timeMap::get));
+        for (final Path path : paths) {
+            if (totalSize.get() <= targetSize) {
+                break;
+            }
+            if (delete(path)) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    protected boolean delete(final Path path) {
+        final Long size = fileSizeMap.remove(path);
+        if (size != null) {
+            totalSize.addAndGet(-size);
+        }
+        try {
+            return Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            logger.warn("Failed to delete {}", path, e);
+            return false;
+        }
+    }
+
+    protected Path getPath(final CacheRegion<?> cacheRegion, final String id) {
+        final Path dir = directory;
+        if (dir == null) {
+            return null;
+        }
+        return dir.resolve(cacheRegion.getName()).resolve(StringCodecUtil.encodeUrlSafe(id) + FILE_SUFFIX);
+    }
+
+    public String getDirectory() {
+        final Path dir = directory;
+        return dir != null ? dir.toString() : null;
+    }
+
+    public int getFileCount() {
+        return fileSizeMap.size();
+    }
+
+    public long getSize() {
+        return totalSize.get();
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public double getHitRate() {
+        final long hits = hitCount.sum();
+        final long requests = hits + missCount.sum();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * An index of frame ids in H2O, which is built from one /3/Frames listing and kept for ttl.
+ * Frames of a dataset are found by the prefix of their ids with a binary search.
+ * The index is dropped when a frame or a project is invalidated.
+ */
+public class FrameIndex implements InvalidationListener {
+
+    private static final Logger logger = LogManager.getLogger(FrameIndex.class);
+
+    /** The time to live of the index in milliseconds. */
+    protected long ttl = 3000L;
+
+    protected final AtomicLong generation = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Returns the index, or lists frames by the loader if it is expired.
+     * Concurrent callers wait for one listing.
+     */
+    public Snapshot getSnapshot(final Callable<String[]> loader) throws Exception {
+        Snapshot current = snapshot;
+        if (current != null && !current.isExpired()) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && !current.isExpired()) {
+                return current;
+            }
+            final long gen = generation.get();
+            current = new Snapshot(loader.call(), System.currentTimeMillis() + ttl);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Loaded {} frame ids.", current.size());
+            }
+            // not kept if it was invalidated while loading
+            if (generation.get() == gen) {
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    @Override
+    public void invalidate(final CacheTag tag) {
+        if (CacheTag.FRAME.equals(tag.getType()) || CacheTag.PROJECT.equals(tag.getType())) {
+            generation.incrementAndGet();
+            snapshot = null;
+        }
+    }
+
+    public void setTtl(final long ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * Sorted frame ids at a point in time.
+     */
+    public static class Snapshot {
+
+        private final String[] frameIds;
+
+        private final long expireTime;
+
+        protected Snapshot(final String[] frameIds, final long expireTime) {
+            this.frameIds = Arrays.stream(frameIds).filter(s -> s != null).sorted().distinct().toArray(n -> new String[n]);
+            this.expireTime = expireTime;
+        }
+
+        /**
+         * @return frame ids which start with the prefix in the sorted order
+         */
+        public String[] find(final String prefix) {
+            int from = Arrays.binarySearch(frameIds, prefix);
+            if (from < 0) {
+                from = -from - 1;
+            }
+            int to = from;
+            while (to < frameIds.length && frameIds[to].startsWith(prefix)) {
+                to++;
+            }
+            return Arrays.copyOfRange(frameIds, from, to);
+        }
+
+        public int size() {
+            return frameIds.length;
+        }
+
+        protected boolean isExpired() {
+            return System.currentTimeMillis() >= expireTime;
+        }
+    }
+}
@@ -0,0 +1,467 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.codelibs.fione.exception.CacheNotFoundException;
+import org.codelibs.fione.h2o.bindings.H2oApi;
+import org.codelibs.fione.h2o.bindings.pojos.LeaderboardV99;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+
+/**
+ * Caches H2O responses in the regions of {@link CacheRegion}.
+ * Entries are weighed by their estimated heap size, and each region is bounded
+ * by its share of maxHeapSize and expires entries by its own time to live.
+ * Loaders which throw {@link CacheNotFoundException} are cached as negative entries for negativeTtl,
+ * and concurrent loads of the same key wait for one loader.
+ * Entries are tagged by the project and the object of their keys, and leaderboards also by their models,
+ * so {@link #invalidate(CacheTag)} evicts only the entries which depend on the changed object.
+ * Keys are indexed before they are loaded, and a value loaded while its key is invalidated is not cached.
+ */
+public class ResponseCache implements InvalidationListener {
+
+    private static final Logger logger = LogManager.getLogger(ResponseCache.class);
+
+    protected static final long NEGATIVE_WEIGHT = 64L;
+
+    /** The heap budget in bytes for all regions. */
+    protected long maxHeapSize = Runtime.getRuntime().maxMemory() / 10;
+
+    /** Times to live in milliseconds by region names, which override the defaults. */
+    protected Map<String, Long> ttlMap = new LinkedHashMap<>();
+
+    /** The time to live in milliseconds of negative entries. */
+    protected long negativeTtl = 3000L;
+
+    protected SizeEstimator sizeEstimator = new SizeEstimator();
+
+    protected final Map<CacheRegion<?>, Region> regionMap = new LinkedHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        for (final CacheRegion<?> cacheRegion : CacheRegion.values()) {
+            final Region region = new Region(cacheRegion, ttlMap.getOrDefault(cacheRegion.getName(), cacheRegion.getDefaultTtl()),
+                    maxHeapSize * cacheRegion.getHeapRatio() / 100);
+            regionMap.put(cacheRegion, region);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Cache region {}: ttl={}ms, maxWeight={}", cacheRegion, region.ttl, region.maxWeight);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached value, or loads and caches it.
+     *
+     * @return null if the loader threw {@link CacheNotFoundException}
+     * @throws ExecutionException if the loader throws a checked exception
+     */
+    public <V> V get(final CacheRegion<V> cacheRegion, final CacheKey key, final Callable<? extends V> loader) throws ExecutionException {
+        final Region region = getRegion(cacheRegion);
+        while (true) {
+            final Entry[] loaded = new Entry[1];
+            final Loading loading = new Loading(createTags(cacheRegion, key, null));
+            Entry entry = null;
+            try {
+                entry = region.cache.get(key, () -> {
+                    // the key is indexed before the load, so that an invalidation during the load is not missed
+                    region.startLoading(key, loading);
+                    loaded[0] = load(region, key, loader);
+                    return loaded[0];
+                });
+            } finally {
+                if (entry == null) {
+                    region.endLoading(key, loading, false);
+                }
+            }
+            if (entry == loaded[0]) {
+                region.index(key, entry);
+                if (loading.invalidated) {
+                    // the loaded value may be older than the invalidation, so it is not kept
+                    region.cache.asMap().remove(key, entry);
+                }
+            }
+            region.endLoading(key, loading, true);
+            if (!entry.isNegative()) {
+                return cacheRegion.getType().cast(entry.value);
+            }
+            if (entry == loaded[0]) {
+                return null;
+            }
+            if (System.currentTimeMillis() < entry.expireTime) {
+                region.negativeHitCount.increment();
+                return null;
+            }
+            // expired, and reloaded by one of the callers
+            region.cache.asMap().remove(key, entry);
+        }
+    }
+
+    protected Entry load(final Region region, final CacheKey key, final Callable<?> loader) throws Exception {
+        try {
+            final Object value = loader.call();
+            return region.added(new Entry(value, sizeEstimator.estimate(value), 0L, createTags(region.cacheRegion, key, value)));
+        } catch (final CacheNotFoundException e) {
+            return region.added(new Entry(null, NEGATIVE_WEIGHT, System.currentTimeMillis() + negativeTtl,
+                    createTags(region.cacheRegion, key, null)));
+        }
+    }
+
+    protected CacheTag[] createTags(final CacheRegion<?> cacheRegion, final CacheKey key, final Object value) {
+        final List<CacheTag> list = new ArrayList<>();
+        if (key.getProjectId() != null) {
+            list.add(CacheTag.project(key.getProjectId()));
+        }
+        if (key.getId() != null) {
+            list.add(CacheTag.of(cacheRegion.getTagType(), key.getId()));
+        }
+        if (value instanceof LeaderboardV99 && ((LeaderboardV99) value).models != null) {
+            // a leaderboard is stale when one of its models is deleted
+            for (final ModelKeyV3 model : ((LeaderboardV99) value).models) {
+                final String modelId = H2oApi.keyToString(model);
+                if (modelId != null) {
+                    list.add(CacheTag.model(modelId));
+                }
+            }
+        }
+        return list.toArray(new CacheTag[list.size()]);
+    }
+
+    public <V> V getIfPresent(final CacheRegion<V> cacheRegion, final CacheKey key) {
+        final Entry entry = getRegion(cacheRegion).cache.getIfPresent(key);
+        return entry != null ? cacheRegion.getType().cast(entry.value) : null;
+    }
+
+    /**
+     * Checks if the key has an entry, including a negative one, without counting a hit or a miss.
+     */
+    public boolean contains(final CacheRegion<?> cacheRegion, final CacheKey key) {
+        return getRegion(cacheRegion).cache.asMap().containsKey(key);
+    }
+
+    public <V> void put(final CacheRegion<V> cacheRegion, final CacheKey key, final V value) {
+        final Region region = getRegion(cacheRegion);
+        final Entry entry = region.added(new Entry(value, sizeEstimator.estimate(value), 0L, createTags(cacheRegion, key, value)));
+        region.cache.put(key, entry);
+        region.index(key, entry);
+    }
+
+    public void invalidate(final CacheRegion<?> cacheRegion, final CacheKey key) {
+        getRegion(cacheRegion).cache.invalidate(key);
+    }
+
+    /**
+     * Invalidates the key in all regions.
+     */
+    public void invalidate(final CacheKey key) {
+        regionMap.values().forEach(region -> region.cache.invalidate(key));
+    }
+
+    /**
+     * Invalidates the entries which have the tag in all regions.
+     */
+    @Override
+    public void invalidate(final CacheTag tag) {
+        regionMap.values().forEach(region -> {
+            final Set<CacheKey> keys = region.tagMap.get(tag);
+            if (keys != null) {
+                final List<CacheKey> keyList = new ArrayList<>(keys);
+                keyList.forEach(key -> {
+                    final Loading loading = region.loadingMap.get(key);
+                    if (loading != null) {
+                        loading.invalidated = true;
+                    }
+                });
+                region.cache.invalidateAll(keyList);
+            }
+        });
+    }
+
+    public void invalidateAll(final CacheRegion<?> cacheRegion) {
+        getRegion(cacheRegion).cache.invalidateAll();
+    }
+
+    public void invalidateAll() {
+        regionMap.values().forEach(region -> region.cache.invalidateAll());
+    }
+
+    public List<RegionStats> getStats() {
+        final List<RegionStats> list = new ArrayList<>(regionMap.size());
+        regionMap.values().forEach(region -> list.add(new RegionStats(region)));
+        return list;
+    }
+
+    public RegionStats getStats(final CacheRegion<?> cacheRegion) {
+        return new RegionStats(getRegion(cacheRegion));
+    }
+
+    protected Region getRegion(final CacheRegion<?> cacheRegion) {
+        final Region region = regionMap.get(cacheRegion);
+        if (region == null) {
+            throw new IllegalStateException(cacheRegion + " is not initialized.");
+        }
+        return region;
+    }
+
+    protected static class Entry {
+
+        protected final Object value;
+
+        protected final long weight;
+
+        /** The expiration time of a negative entry. */
+        protected final long expireTime;
+
+        protected final CacheTag[] tags;
+
+        protected Entry(final Object value, final long weight, final long expireTime, final CacheTag[] tags) {
+            this.value = value;
+            this.weight = weight;
+            this.expireTime = expireTime;
+            this.tags = tags;
+        }
+
+        protected boolean isNegative() {
+            return value == null;
+        }
+    }
+
+    /**
+     * A load in progress, which is marked when its key is invalidated.
+     */
+    protected static class Loading {
+
+        protected final CacheTag[] tags;
+
+        protected volatile boolean invalidated;
+
+        protected Loading(final CacheTag[] tags) {
+            this.tags = tags;
+        }
+    }
+
+    protected static class Region {
+
+        protected final CacheRegion<?> cacheRegion;
+
+        protected final long ttl;
+
+        protected final long maxWeight;
+
+        protected final Cache<CacheKey, Entry> cache;
+
+        protected final LongAdder weight = new LongAdder();
+
+        protected final LongAdder negativeHitCount = new LongAdder();
+
+        /** Keys by tags, which is updated when entries are added and removed. */
+        protected final Map<CacheTag, Set<CacheKey>> tagMap = new ConcurrentHashMap<>();
+
+        protected final Map<CacheKey, Loading> loadingMap = new ConcurrentHashMap<>();
+
+        protected Region(final CacheRegion<?> cacheRegion, final long ttl, final long maxWeight) {
+            this.cacheRegion = cacheRegion;
+            this.ttl = ttl;
+            this.maxWeight = maxWeight;
+            // one segment, because each segment gets an equal share of the weight and evicts entries larger than it
+            cache = CacheBuilder.newBuilder()//
+                    .concurrencyLevel(1)//
+                    .maximumWeight(maxWeight)//
+                    .<CacheKey, Entry> weigher((k, v) -> (int) Math.min(v.weight, Integer.MAX_VALUE))//
+                    .expireAfterWrite(ttl, TimeUnit.MILLISECONDS)//
+                    .removalListener(notification -> {
+                        weight.add(-notification.getValue().weight);
+                        unindex(notification.getKey(), notification.getValue());
+                        if (logger.isDebugEnabled() && notification.getCause() == RemovalCause.SIZE) {
+                            logger.debug("Evicted {} from {}: {} bytes", notification.getKey(), cacheRegion,
+                                    notification.getValue().weight);
+                        }
+                    })//
+                    .recordStats()//
+                    .build();
+        }
+
+        protected Entry added(final Entry entry) {
+            weight.add(entry.weight);
+            return entry;
+        }
+
+        protected void startLoading(final CacheKey key, final Loading loading) {
+            loadingMap.put(key, loading);
+            index(key, loading.tags);
+        }
+
+        /**
+         * @param loaded false if the load failed, and the key is unindexed unless it has an entry
+         */
+        protected void endLoading(final CacheKey key, final Loading loading, final boolean loaded) {
+            if (loadingMap.remove(key, loading) && !loaded) {
+                unindex(key, loading.tags);
+            }
+        }
+
+        protected void index(final CacheKey key, final Entry entry) {
+            index(key, entry.tags);
+        }
+
+        protected void index(final CacheKey key, final CacheTag[] tags) {
+            for (final CacheTag tag : tags) {
+                tagMap.compute(tag, (t, keys) -> {
+                    final Set<CacheKey> set = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                    set.add(key);
+                    return set;
+                });
+            }
+        }
+
+        protected void unindex(final CacheKey key, final Entry entry) {
+            unindex(key, entry.tags);
+        }
+
+        protected void unindex(final CacheKey key, final CacheTag[] tags) {
+            for (final CacheTag tag : tags) {
+                tagMap.computeIfPresent(tag, (t, keys) -> {
+                    keys.remove(key);
+                    return keys.isEmpty() ? null : keys;
+                });
+            }
+            // the key may have been loaded again before this notification, or may be loading
+            final Entry current = cache.asMap().get(key);
+            if (current != null) {
+                index(key, current);
+            }
+            final Loading loading = loadingMap.get(key);
+            if (loading != null) {
+                index(key, loading.tags);
+            }
+        }
+    }
+
+    /**
+     * A snapshot of the statistics of a region.
+     */
+    public static class RegionStats {
+
+        private final String name;
+
+        private final long size;
+
+        private final long weight;
+
+        private final long maxWeight;
+
+        private final long ttl;
+
+        private final long negativeHitCount;
+
+        private final CacheStats stats;
+
+        protected RegionStats(final Region region) {
+            name = region.cacheRegion.getName();
+            size = region.cache.size();
+            weight = region.weight.sum();
+            maxWeight = region.maxWeight;
+            ttl = region.ttl;
+            negativeHitCount = region.negativeHitCount.sum();
+            stats = region.cache.stats();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * @return the estimated heap size of the entries in bytes
+         */
+        public long getWeight() {
+            return weight;
+        }
+
+        public long getMaxWeight() {
+            return maxWeight;
+        }
+
+        public long getTtl() {
+            return ttl;
+        }
+
+        public long getHitCount() {
+            return stats.hitCount();
+        }
+
+        public long getMissCount() {
+            return stats.missCount();
+        }
+
+        /**
+         * @return the number of hits of negative entries, which are also counted as hits
+         */
+        public long getNegativeHitCount() {
+            return negativeHitCount;
+        }
+
+        public double getHitRate() {
+            return stats.hitRate();
+        }
+
+        public long getEvictionCount() {
+            return stats.evictionCount();
+        }
+
+        public long getLoadCount() {
+            return stats.loadCount();
+        }
+
+        public long getLoadExceptionCount() {
+            return stats.loadExceptionCount();
+        }
+
+        /**
+         * @return the average load time in milliseconds
+         */
+        public double getAverageLoadTime() {
+            return stats.averageLoadPenalty() / 1000000d;
+        }
+
+        @Override
+        public String toString() {
+            return name + "{size=" + size + ", weight=" + weight + "/" + maxWeight + ", hitRate=" + getHitRate() + ", evictions="
+                    + getEvictionCount() + ", avgLoad=" + getAverageLoadTime() + "ms}";
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.cache;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimates the retained heap size of H2O responses.
+ * Fields of the pojos are walked by reflection, and JDK objects other than
+ * strings, boxed values, collections and maps are counted by their header only.
+ * The layout of a 64-bit JVM with compressed references is assumed.
+ */
+public class SizeEstimator {
+
+    protected static final int OBJECT_HEADER = 12;
+
+    protected static final int ARRAY_HEADER = 16;
+
+    protected static final int REFERENCE = 4;
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(final Class<?> type) {
+            final List<Field> list = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (final Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        list.add(field);
+                    }
+                }
+            }
+            return list.toArray(new Field[list.size()]);
+        }
+    };
+
+    private static final ClassValue<Long> SHALLOW_SIZES = new ClassValue<>() {
+        @Override
+        protected Long computeValue(final Class<?> type) {
+            long size = OBJECT_HEADER;
+            for (final Field field : FIELDS.get(type)) {
+                size += sizeOf(field.getType());
+            }
+            return align(size);
+        }
+    };
+
+    public long estimate(final Object root) {
+        if (root == null) {
+            return 0L;
+        }
+        final Map<Object, Boolean> visited = new IdentityHashMap<>();
+        final Deque<Object> stack = new ArrayDeque<>();
+        stack.push(root);
+        long size = 0L;
+        while (!stack.isEmpty()) {
+            final Object obj = stack.pop();
+            if (visited.put(obj, Boolean.TRUE) != null) {
+                continue;
+            }
+            size += visit(obj, stack);
+        }
+        return size;
+    }
+
+    protected long visit(final Object obj, final Deque<Object> stack) {
+        final Class<?> type = obj.getClass();
+        if (type.isArray()) {
+            final Class<?> componentType = type.getComponentType();
+            final int length = Array.getLength(obj);
+            if (!componentType.isPrimitive()) {
+                for (final Object element : (Object[]) obj) {
+                    if (element != null) {
+                        stack.push(element);
+                    }
+                }
+            }
+            return align(ARRAY_HEADER + (long) length * sizeOf(componentType));
+        }
+        if (obj instanceof String) {
+            // compact strings are assumed
+            return align(OBJECT_HEADER + 12) + align(ARRAY_HEADER + ((String) obj).length());
+        }
+        if (obj instanceof Number || obj instanceof Boolean || obj instanceof Character) {
+            return align(OBJECT_HEADER + 8);
+        }
+        if (obj instanceof Enum || obj instanceof Class) {
+            // shared
+            return 0L;
+        }
+        if (obj instanceof Collection) {
+            final Collection<?> collection = (Collection<?>) obj;
+            for (final Object element : collection) {
+                if (element != null) {
+                    stack.push(element);
+                }
+            }
+            return align(OBJECT_HEADER + 16) + align(ARRAY_HEADER + (long) collection.size() * REFERENCE);
+        }
+        if (obj instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) obj;
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                if (entry.getKey() != null) {
+                    stack.push(entry.getKey());
+                }
+                if (entry.getValue() != null) {
+                    stack.push(entry.getValue());
+                }
+            }
+            return align(OBJECT_HEADER + 32) + (long) map.size() * (align(OBJECT_HEADER + 20) + REFERENCE * 2);
+        }
+        if (type.getName().startsWith("java.")) {
+            return align(OBJECT_HEADER);
+        }
+        for (final Field field : FIELDS.get(type)) {
+            if (!field.getType().isPrimitive()) {
+                try {
+                    final Object value = field.get(obj);
+                    if (value != null) {
+                        stack.push(value);
+                    }
+                } catch (final IllegalAccessException e) {
+                    // not counted
+                }
+            }
+        }
+        return SHALLOW_SIZES.get(type);
+    }
+
+    protected static int sizeOf(final Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE;
+    }
+
+    protected static long align(final long size) {
+        return size + 7 & ~7L;
+    }
+}
@@ -39,6 +39,10 @@ public class DataSet {
 
     private ParseV3 schema;
 
+    private long generation;
+
+    private long committedTime;
+
     public DataSet() {
         // no-op
     }
@@ -80,6 +84,28 @@ public class DataSet {
         this.path = path;
     }
 
+    /**
+     * @return the generation of the data object, or 0 for the object in the data folder
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    public void setGeneration(final long generation) {
+        this.generation = generation;
+    }
+
+    /**
+     * @return the time when the generation became the current one
+     */
+    public long getCommittedTime() {
+        return committedTime;
+    }
+
+    public void setCommittedTime(final long committedTime) {
+        this.committedTime = committedTime;
+    }
+
     public String getType() {
         return type;
     }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.entity;
+
+import java.util.Arrays;
+
+import com.google.gson.GsonBuilder;
+
+/**
+ * Index of a project, stored as manifest.json.
+ * A project is loaded by reading this object only.
+ * Jobs are kept in {@link org.codelibs.fione.storage.JobJournal}.
+ */
+public class ProjectManifest {
+
+    public static final int FORMAT_VERSION = 2;
+
+    private int formatVersion = FORMAT_VERSION;
+
+    private long updatedTime;
+
+    private Project project;
+
+    private DataSet[] dataSets = new DataSet[0];
+
+    public ProjectManifest() {
+        // no-op
+    }
+
+    public ProjectManifest(final Project project) {
+        this.project = project;
+    }
+
+    public boolean isCurrentFormat() {
+        return formatVersion == FORMAT_VERSION;
+    }
+
+    /**
+     * @return the dataset, or null if it does not exist
+     */
+    public DataSet getDataSet(final String dataSetId) {
+        for (final DataSet dataSet : dataSets) {
+            if (dataSet.getId().equals(dataSetId)) {
+                return dataSet;
+            }
+        }
+        return null;
+    }
+
+    public void putDataSet(final DataSet dataSet) {
+        for (int i = 0; i < dataSets.length; i++) {
+            if (dataSets[i].getId().equals(dataSet.getId())) {
+                dataSets[i] = dataSet;
+                return;
+            }
+        }
+        dataSets = Arrays.copyOf(dataSets, dataSets.length + 1);
+        dataSets[dataSets.length - 1] = dataSet;
+    }
+
+    public void removeDataSet(final String dataSetId) {
+        dataSets = Arrays.stream(dataSets).filter(d -> !d.getId().equals(dataSetId)).toArray(n -> new DataSet[n]);
+    }
+
+    public void touch() {
+        formatVersion = FORMAT_VERSION;
+        updatedTime = System.currentTimeMillis();
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public long getUpdatedTime() {
+        return updatedTime;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(final Project project) {
+        this.project = project;
+    }
+
+    public DataSet[] getDataSets() {
+        return dataSets;
+    }
+
+    public void setDataSets(final DataSet[] dataSets) {
+        this.dataSets = dataSets;
+    }
+
+    @Override
+    public String toString() {
+        return new GsonBuilder().serializeSpecialFloatingPointValues().create().toJson(this);
+    }
+}
@@ -18,13 +18,19 @@ package org.codelibs.fione.h2o.bindings;
 import java.io.IOException;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.codelibs.core.lang.StringUtil;
 import org.codelibs.fione.exception.H2oAccessException;
+import org.codelibs.fione.h2o.bindings.adapters.PojoTypeAdapterFactory;
 import org.codelibs.fione.h2o.bindings.pojos.*;
 import org.codelibs.fione.h2o.bindings.proxies.retrofit.About;
 import org.codelibs.fione.h2o.bindings.proxies.retrofit.Assembly;
@@ -94,20 +100,20 @@ import org.codelibs.fione.h2o.bindings.proxies.retrofit.Word2VecTransform;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 
 import okhttp3.Interceptor;
@@ -133,30 +139,42 @@ public class H2oApi {
 
     public H2oApi url(final String url) {
         this.url = url;
-        retrofit = null;
+        reset();
         return this;
     }
 
     public H2oApi connectTimeout(final int t) {
         connectTimeout = t;
-        retrofit = null;
+        reset();
         return this;
     }
 
     public H2oApi writeTimeout(final int t) {
         writeTimeout = t;
-        retrofit = null;
+        reset();
         return this;
     }
 
     public H2oApi readTimeout(final int t) {
         readTimeout = t;
-        retrofit = null;
+        reset();
         return this;
     }
 
     public H2oApi addInterceptor(final Interceptor interceptor) {
         interceptorList.add(interceptor);
+        reset();
+        return this;
+    }
+
+    /**
+     * Use the given client as a base of HTTP calls.
+     * The connection pool and the dispatcher of the client are shared with this instance,
+     * and the timeouts of the client are used instead of this instance's.
+     */
+    public H2oApi client(final OkHttpClient client) {
+        baseClient = client;
+        reset();
         return this;
     }
 
@@ -3339,7 +3357,11 @@ public class H2oApi {
 
     //--------- PRIVATE --------------------------------------------------------------------------------------------------
 
-    private Retrofit retrofit;
+    private static final GsonConverterFactory CONVERTER_FACTORY = GsonConverterFactory.create(createGson());
+
+    private volatile Retrofit retrofit;
+    private final Map<Class<?>, Object> serviceMap = new ConcurrentHashMap<>();
+    private OkHttpClient baseClient;
     private String url = DEFAULT_URL;
     private int connectTimeout = 15;
     private int writeTimeout = 60;
@@ -3348,27 +3370,35 @@ public class H2oApi {
     private final List<Interceptor> interceptorList = new ArrayList<>();
 
     private void initializeRetrofit() {
-        final Gson gson = createGson();
-
-        final Builder builder =
-                new OkHttpClient.Builder().connectTimeout(connectTimeout, TimeUnit.SECONDS).writeTimeout(writeTimeout, TimeUnit.SECONDS)
-                        .readTimeout(readTimeout, TimeUnit.SECONDS);
+        final Builder builder;
+        if (baseClient != null) {
+            builder = baseClient.newBuilder();
+        } else {
+            builder =
+                    new OkHttpClient.Builder().connectTimeout(connectTimeout, TimeUnit.SECONDS).writeTimeout(writeTimeout, TimeUnit.SECONDS)
+                            .readTimeout(readTimeout, TimeUnit.SECONDS);
+        }
         interceptorList.stream().forEach(builder::addInterceptor);
         final OkHttpClient client = builder.build();
 
-        this.retrofit = new Retrofit.Builder().client(client).baseUrl(url).addConverterFactory(GsonConverterFactory.create(gson)).build();
+        this.retrofit = new Retrofit.Builder().client(client).baseUrl(url).addConverterFactory(CONVERTER_FACTORY).build();
+    }
+
+    private synchronized void reset() {
+        retrofit = null;
+        serviceMap.clear();
     }
 
     public static Gson createGson() {
-        return new GsonBuilder().registerTypeAdapterFactory(new ModelV3TypeAdapter()).registerTypeAdapter(KeyV3.class, new KeySerializer())
+        // generated adapters have the lowest priority, so models and keys are read by the adapters below
+        return new GsonBuilder().registerTypeAdapterFactory(new PojoTypeAdapterFactory()).registerTypeAdapterFactory(new ModelV3TypeAdapter())
+                .registerTypeAdapter(KeyV3.class, new KeySerializer())
                 .registerTypeAdapter(ColSpecifierV3.class, new ColSerializer())
-                .registerTypeAdapter(ModelBuilderSchema.class, new ModelDeserializer())
-                .registerTypeAdapter(ModelSchemaBaseV3.class, new ModelSchemaDeserializer())
                 .registerTypeAdapter(ModelOutputSchemaV3.class, new ModelOutputDeserializer())
                 .registerTypeAdapter(ModelParametersSchemaV3.class, new ModelParametersDeserializer()).setLenient().create();
     }
 
-    private Retrofit getRetrofit() {
+    private synchronized Retrofit getRetrofit() {
         if (retrofit == null) {
             initializeRetrofit();
         }
@@ -3376,7 +3406,7 @@ public class H2oApi {
     }
 
     public <T> T getService(final Class<T> clazz) {
-        return getRetrofit().create(clazz);
+        return clazz.cast(serviceMap.computeIfAbsent(clazz, c -> getRetrofit().create(c)));
     }
 
     /**
@@ -3428,130 +3458,6 @@ public class H2oApi {
         }
     }
 
-    /**
-     * Factory method for parsing a ModelBuilderSchema json object into an instance of the model-specific subclass.
-     */
-    private static class ModelDeserializer implements JsonDeserializer<ModelBuilderSchema> {
-        @Override
-        public ModelBuilderSchema deserialize(final JsonElement json, final Type typeOfT, final JsonDeserializationContext context)
-                throws JsonParseException {
-            if (json.isJsonNull()) {
-                return null;
-            }
-            if (json.isJsonObject()) {
-                final JsonObject jobj = json.getAsJsonObject();
-                if (jobj.has("algo")) {
-                    final String algo = jobj.get("algo").getAsJsonPrimitive().getAsString().toLowerCase();
-                    switch (algo) {
-                    case "xgboost":
-                        return context.deserialize(json, XGBoostV3.class);
-                    case "targetencoder":
-                        return context.deserialize(json, TargetEncoderV3.class);
-                    case "deeplearning":
-                        return context.deserialize(json, DeepLearningV3.class);
-                    case "glm":
-                        return context.deserialize(json, GLMV3.class);
-                    case "glrm":
-                        return context.deserialize(json, GLRMV3.class);
-                    case "kmeans":
-                        return context.deserialize(json, KMeansV3.class);
-                    case "naivebayes":
-                        return context.deserialize(json, NaiveBayesV3.class);
-                    case "pca":
-                        return context.deserialize(json, PCAV3.class);
-                    case "svd":
-                        return context.deserialize(json, SVDV99.class);
-                    case "drf":
-                        return context.deserialize(json, DRFV3.class);
-                    case "gbm":
-                        return context.deserialize(json, GBMV3.class);
-                    case "isolationforest":
-                        return context.deserialize(json, IsolationForestV3.class);
-                    case "aggregator":
-                        return context.deserialize(json, AggregatorV99.class);
-                    case "deepwater":
-                        return context.deserialize(json, DeepWaterV3.class);
-                    case "word2vec":
-                        return context.deserialize(json, Word2VecV3.class);
-                    case "stackedensemble":
-                        return context.deserialize(json, StackedEnsembleV99.class);
-                    case "coxph":
-                        return context.deserialize(json, CoxPHV3.class);
-                    case "generic":
-                        return context.deserialize(json, GenericV3.class);
-                    case "psvm":
-                        return context.deserialize(json, PSVMV3.class);
-                    default:
-                        throw new JsonParseException("Unable to deserialize model of type " + algo);
-                    }
-                }
-            }
-            throw new JsonParseException("Invalid ModelBuilderSchema element " + json.toString());
-        }
-    }
-
-    /**
-     * Factory method for parsing a ModelSchemaBaseV3 json object into an instance of the model-specific subclass.
-     */
-    private static class ModelSchemaDeserializer implements JsonDeserializer<ModelSchemaBaseV3> {
-        @Override
-        public ModelSchemaBaseV3 deserialize(final JsonElement json, final Type typeOfT, final JsonDeserializationContext context)
-                throws JsonParseException {
-            if (json.isJsonNull()) {
-                return null;
-            }
-            if (json.isJsonObject()) {
-                final JsonObject jobj = json.getAsJsonObject();
-                if (jobj.has("algo")) {
-                    final String algo = jobj.get("algo").getAsJsonPrimitive().getAsString().toLowerCase();
-                    switch (algo) {
-                    case "xgboost":
-                        return context.deserialize(json, XGBoostModelV3.class);
-                    case "targetencoder":
-                        return context.deserialize(json, TargetEncoderModelV3.class);
-                    case "deeplearning":
-                        return context.deserialize(json, DeepLearningModelV3.class);
-                    case "glm":
-                        return context.deserialize(json, GLMModelV3.class);
-                    case "glrm":
-                        return context.deserialize(json, GLRMModelV3.class);
-                    case "kmeans":
-                        return context.deserialize(json, KMeansModelV3.class);
-                    case "naivebayes":
-                        return context.deserialize(json, NaiveBayesModelV3.class);
-                    case "pca":
-                        return context.deserialize(json, PCAModelV3.class);
-                    case "svd":
-                        return context.deserialize(json, SVDModelV99.class);
-                    case "drf":
-                        return context.deserialize(json, DRFModelV3.class);
-                    case "gbm":
-                        return context.deserialize(json, GBMModelV3.class);
-                    case "isolationforest":
-                        return context.deserialize(json, IsolationForestModelV3.class);
-                    case "aggregator":
-                        return context.deserialize(json, AggregatorModelV99.class);
-                    case "deepwater":
-                        return context.deserialize(json, DeepWaterModelV3.class);
-                    case "word2vec":
-                        return context.deserialize(json, Word2VecModelV3.class);
-                    case "stackedensemble":
-                        return context.deserialize(json, StackedEnsembleModelV99.class);
-                    case "coxph":
-                        return context.deserialize(json, CoxPHModelV3.class);
-                    case "generic":
-                        return context.deserialize(json, GenericModelV3.class);
-                    case "psvm":
-                        return context.deserialize(json, PSVMModelV3.class);
-                    default:
-                        throw new JsonParseException("Unable to deserialize model of type " + algo);
-                    }
-                }
-            }
-            throw new JsonParseException("Invalid ModelSchemaBaseV3 element " + json.toString());
-        }
-    }
-
     /**
      * Factory method for parsing a ModelOutputSchemaV3 json object into an instance of the model-specific subclass.
      */
@@ -3676,14 +3582,73 @@ public class H2oApi {
         }
     }
 
+    /**
+     * Builder, model, output and parameters classes of each algorithm.
+     */
+    private static final Map<String, Class<?>[]> MODEL_CLASSES = new HashMap<>();
+    static {
+        putModelClasses("xgboost", XGBoostV3.class, XGBoostModelV3.class, XGBoostModelOutputV3.class, XGBoostParametersV3.class);
+        putModelClasses("targetencoder", TargetEncoderV3.class, TargetEncoderModelV3.class, TargetEncoderModelOutputV3.class,
+                TargetEncoderParametersV3.class);
+        putModelClasses("deeplearning", DeepLearningV3.class, DeepLearningModelV3.class, DeepLearningModelOutputV3.class,
+                DeepLearningParametersV3.class);
+        putModelClasses("glm", GLMV3.class, GLMModelV3.class, GLMModelOutputV3.class, GLMParametersV3.class);
+        putModelClasses("glrm", GLRMV3.class, GLRMModelV3.class, GLRMModelOutputV3.class, GLRMParametersV3.class);
+        putModelClasses("kmeans", KMeansV3.class, KMeansModelV3.class, KMeansModelOutputV3.class, KMeansParametersV3.class);
+        putModelClasses("naivebayes", NaiveBayesV3.class, NaiveBayesModelV3.class, NaiveBayesModelOutputV3.class,
+                NaiveBayesParametersV3.class);
+        putModelClasses("pca", PCAV3.class, PCAModelV3.class, PCAModelOutputV3.class, PCAParametersV3.class);
+        putModelClasses("svd", SVDV99.class, SVDModelV99.class, SVDModelOutputV99.class, SVDParametersV99.class);
+        putModelClasses("drf", DRFV3.class, DRFModelV3.class, DRFModelOutputV3.class, DRFParametersV3.class);
+        putModelClasses("gbm", GBMV3.class, GBMModelV3.class, GBMModelOutputV3.class, GBMParametersV3.class);
+        putModelClasses("isolationforest", IsolationForestV3.class, IsolationForestModelV3.class, IsolationForestModelOutputV3.class,
+                IsolationForestParametersV3.class);
+        putModelClasses("aggregator", AggregatorV99.class, AggregatorModelV99.class, AggregatorModelOutputV99.class,
+                AggregatorParametersV99.class);
+        putModelClasses("deepwater", DeepWaterV3.class, DeepWaterModelV3.class, DeepWaterModelOutputV3.class, DeepWaterParametersV3.class);
+        putModelClasses("word2vec", Word2VecV3.class, Word2VecModelV3.class, Word2VecModelOutputV3.class, Word2VecParametersV3.class);
+        putModelClasses("stackedensemble", StackedEnsembleV99.class, StackedEnsembleModelV99.class, StackedEnsembleModelOutputV99.class,
+                StackedEnsembleParametersV99.class);
+        putModelClasses("coxph", CoxPHV3.class, CoxPHModelV3.class, CoxPHModelOutputV3.class, CoxPHParametersV3.class);
+        putModelClasses("generic", GenericV3.class, GenericModelV3.class, GenericModelOutputV3.class, GenericParametersV3.class);
+        putModelClasses("psvm", PSVMV3.class, PSVMModelV3.class, PSVMModelOutputV3.class, PSVMParametersV3.class);
+    }
+
+    private static void putModelClasses(final String algo, final Class<?>... classes) {
+        MODEL_CLASSES.put(algo, classes);
+    }
+
+    /**
+     * Reads ModelBuilderSchema and ModelSchemaBaseV3 in one pass over the stream.
+     * The concrete class is chosen by "algo", and entries of the "parameters" array
+     * are bound to the fields of the parameters class by their name and actual_value.
+     * Fields before "algo" are buffered, which are only a few small ones in H2O responses.
+     */
     private static class ModelV3TypeAdapter implements TypeAdapterFactory {
+
+        private static final int BUILDER = 0;
+
+        private static final int MODEL = 1;
+
+        private static final int OUTPUT = 2;
+
+        private static final int PARAMETERS = 3;
+
+        private final Map<Class<?>, Map<String, BoundField>> fieldMapCache = new ConcurrentHashMap<>();
+
         @Override
         public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> type) {
             final Class<? super T> rawType = type.getRawType();
-            if (!ModelBuilderSchema.class.isAssignableFrom(rawType) && !ModelSchemaBaseV3.class.isAssignableFrom(rawType)) {
+            final int kind;
+            if (ModelBuilderSchema.class.isAssignableFrom(rawType)) {
+                kind = BUILDER;
+            } else if (ModelSchemaBaseV3.class.isAssignableFrom(rawType)) {
+                kind = MODEL;
+            } else {
                 return null;
             }
             final TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+            final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
             return new TypeAdapter<>() {
                 @Override
                 public void write(final JsonWriter out, final T value) throws IOException {
@@ -3692,21 +3657,218 @@ public class H2oApi {
 
                 @Override
                 public T read(final JsonReader in) throws IOException {
-                    final JsonObject jobj = new JsonParser().parse(in).getAsJsonObject();
-                    if (jobj.has("parameters") && jobj.get("parameters").isJsonArray()) {
-                        final JsonArray jarr = jobj.get("parameters").getAsJsonArray();
-                        final JsonObject paramsNew = new JsonObject();
-                        for (final JsonElement item : jarr) {
-                            final JsonObject itemObj = item.getAsJsonObject();
-                            paramsNew.add(itemObj.get("name").getAsString(), itemObj.get("actual_value"));
-                        }
-                        jobj.add("parameters", paramsNew);
-                    }
                     // noinspection unchecked
-                    return (T) new Gson().fromJson(jobj, rawType);
+                    return (T) readModel(gson, elementAdapter, in, rawType, kind);
                 }
             };
         }
+
+        private Object readModel(final Gson gson, final TypeAdapter<JsonElement> elementAdapter, final JsonReader in,
+                final Class<?> declaredClass, final int kind) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            final boolean concrete = isConcrete(declaredClass, kind);
+            Object model = concrete ? newInstance(declaredClass) : null;
+            String algo = null;
+            Map<String, JsonElement> pendingMap = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                final String name = in.nextName();
+                if ("algo".equals(name) && in.peek() == JsonToken.STRING) {
+                    algo = in.nextString();
+                    if (model == null) {
+                        model = newInstance(getModelClass(algo, kind));
+                        if (pendingMap != null) {
+                            for (final Map.Entry<String, JsonElement> entry : pendingMap.entrySet()) {
+                                bindTree(gson, model, entry.getKey(), entry.getValue(), algo);
+                            }
+                        }
+                    }
+                    setValue(model, getFieldMap(model.getClass()).get(name), algo);
+                } else if (model == null) {
+                    if (pendingMap == null) {
+                        pendingMap = new LinkedHashMap<>();
+                    }
+                    pendingMap.put(name, elementAdapter.read(in));
+                } else {
+                    bindStream(gson, elementAdapter, in, model, name, algo);
+                }
+            }
+            in.endObject();
+            if (model == null) {
+                throw new JsonParseException("Invalid " + declaredClass.getSimpleName() + " element: algo is not found.");
+            }
+            return model;
+        }
+
+        private void bindStream(final Gson gson, final TypeAdapter<JsonElement> elementAdapter, final JsonReader in, final Object model,
+                final String name, final String algo) throws IOException {
+            final BoundField boundField = getFieldMap(model.getClass()).get(name);
+            if (boundField == null) {
+                in.skipValue();
+                return;
+            }
+            final Type type = resolveType(boundField, algo);
+            if ("parameters".equals(name) && in.peek() == JsonToken.BEGIN_ARRAY) {
+                setValue(model, boundField, readParameters(gson, elementAdapter, in, TypeToken.get(type).getRawType()));
+            } else {
+                setValue(model, boundField, gson.getAdapter(TypeToken.get(type)).read(in));
+            }
+        }
+
+        private void bindTree(final Gson gson, final Object model, final String name, final JsonElement value, final String algo) {
+            final BoundField boundField = getFieldMap(model.getClass()).get(name);
+            if (boundField == null) {
+                return;
+            }
+            JsonElement element = value;
+            if ("parameters".equals(name) && value.isJsonArray()) {
+                final JsonObject paramsObj = new JsonObject();
+                for (final JsonElement item : value.getAsJsonArray()) {
+                    final JsonObject itemObj = item.getAsJsonObject();
+                    paramsObj.add(itemObj.get("name").getAsString(), itemObj.get("actual_value"));
+                }
+                element = paramsObj;
+            }
+            setValue(model, boundField, gson.getAdapter(TypeToken.get(resolveType(boundField, algo))).fromJsonTree(element));
+        }
+
+        /**
+         * Reads [{"name": ..., "actual_value": ...}, ...] into an instance of the parameters class.
+         */
+        private Object readParameters(final Gson gson, final TypeAdapter<JsonElement> elementAdapter, final JsonReader in,
+                final Class<?> paramsClass) throws IOException {
+            final Object params = newInstance(paramsClass);
+            final Map<String, BoundField> fieldMap = getFieldMap(paramsClass);
+            in.beginArray();
+            while (in.hasNext()) {
+                String paramName = null;
+                JsonElement pendingValue = null;
+                in.beginObject();
+                while (in.hasNext()) {
+                    final String key = in.nextName();
+                    if ("name".equals(key)) {
+                        paramName = in.nextString();
+                    } else if ("actual_value".equals(key)) {
+                        if (paramName == null) {
+                            pendingValue = elementAdapter.read(in);
+                        } else {
+                            final BoundField boundField = fieldMap.get(paramName);
+                            if (boundField == null) {
+                                in.skipValue();
+                            } else {
+                                setValue(params, boundField, gson.getAdapter(TypeToken.get(boundField.type)).read(in));
+                            }
+                        }
+                    } else {
+                        in.skipValue();
+                    }
+                }
+                in.endObject();
+                if (pendingValue != null && paramName != null && fieldMap.containsKey(paramName)) {
+                    final BoundField boundField = fieldMap.get(paramName);
+                    setValue(params, boundField, gson.getAdapter(TypeToken.get(boundField.type)).fromJsonTree(pendingValue));
+                }
+            }
+            in.endArray();
+            return params;
+        }
+
+        private boolean isConcrete(final Class<?> clazz, final int kind) {
+            for (final Class<?>[] classes : MODEL_CLASSES.values()) {
+                if (classes[kind] == clazz) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Class<?> getModelClass(final String algo, final int kind) {
+            final Class<?>[] classes = MODEL_CLASSES.get(algo.toLowerCase());
+            if (classes == null) {
+                throw new JsonParseException("Unable to deserialize model of type " + algo);
+            }
+            return classes[kind];
+        }
+
+        /**
+         * Uses the output or parameters class of the algorithm if the field is declared as the base class.
+         */
+        private Type resolveType(final BoundField boundField, final String algo) {
+            if (algo != null) {
+                if (boundField.rawType == ModelParametersSchemaV3.class) {
+                    return getModelClass(algo, PARAMETERS);
+                }
+                if (boundField.rawType == ModelOutputSchemaV3.class) {
+                    return getModelClass(algo, OUTPUT);
+                }
+            }
+            return boundField.type;
+        }
+
+        private Map<String, BoundField> getFieldMap(final Class<?> clazz) {
+            return fieldMapCache.computeIfAbsent(clazz, c -> {
+                final Map<String, BoundField> fieldMap = new HashMap<>();
+                final com.google.common.reflect.TypeToken<?> classType = com.google.common.reflect.TypeToken.of(c);
+                for (Class<?> current = c; current != null && current != Object.class; current = current.getSuperclass()) {
+                    for (final Field field : current.getDeclaredFields()) {
+                        final int modifiers = field.getModifiers();
+                        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+                            continue;
+                        }
+                        field.setAccessible(true);
+                        final com.google.common.reflect.TypeToken<?> fieldType = classType.resolveType(field.getGenericType());
+                        final BoundField boundField = new BoundField(field, fieldType.getType(), fieldType.getRawType());
+                        final SerializedName serializedName = field.getAnnotation(SerializedName.class);
+                        if (serializedName == null) {
+                            fieldMap.putIfAbsent(field.getName(), boundField);
+                        } else {
+                            fieldMap.putIfAbsent(serializedName.value(), boundField);
+                            for (final String alternate : serializedName.alternate()) {
+                                fieldMap.putIfAbsent(alternate, boundField);
+                            }
+                        }
+                    }
+                }
+                return fieldMap;
+            });
+        }
+
+        private static void setValue(final Object target, final BoundField boundField, final Object value) {
+            if (boundField == null || value == null && boundField.rawType.isPrimitive()) {
+                return;
+            }
+            try {
+                boundField.field.set(target, value);
+            } catch (final IllegalAccessException e) {
+                throw new JsonParseException("Failed to set " + boundField.field.getName(), e);
+            }
+        }
+
+        private static Object newInstance(final Class<?> clazz) {
+            try {
+                return clazz.getDeclaredConstructor().newInstance();
+            } catch (final Exception e) {
+                throw new JsonParseException("Failed to create " + clazz.getName(), e);
+            }
+        }
+
+        private static class BoundField {
+
+            private final Field field;
+
+            private final Type type;
+
+            private final Class<?> rawType;
+
+            private BoundField(final Field field, final Type type, final Class<?> rawType) {
+                this.field = field;
+                this.type = type;
+                this.rawType = rawType;
+            }
+        }
     }
 
     /**
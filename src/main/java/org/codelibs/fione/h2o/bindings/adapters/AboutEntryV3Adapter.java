@@ -0,0 +1,51 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.AboutEntryV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class AboutEntryV3Adapter extends PojoTypeAdapter<AboutEntryV3> {
+
+    public AboutEntryV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, AboutEntryV3.class);
+    }
+
+    @Override
+    protected AboutEntryV3 newInstance() {
+        return new AboutEntryV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final AboutEntryV3 obj) throws IOException {
+        switch (name) {
+        case "name":
+            obj.name = readString(in);
+            break;
+        case "value":
+            obj.value = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.AssemblyKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.AssemblyV99;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class AssemblyV99Adapter extends PojoTypeAdapter<AssemblyV99> {
+
+    public AssemblyV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, AssemblyV99.class, //
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                AssemblyKeyV3.class);
+    }
+
+    @Override
+    protected AssemblyV99 newInstance() {
+        return new AssemblyV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final AssemblyV99 obj) throws IOException {
+        switch (name) {
+        case "steps":
+            obj.steps = readStringArray(in);
+            break;
+        case "frame":
+            obj.frame = readObject(in, 0);
+            break;
+        case "pojo_name":
+            obj.pojoName = readString(in);
+            break;
+        case "assembly_id":
+            obj.assemblyId = readString(in);
+            break;
+        case "result":
+            obj.result = readObject(in, 1);
+            break;
+        case "assembly":
+            obj.assembly = readObject(in, 2);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLBuildControlV99;
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLStoppingCriteriaV99;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class AutoMLBuildControlV99Adapter extends PojoTypeAdapter<AutoMLBuildControlV99> {
+
+    public AutoMLBuildControlV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, AutoMLBuildControlV99.class, //
+                AutoMLStoppingCriteriaV99.class);
+    }
+
+    @Override
+    protected AutoMLBuildControlV99 newInstance() {
+        return new AutoMLBuildControlV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final AutoMLBuildControlV99 obj) throws IOException {
+        switch (name) {
+        case "project_name":
+            obj.projectName = readString(in);
+            break;
+        case "stopping_criteria":
+            obj.stoppingCriteria = readObject(in, 0);
+            break;
+        case "nfolds":
+            obj.nfolds = readInt(in, obj.nfolds);
+            break;
+        case "balance_classes":
+            obj.balanceClasses = readBoolean(in, obj.balanceClasses);
+            break;
+        case "class_sampling_factors":
+            obj.classSamplingFactors = readFloatArray(in);
+            break;
+        case "max_after_balance_size":
+            obj.maxAfterBalanceSize = readFloat(in, obj.maxAfterBalanceSize);
+            break;
+        case "keep_cross_validation_predictions":
+            obj.keepCrossValidationPredictions = readBoolean(in, obj.keepCrossValidationPredictions);
+            break;
+        case "keep_cross_validation_models":
+            obj.keepCrossValidationModels = readBoolean(in, obj.keepCrossValidationModels);
+            break;
+        case "keep_cross_validation_fold_assignment":
+            obj.keepCrossValidationFoldAssignment = readBoolean(in, obj.keepCrossValidationFoldAssignment);
+            break;
+        case "export_checkpoints_dir":
+            obj.exportCheckpointsDir = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
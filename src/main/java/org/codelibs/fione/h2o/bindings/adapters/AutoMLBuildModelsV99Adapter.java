@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLBuildModelsV99;
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLCustomParameterV99;
+import org.codelibs.fione.h2o.bindings.pojos.KeyValueV3;
+import org.codelibs.fione.h2o.bindings.pojos.StepDefinitionV99;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class AutoMLBuildModelsV99Adapter extends PojoTypeAdapter<AutoMLBuildModelsV99> {
+
+    public AutoMLBuildModelsV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, AutoMLBuildModelsV99.class, //
+                StepDefinitionV99[].class,
+                AutoMLCustomParameterV99[].class,
+                KeyValueV3[].class);
+    }
+
+    @Override
+    protected AutoMLBuildModelsV99 newInstance() {
+        return new AutoMLBuildModelsV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final AutoMLBuildModelsV99 obj) throws IOException {
+        switch (name) {
+        case "exclude_algos":
+            obj.excludeAlgos = readStringArray(in);
+            break;
+        case "include_algos":
+            obj.includeAlgos = readStringArray(in);
+            break;
+        case "modeling_plan":
+            obj.modelingPlan = readObject(in, 0);
+            break;
+        case "algo_parameters":
+            obj.algoParameters = readObject(in, 1);
+            break;
+        case "monotone_constraints":
+            obj.monotoneConstraints = readObject(in, 2);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
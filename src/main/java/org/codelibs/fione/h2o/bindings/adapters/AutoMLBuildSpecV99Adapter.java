@@ -0,0 +1,65 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLBuildControlV99;
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLBuildModelsV99;
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLBuildSpecV99;
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLInputV99;
+import org.codelibs.fione.h2o.bindings.pojos.JobV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class AutoMLBuildSpecV99Adapter extends PojoTypeAdapter<AutoMLBuildSpecV99> {
+
+    public AutoMLBuildSpecV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, AutoMLBuildSpecV99.class, //
+                AutoMLBuildControlV99.class,
+                AutoMLInputV99.class,
+                AutoMLBuildModelsV99.class,
+                JobV3.class);
+    }
+
+    @Override
+    protected AutoMLBuildSpecV99 newInstance() {
+        return new AutoMLBuildSpecV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final AutoMLBuildSpecV99 obj) throws IOException {
+        switch (name) {
+        case "build_control":
+            obj.buildControl = readObject(in, 0);
+            break;
+        case "input_spec":
+            obj.inputSpec = readObject(in, 1);
+            break;
+        case "build_models":
+            obj.buildModels = readObject(in, 2);
+            break;
+        case "job":
+            obj.job = readObject(in, 3);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLInputV99;
+import org.codelibs.fione.h2o.bindings.pojos.Automlapischemas3AutoMLBuildSpecAutoMLMetricProvider;
+import org.codelibs.fione.h2o.bindings.pojos.ColSpecifierV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class AutoMLInputV99Adapter extends PojoTypeAdapter<AutoMLInputV99> {
+
+    public AutoMLInputV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, AutoMLInputV99.class, //
+                FrameKeyV3.class,
+                ColSpecifierV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                Automlapischemas3AutoMLBuildSpecAutoMLMetricProvider.class);
+    }
+
+    @Override
+    protected AutoMLInputV99 newInstance() {
+        return new AutoMLInputV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final AutoMLInputV99 obj) throws IOException {
+        switch (name) {
+        case "training_frame":
+            obj.trainingFrame = readObject(in, 0);
+            break;
+        case "response_column":
+            obj.responseColumn = readObject(in, 1);
+            break;
+        case "validation_frame":
+            obj.validationFrame = readObject(in, 2);
+            break;
+        case "blending_frame":
+            obj.blendingFrame = readObject(in, 3);
+            break;
+        case "leaderboard_frame":
+            obj.leaderboardFrame = readObject(in, 4);
+            break;
+        case "fold_column":
+            obj.foldColumn = readObject(in, 5);
+            break;
+        case "weights_column":
+            obj.weightsColumn = readObject(in, 6);
+            break;
+        case "ignored_columns":
+            obj.ignoredColumns = readStringArray(in);
+            break;
+        case "sort_metric":
+            obj.sortMetric = readObject(in, 7);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
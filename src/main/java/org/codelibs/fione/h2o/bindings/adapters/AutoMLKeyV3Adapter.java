@@ -0,0 +1,54 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLKeyV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class AutoMLKeyV3Adapter extends PojoTypeAdapter<AutoMLKeyV3> {
+
+    public AutoMLKeyV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, AutoMLKeyV3.class);
+    }
+
+    @Override
+    protected AutoMLKeyV3 newInstance() {
+        return new AutoMLKeyV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final AutoMLKeyV3 obj) throws IOException {
+        switch (name) {
+        case "name":
+            obj.name = readString(in);
+            break;
+        case "type":
+            obj.type = readString(in);
+            break;
+        case "URL":
+            obj.url = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
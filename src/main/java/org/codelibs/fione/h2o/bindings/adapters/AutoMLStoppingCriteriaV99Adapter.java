@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLStoppingCriteriaV99;
+import org.codelibs.fione.h2o.bindings.pojos.ScoreKeeperStoppingMetric;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class AutoMLStoppingCriteriaV99Adapter extends PojoTypeAdapter<AutoMLStoppingCriteriaV99> {
+
+    public AutoMLStoppingCriteriaV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, AutoMLStoppingCriteriaV99.class, //
+                ScoreKeeperStoppingMetric.class);
+    }
+
+    @Override
+    protected AutoMLStoppingCriteriaV99 newInstance() {
+        return new AutoMLStoppingCriteriaV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final AutoMLStoppingCriteriaV99 obj) throws IOException {
+        switch (name) {
+        case "seed":
+            obj.seed = readLong(in, obj.seed);
+            break;
+        case "max_models":
+            obj.maxModels = readInt(in, obj.maxModels);
+            break;
+        case "max_runtime_secs":
+            obj.maxRuntimeSecs = readDouble(in, obj.maxRuntimeSecs);
+            break;
+        case "max_runtime_secs_per_model":
+            obj.maxRuntimeSecsPerModel = readDouble(in, obj.maxRuntimeSecsPerModel);
+            break;
+        case "stopping_rounds":
+            obj.stoppingRounds = readInt(in, obj.stoppingRounds);
+            break;
+        case "stopping_metric":
+            obj.stoppingMetric = readObject(in, 0);
+            break;
+        case "stopping_tolerance":
+            obj.stoppingTolerance = readDouble(in, obj.stoppingTolerance);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
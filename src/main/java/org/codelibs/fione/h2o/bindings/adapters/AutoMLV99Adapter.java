@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLV99;
+import org.codelibs.fione.h2o.bindings.pojos.EventLogV99;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.LeaderboardV99;
+import org.codelibs.fione.h2o.bindings.pojos.StepDefinitionV99;
+import org.codelibs.fione.h2o.bindings.pojos.TwoDimTableV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class AutoMLV99Adapter extends PojoTypeAdapter<AutoMLV99> {
+
+    public AutoMLV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, AutoMLV99.class, //
+                AutoMLKeyV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                LeaderboardV99.class,
+                TwoDimTableV3.class,
+                EventLogV99.class,
+                TwoDimTableV3.class,
+                StepDefinitionV99[].class);
+    }
+
+    @Override
+    protected AutoMLV99 newInstance() {
+        return new AutoMLV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final AutoMLV99 obj) throws IOException {
+        switch (name) {
+        case "automl_id":
+            obj.automlId = readObject(in, 0);
+            break;
+        case "training_frame":
+            obj.trainingFrame = readObject(in, 1);
+            break;
+        case "validation_frame":
+            obj.validationFrame = readObject(in, 2);
+            break;
+        case "blending_frame":
+            obj.blendingFrame = readObject(in, 3);
+            break;
+        case "leaderboard_frame":
+            obj.leaderboardFrame = readObject(in, 4);
+            break;
+        case "project_name":
+            obj.projectName = readString(in);
+            break;
+        case "leaderboard":
+            obj.leaderboard = readObject(in, 5);
+            break;
+        case "leaderboard_table":
+            obj.leaderboardTable = readObject(in, 6);
+            break;
+        case "event_log":
+            obj.eventLog = readObject(in, 7);
+            break;
+        case "event_log_table":
+            obj.eventLogTable = readObject(in, 8);
+            break;
+        case "sort_metric":
+            obj.sortMetric = readString(in);
+            break;
+        case "modeling_steps":
+            obj.modelingSteps = readObject(in, 9);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
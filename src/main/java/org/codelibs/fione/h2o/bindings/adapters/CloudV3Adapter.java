@@ -0,0 +1,122 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.CloudV3;
+import org.codelibs.fione.h2o.bindings.pojos.NodeV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class CloudV3Adapter extends PojoTypeAdapter<CloudV3> {
+
+    public CloudV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, CloudV3.class, //
+                NodeV3[].class);
+    }
+
+    @Override
+    protected CloudV3 newInstance() {
+        return new CloudV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final CloudV3 obj) throws IOException {
+        switch (name) {
+        case "skip_ticks":
+            obj.skipTicks = readBoolean(in, obj.skipTicks);
+            break;
+        case "version":
+            obj.version = readString(in);
+            break;
+        case "branch_name":
+            obj.branchName = readString(in);
+            break;
+        case "last_commit_hash":
+            obj.lastCommitHash = readString(in);
+            break;
+        case "describe":
+            obj.describe = readString(in);
+            break;
+        case "compiled_by":
+            obj.compiledBy = readString(in);
+            break;
+        case "compiled_on":
+            obj.compiledOn = readString(in);
+            break;
+        case "build_number":
+            obj.buildNumber = readString(in);
+            break;
+        case "build_age":
+            obj.buildAge = readString(in);
+            break;
+        case "build_too_old":
+            obj.buildTooOld = readBoolean(in, obj.buildTooOld);
+            break;
+        case "node_idx":
+            obj.nodeIdx = readInt(in, obj.nodeIdx);
+            break;
+        case "cloud_name":
+            obj.cloudName = readString(in);
+            break;
+        case "cloud_size":
+            obj.cloudSize = readInt(in, obj.cloudSize);
+            break;
+        case "cloud_uptime_millis":
+            obj.cloudUptimeMillis = readLong(in, obj.cloudUptimeMillis);
+            break;
+        case "cloud_internal_timezone":
+            obj.cloudInternalTimezone = readString(in);
+            break;
+        case "datafile_parser_timezone":
+            obj.datafileParserTimezone = readString(in);
+            break;
+        case "cloud_healthy":
+            obj.cloudHealthy = readBoolean(in, obj.cloudHealthy);
+            break;
+        case "bad_nodes":
+            obj.badNodes = readInt(in, obj.badNodes);
+            break;
+        case "consensus":
+            obj.consensus = readBoolean(in, obj.consensus);
+            break;
+        case "locked":
+            obj.locked = readBoolean(in, obj.locked);
+            break;
+        case "is_client":
+            obj.isClient = readBoolean(in, obj.isClient);
+            break;
+        case "nodes":
+            obj.nodes = readObject(in, 0);
+            break;
+        case "internal_security_enabled":
+            obj.internalSecurityEnabled = readBoolean(in, obj.internalSecurityEnabled);
+            break;
+        case "leader_idx":
+            obj.leaderIdx = readInt(in, obj.leaderIdx);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColSpecifierV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ColSpecifierV3Adapter extends PojoTypeAdapter<ColSpecifierV3> {
+
+    public ColSpecifierV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ColSpecifierV3.class);
+    }
+
+    @Override
+    protected ColSpecifierV3 newInstance() {
+        return new ColSpecifierV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ColSpecifierV3 obj) throws IOException {
+        switch (name) {
+        case "column_name":
+            obj.columnName = readString(in);
+            break;
+        case "is_member_of_frames":
+            obj.isMemberOfFrames = readStringArray(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
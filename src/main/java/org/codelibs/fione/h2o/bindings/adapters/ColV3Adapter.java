@@ -0,0 +1,102 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ColV3Adapter extends PojoTypeAdapter<ColV3> {
+
+    public ColV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ColV3.class);
+    }
+
+    @Override
+    protected ColV3 newInstance() {
+        return new ColV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ColV3 obj) throws IOException {
+        switch (name) {
+        case "label":
+            obj.label = readString(in);
+            break;
+        case "missing_count":
+            obj.missingCount = readLong(in, obj.missingCount);
+            break;
+        case "zero_count":
+            obj.zeroCount = readLong(in, obj.zeroCount);
+            break;
+        case "positive_infinity_count":
+            obj.positiveInfinityCount = readLong(in, obj.positiveInfinityCount);
+            break;
+        case "negative_infinity_count":
+            obj.negativeInfinityCount = readLong(in, obj.negativeInfinityCount);
+            break;
+        case "mins":
+            obj.mins = readDoubleArray(in);
+            break;
+        case "maxs":
+            obj.maxs = readDoubleArray(in);
+            break;
+        case "mean":
+            obj.mean = readDouble(in, obj.mean);
+            break;
+        case "sigma":
+            obj.sigma = readDouble(in, obj.sigma);
+            break;
+        case "type":
+            obj.type = readString(in);
+            break;
+        case "domain":
+            obj.domain = readStringArray(in);
+            break;
+        case "domain_cardinality":
+            obj.domainCardinality = readInt(in, obj.domainCardinality);
+            break;
+        case "data":
+            obj.data = readDoubleArray(in);
+            break;
+        case "string_data":
+            obj.stringData = readStringArray(in);
+            break;
+        case "precision":
+            obj.precision = readByte(in, obj.precision);
+            break;
+        case "histogram_bins":
+            obj.histogramBins = readLongArray(in);
+            break;
+        case "histogram_base":
+            obj.histogramBase = readDouble(in, obj.histogramBase);
+            break;
+        case "histogram_stride":
+            obj.histogramStride = readDouble(in, obj.histogramStride);
+            break;
+        case "percentiles":
+            obj.percentiles = readDoubleArray(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
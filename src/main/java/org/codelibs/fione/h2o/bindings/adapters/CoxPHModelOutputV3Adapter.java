@@ -0,0 +1,206 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.codelibs.fione.h2o.bindings.pojos.CoxPHModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.CoxPHTies;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelCategory;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsBaseV3;
+import org.codelibs.fione.h2o.bindings.pojos.TwoDimTableV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+public class CoxPHModelOutputV3Adapter extends PojoTypeAdapter<CoxPHModelOutputV3> {
+
+    public CoxPHModelOutputV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, CoxPHModelOutputV3.class, //
+                TwoDimTableV3.class,
+                FrameKeyV3.class,
+                CoxPHTies.class,
+                ModelKeyV3[].class,
+                FrameKeyV3[].class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                ModelCategory.class,
+                TwoDimTableV3.class,
+                TwoDimTableV3.class,
+                ModelMetricsBaseV3.class,
+                ModelMetricsBaseV3.class,
+                ModelMetricsBaseV3.class,
+                TwoDimTableV3.class,
+                TypeToken.getParameterized(Map.class, String.class, String.class).getType());
+    }
+
+    @Override
+    protected CoxPHModelOutputV3 newInstance() {
+        return new CoxPHModelOutputV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final CoxPHModelOutputV3 obj) throws IOException {
+        switch (name) {
+        case "coefficients_table":
+            obj.coefficientsTable = readObject(in, 0);
+            break;
+        case "var_coef":
+            obj.varCoef = readDoubleArray2(in);
+            break;
+        case "null_loglik":
+            obj.nullLoglik = readDouble(in, obj.nullLoglik);
+            break;
+        case "loglik":
+            obj.loglik = readDouble(in, obj.loglik);
+            break;
+        case "loglik_test":
+            obj.loglikTest = readDouble(in, obj.loglikTest);
+            break;
+        case "wald_test":
+            obj.waldTest = readDouble(in, obj.waldTest);
+            break;
+        case "score_test":
+            obj.scoreTest = readDouble(in, obj.scoreTest);
+            break;
+        case "rsq":
+            obj.rsq = readDouble(in, obj.rsq);
+            break;
+        case "maxrsq":
+            obj.maxrsq = readDouble(in, obj.maxrsq);
+            break;
+        case "lre":
+            obj.lre = readDouble(in, obj.lre);
+            break;
+        case "iter":
+            obj.iter = readInt(in, obj.iter);
+            break;
+        case "x_mean_cat":
+            obj.xMeanCat = readDoubleArray2(in);
+            break;
+        case "x_mean_num":
+            obj.xMeanNum = readDoubleArray2(in);
+            break;
+        case "mean_offset":
+            obj.meanOffset = readDoubleArray(in);
+            break;
+        case "offset_names":
+            obj.offsetNames = readStringArray(in);
+            break;
+        case "n":
+            obj.n = readLong(in, obj.n);
+            break;
+        case "n_missing":
+            obj.nMissing = readLong(in, obj.nMissing);
+            break;
+        case "total_event":
+            obj.totalEvent = readLong(in, obj.totalEvent);
+            break;
+        case "time":
+            obj.time = readDoubleArray(in);
+            break;
+        case "n_risk":
+            obj.nRisk = readDoubleArray(in);
+            break;
+        case "n_event":
+            obj.nEvent = readDoubleArray(in);
+            break;
+        case "n_censor":
+            obj.nCensor = readDoubleArray(in);
+            break;
+        case "cumhaz_0":
+            obj.cumhaz0 = readDoubleArray(in);
+            break;
+        case "var_cumhaz_1":
+            obj.varCumhaz1 = readDoubleArray(in);
+            break;
+        case "var_cumhaz_2":
+            obj.varCumhaz2 = readObject(in, 1);
+            break;
+        case "formula":
+            obj.formula = readString(in);
+            break;
+        case "ties":
+            obj.ties = readObject(in, 2);
+            break;
+        case "names":
+            obj.names = readStringArray(in);
+            break;
+        case "column_types":
+            obj.columnTypes = readStringArray(in);
+            break;
+        case "domains":
+            obj.domains = readStringArray2(in);
+            break;
+        case "cross_validation_models":
+            obj.crossValidationModels = readObject(in, 3);
+            break;
+        case "cross_validation_predictions":
+            obj.crossValidationPredictions = readObject(in, 4);
+            break;
+        case "cross_validation_holdout_predictions_frame_id":
+            obj.crossValidationHoldoutPredictionsFrameId = readObject(in, 5);
+            break;
+        case "cross_validation_fold_assignment_frame_id":
+            obj.crossValidationFoldAssignmentFrameId = readObject(in, 6);
+            break;
+        case "model_category":
+            obj.modelCategory = readObject(in, 7);
+            break;
+        case "model_summary":
+            obj.modelSummary = readObject(in, 8);
+            break;
+        case "scoring_history":
+            obj.scoringHistory = readObject(in, 9);
+            break;
+        case "training_metrics":
+            obj.trainingMetrics = readObject(in, 10);
+            break;
+        case "validation_metrics":
+            obj.validationMetrics = readObject(in, 11);
+            break;
+        case "cross_validation_metrics":
+            obj.crossValidationMetrics = readObject(in, 12);
+            break;
+        case "cross_validation_metrics_summary":
+            obj.crossValidationMetricsSummary = readObject(in, 13);
+            break;
+        case "status":
+            obj.status = readString(in);
+            break;
+        case "start_time":
+            obj.startTime = readLong(in, obj.startTime);
+            break;
+        case "end_time":
+            obj.endTime = readLong(in, obj.endTime);
+            break;
+        case "run_time":
+            obj.runTime = readLong(in, obj.runTime);
+            break;
+        case "help":
+            obj.help = readObject(in, 14);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
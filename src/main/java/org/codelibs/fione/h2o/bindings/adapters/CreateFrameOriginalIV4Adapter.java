@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.CreateFrameOriginalIV4;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class CreateFrameOriginalIV4Adapter extends PojoTypeAdapter<CreateFrameOriginalIV4> {
+
+    public CreateFrameOriginalIV4Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, CreateFrameOriginalIV4.class, //
+                FrameKeyV3.class);
+    }
+
+    @Override
+    protected CreateFrameOriginalIV4 newInstance() {
+        return new CreateFrameOriginalIV4();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final CreateFrameOriginalIV4 obj) throws IOException {
+        switch (name) {
+        case "dest":
+            obj.dest = readObject(in, 0);
+            break;
+        case "rows":
+            obj.rows = readInt(in, obj.rows);
+            break;
+        case "cols":
+            obj.cols = readInt(in, obj.cols);
+            break;
+        case "seed":
+            obj.seed = readLong(in, obj.seed);
+            break;
+        case "randomize":
+            obj.randomize = readBoolean(in, obj.randomize);
+            break;
+        case "value":
+            obj.value = readLong(in, obj.value);
+            break;
+        case "real_range":
+            obj.realRange = readDouble(in, obj.realRange);
+            break;
+        case "categorical_fraction":
+            obj.categoricalFraction = readDouble(in, obj.categoricalFraction);
+            break;
+        case "factors":
+            obj.factors = readInt(in, obj.factors);
+            break;
+        case "integer_fraction":
+            obj.integerFraction = readDouble(in, obj.integerFraction);
+            break;
+        case "integer_range":
+            obj.integerRange = readInt(in, obj.integerRange);
+            break;
+        case "binary_fraction":
+            obj.binaryFraction = readDouble(in, obj.binaryFraction);
+            break;
+        case "binary_ones_fraction":
+            obj.binaryOnesFraction = readDouble(in, obj.binaryOnesFraction);
+            break;
+        case "time_fraction":
+            obj.timeFraction = readDouble(in, obj.timeFraction);
+            break;
+        case "string_fraction":
+            obj.stringFraction = readDouble(in, obj.stringFraction);
+            break;
+        case "missing_fraction":
+            obj.missingFraction = readDouble(in, obj.missingFraction);
+            break;
+        case "has_response":
+            obj.hasResponse = readBoolean(in, obj.hasResponse);
+            break;
+        case "response_factors":
+            obj.responseFactors = readInt(in, obj.responseFactors);
+            break;
+        case "positive_response":
+            obj.positiveResponse = readBoolean(in, obj.positiveResponse);
+            break;
+        case "_fields":
+            obj._fields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.CreateFrameSimpleIV4;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.SimpleRecipeResponseType;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class CreateFrameSimpleIV4Adapter extends PojoTypeAdapter<CreateFrameSimpleIV4> {
+
+    public CreateFrameSimpleIV4Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, CreateFrameSimpleIV4.class, //
+                FrameKeyV3.class,
+                SimpleRecipeResponseType.class);
+    }
+
+    @Override
+    protected CreateFrameSimpleIV4 newInstance() {
+        return new CreateFrameSimpleIV4();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final CreateFrameSimpleIV4 obj) throws IOException {
+        switch (name) {
+        case "dest":
+            obj.dest = readObject(in, 0);
+            break;
+        case "seed":
+            obj.seed = readLong(in, obj.seed);
+            break;
+        case "nrows":
+            obj.nrows = readInt(in, obj.nrows);
+            break;
+        case "ncols_real":
+            obj.ncolsReal = readInt(in, obj.ncolsReal);
+            break;
+        case "ncols_int":
+            obj.ncolsInt = readInt(in, obj.ncolsInt);
+            break;
+        case "ncols_enum":
+            obj.ncolsEnum = readInt(in, obj.ncolsEnum);
+            break;
+        case "ncols_bool":
+            obj.ncolsBool = readInt(in, obj.ncolsBool);
+            break;
+        case "ncols_str":
+            obj.ncolsStr = readInt(in, obj.ncolsStr);
+            break;
+        case "ncols_time":
+            obj.ncolsTime = readInt(in, obj.ncolsTime);
+            break;
+        case "real_lb":
+            obj.realLb = readDouble(in, obj.realLb);
+            break;
+        case "real_ub":
+            obj.realUb = readDouble(in, obj.realUb);
+            break;
+        case "int_lb":
+            obj.intLb = readInt(in, obj.intLb);
+            break;
+        case "int_ub":
+            obj.intUb = readInt(in, obj.intUb);
+            break;
+        case "enum_nlevels":
+            obj.enumNlevels = readInt(in, obj.enumNlevels);
+            break;
+        case "bool_p":
+            obj.boolP = readDouble(in, obj.boolP);
+            break;
+        case "time_lb":
+            obj.timeLb = readLong(in, obj.timeLb);
+            break;
+        case "time_ub":
+            obj.timeUb = readLong(in, obj.timeUb);
+            break;
+        case "str_length":
+            obj.strLength = readInt(in, obj.strLength);
+            break;
+        case "missing_fraction":
+            obj.missingFraction = readDouble(in, obj.missingFraction);
+            break;
+        case "response_type":
+            obj.responseType = readObject(in, 1);
+            break;
+        case "response_lb":
+            obj.responseLb = readDouble(in, obj.responseLb);
+            break;
+        case "response_ub":
+            obj.responseUb = readDouble(in, obj.responseUb);
+            break;
+        case "response_p":
+            obj.responseP = readDouble(in, obj.responseP);
+            break;
+        case "response_nlevels":
+            obj.responseNlevels = readInt(in, obj.responseNlevels);
+            break;
+        case "_fields":
+            obj._fields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.DataInfoFrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class DataInfoFrameV3Adapter extends PojoTypeAdapter<DataInfoFrameV3> {
+
+    public DataInfoFrameV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, DataInfoFrameV3.class, //
+                FrameKeyV3.class,
+                FrameKeyV3.class);
+    }
+
+    @Override
+    protected DataInfoFrameV3 newInstance() {
+        return new DataInfoFrameV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final DataInfoFrameV3 obj) throws IOException {
+        switch (name) {
+        case "frame":
+            obj.frame = readObject(in, 0);
+            break;
+        case "interactions":
+            obj.interactions = readStringArray(in);
+            break;
+        case "use_all":
+            obj.useAll = readBoolean(in, obj.useAll);
+            break;
+        case "standardize":
+            obj.standardize = readBoolean(in, obj.standardize);
+            break;
+        case "interactions_only":
+            obj.interactionsOnly = readBoolean(in, obj.interactionsOnly);
+            break;
+        case "result":
+            obj.result = readObject(in, 1);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.DecryptionSetupV3;
+import org.codelibs.fione.h2o.bindings.pojos.DecryptionToolKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class DecryptionSetupV3Adapter extends PojoTypeAdapter<DecryptionSetupV3> {
+
+    public DecryptionSetupV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, DecryptionSetupV3.class, //
+                DecryptionToolKeyV3.class,
+                FrameKeyV3.class);
+    }
+
+    @Override
+    protected DecryptionSetupV3 newInstance() {
+        return new DecryptionSetupV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final DecryptionSetupV3 obj) throws IOException {
+        switch (name) {
+        case "decrypt_tool_id":
+            obj.decryptToolId = readObject(in, 0);
+            break;
+        case "decrypt_impl":
+            obj.decryptImpl = readString(in);
+            break;
+        case "keystore_id":
+            obj.keystoreId = readObject(in, 1);
+            break;
+        case "keystore_type":
+            obj.keystoreType = readString(in);
+            break;
+        case "key_alias":
+            obj.keyAlias = readString(in);
+            break;
+        case "password":
+            obj.password = readString(in);
+            break;
+        case "cipher_spec":
+            obj.cipherSpec = readString(in);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColSpecifierV3;
+import org.codelibs.fione.h2o.bindings.pojos.DeepLearningActivation;
+import org.codelibs.fione.h2o.bindings.pojos.DeepLearningClassSamplingMethod;
+import org.codelibs.fione.h2o.bindings.pojos.DeepLearningInitialWeightDistribution;
+import org.codelibs.fione.h2o.bindings.pojos.DeepLearningLoss;
+import org.codelibs.fione.h2o.bindings.pojos.DeepLearningMissingValuesHandling;
+import org.codelibs.fione.h2o.bindings.pojos.DeepLearningParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.GenmodelutilsDistributionFamily;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersCategoricalEncodingScheme;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersFoldAssignmentScheme;
+import org.codelibs.fione.h2o.bindings.pojos.ScoreKeeperStoppingMetric;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class DeepLearningParametersV3Adapter extends PojoTypeAdapter<DeepLearningParametersV3> {
+
+    public DeepLearningParametersV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, DeepLearningParametersV3.class, //
+                DeepLearningActivation.class,
+                DeepLearningInitialWeightDistribution.class,
+                FrameKeyV3[].class,
+                FrameKeyV3[].class,
+                DeepLearningLoss.class,
+                DeepLearningClassSamplingMethod.class,
+                DeepLearningMissingValuesHandling.class,
+                ModelKeyV3.class,
+                ModelKeyV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                GenmodelutilsDistributionFamily.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ModelParametersFoldAssignmentScheme.class,
+                ModelParametersCategoricalEncodingScheme.class,
+                ModelKeyV3.class,
+                ScoreKeeperStoppingMetric.class);
+    }
+
+    @Override
+    protected DeepLearningParametersV3 newInstance() {
+        return new DeepLearningParametersV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final DeepLearningParametersV3 obj) throws IOException {
+        switch (name) {
+        case "balance_classes":
+            obj.balanceClasses = readBoolean(in, obj.balanceClasses);
+            break;
+        case "class_sampling_factors":
+            obj.classSamplingFactors = readFloatArray(in);
+            break;
+        case "max_after_balance_size":
+            obj.maxAfterBalanceSize = readFloat(in, obj.maxAfterBalanceSize);
+            break;
+        case "max_confusion_matrix_size":
+            obj.maxConfusionMatrixSize = readInt(in, obj.maxConfusionMatrixSize);
+            break;
+        case "max_hit_ratio_k":
+            obj.maxHitRatioK = readInt(in, obj.maxHitRatioK);
+            break;
+        case "activation":
+            obj.activation = readObject(in, 0);
+            break;
+        case "hidden":
+            obj.hidden = readIntArray(in);
+            break;
+        case "epochs":
+            obj.epochs = readDouble(in, obj.epochs);
+            break;
+        case "train_samples_per_iteration":
+            obj.trainSamplesPerIteration = readLong(in, obj.trainSamplesPerIteration);
+            break;
+        case "target_ratio_comm_to_comp":
+            obj.targetRatioCommToComp = readDouble(in, obj.targetRatioCommToComp);
+            break;
+        case "seed":
+            obj.seed = readLong(in, obj.seed);
+            break;
+        case "adaptive_rate":
+            obj.adaptiveRate = readBoolean(in, obj.adaptiveRate);
+            break;
+        case "rho":
+            obj.rho = readDouble(in, obj.rho);
+            break;
+        case "epsilon":
+            obj.epsilon = readDouble(in, obj.epsilon);
+            break;
+        case "rate":
+            obj.rate = readDouble(in, obj.rate);
+            break;
+        case "rate_annealing":
+            obj.rateAnnealing = readDouble(in, obj.rateAnnealing);
+            break;
+        case "rate_decay":
+            obj.rateDecay = readDouble(in, obj.rateDecay);
+            break;
+        case "momentum_start":
+            obj.momentumStart = readDouble(in, obj.momentumStart);
+            break;
+        case "momentum_ramp":
+            obj.momentumRamp = readDouble(in, obj.momentumRamp);
+            break;
+        case "momentum_stable":
+            obj.momentumStable = readDouble(in, obj.momentumStable);
+            break;
+        case "nesterov_accelerated_gradient":
+            obj.nesterovAcceleratedGradient = readBoolean(in, obj.nesterovAcceleratedGradient);
+            break;
+        case "input_dropout_ratio":
+            obj.inputDropoutRatio = readDouble(in, obj.inputDropoutRatio);
+            break;
+        case "hidden_dropout_ratios":
+            obj.hiddenDropoutRatios = readDoubleArray(in);
+            break;
+        case "l1":
+            obj.l1 = readDouble(in, obj.l1);
+            break;
+        case "l2":
+            obj.l2 = readDouble(in, obj.l2);
+            break;
+        case "max_w2":
+            obj.maxW2 = readFloat(in, obj.maxW2);
+            break;
+        case "initial_weight_distribution":
+            obj.initialWeightDistribution = readObject(in, 1);
+            break;
+        case "initial_weight_scale":
+            obj.initialWeightScale = readDouble(in, obj.initialWeightScale);
+            break;
+        case "initial_weights":
+            obj.initialWeights = readObject(in, 2);
+            break;
+        case "initial_biases":
+            obj.initialBiases = readObject(in, 3);
+            break;
+        case "loss":
+            obj.loss = readObject(in, 4);
+            break;
+        case "score_interval":
+            obj.scoreInterval = readDouble(in, obj.scoreInterval);
+            break;
+        case "score_training_samples":
+            obj.scoreTrainingSamples = readLong(in, obj.scoreTrainingSamples);
+            break;
+        case "score_validation_samples":
+            obj.scoreValidationSamples = readLong(in, obj.scoreValidationSamples);
+            break;
+        case "score_duty_cycle":
+            obj.scoreDutyCycle = readDouble(in, obj.scoreDutyCycle);
+            break;
+        case "classification_stop":
+            obj.classificationStop = readDouble(in, obj.classificationStop);
+            break;
+        case "regression_stop":
+            obj.regressionStop = readDouble(in, obj.regressionStop);
+            break;
+        case "quiet_mode":
+            obj.quietMode = readBoolean(in, obj.quietMode);
+            break;
+        case "score_validation_sampling":
+            obj.scoreValidationSampling = readObject(in, 5);
+            break;
+        case "overwrite_with_best_model":
+            obj.overwriteWithBestModel = readBoolean(in, obj.overwriteWithBestModel);
+            break;
+        case "autoencoder":
+            obj.autoencoder = readBoolean(in, obj.autoencoder);
+            break;
+        case "use_all_factor_levels":
+            obj.useAllFactorLevels = readBoolean(in, obj.useAllFactorLevels);
+            break;
+        case "standardize":
+            obj.standardize = readBoolean(in, obj.standardize);
+            break;
+        case "diagnostics":
+            obj.diagnostics = readBoolean(in, obj.diagnostics);
+            break;
+        case "variable_importances":
+            obj.variableImportances = readBoolean(in, obj.variableImportances);
+            break;
+        case "fast_mode":
+            obj.fastMode = readBoolean(in, obj.fastMode);
+            break;
+        case "force_load_balance":
+            obj.forceLoadBalance = readBoolean(in, obj.forceLoadBalance);
+            break;
+        case "replicate_training_data":
+            obj.replicateTrainingData = readBoolean(in, obj.replicateTrainingData);
+            break;
+        case "single_node_mode":
+            obj.singleNodeMode = readBoolean(in, obj.singleNodeMode);
+            break;
+        case "shuffle_training_data":
+            obj.shuffleTrainingData = readBoolean(in, obj.shuffleTrainingData);
+            break;
+        case "missing_values_handling":
+            obj.missingValuesHandling = readObject(in, 6);
+            break;
+        case "sparse":
+            obj.sparse = readBoolean(in, obj.sparse);
+            break;
+        case "col_major":
+            obj.colMajor = readBoolean(in, obj.colMajor);
+            break;
+        case "average_activation":
+            obj.averageActivation = readDouble(in, obj.averageActivation);
+            break;
+        case "sparsity_beta":
+            obj.sparsityBeta = readDouble(in, obj.sparsityBeta);
+            break;
+        case "max_categorical_features":
+            obj.maxCategoricalFeatures = readInt(in, obj.maxCategoricalFeatures);
+            break;
+        case "reproducible":
+            obj.reproducible = readBoolean(in, obj.reproducible);
+            break;
+        case "export_weights_and_biases":
+            obj.exportWeightsAndBiases = readBoolean(in, obj.exportWeightsAndBiases);
+            break;
+        case "mini_batch_size":
+            obj.miniBatchSize = readInt(in, obj.miniBatchSize);
+            break;
+        case "elastic_averaging":
+            obj.elasticAveraging = readBoolean(in, obj.elasticAveraging);
+            break;
+        case "elastic_averaging_moving_rate":
+            obj.elasticAveragingMovingRate = readDouble(in, obj.elasticAveragingMovingRate);
+            break;
+        case "elastic_averaging_regularization":
+            obj.elasticAveragingRegularization = readDouble(in, obj.elasticAveragingRegularization);
+            break;
+        case "pretrained_autoencoder":
+            obj.pretrainedAutoencoder = readObject(in, 7);
+            break;
+        case "model_id":
+            obj.modelId = readObject(in, 8);
+            break;
+        case "training_frame":
+            obj.trainingFrame = readObject(in, 9);
+            break;
+        case "validation_frame":
+            obj.validationFrame = readObject(in, 10);
+            break;
+        case "nfolds":
+            obj.nfolds = readInt(in, obj.nfolds);
+            break;
+        case "keep_cross_validation_models":
+            obj.keepCrossValidationModels = readBoolean(in, obj.keepCrossValidationModels);
+            break;
+        case "keep_cross_validation_predictions":
+            obj.keepCrossValidationPredictions = readBoolean(in, obj.keepCrossValidationPredictions);
+            break;
+        case "keep_cross_validation_fold_assignment":
+            obj.keepCrossValidationFoldAssignment = readBoolean(in, obj.keepCrossValidationFoldAssignment);
+            break;
+        case "parallelize_cross_validation":
+            obj.parallelizeCrossValidation = readBoolean(in, obj.parallelizeCrossValidation);
+            break;
+        case "distribution":
+            obj.distribution = readObject(in, 11);
+            break;
+        case "tweedie_power":
+            obj.tweediePower = readDouble(in, obj.tweediePower);
+            break;
+        case "quantile_alpha":
+            obj.quantileAlpha = readDouble(in, obj.quantileAlpha);
+            break;
+        case "huber_alpha":
+            obj.huberAlpha = readDouble(in, obj.huberAlpha);
+            break;
+        case "response_column":
+            obj.responseColumn = readObject(in, 12);
+            break;
+        case "weights_column":
+            obj.weightsColumn = readObject(in, 13);
+            break;
+        case "offset_column":
+            obj.offsetColumn = readObject(in, 14);
+            break;
+        case "fold_column":
+            obj.foldColumn = readObject(in, 15);
+            break;
+        case "fold_assignment":
+            obj.foldAssignment = readObject(in, 16);
+            break;
+        case "categorical_encoding":
+            obj.categoricalEncoding = readObject(in, 17);
+            break;
+        case "max_categorical_levels":
+            obj.maxCategoricalLevels = readInt(in, obj.maxCategoricalLevels);
+            break;
+        case "ignored_columns":
+            obj.ignoredColumns = readStringArray(in);
+            break;
+        case "ignore_const_cols":
+            obj.ignoreConstCols = readBoolean(in, obj.ignoreConstCols);
+            break;
+        case "score_each_iteration":
+            obj.scoreEachIteration = readBoolean(in, obj.scoreEachIteration);
+            break;
+        case "checkpoint":
+            obj.checkpoint = readObject(in, 18);
+            break;
+        case "stopping_rounds":
+            obj.stoppingRounds = readInt(in, obj.stoppingRounds);
+            break;
+        case "max_runtime_secs":
+            obj.maxRuntimeSecs = readDouble(in, obj.maxRuntimeSecs);
+            break;
+        case "stopping_metric":
+            obj.stoppingMetric = readObject(in, 19);
+            break;
+        case "stopping_tolerance":
+            obj.stoppingTolerance = readDouble(in, obj.stoppingTolerance);
+            break;
+        case "custom_metric_func":
+            obj.customMetricFunc = readString(in);
+            break;
+        case "custom_distribution_func":
+            obj.customDistributionFunc = readString(in);
+            break;
+        case "export_checkpoints_dir":
+            obj.exportCheckpointsDir = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
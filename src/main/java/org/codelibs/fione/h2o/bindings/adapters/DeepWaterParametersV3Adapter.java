@@ -0,0 +1,306 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColSpecifierV3;
+import org.codelibs.fione.h2o.bindings.pojos.DeepWaterParametersActivation;
+import org.codelibs.fione.h2o.bindings.pojos.DeepWaterParametersBackend;
+import org.codelibs.fione.h2o.bindings.pojos.DeepWaterParametersNetwork;
+import org.codelibs.fione.h2o.bindings.pojos.DeepWaterParametersProblemType;
+import org.codelibs.fione.h2o.bindings.pojos.DeepWaterParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.GenmodelutilsDistributionFamily;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersCategoricalEncodingScheme;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersFoldAssignmentScheme;
+import org.codelibs.fione.h2o.bindings.pojos.ScoreKeeperStoppingMetric;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class DeepWaterParametersV3Adapter extends PojoTypeAdapter<DeepWaterParametersV3> {
+
+    public DeepWaterParametersV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, DeepWaterParametersV3.class, //
+                DeepWaterParametersProblemType.class,
+                DeepWaterParametersActivation.class,
+                DeepWaterParametersNetwork.class,
+                DeepWaterParametersBackend.class,
+                ModelKeyV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                GenmodelutilsDistributionFamily.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ModelParametersFoldAssignmentScheme.class,
+                ModelParametersCategoricalEncodingScheme.class,
+                ModelKeyV3.class,
+                ScoreKeeperStoppingMetric.class);
+    }
+
+    @Override
+    protected DeepWaterParametersV3 newInstance() {
+        return new DeepWaterParametersV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final DeepWaterParametersV3 obj) throws IOException {
+        switch (name) {
+        case "problem_type":
+            obj.problemType = readObject(in, 0);
+            break;
+        case "activation":
+            obj.activation = readObject(in, 1);
+            break;
+        case "hidden":
+            obj.hidden = readIntArray(in);
+            break;
+        case "input_dropout_ratio":
+            obj.inputDropoutRatio = readDouble(in, obj.inputDropoutRatio);
+            break;
+        case "hidden_dropout_ratios":
+            obj.hiddenDropoutRatios = readDoubleArray(in);
+            break;
+        case "max_confusion_matrix_size":
+            obj.maxConfusionMatrixSize = readInt(in, obj.maxConfusionMatrixSize);
+            break;
+        case "sparse":
+            obj.sparse = readBoolean(in, obj.sparse);
+            break;
+        case "max_hit_ratio_k":
+            obj.maxHitRatioK = readInt(in, obj.maxHitRatioK);
+            break;
+        case "epochs":
+            obj.epochs = readDouble(in, obj.epochs);
+            break;
+        case "train_samples_per_iteration":
+            obj.trainSamplesPerIteration = readLong(in, obj.trainSamplesPerIteration);
+            break;
+        case "target_ratio_comm_to_comp":
+            obj.targetRatioCommToComp = readDouble(in, obj.targetRatioCommToComp);
+            break;
+        case "seed":
+            obj.seed = readLong(in, obj.seed);
+            break;
+        case "learning_rate":
+            obj.learningRate = readDouble(in, obj.learningRate);
+            break;
+        case "learning_rate_annealing":
+            obj.learningRateAnnealing = readDouble(in, obj.learningRateAnnealing);
+            break;
+        case "momentum_start":
+            obj.momentumStart = readDouble(in, obj.momentumStart);
+            break;
+        case "momentum_ramp":
+            obj.momentumRamp = readDouble(in, obj.momentumRamp);
+            break;
+        case "momentum_stable":
+            obj.momentumStable = readDouble(in, obj.momentumStable);
+            break;
+        case "score_interval":
+            obj.scoreInterval = readDouble(in, obj.scoreInterval);
+            break;
+        case "score_training_samples":
+            obj.scoreTrainingSamples = readLong(in, obj.scoreTrainingSamples);
+            break;
+        case "score_validation_samples":
+            obj.scoreValidationSamples = readLong(in, obj.scoreValidationSamples);
+            break;
+        case "score_duty_cycle":
+            obj.scoreDutyCycle = readDouble(in, obj.scoreDutyCycle);
+            break;
+        case "classification_stop":
+            obj.classificationStop = readDouble(in, obj.classificationStop);
+            break;
+        case "regression_stop":
+            obj.regressionStop = readDouble(in, obj.regressionStop);
+            break;
+        case "quiet_mode":
+            obj.quietMode = readBoolean(in, obj.quietMode);
+            break;
+        case "overwrite_with_best_model":
+            obj.overwriteWithBestModel = readBoolean(in, obj.overwriteWithBestModel);
+            break;
+        case "autoencoder":
+            obj.autoencoder = readBoolean(in, obj.autoencoder);
+            break;
+        case "diagnostics":
+            obj.diagnostics = readBoolean(in, obj.diagnostics);
+            break;
+        case "variable_importances":
+            obj.variableImportances = readBoolean(in, obj.variableImportances);
+            break;
+        case "replicate_training_data":
+            obj.replicateTrainingData = readBoolean(in, obj.replicateTrainingData);
+            break;
+        case "single_node_mode":
+            obj.singleNodeMode = readBoolean(in, obj.singleNodeMode);
+            break;
+        case "shuffle_training_data":
+            obj.shuffleTrainingData = readBoolean(in, obj.shuffleTrainingData);
+            break;
+        case "mini_batch_size":
+            obj.miniBatchSize = readInt(in, obj.miniBatchSize);
+            break;
+        case "clip_gradient":
+            obj.clipGradient = readDouble(in, obj.clipGradient);
+            break;
+        case "network":
+            obj.network = readObject(in, 2);
+            break;
+        case "backend":
+            obj.backend = readObject(in, 3);
+            break;
+        case "image_shape":
+            obj.imageShape = readIntArray(in);
+            break;
+        case "channels":
+            obj.channels = readInt(in, obj.channels);
+            break;
+        case "gpu":
+            obj.gpu = readBoolean(in, obj.gpu);
+            break;
+        case "device_id":
+            obj.deviceId = readIntArray(in);
+            break;
+        case "cache_data":
+            obj.cacheData = readBoolean(in, obj.cacheData);
+            break;
+        case "network_definition_file":
+            obj.networkDefinitionFile = readString(in);
+            break;
+        case "network_parameters_file":
+            obj.networkParametersFile = readString(in);
+            break;
+        case "mean_image_file":
+            obj.meanImageFile = readString(in);
+            break;
+        case "export_native_parameters_prefix":
+            obj.exportNativeParametersPrefix = readString(in);
+            break;
+        case "standardize":
+            obj.standardize = readBoolean(in, obj.standardize);
+            break;
+        case "balance_classes":
+            obj.balanceClasses = readBoolean(in, obj.balanceClasses);
+            break;
+        case "class_sampling_factors":
+            obj.classSamplingFactors = readFloatArray(in);
+            break;
+        case "max_after_balance_size":
+            obj.maxAfterBalanceSize = readFloat(in, obj.maxAfterBalanceSize);
+            break;
+        case "model_id":
+            obj.modelId = readObject(in, 4);
+            break;
+        case "training_frame":
+            obj.trainingFrame = readObject(in, 5);
+            break;
+        case "validation_frame":
+            obj.validationFrame = readObject(in, 6);
+            break;
+        case "nfolds":
+            obj.nfolds = readInt(in, obj.nfolds);
+            break;
+        case "keep_cross_validation_models":
+            obj.keepCrossValidationModels = readBoolean(in, obj.keepCrossValidationModels);
+            break;
+        case "keep_cross_validation_predictions":
+            obj.keepCrossValidationPredictions = readBoolean(in, obj.keepCrossValidationPredictions);
+            break;
+        case "keep_cross_validation_fold_assignment":
+            obj.keepCrossValidationFoldAssignment = readBoolean(in, obj.keepCrossValidationFoldAssignment);
+            break;
+        case "parallelize_cross_validation":
+            obj.parallelizeCrossValidation = readBoolean(in, obj.parallelizeCrossValidation);
+            break;
+        case "distribution":
+            obj.distribution = readObject(in, 7);
+            break;
+        case "tweedie_power":
+            obj.tweediePower = readDouble(in, obj.tweediePower);
+            break;
+        case "quantile_alpha":
+            obj.quantileAlpha = readDouble(in, obj.quantileAlpha);
+            break;
+        case "huber_alpha":
+            obj.huberAlpha = readDouble(in, obj.huberAlpha);
+            break;
+        case "response_column":
+            obj.responseColumn = readObject(in, 8);
+            break;
+        case "weights_column":
+            obj.weightsColumn = readObject(in, 9);
+            break;
+        case "offset_column":
+            obj.offsetColumn = readObject(in, 10);
+            break;
+        case "fold_column":
+            obj.foldColumn = readObject(in, 11);
+            break;
+        case "fold_assignment":
+            obj.foldAssignment = readObject(in, 12);
+            break;
+        case "categorical_encoding":
+            obj.categoricalEncoding = readObject(in, 13);
+            break;
+        case "max_categorical_levels":
+            obj.maxCategoricalLevels = readInt(in, obj.maxCategoricalLevels);
+            break;
+        case "ignored_columns":
+            obj.ignoredColumns = readStringArray(in);
+            break;
+        case "ignore_const_cols":
+            obj.ignoreConstCols = readBoolean(in, obj.ignoreConstCols);
+            break;
+        case "score_each_iteration":
+            obj.scoreEachIteration = readBoolean(in, obj.scoreEachIteration);
+            break;
+        case "checkpoint":
+            obj.checkpoint = readObject(in, 14);
+            break;
+        case "stopping_rounds":
+            obj.stoppingRounds = readInt(in, obj.stoppingRounds);
+            break;
+        case "max_runtime_secs":
+            obj.maxRuntimeSecs = readDouble(in, obj.maxRuntimeSecs);
+            break;
+        case "stopping_metric":
+            obj.stoppingMetric = readObject(in, 15);
+            break;
+        case "stopping_tolerance":
+            obj.stoppingTolerance = readDouble(in, obj.stoppingTolerance);
+            break;
+        case "custom_metric_func":
+            obj.customMetricFunc = readString(in);
+            break;
+        case "custom_distribution_func":
+            obj.customDistributionFunc = readString(in);
+            break;
+        case "export_checkpoints_dir":
+            obj.exportCheckpointsDir = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.DownloadDataV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class DownloadDataV3Adapter extends PojoTypeAdapter<DownloadDataV3> {
+
+    public DownloadDataV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, DownloadDataV3.class, //
+                FrameKeyV3.class);
+    }
+
+    @Override
+    protected DownloadDataV3 newInstance() {
+        return new DownloadDataV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final DownloadDataV3 obj) throws IOException {
+        switch (name) {
+        case "frame_id":
+            obj.frameId = readObject(in, 0);
+            break;
+        case "hex_string":
+            obj.hexString = readBoolean(in, obj.hexString);
+            break;
+        case "csv":
+            obj.csv = readString(in);
+            break;
+        case "filename":
+            obj.filename = readString(in);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
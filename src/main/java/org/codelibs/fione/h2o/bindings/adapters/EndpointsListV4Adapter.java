@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.EndpointV4;
+import org.codelibs.fione.h2o.bindings.pojos.EndpointsListV4;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class EndpointsListV4Adapter extends PojoTypeAdapter<EndpointsListV4> {
+
+    public EndpointsListV4Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, EndpointsListV4.class, //
+                EndpointV4[].class);
+    }
+
+    @Override
+    protected EndpointsListV4 newInstance() {
+        return new EndpointsListV4();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final EndpointsListV4 obj) throws IOException {
+        switch (name) {
+        case "endpoints":
+            obj.endpoints = readObject(in, 0);
+            break;
+        case "__schema":
+            obj.__schema = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.EventLogEntryV99;
+import org.codelibs.fione.h2o.bindings.pojos.H2oautomleventsEventLogEntryLevel;
+import org.codelibs.fione.h2o.bindings.pojos.H2oautomleventsEventLogEntryStage;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class EventLogEntryV99Adapter extends PojoTypeAdapter<EventLogEntryV99> {
+
+    public EventLogEntryV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, EventLogEntryV99.class, //
+                H2oautomleventsEventLogEntryLevel.class,
+                H2oautomleventsEventLogEntryStage.class);
+    }
+
+    @Override
+    protected EventLogEntryV99 newInstance() {
+        return new EventLogEntryV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final EventLogEntryV99 obj) throws IOException {
+        switch (name) {
+        case "timestamp":
+            obj.timestamp = readLong(in, obj.timestamp);
+            break;
+        case "level":
+            obj.level = readObject(in, 0);
+            break;
+        case "stage":
+            obj.stage = readObject(in, 1);
+            break;
+        case "message":
+            obj.message = readString(in);
+            break;
+        case "name":
+            obj.name = readString(in);
+            break;
+        case "value":
+            obj.value = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
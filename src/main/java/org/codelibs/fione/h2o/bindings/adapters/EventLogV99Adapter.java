@@ -0,0 +1,60 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.EventLogEntryV99;
+import org.codelibs.fione.h2o.bindings.pojos.EventLogV99;
+import org.codelibs.fione.h2o.bindings.pojos.TwoDimTableV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class EventLogV99Adapter extends PojoTypeAdapter<EventLogV99> {
+
+    public EventLogV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, EventLogV99.class, //
+                AutoMLKeyV3.class,
+                EventLogEntryV99[].class,
+                TwoDimTableV3.class);
+    }
+
+    @Override
+    protected EventLogV99 newInstance() {
+        return new EventLogV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final EventLogV99 obj) throws IOException {
+        switch (name) {
+        case "automl_id":
+            obj.automlId = readObject(in, 0);
+            break;
+        case "events":
+            obj.events = readObject(in, 1);
+            break;
+        case "table":
+            obj.table = readObject(in, 2);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.EventV3;
+import org.codelibs.fione.h2o.bindings.pojos.TimelineEventEventType;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class EventV3Adapter extends PojoTypeAdapter<EventV3> {
+
+    public EventV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, EventV3.class, //
+                TimelineEventEventType.class);
+    }
+
+    @Override
+    protected EventV3 newInstance() {
+        return new EventV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final EventV3 obj) throws IOException {
+        switch (name) {
+        case "date":
+            obj.date = readString(in);
+            break;
+        case "nanos":
+            obj.nanos = readLong(in, obj.nanos);
+            break;
+        case "type":
+            obj.type = readObject(in, 0);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
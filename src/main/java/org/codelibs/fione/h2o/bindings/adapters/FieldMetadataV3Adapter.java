@@ -0,0 +1,101 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.APIDirection;
+import org.codelibs.fione.h2o.bindings.pojos.APILevel;
+import org.codelibs.fione.h2o.bindings.pojos.FieldMetadataV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class FieldMetadataV3Adapter extends PojoTypeAdapter<FieldMetadataV3> {
+
+    public FieldMetadataV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, FieldMetadataV3.class, //
+                Object.class,
+                APILevel.class,
+                APIDirection.class);
+    }
+
+    @Override
+    protected FieldMetadataV3 newInstance() {
+        return new FieldMetadataV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final FieldMetadataV3 obj) throws IOException {
+        switch (name) {
+        case "name":
+            obj.name = readString(in);
+            break;
+        case "type":
+            obj.type = readString(in);
+            break;
+        case "is_schema":
+            obj.isSchema = readBoolean(in, obj.isSchema);
+            break;
+        case "schema_name":
+            obj.schemaName = readString(in);
+            break;
+        case "value":
+            obj.value = readObject(in, 0);
+            break;
+        case "help":
+            obj.help = readString(in);
+            break;
+        case "label":
+            obj.label = readString(in);
+            break;
+        case "required":
+            obj.required = readBoolean(in, obj.required);
+            break;
+        case "level":
+            obj.level = readObject(in, 1);
+            break;
+        case "direction":
+            obj.direction = readObject(in, 2);
+            break;
+        case "is_inherited":
+            obj.isInherited = readBoolean(in, obj.isInherited);
+            break;
+        case "inherited_from":
+            obj.inheritedFrom = readString(in);
+            break;
+        case "is_gridable":
+            obj.isGridable = readBoolean(in, obj.isGridable);
+            break;
+        case "values":
+            obj.values = readStringArray(in);
+            break;
+        case "json":
+            obj.json = readBoolean(in, obj.json);
+            break;
+        case "is_member_of_frames":
+            obj.isMemberOfFrames = readStringArray(in);
+            break;
+        case "is_mutually_exclusive_with":
+            obj.isMutuallyExclusiveWith = readStringArray(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.FindV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class FindV3Adapter extends PojoTypeAdapter<FindV3> {
+
+    public FindV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, FindV3.class, //
+                FrameV3.class);
+    }
+
+    @Override
+    protected FindV3 newInstance() {
+        return new FindV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final FindV3 obj) throws IOException {
+        switch (name) {
+        case "key":
+            obj.key = readObject(in, 0);
+            break;
+        case "column":
+            obj.column = readString(in);
+            break;
+        case "row":
+            obj.row = readLong(in, obj.row);
+            break;
+        case "match":
+            obj.match = readString(in);
+            break;
+        case "prev":
+            obj.prev = readLong(in, obj.prev);
+            break;
+        case "next":
+            obj.next = readLong(in, obj.next);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
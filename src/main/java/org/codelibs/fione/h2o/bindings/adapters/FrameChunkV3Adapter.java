@@ -0,0 +1,54 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameChunkV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class FrameChunkV3Adapter extends PojoTypeAdapter<FrameChunkV3> {
+
+    public FrameChunkV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, FrameChunkV3.class);
+    }
+
+    @Override
+    protected FrameChunkV3 newInstance() {
+        return new FrameChunkV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final FrameChunkV3 obj) throws IOException {
+        switch (name) {
+        case "chunk_id":
+            obj.chunkId = readInt(in, obj.chunkId);
+            break;
+        case "row_count":
+            obj.rowCount = readInt(in, obj.rowCount);
+            break;
+        case "node_idx":
+            obj.nodeIdx = readInt(in, obj.nodeIdx);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameChunkV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameChunksV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class FrameChunksV3Adapter extends PojoTypeAdapter<FrameChunksV3> {
+
+    public FrameChunksV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, FrameChunksV3.class, //
+                FrameKeyV3.class,
+                FrameChunkV3[].class);
+    }
+
+    @Override
+    protected FrameChunksV3 newInstance() {
+        return new FrameChunksV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final FrameChunksV3 obj) throws IOException {
+        switch (name) {
+        case "frame_id":
+            obj.frameId = readObject(in, 0);
+            break;
+        case "chunks":
+            obj.chunks = readObject(in, 1);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.TwoDimTableV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class FrameV3Adapter extends PojoTypeAdapter<FrameV3> {
+
+    public FrameV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, FrameV3.class, //
+                ColV3[].class,
+                TwoDimTableV3.class,
+                TwoDimTableV3.class,
+                FrameKeyV3.class);
+    }
+
+    @Override
+    protected FrameV3 newInstance() {
+        return new FrameV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final FrameV3 obj) throws IOException {
+        switch (name) {
+        case "row_offset":
+            obj.rowOffset = readLong(in, obj.rowOffset);
+            break;
+        case "row_count":
+            obj.rowCount = readInt(in, obj.rowCount);
+            break;
+        case "column_offset":
+            obj.columnOffset = readInt(in, obj.columnOffset);
+            break;
+        case "column_count":
+            obj.columnCount = readInt(in, obj.columnCount);
+            break;
+        case "full_column_count":
+            obj.fullColumnCount = readInt(in, obj.fullColumnCount);
+            break;
+        case "total_column_count":
+            obj.totalColumnCount = readInt(in, obj.totalColumnCount);
+            break;
+        case "checksum":
+            obj.checksum = readLong(in, obj.checksum);
+            break;
+        case "rows":
+            obj.rows = readLong(in, obj.rows);
+            break;
+        case "num_columns":
+            obj.numColumns = readLong(in, obj.numColumns);
+            break;
+        case "default_percentiles":
+            obj.defaultPercentiles = readDoubleArray(in);
+            break;
+        case "columns":
+            obj.columns = readObject(in, 0);
+            break;
+        case "compatible_models":
+            obj.compatibleModels = readStringArray(in);
+            break;
+        case "chunk_summary":
+            obj.chunkSummary = readObject(in, 1);
+            break;
+        case "distribution_summary":
+            obj.distributionSummary = readObject(in, 2);
+            break;
+        case "frame_id":
+            obj.frameId = readObject(in, 3);
+            break;
+        case "byte_size":
+            obj.byteSize = readLong(in, obj.byteSize);
+            break;
+        case "is_text":
+            obj.isText = readBoolean(in, obj.isText);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.FramesV3;
+import org.codelibs.fione.h2o.bindings.pojos.JobV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelSchemaV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class FramesV3Adapter extends PojoTypeAdapter<FramesV3> {
+
+    public FramesV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, FramesV3.class, //
+                FrameKeyV3.class,
+                JobV3.class,
+                FrameV3[].class,
+                ModelSchemaV3[].class);
+    }
+
+    @Override
+    protected FramesV3 newInstance() {
+        return new FramesV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final FramesV3 obj) throws IOException {
+        switch (name) {
+        case "frame_id":
+            obj.frameId = readObject(in, 0);
+            break;
+        case "column":
+            obj.column = readString(in);
+            break;
+        case "row_offset":
+            obj.rowOffset = readLong(in, obj.rowOffset);
+            break;
+        case "row_count":
+            obj.rowCount = readInt(in, obj.rowCount);
+            break;
+        case "column_offset":
+            obj.columnOffset = readInt(in, obj.columnOffset);
+            break;
+        case "full_column_count":
+            obj.fullColumnCount = readInt(in, obj.fullColumnCount);
+            break;
+        case "column_count":
+            obj.columnCount = readInt(in, obj.columnCount);
+            break;
+        case "find_compatible_models":
+            obj.findCompatibleModels = readBoolean(in, obj.findCompatibleModels);
+            break;
+        case "path":
+            obj.path = readString(in);
+            break;
+        case "force":
+            obj.force = readBoolean(in, obj.force);
+            break;
+        case "num_parts":
+            obj.numParts = readInt(in, obj.numParts);
+            break;
+        case "compression":
+            obj.compression = readString(in);
+            break;
+        case "separator":
+            obj.separator = readByte(in, obj.separator);
+            break;
+        case "job":
+            obj.job = readObject(in, 1);
+            break;
+        case "frames":
+            obj.frames = readObject(in, 2);
+            break;
+        case "compatible_models":
+            obj.compatibleModels = readObject(in, 3);
+            break;
+        case "domain":
+            obj.domain = readStringArray2(in);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColSpecifierV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.GBMParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.GenmodelutilsDistributionFamily;
+import org.codelibs.fione.h2o.bindings.pojos.KeyValueV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersCategoricalEncodingScheme;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersFoldAssignmentScheme;
+import org.codelibs.fione.h2o.bindings.pojos.ScoreKeeperStoppingMetric;
+import org.codelibs.fione.h2o.bindings.pojos.TreeSharedTreeModelSharedTreeParametersHistogramType;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class GBMParametersV3Adapter extends PojoTypeAdapter<GBMParametersV3> {
+
+    public GBMParametersV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, GBMParametersV3.class, //
+                KeyValueV3[].class,
+                TreeSharedTreeModelSharedTreeParametersHistogramType.class,
+                FrameKeyV3.class,
+                ModelKeyV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                GenmodelutilsDistributionFamily.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ModelParametersFoldAssignmentScheme.class,
+                ModelParametersCategoricalEncodingScheme.class,
+                ModelKeyV3.class,
+                ScoreKeeperStoppingMetric.class);
+    }
+
+    @Override
+    protected GBMParametersV3 newInstance() {
+        return new GBMParametersV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final GBMParametersV3 obj) throws IOException {
+        switch (name) {
+        case "learn_rate":
+            obj.learnRate = readDouble(in, obj.learnRate);
+            break;
+        case "learn_rate_annealing":
+            obj.learnRateAnnealing = readDouble(in, obj.learnRateAnnealing);
+            break;
+        case "sample_rate":
+            obj.sampleRate = readDouble(in, obj.sampleRate);
+            break;
+        case "col_sample_rate":
+            obj.colSampleRate = readDouble(in, obj.colSampleRate);
+            break;
+        case "monotone_constraints":
+            obj.monotoneConstraints = readObject(in, 0);
+            break;
+        case "max_abs_leafnode_pred":
+            obj.maxAbsLeafnodePred = readDouble(in, obj.maxAbsLeafnodePred);
+            break;
+        case "pred_noise_bandwidth":
+            obj.predNoiseBandwidth = readDouble(in, obj.predNoiseBandwidth);
+            break;
+        case "balance_classes":
+            obj.balanceClasses = readBoolean(in, obj.balanceClasses);
+            break;
+        case "class_sampling_factors":
+            obj.classSamplingFactors = readFloatArray(in);
+            break;
+        case "max_after_balance_size":
+            obj.maxAfterBalanceSize = readFloat(in, obj.maxAfterBalanceSize);
+            break;
+        case "max_confusion_matrix_size":
+            obj.maxConfusionMatrixSize = readInt(in, obj.maxConfusionMatrixSize);
+            break;
+        case "max_hit_ratio_k":
+            obj.maxHitRatioK = readInt(in, obj.maxHitRatioK);
+            break;
+        case "ntrees":
+            obj.ntrees = readInt(in, obj.ntrees);
+            break;
+        case "max_depth":
+            obj.maxDepth = readInt(in, obj.maxDepth);
+            break;
+        case "min_rows":
+            obj.minRows = readDouble(in, obj.minRows);
+            break;
+        case "nbins":
+            obj.nbins = readInt(in, obj.nbins);
+            break;
+        case "nbins_top_level":
+            obj.nbinsTopLevel = readInt(in, obj.nbinsTopLevel);
+            break;
+        case "nbins_cats":
+            obj.nbinsCats = readInt(in, obj.nbinsCats);
+            break;
+        case "r2_stopping":
+            obj.r2Stopping = readDouble(in, obj.r2Stopping);
+            break;
+        case "seed":
+            obj.seed = readLong(in, obj.seed);
+            break;
+        case "build_tree_one_node":
+            obj.buildTreeOneNode = readBoolean(in, obj.buildTreeOneNode);
+            break;
+        case "sample_rate_per_class":
+            obj.sampleRatePerClass = readDoubleArray(in);
+            break;
+        case "col_sample_rate_per_tree":
+            obj.colSampleRatePerTree = readDouble(in, obj.colSampleRatePerTree);
+            break;
+        case "col_sample_rate_change_per_level":
+            obj.colSampleRateChangePerLevel = readDouble(in, obj.colSampleRateChangePerLevel);
+            break;
+        case "score_tree_interval":
+            obj.scoreTreeInterval = readInt(in, obj.scoreTreeInterval);
+            break;
+        case "min_split_improvement":
+            obj.minSplitImprovement = readDouble(in, obj.minSplitImprovement);
+            break;
+        case "histogram_type":
+            obj.histogramType = readObject(in, 1);
+            break;
+        case "calibrate_model":
+            obj.calibrateModel = readBoolean(in, obj.calibrateModel);
+            break;
+        case "calibration_frame":
+            obj.calibrationFrame = readObject(in, 2);
+            break;
+        case "check_constant_response":
+            obj.checkConstantResponse = readBoolean(in, obj.checkConstantResponse);
+            break;
+        case "model_id":
+            obj.modelId = readObject(in, 3);
+            break;
+        case "training_frame":
+            obj.trainingFrame = readObject(in, 4);
+            break;
+        case "validation_frame":
+            obj.validationFrame = readObject(in, 5);
+            break;
+        case "nfolds":
+            obj.nfolds = readInt(in, obj.nfolds);
+            break;
+        case "keep_cross_validation_models":
+            obj.keepCrossValidationModels = readBoolean(in, obj.keepCrossValidationModels);
+            break;
+        case "keep_cross_validation_predictions":
+            obj.keepCrossValidationPredictions = readBoolean(in, obj.keepCrossValidationPredictions);
+            break;
+        case "keep_cross_validation_fold_assignment":
+            obj.keepCrossValidationFoldAssignment = readBoolean(in, obj.keepCrossValidationFoldAssignment);
+            break;
+        case "parallelize_cross_validation":
+            obj.parallelizeCrossValidation = readBoolean(in, obj.parallelizeCrossValidation);
+            break;
+        case "distribution":
+            obj.distribution = readObject(in, 6);
+            break;
+        case "tweedie_power":
+            obj.tweediePower = readDouble(in, obj.tweediePower);
+            break;
+        case "quantile_alpha":
+            obj.quantileAlpha = readDouble(in, obj.quantileAlpha);
+            break;
+        case "huber_alpha":
+            obj.huberAlpha = readDouble(in, obj.huberAlpha);
+            break;
+        case "response_column":
+            obj.responseColumn = readObject(in, 7);
+            break;
+        case "weights_column":
+            obj.weightsColumn = readObject(in, 8);
+            break;
+        case "offset_column":
+            obj.offsetColumn = readObject(in, 9);
+            break;
+        case "fold_column":
+            obj.foldColumn = readObject(in, 10);
+            break;
+        case "fold_assignment":
+            obj.foldAssignment = readObject(in, 11);
+            break;
+        case "categorical_encoding":
+            obj.categoricalEncoding = readObject(in, 12);
+            break;
+        case "max_categorical_levels":
+            obj.maxCategoricalLevels = readInt(in, obj.maxCategoricalLevels);
+            break;
+        case "ignored_columns":
+            obj.ignoredColumns = readStringArray(in);
+            break;
+        case "ignore_const_cols":
+            obj.ignoreConstCols = readBoolean(in, obj.ignoreConstCols);
+            break;
+        case "score_each_iteration":
+            obj.scoreEachIteration = readBoolean(in, obj.scoreEachIteration);
+            break;
+        case "checkpoint":
+            obj.checkpoint = readObject(in, 13);
+            break;
+        case "stopping_rounds":
+            obj.stoppingRounds = readInt(in, obj.stoppingRounds);
+            break;
+        case "max_runtime_secs":
+            obj.maxRuntimeSecs = readDouble(in, obj.maxRuntimeSecs);
+            break;
+        case "stopping_metric":
+            obj.stoppingMetric = readObject(in, 14);
+            break;
+        case "stopping_tolerance":
+            obj.stoppingTolerance = readDouble(in, obj.stoppingTolerance);
+            break;
+        case "custom_metric_func":
+            obj.customMetricFunc = readString(in);
+            break;
+        case "custom_distribution_func":
+            obj.customDistributionFunc = readString(in);
+            break;
+        case "export_checkpoints_dir":
+            obj.exportCheckpointsDir = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
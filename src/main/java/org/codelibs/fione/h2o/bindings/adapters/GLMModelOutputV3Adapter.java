@@ -0,0 +1,146 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.GLMModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelCategory;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsBaseV3;
+import org.codelibs.fione.h2o.bindings.pojos.TwoDimTableV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+public class GLMModelOutputV3Adapter extends PojoTypeAdapter<GLMModelOutputV3> {
+
+    public GLMModelOutputV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, GLMModelOutputV3.class, //
+                TwoDimTableV3.class,
+                TwoDimTableV3.class,
+                TwoDimTableV3.class,
+                TwoDimTableV3.class,
+                ModelKeyV3[].class,
+                FrameKeyV3[].class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                ModelCategory.class,
+                TwoDimTableV3.class,
+                TwoDimTableV3.class,
+                ModelMetricsBaseV3.class,
+                ModelMetricsBaseV3.class,
+                ModelMetricsBaseV3.class,
+                TwoDimTableV3.class,
+                TypeToken.getParameterized(Map.class, String.class, String.class).getType());
+    }
+
+    @Override
+    protected GLMModelOutputV3 newInstance() {
+        return new GLMModelOutputV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final GLMModelOutputV3 obj) throws IOException {
+        switch (name) {
+        case "coefficients_table":
+            obj.coefficientsTable = readObject(in, 0);
+            break;
+        case "random_coefficients_table":
+            obj.randomCoefficientsTable = readObject(in, 1);
+            break;
+        case "coefficients_table_multinomials_with_class_names":
+            obj.coefficientsTableMultinomialsWithClassNames = readObject(in, 2);
+            break;
+        case "standardized_coefficient_magnitudes":
+            obj.standardizedCoefficientMagnitudes = readObject(in, 3);
+            break;
+        case "lambda_best":
+            obj.lambdaBest = readDouble(in, obj.lambdaBest);
+            break;
+        case "lambda_1se":
+            obj.lambda1se = readDouble(in, obj.lambda1se);
+            break;
+        case "dispersion":
+            obj.dispersion = readDouble(in, obj.dispersion);
+            break;
+        case "names":
+            obj.names = readStringArray(in);
+            break;
+        case "column_types":
+            obj.columnTypes = readStringArray(in);
+            break;
+        case "domains":
+            obj.domains = readStringArray2(in);
+            break;
+        case "cross_validation_models":
+            obj.crossValidationModels = readObject(in, 4);
+            break;
+        case "cross_validation_predictions":
+            obj.crossValidationPredictions = readObject(in, 5);
+            break;
+        case "cross_validation_holdout_predictions_frame_id":
+            obj.crossValidationHoldoutPredictionsFrameId = readObject(in, 6);
+            break;
+        case "cross_validation_fold_assignment_frame_id":
+            obj.crossValidationFoldAssignmentFrameId = readObject(in, 7);
+            break;
+        case "model_category":
+            obj.modelCategory = readObject(in, 8);
+            break;
+        case "model_summary":
+            obj.modelSummary = readObject(in, 9);
+            break;
+        case "scoring_history":
+            obj.scoringHistory = readObject(in, 10);
+            break;
+        case "training_metrics":
+            obj.trainingMetrics = readObject(in, 11);
+            break;
+        case "validation_metrics":
+            obj.validationMetrics = readObject(in, 12);
+            break;
+        case "cross_validation_metrics":
+            obj.crossValidationMetrics = readObject(in, 13);
+            break;
+        case "cross_validation_metrics_summary":
+            obj.crossValidationMetricsSummary = readObject(in, 14);
+            break;
+        case "status":
+            obj.status = readString(in);
+            break;
+        case "start_time":
+            obj.startTime = readLong(in, obj.startTime);
+            break;
+        case "end_time":
+            obj.endTime = readLong(in, obj.endTime);
+            break;
+        case "run_time":
+            obj.runTime = readLong(in, obj.runTime);
+            break;
+        case "help":
+            obj.help = readObject(in, 15);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColSpecifierV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.GLMFamily;
+import org.codelibs.fione.h2o.bindings.pojos.GLMLink;
+import org.codelibs.fione.h2o.bindings.pojos.GLMMissingValuesHandling;
+import org.codelibs.fione.h2o.bindings.pojos.GLMParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.GLMSolver;
+import org.codelibs.fione.h2o.bindings.pojos.GenmodelutilsDistributionFamily;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersCategoricalEncodingScheme;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersFoldAssignmentScheme;
+import org.codelibs.fione.h2o.bindings.pojos.ScoreKeeperStoppingMetric;
+import org.codelibs.fione.h2o.bindings.pojos.StringPairV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class GLMParametersV3Adapter extends PojoTypeAdapter<GLMParametersV3> {
+
+    public GLMParametersV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, GLMParametersV3.class, //
+                GLMFamily.class,
+                GLMFamily[].class,
+                GLMSolver.class,
+                GLMMissingValuesHandling.class,
+                FrameKeyV3.class,
+                GLMLink.class,
+                GLMLink[].class,
+                FrameKeyV3.class,
+                StringPairV3[].class,
+                ModelKeyV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                GenmodelutilsDistributionFamily.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ModelParametersFoldAssignmentScheme.class,
+                ModelParametersCategoricalEncodingScheme.class,
+                ModelKeyV3.class,
+                ScoreKeeperStoppingMetric.class);
+    }
+
+    @Override
+    protected GLMParametersV3 newInstance() {
+        return new GLMParametersV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final GLMParametersV3 obj) throws IOException {
+        switch (name) {
+        case "seed":
+            obj.seed = readLong(in, obj.seed);
+            break;
+        case "family":
+            obj.family = readObject(in, 0);
+            break;
+        case "rand_family":
+            obj.randFamily = readObject(in, 1);
+            break;
+        case "tweedie_variance_power":
+            obj.tweedieVariancePower = readDouble(in, obj.tweedieVariancePower);
+            break;
+        case "tweedie_link_power":
+            obj.tweedieLinkPower = readDouble(in, obj.tweedieLinkPower);
+            break;
+        case "theta":
+            obj.theta = readDouble(in, obj.theta);
+            break;
+        case "solver":
+            obj.solver = readObject(in, 2);
+            break;
+        case "alpha":
+            obj.alpha = readDoubleArray(in);
+            break;
+        case "lambda":
+            obj.lambda = readDoubleArray(in);
+            break;
+        case "lambda_search":
+            obj.lambdaSearch = readBoolean(in, obj.lambdaSearch);
+            break;
+        case "early_stopping":
+            obj.earlyStopping = readBoolean(in, obj.earlyStopping);
+            break;
+        case "nlambdas":
+            obj.nlambdas = readInt(in, obj.nlambdas);
+            break;
+        case "standardize":
+            obj.standardize = readBoolean(in, obj.standardize);
+            break;
+        case "missing_values_handling":
+            obj.missingValuesHandling = readObject(in, 3);
+            break;
+        case "plug_values":
+            obj.plugValues = readObject(in, 4);
+            break;
+        case "non_negative":
+            obj.nonNegative = readBoolean(in, obj.nonNegative);
+            break;
+        case "max_iterations":
+            obj.maxIterations = readInt(in, obj.maxIterations);
+            break;
+        case "beta_epsilon":
+            obj.betaEpsilon = readDouble(in, obj.betaEpsilon);
+            break;
+        case "objective_epsilon":
+            obj.objectiveEpsilon = readDouble(in, obj.objectiveEpsilon);
+            break;
+        case "gradient_epsilon":
+            obj.gradientEpsilon = readDouble(in, obj.gradientEpsilon);
+            break;
+        case "obj_reg":
+            obj.objReg = readDouble(in, obj.objReg);
+            break;
+        case "link":
+            obj.link = readObject(in, 5);
+            break;
+        case "rand_link":
+            obj.randLink = readObject(in, 6);
+            break;
+        case "startval":
+            obj.startval = readDoubleArray(in);
+            break;
+        case "random_columns":
+            obj.randomColumns = readIntArray(in);
+            break;
+        case "calc_like":
+            obj.calcLike = readBoolean(in, obj.calcLike);
+            break;
+        case "intercept":
+            obj.intercept = readBoolean(in, obj.intercept);
+            break;
+        case "HGLM":
+            obj.hglm = readBoolean(in, obj.hglm);
+            break;
+        case "prior":
+            obj.prior = readDouble(in, obj.prior);
+            break;
+        case "lambda_min_ratio":
+            obj.lambdaMinRatio = readDouble(in, obj.lambdaMinRatio);
+            break;
+        case "beta_constraints":
+            obj.betaConstraints = readObject(in, 7);
+            break;
+        case "max_active_predictors":
+            obj.maxActivePredictors = readInt(in, obj.maxActivePredictors);
+            break;
+        case "interactions":
+            obj.interactions = readStringArray(in);
+            break;
+        case "interaction_pairs":
+            obj.interactionPairs = readObject(in, 8);
+            break;
+        case "balance_classes":
+            obj.balanceClasses = readBoolean(in, obj.balanceClasses);
+            break;
+        case "class_sampling_factors":
+            obj.classSamplingFactors = readFloatArray(in);
+            break;
+        case "max_after_balance_size":
+            obj.maxAfterBalanceSize = readFloat(in, obj.maxAfterBalanceSize);
+            break;
+        case "max_confusion_matrix_size":
+            obj.maxConfusionMatrixSize = readInt(in, obj.maxConfusionMatrixSize);
+            break;
+        case "max_hit_ratio_k":
+            obj.maxHitRatioK = readInt(in, obj.maxHitRatioK);
+            break;
+        case "compute_p_values":
+            obj.computePValues = readBoolean(in, obj.computePValues);
+            break;
+        case "remove_collinear_columns":
+            obj.removeCollinearColumns = readBoolean(in, obj.removeCollinearColumns);
+            break;
+        case "model_id":
+            obj.modelId = readObject(in, 9);
+            break;
+        case "training_frame":
+            obj.trainingFrame = readObject(in, 10);
+            break;
+        case "validation_frame":
+            obj.validationFrame = readObject(in, 11);
+            break;
+        case "nfolds":
+            obj.nfolds = readInt(in, obj.nfolds);
+            break;
+        case "keep_cross_validation_models":
+            obj.keepCrossValidationModels = readBoolean(in, obj.keepCrossValidationModels);
+            break;
+        case "keep_cross_validation_predictions":
+            obj.keepCrossValidationPredictions = readBoolean(in, obj.keepCrossValidationPredictions);
+            break;
+        case "keep_cross_validation_fold_assignment":
+            obj.keepCrossValidationFoldAssignment = readBoolean(in, obj.keepCrossValidationFoldAssignment);
+            break;
+        case "parallelize_cross_validation":
+            obj.parallelizeCrossValidation = readBoolean(in, obj.parallelizeCrossValidation);
+            break;
+        case "distribution":
+            obj.distribution = readObject(in, 12);
+            break;
+        case "tweedie_power":
+            obj.tweediePower = readDouble(in, obj.tweediePower);
+            break;
+        case "quantile_alpha":
+            obj.quantileAlpha = readDouble(in, obj.quantileAlpha);
+            break;
+        case "huber_alpha":
+            obj.huberAlpha = readDouble(in, obj.huberAlpha);
+            break;
+        case "response_column":
+            obj.responseColumn = readObject(in, 13);
+            break;
+        case "weights_column":
+            obj.weightsColumn = readObject(in, 14);
+            break;
+        case "offset_column":
+            obj.offsetColumn = readObject(in, 15);
+            break;
+        case "fold_column":
+            obj.foldColumn = readObject(in, 16);
+            break;
+        case "fold_assignment":
+            obj.foldAssignment = readObject(in, 17);
+            break;
+        case "categorical_encoding":
+            obj.categoricalEncoding = readObject(in, 18);
+            break;
+        case "max_categorical_levels":
+            obj.maxCategoricalLevels = readInt(in, obj.maxCategoricalLevels);
+            break;
+        case "ignored_columns":
+            obj.ignoredColumns = readStringArray(in);
+            break;
+        case "ignore_const_cols":
+            obj.ignoreConstCols = readBoolean(in, obj.ignoreConstCols);
+            break;
+        case "score_each_iteration":
+            obj.scoreEachIteration = readBoolean(in, obj.scoreEachIteration);
+            break;
+        case "checkpoint":
+            obj.checkpoint = readObject(in, 19);
+            break;
+        case "stopping_rounds":
+            obj.stoppingRounds = readInt(in, obj.stoppingRounds);
+            break;
+        case "max_runtime_secs":
+            obj.maxRuntimeSecs = readDouble(in, obj.maxRuntimeSecs);
+            break;
+        case "stopping_metric":
+            obj.stoppingMetric = readObject(in, 20);
+            break;
+        case "stopping_tolerance":
+            obj.stoppingTolerance = readDouble(in, obj.stoppingTolerance);
+            break;
+        case "custom_metric_func":
+            obj.customMetricFunc = readString(in);
+            break;
+        case "custom_distribution_func":
+            obj.customDistributionFunc = readString(in);
+            break;
+        case "export_checkpoints_dir":
+            obj.exportCheckpointsDir = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.GLMRegularizationPathV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class GLMRegularizationPathV3Adapter extends PojoTypeAdapter<GLMRegularizationPathV3> {
+
+    public GLMRegularizationPathV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, GLMRegularizationPathV3.class, //
+                ModelKeyV3.class);
+    }
+
+    @Override
+    protected GLMRegularizationPathV3 newInstance() {
+        return new GLMRegularizationPathV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final GLMRegularizationPathV3 obj) throws IOException {
+        switch (name) {
+        case "model":
+            obj.model = readObject(in, 0);
+            break;
+        case "lambdas":
+            obj.lambdas = readDoubleArray(in);
+            break;
+        case "explained_deviance_train":
+            obj.explainedDevianceTrain = readDoubleArray(in);
+            break;
+        case "explained_deviance_valid":
+            obj.explainedDevianceValid = readDoubleArray(in);
+            break;
+        case "coefficients":
+            obj.coefficients = readDoubleArray2(in);
+            break;
+        case "coefficients_std":
+            obj.coefficientsStd = readDoubleArray2(in);
+            break;
+        case "coefficient_names":
+            obj.coefficientNames = readStringArray(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColSpecifierV3;
+import org.codelibs.fione.h2o.bindings.pojos.DataInfoTransformType;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.GLRMParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.GenmodelalgosglrmGlrmInitialization;
+import org.codelibs.fione.h2o.bindings.pojos.GenmodelalgosglrmGlrmLoss;
+import org.codelibs.fione.h2o.bindings.pojos.GenmodelalgosglrmGlrmRegularizer;
+import org.codelibs.fione.h2o.bindings.pojos.GenmodelutilsDistributionFamily;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersCategoricalEncodingScheme;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersFoldAssignmentScheme;
+import org.codelibs.fione.h2o.bindings.pojos.SVDMethod;
+import org.codelibs.fione.h2o.bindings.pojos.ScoreKeeperStoppingMetric;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class GLRMParametersV3Adapter extends PojoTypeAdapter<GLRMParametersV3> {
+
+    public GLRMParametersV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, GLRMParametersV3.class, //
+                DataInfoTransformType.class,
+                GenmodelalgosglrmGlrmLoss.class,
+                GenmodelalgosglrmGlrmLoss.class,
+                GenmodelalgosglrmGlrmLoss[].class,
+                GenmodelalgosglrmGlrmRegularizer.class,
+                GenmodelalgosglrmGlrmRegularizer.class,
+                GenmodelalgosglrmGlrmInitialization.class,
+                SVDMethod.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                ModelKeyV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                GenmodelutilsDistributionFamily.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ModelParametersFoldAssignmentScheme.class,
+                ModelParametersCategoricalEncodingScheme.class,
+                ModelKeyV3.class,
+                ScoreKeeperStoppingMetric.class);
+    }
+
+    @Override
+    protected GLRMParametersV3 newInstance() {
+        return new GLRMParametersV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final GLRMParametersV3 obj) throws IOException {
+        switch (name) {
+        case "transform":
+            obj.transform = readObject(in, 0);
+            break;
+        case "k":
+            obj.k = readInt(in, obj.k);
+            break;
+        case "loss":
+            obj.loss = readObject(in, 1);
+            break;
+        case "multi_loss":
+            obj.multiLoss = readObject(in, 2);
+            break;
+        case "loss_by_col":
+            obj.lossByCol = readObject(in, 3);
+            break;
+        case "loss_by_col_idx":
+            obj.lossByColIdx = readIntArray(in);
+            break;
+        case "period":
+            obj.period = readInt(in, obj.period);
+            break;
+        case "regularization_x":
+            obj.regularizationX = readObject(in, 4);
+            break;
+        case "regularization_y":
+            obj.regularizationY = readObject(in, 5);
+            break;
+        case "gamma_x":
+            obj.gammaX = readDouble(in, obj.gammaX);
+            break;
+        case "gamma_y":
+            obj.gammaY = readDouble(in, obj.gammaY);
+            break;
+        case "max_iterations":
+            obj.maxIterations = readInt(in, obj.maxIterations);
+            break;
+        case "max_updates":
+            obj.maxUpdates = readInt(in, obj.maxUpdates);
+            break;
+        case "init_step_size":
+            obj.initStepSize = readDouble(in, obj.initStepSize);
+            break;
+        case "min_step_size":
+            obj.minStepSize = readDouble(in, obj.minStepSize);
+            break;
+        case "seed":
+            obj.seed = readLong(in, obj.seed);
+            break;
+        case "init":
+            obj.init = readObject(in, 6);
+            break;
+        case "svd_method":
+            obj.svdMethod = readObject(in, 7);
+            break;
+        case "user_y":
+            obj.userY = readObject(in, 8);
+            break;
+        case "user_x":
+            obj.userX = readObject(in, 9);
+            break;
+        case "loading_name":
+            obj.loadingName = readString(in);
+            break;
+        case "expand_user_y":
+            obj.expandUserY = readBoolean(in, obj.expandUserY);
+            break;
+        case "impute_original":
+            obj.imputeOriginal = readBoolean(in, obj.imputeOriginal);
+            break;
+        case "recover_svd":
+            obj.recoverSvd = readBoolean(in, obj.recoverSvd);
+            break;
+        case "model_id":
+            obj.modelId = readObject(in, 10);
+            break;
+        case "training_frame":
+            obj.trainingFrame = readObject(in, 11);
+            break;
+        case "validation_frame":
+            obj.validationFrame = readObject(in, 12);
+            break;
+        case "nfolds":
+            obj.nfolds = readInt(in, obj.nfolds);
+            break;
+        case "keep_cross_validation_models":
+            obj.keepCrossValidationModels = readBoolean(in, obj.keepCrossValidationModels);
+            break;
+        case "keep_cross_validation_predictions":
+            obj.keepCrossValidationPredictions = readBoolean(in, obj.keepCrossValidationPredictions);
+            break;
+        case "keep_cross_validation_fold_assignment":
+            obj.keepCrossValidationFoldAssignment = readBoolean(in, obj.keepCrossValidationFoldAssignment);
+            break;
+        case "parallelize_cross_validation":
+            obj.parallelizeCrossValidation = readBoolean(in, obj.parallelizeCrossValidation);
+            break;
+        case "distribution":
+            obj.distribution = readObject(in, 13);
+            break;
+        case "tweedie_power":
+            obj.tweediePower = readDouble(in, obj.tweediePower);
+            break;
+        case "quantile_alpha":
+            obj.quantileAlpha = readDouble(in, obj.quantileAlpha);
+            break;
+        case "huber_alpha":
+            obj.huberAlpha = readDouble(in, obj.huberAlpha);
+            break;
+        case "response_column":
+            obj.responseColumn = readObject(in, 14);
+            break;
+        case "weights_column":
+            obj.weightsColumn = readObject(in, 15);
+            break;
+        case "offset_column":
+            obj.offsetColumn = readObject(in, 16);
+            break;
+        case "fold_column":
+            obj.foldColumn = readObject(in, 17);
+            break;
+        case "fold_assignment":
+            obj.foldAssignment = readObject(in, 18);
+            break;
+        case "categorical_encoding":
+            obj.categoricalEncoding = readObject(in, 19);
+            break;
+        case "max_categorical_levels":
+            obj.maxCategoricalLevels = readInt(in, obj.maxCategoricalLevels);
+            break;
+        case "ignored_columns":
+            obj.ignoredColumns = readStringArray(in);
+            break;
+        case "ignore_const_cols":
+            obj.ignoreConstCols = readBoolean(in, obj.ignoreConstCols);
+            break;
+        case "score_each_iteration":
+            obj.scoreEachIteration = readBoolean(in, obj.scoreEachIteration);
+            break;
+        case "checkpoint":
+            obj.checkpoint = readObject(in, 20);
+            break;
+        case "stopping_rounds":
+            obj.stoppingRounds = readInt(in, obj.stoppingRounds);
+            break;
+        case "max_runtime_secs":
+            obj.maxRuntimeSecs = readDouble(in, obj.maxRuntimeSecs);
+            break;
+        case "stopping_metric":
+            obj.stoppingMetric = readObject(in, 21);
+            break;
+        case "stopping_tolerance":
+            obj.stoppingTolerance = readDouble(in, obj.stoppingTolerance);
+            break;
+        case "custom_metric_func":
+            obj.customMetricFunc = readString(in);
+            break;
+        case "custom_distribution_func":
+            obj.customDistributionFunc = readString(in);
+            break;
+        case "export_checkpoints_dir":
+            obj.exportCheckpointsDir = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
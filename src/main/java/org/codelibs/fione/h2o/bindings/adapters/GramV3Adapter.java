@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColSpecifierV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.GramV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class GramV3Adapter extends PojoTypeAdapter<GramV3> {
+
+    public GramV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, GramV3.class, //
+                FrameKeyV3.class,
+                ColSpecifierV3.class,
+                FrameKeyV3.class);
+    }
+
+    @Override
+    protected GramV3 newInstance() {
+        return new GramV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final GramV3 obj) throws IOException {
+        switch (name) {
+        case "X":
+            obj.x = readObject(in, 0);
+            break;
+        case "W":
+            obj.w = readObject(in, 1);
+            break;
+        case "use_all_factor_levels":
+            obj.useAllFactorLevels = readBoolean(in, obj.useAllFactorLevels);
+            break;
+        case "standardize":
+            obj.standardize = readBoolean(in, obj.standardize);
+            break;
+        case "skip_missing":
+            obj.skipMissing = readBoolean(in, obj.skipMissing);
+            break;
+        case "destination_frame":
+            obj.destinationFrame = readObject(in, 2);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.GridKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.GridSchemaV99;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsBaseV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersSchemaV3;
+import org.codelibs.fione.h2o.bindings.pojos.TwoDimTableV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class GridSchemaV99Adapter extends PojoTypeAdapter<GridSchemaV99> {
+
+    public GridSchemaV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, GridSchemaV99.class, //
+                GridKeyV3.class,
+                ModelKeyV3[].class,
+                ModelParametersSchemaV3[].class,
+                ModelMetricsBaseV3[].class,
+                ModelMetricsBaseV3[].class,
+                ModelMetricsBaseV3[].class,
+                TwoDimTableV3[].class,
+                TwoDimTableV3.class,
+                TwoDimTableV3.class);
+    }
+
+    @Override
+    protected GridSchemaV99 newInstance() {
+        return new GridSchemaV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final GridSchemaV99 obj) throws IOException {
+        switch (name) {
+        case "grid_id":
+            obj.gridId = readObject(in, 0);
+            break;
+        case "sort_by":
+            obj.sortBy = readString(in);
+            break;
+        case "decreasing":
+            obj.decreasing = readBoolean(in, obj.decreasing);
+            break;
+        case "model_ids":
+            obj.modelIds = readObject(in, 1);
+            break;
+        case "hyper_names":
+            obj.hyperNames = readStringArray(in);
+            break;
+        case "failed_params":
+            obj.failedParams = readObject(in, 2);
+            break;
+        case "failure_details":
+            obj.failureDetails = readStringArray(in);
+            break;
+        case "failure_stack_traces":
+            obj.failureStackTraces = readStringArray(in);
+            break;
+        case "failed_raw_params":
+            obj.failedRawParams = readStringArray2(in);
+            break;
+        case "training_metrics":
+            obj.trainingMetrics = readObject(in, 3);
+            break;
+        case "validation_metrics":
+            obj.validationMetrics = readObject(in, 4);
+            break;
+        case "cross_validation_metrics":
+            obj.crossValidationMetrics = readObject(in, 5);
+            break;
+        case "cross_validation_metrics_summary":
+            obj.crossValidationMetricsSummary = readObject(in, 6);
+            break;
+        case "export_checkpoints_dir":
+            obj.exportCheckpointsDir = readString(in);
+            break;
+        case "summary_table":
+            obj.summaryTable = readObject(in, 7);
+            break;
+        case "scoring_history":
+            obj.scoringHistory = readObject(in, 8);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
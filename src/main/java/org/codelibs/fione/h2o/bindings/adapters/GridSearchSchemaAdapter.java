@@ -0,0 +1,77 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.codelibs.fione.h2o.bindings.pojos.GridKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.GridSearchSchema;
+import org.codelibs.fione.h2o.bindings.pojos.HyperSpaceSearchCriteriaV99;
+import org.codelibs.fione.h2o.bindings.pojos.JobV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersSchemaV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+public class GridSearchSchemaAdapter extends PojoTypeAdapter<GridSearchSchema> {
+
+    public GridSearchSchemaAdapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, GridSearchSchema.class, //
+                ModelParametersSchemaV3.class,
+                TypeToken.getParameterized(Map.class, Object.class, Object.class).getType(),
+                GridKeyV3.class,
+                HyperSpaceSearchCriteriaV99.class,
+                JobV3.class);
+    }
+
+    @Override
+    protected GridSearchSchema newInstance() {
+        return new GridSearchSchema();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final GridSearchSchema obj) throws IOException {
+        switch (name) {
+        case "parameters":
+            obj.parameters = readObject(in, 0);
+            break;
+        case "hyper_parameters":
+            obj.hyperParameters = readObject(in, 1);
+            break;
+        case "grid_id":
+            obj.gridId = readObject(in, 2);
+            break;
+        case "search_criteria":
+            obj.searchCriteria = readObject(in, 3);
+            break;
+        case "parallelism":
+            obj.parallelism = readInt(in, obj.parallelism);
+            break;
+        case "total_models":
+            obj.totalModels = readInt(in, obj.totalModels);
+            break;
+        case "job":
+            obj.job = readObject(in, 4);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.GridSchemaV99;
+import org.codelibs.fione.h2o.bindings.pojos.GridsV99;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class GridsV99Adapter extends PojoTypeAdapter<GridsV99> {
+
+    public GridsV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, GridsV99.class, //
+                GridSchemaV99[].class);
+    }
+
+    @Override
+    protected GridsV99 newInstance() {
+        return new GridsV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final GridsV99 obj) throws IOException {
+        switch (name) {
+        case "grids":
+            obj.grids = readObject(in, 0);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.codelibs.fione.h2o.bindings.pojos.H2OModelBuilderErrorV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersSchemaV3;
+import org.codelibs.fione.h2o.bindings.pojos.ValidationMessageV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+public class H2OModelBuilderErrorV3Adapter extends PojoTypeAdapter<H2OModelBuilderErrorV3> {
+
+    public H2OModelBuilderErrorV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, H2OModelBuilderErrorV3.class, //
+                ModelParametersSchemaV3.class,
+                ValidationMessageV3[].class,
+                TypeToken.getParameterized(Map.class, String.class, Object.class).getType());
+    }
+
+    @Override
+    protected H2OModelBuilderErrorV3 newInstance() {
+        return new H2OModelBuilderErrorV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final H2OModelBuilderErrorV3 obj) throws IOException {
+        switch (name) {
+        case "parameters":
+            obj.parameters = readObject(in, 0);
+            break;
+        case "messages":
+            obj.messages = readObject(in, 1);
+            break;
+        case "error_count":
+            obj.errorCount = readInt(in, obj.errorCount);
+            break;
+        case "timestamp":
+            obj.timestamp = readLong(in, obj.timestamp);
+            break;
+        case "error_url":
+            obj.errorUrl = readString(in);
+            break;
+        case "msg":
+            obj.msg = readString(in);
+            break;
+        case "dev_msg":
+            obj.devMsg = readString(in);
+            break;
+        case "http_status":
+            obj.httpStatus = readInt(in, obj.httpStatus);
+            break;
+        case "values":
+            obj.values = readObject(in, 2);
+            break;
+        case "exception_type":
+            obj.exceptionType = readString(in);
+            break;
+        case "exception_msg":
+            obj.exceptionMsg = readString(in);
+            break;
+        case "stacktrace":
+            obj.stacktrace = readStringArray(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ImportFilesV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ImportFilesV3Adapter extends PojoTypeAdapter<ImportFilesV3> {
+
+    public ImportFilesV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ImportFilesV3.class);
+    }
+
+    @Override
+    protected ImportFilesV3 newInstance() {
+        return new ImportFilesV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ImportFilesV3 obj) throws IOException {
+        switch (name) {
+        case "path":
+            obj.path = readString(in);
+            break;
+        case "pattern":
+            obj.pattern = readString(in);
+            break;
+        case "files":
+            obj.files = readStringArray(in);
+            break;
+        case "destination_frames":
+            obj.destinationFrames = readStringArray(in);
+            break;
+        case "fails":
+            obj.fails = readStringArray(in);
+            break;
+        case "dels":
+            obj.dels = readStringArray(in);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
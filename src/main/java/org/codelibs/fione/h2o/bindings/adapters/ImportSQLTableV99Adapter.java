@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ImportSQLTableV99;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ImportSQLTableV99Adapter extends PojoTypeAdapter<ImportSQLTableV99> {
+
+    public ImportSQLTableV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ImportSQLTableV99.class);
+    }
+
+    @Override
+    protected ImportSQLTableV99 newInstance() {
+        return new ImportSQLTableV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ImportSQLTableV99 obj) throws IOException {
+        switch (name) {
+        case "connection_url":
+            obj.connectionUrl = readString(in);
+            break;
+        case "table":
+            obj.table = readString(in);
+            break;
+        case "select_query":
+            obj.selectQuery = readString(in);
+            break;
+        case "use_temp_table":
+            obj.useTempTable = readString(in);
+            break;
+        case "temp_table_name":
+            obj.tempTableName = readString(in);
+            break;
+        case "username":
+            obj.username = readString(in);
+            break;
+        case "password":
+            obj.password = readString(in);
+            break;
+        case "columns":
+            obj.columns = readString(in);
+            break;
+        case "fetch_mode":
+            obj.fetchMode = readString(in);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
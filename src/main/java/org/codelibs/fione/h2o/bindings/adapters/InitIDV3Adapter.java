@@ -0,0 +1,51 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.InitIDV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class InitIDV3Adapter extends PojoTypeAdapter<InitIDV3> {
+
+    public InitIDV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, InitIDV3.class);
+    }
+
+    @Override
+    protected InitIDV3 newInstance() {
+        return new InitIDV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final InitIDV3 obj) throws IOException {
+        switch (name) {
+        case "session_key":
+            obj.sessionKey = readString(in);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.IoStatsEntry;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class IoStatsEntryAdapter extends PojoTypeAdapter<IoStatsEntry> {
+
+    public IoStatsEntryAdapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, IoStatsEntry.class);
+    }
+
+    @Override
+    protected IoStatsEntry newInstance() {
+        return new IoStatsEntry();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final IoStatsEntry obj) throws IOException {
+        switch (name) {
+        case "backend":
+            obj.backend = readString(in);
+            break;
+        case "store_count":
+            obj.storeCount = readLong(in, obj.storeCount);
+            break;
+        case "store_bytes":
+            obj.storeBytes = readLong(in, obj.storeBytes);
+            break;
+        case "delete_count":
+            obj.deleteCount = readLong(in, obj.deleteCount);
+            break;
+        case "load_count":
+            obj.loadCount = readLong(in, obj.loadCount);
+            break;
+        case "load_bytes":
+            obj.loadBytes = readLong(in, obj.loadBytes);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.JobKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.JobV3;
+import org.codelibs.fione.h2o.bindings.pojos.KeyV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class JobV3Adapter extends PojoTypeAdapter<JobV3> {
+
+    public JobV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, JobV3.class, //
+                JobKeyV3.class,
+                KeyV3.class);
+    }
+
+    @Override
+    protected JobV3 newInstance() {
+        return new JobV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final JobV3 obj) throws IOException {
+        switch (name) {
+        case "key":
+            obj.key = readObject(in, 0);
+            break;
+        case "description":
+            obj.description = readString(in);
+            break;
+        case "status":
+            obj.status = readString(in);
+            break;
+        case "progress":
+            obj.progress = readFloat(in, obj.progress);
+            break;
+        case "progress_msg":
+            obj.progressMsg = readString(in);
+            break;
+        case "start_time":
+            obj.startTime = readLong(in, obj.startTime);
+            break;
+        case "msec":
+            obj.msec = readLong(in, obj.msec);
+            break;
+        case "dest":
+            obj.dest = readObject(in, 1);
+            break;
+        case "warnings":
+            obj.warnings = readStringArray(in);
+            break;
+        case "exception":
+            obj.exception = readString(in);
+            break;
+        case "stacktrace":
+            obj.stacktrace = readString(in);
+            break;
+        case "ready_for_view":
+            obj.readyForView = readBoolean(in, obj.readyForView);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
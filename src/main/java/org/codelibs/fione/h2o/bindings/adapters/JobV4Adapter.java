@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.JobStatus;
+import org.codelibs.fione.h2o.bindings.pojos.JobV4;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class JobV4Adapter extends PojoTypeAdapter<JobV4> {
+
+    public JobV4Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, JobV4.class, //
+                JobStatus.class);
+    }
+
+    @Override
+    protected JobV4 newInstance() {
+        return new JobV4();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final JobV4 obj) throws IOException {
+        switch (name) {
+        case "job_id":
+            obj.jobId = readString(in);
+            break;
+        case "status":
+            obj.status = readObject(in, 0);
+            break;
+        case "progress":
+            obj.progress = readFloat(in, obj.progress);
+            break;
+        case "progress_msg":
+            obj.progressMsg = readString(in);
+            break;
+        case "start_time":
+            obj.startTime = readLong(in, obj.startTime);
+            break;
+        case "duration":
+            obj.duration = readLong(in, obj.duration);
+            break;
+        case "target_id":
+            obj.targetId = readString(in);
+            break;
+        case "target_type":
+            obj.targetType = readString(in);
+            break;
+        case "exception":
+            obj.exception = readString(in);
+            break;
+        case "stacktrace":
+            obj.stacktrace = readString(in);
+            break;
+        case "__schema":
+            obj.__schema = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.LeaderboardV99;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.TwoDimTableV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class LeaderboardV99Adapter extends PojoTypeAdapter<LeaderboardV99> {
+
+    public LeaderboardV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, LeaderboardV99.class, //
+                ModelKeyV3[].class,
+                FrameKeyV3.class,
+                TwoDimTableV3.class);
+    }
+
+    @Override
+    protected LeaderboardV99 newInstance() {
+        return new LeaderboardV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final LeaderboardV99 obj) throws IOException {
+        switch (name) {
+        case "project_name":
+            obj.projectName = readString(in);
+            break;
+        case "models":
+            obj.models = readObject(in, 0);
+            break;
+        case "leaderboard_frame":
+            obj.leaderboardFrame = readObject(in, 1);
+            break;
+        case "leaderboard_frame_checksum":
+            obj.leaderboardFrameChecksum = readLong(in, obj.leaderboardFrameChecksum);
+            break;
+        case "sort_metrics":
+            obj.sortMetrics = readDoubleArray(in);
+            break;
+        case "sort_metric":
+            obj.sortMetric = readString(in);
+            break;
+        case "sort_decreasing":
+            obj.sortDecreasing = readBoolean(in, obj.sortDecreasing);
+            break;
+        case "table":
+            obj.table = readObject(in, 2);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.MetadataV3;
+import org.codelibs.fione.h2o.bindings.pojos.RouteV3;
+import org.codelibs.fione.h2o.bindings.pojos.SchemaMetadataV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class MetadataV3Adapter extends PojoTypeAdapter<MetadataV3> {
+
+    public MetadataV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, MetadataV3.class, //
+                RouteV3[].class,
+                SchemaMetadataV3[].class);
+    }
+
+    @Override
+    protected MetadataV3 newInstance() {
+        return new MetadataV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final MetadataV3 obj) throws IOException {
+        switch (name) {
+        case "num":
+            obj.num = readInt(in, obj.num);
+            break;
+        case "http_method":
+            obj.httpMethod = readString(in);
+            break;
+        case "path":
+            obj.path = readString(in);
+            break;
+        case "classname":
+            obj.classname = readString(in);
+            break;
+        case "schemaname":
+            obj.schemaname = readString(in);
+            break;
+        case "routes":
+            obj.routes = readObject(in, 0);
+            break;
+        case "schemas":
+            obj.schemas = readObject(in, 1);
+            break;
+        case "markdown":
+            obj.markdown = readString(in);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
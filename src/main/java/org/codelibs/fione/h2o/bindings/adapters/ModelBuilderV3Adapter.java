@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ModelBuilderV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersSchemaV3;
+import org.codelibs.fione.h2o.bindings.pojos.ValidationMessageV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ModelBuilderV3Adapter extends PojoTypeAdapter<ModelBuilderV3> {
+
+    public ModelBuilderV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ModelBuilderV3.class, //
+                ModelParametersSchemaV3.class,
+                ValidationMessageV3[].class);
+    }
+
+    @Override
+    protected ModelBuilderV3 newInstance() {
+        return new ModelBuilderV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ModelBuilderV3 obj) throws IOException {
+        switch (name) {
+        case "parameters":
+            obj.parameters = readObject(in, 0);
+            break;
+        case "messages":
+            obj.messages = readObject(in, 1);
+            break;
+        case "error_count":
+            obj.errorCount = readInt(in, obj.errorCount);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
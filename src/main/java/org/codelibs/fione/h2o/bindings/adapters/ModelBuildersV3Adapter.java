@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.codelibs.fione.h2o.bindings.pojos.ModelBuilderSchema;
+import org.codelibs.fione.h2o.bindings.pojos.ModelBuildersV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+public class ModelBuildersV3Adapter extends PojoTypeAdapter<ModelBuildersV3> {
+
+    public ModelBuildersV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ModelBuildersV3.class, //
+                TypeToken.getParameterized(Map.class, String.class, ModelBuilderSchema.class).getType());
+    }
+
+    @Override
+    protected ModelBuildersV3 newInstance() {
+        return new ModelBuildersV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ModelBuildersV3 obj) throws IOException {
+        switch (name) {
+        case "algo":
+            obj.algo = readString(in);
+            break;
+        case "model_builders":
+            obj.modelBuilders = readObject(in, 0);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ModelIdV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ModelIdV3Adapter extends PojoTypeAdapter<ModelIdV3> {
+
+    public ModelIdV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ModelIdV3.class);
+    }
+
+    @Override
+    protected ModelIdV3 newInstance() {
+        return new ModelIdV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ModelIdV3 obj) throws IOException {
+        switch (name) {
+        case "model_id":
+            obj.modelId = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ModelInfoV4;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ModelInfoV4Adapter extends PojoTypeAdapter<ModelInfoV4> {
+
+    public ModelInfoV4Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ModelInfoV4.class);
+    }
+
+    @Override
+    protected ModelInfoV4 newInstance() {
+        return new ModelInfoV4();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ModelInfoV4 obj) throws IOException {
+        switch (name) {
+        case "algo":
+            obj.algo = readString(in);
+            break;
+        case "maturity":
+            obj.maturity = readString(in);
+            break;
+        case "have_pojo":
+            obj.havePojo = readBoolean(in, obj.havePojo);
+            break;
+        case "have_mojo":
+            obj.haveMojo = readBoolean(in, obj.haveMojo);
+            break;
+        case "mojo_version":
+            obj.mojoVersion = readString(in);
+            break;
+        case "__schema":
+            obj.__schema = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ConfusionMatrixV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelCategory;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsBinomialGLMGenericV3;
+import org.codelibs.fione.h2o.bindings.pojos.TwoDimTableV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ModelMetricsBinomialGLMGenericV3Adapter extends PojoTypeAdapter<ModelMetricsBinomialGLMGenericV3> {
+
+    public ModelMetricsBinomialGLMGenericV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ModelMetricsBinomialGLMGenericV3.class, //
+                TwoDimTableV3.class,
+                ConfusionMatrixV3.class,
+                TwoDimTableV3.class,
+                TwoDimTableV3.class,
+                TwoDimTableV3.class,
+                ModelKeyV3.class,
+                FrameKeyV3.class,
+                ModelCategory.class,
+                FrameV3.class);
+    }
+
+    @Override
+    protected ModelMetricsBinomialGLMGenericV3 newInstance() {
+        return new ModelMetricsBinomialGLMGenericV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ModelMetricsBinomialGLMGenericV3 obj) throws IOException {
+        switch (name) {
+        case "residual_deviance":
+            obj.residualDeviance = readDouble(in, obj.residualDeviance);
+            break;
+        case "null_deviance":
+            obj.nullDeviance = readDouble(in, obj.nullDeviance);
+            break;
+        case "AIC":
+            obj.aic = readDouble(in, obj.aic);
+            break;
+        case "null_degrees_of_freedom":
+            obj.nullDegreesOfFreedom = readLong(in, obj.nullDegreesOfFreedom);
+            break;
+        case "residual_degrees_of_freedom":
+            obj.residualDegreesOfFreedom = readLong(in, obj.residualDegreesOfFreedom);
+            break;
+        case "coefficients_table":
+            obj.coefficientsTable = readObject(in, 0);
+            break;
+        case "r2":
+            obj.r2 = readDouble(in, obj.r2);
+            break;
+        case "logloss":
+            obj.logloss = readDouble(in, obj.logloss);
+            break;
+        case "AUC":
+            obj.auc = readDouble(in, obj.auc);
+            break;
+        case "pr_auc":
+            obj.prAuc = readDouble(in, obj.prAuc);
+            break;
+        case "Gini":
+            obj.gini = readDouble(in, obj.gini);
+            break;
+        case "mean_per_class_error":
+            obj.meanPerClassError = readDouble(in, obj.meanPerClassError);
+            break;
+        case "domain":
+            obj.domain = readStringArray(in);
+            break;
+        case "cm":
+            obj.cm = readObject(in, 1);
+            break;
+        case "thresholds_and_metric_scores":
+            obj.thresholdsAndMetricScores = readObject(in, 2);
+            break;
+        case "max_criteria_and_metric_scores":
+            obj.maxCriteriaAndMetricScores = readObject(in, 3);
+            break;
+        case "gains_lift_table":
+            obj.gainsLiftTable = readObject(in, 4);
+            break;
+        case "model":
+            obj.model = readObject(in, 5);
+            break;
+        case "model_checksum":
+            obj.modelChecksum = readLong(in, obj.modelChecksum);
+            break;
+        case "frame":
+            obj.frame = readObject(in, 6);
+            break;
+        case "frame_checksum":
+            obj.frameChecksum = readLong(in, obj.frameChecksum);
+            break;
+        case "description":
+            obj.description = readString(in);
+            break;
+        case "model_category":
+            obj.modelCategory = readObject(in, 7);
+            break;
+        case "scoring_time":
+            obj.scoringTime = readLong(in, obj.scoringTime);
+            break;
+        case "predictions":
+            obj.predictions = readObject(in, 8);
+            break;
+        case "MSE":
+            obj.mse = readDouble(in, obj.mse);
+            break;
+        case "RMSE":
+            obj.rmse = readDouble(in, obj.rmse);
+            break;
+        case "nobs":
+            obj.nobs = readLong(in, obj.nobs);
+            break;
+        case "custom_metric_name":
+            obj.customMetricName = readString(in);
+            break;
+        case "custom_metric_value":
+            obj.customMetricValue = readDouble(in, obj.customMetricValue);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelCategory;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsHGLMV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ModelMetricsHGLMV3Adapter extends PojoTypeAdapter<ModelMetricsHGLMV3> {
+
+    public ModelMetricsHGLMV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ModelMetricsHGLMV3.class, //
+                ModelKeyV3.class,
+                FrameKeyV3.class,
+                ModelCategory.class,
+                FrameV3.class);
+    }
+
+    @Override
+    protected ModelMetricsHGLMV3 newInstance() {
+        return new ModelMetricsHGLMV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ModelMetricsHGLMV3 obj) throws IOException {
+        switch (name) {
+        case "sefe":
+            obj.sefe = readDoubleArray(in);
+            break;
+        case "sere":
+            obj.sere = readDoubleArray(in);
+            break;
+        case "varfix":
+            obj.varfix = readDouble(in, obj.varfix);
+            break;
+        case "varranef":
+            obj.varranef = readDoubleArray(in);
+            break;
+        case "fixef":
+            obj.fixef = readDoubleArray(in);
+            break;
+        case "ranef":
+            obj.ranef = readDoubleArray(in);
+            break;
+        case "converge":
+            obj.converge = readBoolean(in, obj.converge);
+            break;
+        case "randc":
+            obj.randc = readIntArray(in);
+            break;
+        case "dfrefe":
+            obj.dfrefe = readDouble(in, obj.dfrefe);
+            break;
+        case "summvc1":
+            obj.summvc1 = readDoubleArray(in);
+            break;
+        case "summvc2":
+            obj.summvc2 = readDoubleArray2(in);
+            break;
+        case "hlik":
+            obj.hlik = readDouble(in, obj.hlik);
+            break;
+        case "pvh":
+            obj.pvh = readDouble(in, obj.pvh);
+            break;
+        case "pbvh":
+            obj.pbvh = readDouble(in, obj.pbvh);
+            break;
+        case "caic":
+            obj.caic = readDouble(in, obj.caic);
+            break;
+        case "bad":
+            obj.bad = readLong(in, obj.bad);
+            break;
+        case "sumetadiffsquare":
+            obj.sumetadiffsquare = readDouble(in, obj.sumetadiffsquare);
+            break;
+        case "convergence":
+            obj.convergence = readDouble(in, obj.convergence);
+            break;
+        case "model":
+            obj.model = readObject(in, 0);
+            break;
+        case "model_checksum":
+            obj.modelChecksum = readLong(in, obj.modelChecksum);
+            break;
+        case "frame":
+            obj.frame = readObject(in, 1);
+            break;
+        case "frame_checksum":
+            obj.frameChecksum = readLong(in, obj.frameChecksum);
+            break;
+        case "description":
+            obj.description = readString(in);
+            break;
+        case "model_category":
+            obj.modelCategory = readObject(in, 2);
+            break;
+        case "scoring_time":
+            obj.scoringTime = readLong(in, obj.scoringTime);
+            break;
+        case "predictions":
+            obj.predictions = readObject(in, 3);
+            break;
+        case "MSE":
+            obj.mse = readDouble(in, obj.mse);
+            break;
+        case "RMSE":
+            obj.rmse = readDouble(in, obj.rmse);
+            break;
+        case "nobs":
+            obj.nobs = readLong(in, obj.nobs);
+            break;
+        case "custom_metric_name":
+            obj.customMetricName = readString(in);
+            break;
+        case "custom_metric_value":
+            obj.customMetricValue = readDouble(in, obj.customMetricValue);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
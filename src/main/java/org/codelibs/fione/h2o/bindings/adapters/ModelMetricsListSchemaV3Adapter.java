@@ -0,0 +1,118 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelLeafNodeAssignmentLeafNodeAssignmentType;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsBaseV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsListSchemaV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ModelMetricsListSchemaV3Adapter extends PojoTypeAdapter<ModelMetricsListSchemaV3> {
+
+    public ModelMetricsListSchemaV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ModelMetricsListSchemaV3.class, //
+                ModelKeyV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                ModelLeafNodeAssignmentLeafNodeAssignmentType.class,
+                ModelMetricsBaseV3[].class);
+    }
+
+    @Override
+    protected ModelMetricsListSchemaV3 newInstance() {
+        return new ModelMetricsListSchemaV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ModelMetricsListSchemaV3 obj) throws IOException {
+        switch (name) {
+        case "model":
+            obj.model = readObject(in, 0);
+            break;
+        case "frame":
+            obj.frame = readObject(in, 1);
+            break;
+        case "predictions_frame":
+            obj.predictionsFrame = readObject(in, 2);
+            break;
+        case "deviances_frame":
+            obj.deviancesFrame = readObject(in, 3);
+            break;
+        case "reconstruction_error":
+            obj.reconstructionError = readBoolean(in, obj.reconstructionError);
+            break;
+        case "reconstruction_error_per_feature":
+            obj.reconstructionErrorPerFeature = readBoolean(in, obj.reconstructionErrorPerFeature);
+            break;
+        case "deep_features_hidden_layer":
+            obj.deepFeaturesHiddenLayer = readInt(in, obj.deepFeaturesHiddenLayer);
+            break;
+        case "deep_features_hidden_layer_name":
+            obj.deepFeaturesHiddenLayerName = readString(in);
+            break;
+        case "reconstruct_train":
+            obj.reconstructTrain = readBoolean(in, obj.reconstructTrain);
+            break;
+        case "project_archetypes":
+            obj.projectArchetypes = readBoolean(in, obj.projectArchetypes);
+            break;
+        case "reverse_transform":
+            obj.reverseTransform = readBoolean(in, obj.reverseTransform);
+            break;
+        case "leaf_node_assignment":
+            obj.leafNodeAssignment = readBoolean(in, obj.leafNodeAssignment);
+            break;
+        case "leaf_node_assignment_type":
+            obj.leafNodeAssignmentType = readObject(in, 4);
+            break;
+        case "predict_staged_proba":
+            obj.predictStagedProba = readBoolean(in, obj.predictStagedProba);
+            break;
+        case "predict_contributions":
+            obj.predictContributions = readBoolean(in, obj.predictContributions);
+            break;
+        case "feature_frequencies":
+            obj.featureFrequencies = readBoolean(in, obj.featureFrequencies);
+            break;
+        case "exemplar_index":
+            obj.exemplarIndex = readInt(in, obj.exemplarIndex);
+            break;
+        case "deviances":
+            obj.deviances = readBoolean(in, obj.deviances);
+            break;
+        case "custom_metric_func":
+            obj.customMetricFunc = readString(in);
+            break;
+        case "model_metrics":
+            obj.modelMetrics = readObject(in, 5);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.GenmodelutilsDistributionFamily;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsBaseV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsMakerSchemaV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ModelMetricsMakerSchemaV3Adapter extends PojoTypeAdapter<ModelMetricsMakerSchemaV3> {
+
+    public ModelMetricsMakerSchemaV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ModelMetricsMakerSchemaV3.class, //
+                GenmodelutilsDistributionFamily.class,
+                ModelMetricsBaseV3.class);
+    }
+
+    @Override
+    protected ModelMetricsMakerSchemaV3 newInstance() {
+        return new ModelMetricsMakerSchemaV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ModelMetricsMakerSchemaV3 obj) throws IOException {
+        switch (name) {
+        case "predictions_frame":
+            obj.predictionsFrame = readString(in);
+            break;
+        case "actuals_frame":
+            obj.actualsFrame = readString(in);
+            break;
+        case "domain":
+            obj.domain = readStringArray(in);
+            break;
+        case "distribution":
+            obj.distribution = readObject(in, 0);
+            break;
+        case "model_metrics":
+            obj.modelMetrics = readObject(in, 1);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ModelParameterSchemaV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ModelParameterSchemaV3Adapter extends PojoTypeAdapter<ModelParameterSchemaV3> {
+
+    public ModelParameterSchemaV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ModelParameterSchemaV3.class, //
+                Object.class,
+                Object.class);
+    }
+
+    @Override
+    protected ModelParameterSchemaV3 newInstance() {
+        return new ModelParameterSchemaV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ModelParameterSchemaV3 obj) throws IOException {
+        switch (name) {
+        case "name":
+            obj.name = readString(in);
+            break;
+        case "label":
+            obj.label = readString(in);
+            break;
+        case "help":
+            obj.help = readString(in);
+            break;
+        case "required":
+            obj.required = readBoolean(in, obj.required);
+            break;
+        case "type":
+            obj.type = readString(in);
+            break;
+        case "default_value":
+            obj.defaultValue = readObject(in, 0);
+            break;
+        case "actual_value":
+            obj.actualValue = readObject(in, 1);
+            break;
+        case "level":
+            obj.level = readString(in);
+            break;
+        case "values":
+            obj.values = readStringArray(in);
+            break;
+        case "is_member_of_frames":
+            obj.isMemberOfFrames = readStringArray(in);
+            break;
+        case "is_mutually_exclusive_with":
+            obj.isMutuallyExclusiveWith = readStringArray(in);
+            break;
+        case "gridable":
+            obj.gridable = readBoolean(in, obj.gridable);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelSchemaBaseV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelsV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ModelsV3Adapter extends PojoTypeAdapter<ModelsV3> {
+
+    public ModelsV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ModelsV3.class, //
+                ModelKeyV3.class,
+                ModelSchemaBaseV3[].class,
+                FrameV3[].class);
+    }
+
+    @Override
+    protected ModelsV3 newInstance() {
+        return new ModelsV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ModelsV3 obj) throws IOException {
+        switch (name) {
+        case "model_id":
+            obj.modelId = readObject(in, 0);
+            break;
+        case "preview":
+            obj.preview = readBoolean(in, obj.preview);
+            break;
+        case "find_compatible_frames":
+            obj.findCompatibleFrames = readBoolean(in, obj.findCompatibleFrames);
+            break;
+        case "models":
+            obj.models = readObject(in, 1);
+            break;
+        case "compatible_frames":
+            obj.compatibleFrames = readObject(in, 2);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.NetworkTestV3;
+import org.codelibs.fione.h2o.bindings.pojos.TwoDimTableV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class NetworkTestV3Adapter extends PojoTypeAdapter<NetworkTestV3> {
+
+    public NetworkTestV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, NetworkTestV3.class, //
+                TwoDimTableV3.class);
+    }
+
+    @Override
+    protected NetworkTestV3 newInstance() {
+        return new NetworkTestV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final NetworkTestV3 obj) throws IOException {
+        switch (name) {
+        case "microseconds_collective":
+            obj.microsecondsCollective = readDoubleArray(in);
+            break;
+        case "bandwidths_collective":
+            obj.bandwidthsCollective = readDoubleArray(in);
+            break;
+        case "microseconds":
+            obj.microseconds = readDoubleArray2(in);
+            break;
+        case "bandwidths":
+            obj.bandwidths = readDoubleArray2(in);
+            break;
+        case "nodes":
+            obj.nodes = readStringArray(in);
+            break;
+        case "table":
+            obj.table = readObject(in, 0);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.NodePersistentStorageEntryV3;
+import org.codelibs.fione.h2o.bindings.pojos.NodePersistentStorageV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class NodePersistentStorageV3Adapter extends PojoTypeAdapter<NodePersistentStorageV3> {
+
+    public NodePersistentStorageV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, NodePersistentStorageV3.class, //
+                NodePersistentStorageEntryV3[].class);
+    }
+
+    @Override
+    protected NodePersistentStorageV3 newInstance() {
+        return new NodePersistentStorageV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final NodePersistentStorageV3 obj) throws IOException {
+        switch (name) {
+        case "category":
+            obj.category = readString(in);
+            break;
+        case "name":
+            obj.name = readString(in);
+            break;
+        case "value":
+            obj.value = readString(in);
+            break;
+        case "configured":
+            obj.configured = readBoolean(in, obj.configured);
+            break;
+        case "exists":
+            obj.exists = readBoolean(in, obj.exists);
+            break;
+        case "entries":
+            obj.entries = readObject(in, 0);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
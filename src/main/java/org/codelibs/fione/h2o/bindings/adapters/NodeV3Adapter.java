@@ -0,0 +1,125 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.NodeV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class NodeV3Adapter extends PojoTypeAdapter<NodeV3> {
+
+    public NodeV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, NodeV3.class, //
+                short[].class,
+                short[].class);
+    }
+
+    @Override
+    protected NodeV3 newInstance() {
+        return new NodeV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final NodeV3 obj) throws IOException {
+        switch (name) {
+        case "h2o":
+            obj.h2o = readString(in);
+            break;
+        case "ip_port":
+            obj.ipPort = readString(in);
+            break;
+        case "healthy":
+            obj.healthy = readBoolean(in, obj.healthy);
+            break;
+        case "last_ping":
+            obj.lastPing = readLong(in, obj.lastPing);
+            break;
+        case "pid":
+            obj.pid = readInt(in, obj.pid);
+            break;
+        case "num_cpus":
+            obj.numCpus = readInt(in, obj.numCpus);
+            break;
+        case "cpus_allowed":
+            obj.cpusAllowed = readInt(in, obj.cpusAllowed);
+            break;
+        case "nthreads":
+            obj.nthreads = readInt(in, obj.nthreads);
+            break;
+        case "sys_load":
+            obj.sysLoad = readFloat(in, obj.sysLoad);
+            break;
+        case "my_cpu_pct":
+            obj.myCpuPct = readInt(in, obj.myCpuPct);
+            break;
+        case "sys_cpu_pct":
+            obj.sysCpuPct = readInt(in, obj.sysCpuPct);
+            break;
+        case "mem_value_size":
+            obj.memValueSize = readLong(in, obj.memValueSize);
+            break;
+        case "pojo_mem":
+            obj.pojoMem = readLong(in, obj.pojoMem);
+            break;
+        case "free_mem":
+            obj.freeMem = readLong(in, obj.freeMem);
+            break;
+        case "max_mem":
+            obj.maxMem = readLong(in, obj.maxMem);
+            break;
+        case "swap_mem":
+            obj.swapMem = readLong(in, obj.swapMem);
+            break;
+        case "num_keys":
+            obj.numKeys = readInt(in, obj.numKeys);
+            break;
+        case "free_disk":
+            obj.freeDisk = readLong(in, obj.freeDisk);
+            break;
+        case "max_disk":
+            obj.maxDisk = readLong(in, obj.maxDisk);
+            break;
+        case "rpcs_active":
+            obj.rpcsActive = readInt(in, obj.rpcsActive);
+            break;
+        case "fjthrds":
+            obj.fjthrds = readObject(in, 0);
+            break;
+        case "fjqueue":
+            obj.fjqueue = readObject(in, 1);
+            break;
+        case "tcps_active":
+            obj.tcpsActive = readInt(in, obj.tcpsActive);
+            break;
+        case "open_fds":
+            obj.openFds = readInt(in, obj.openFds);
+            break;
+        case "gflops":
+            obj.gflops = readDouble(in, obj.gflops);
+            break;
+        case "mem_bw":
+            obj.memBw = readDouble(in, obj.memBw);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ParseSVMLightV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ParseSVMLightV3Adapter extends PojoTypeAdapter<ParseSVMLightV3> {
+
+    public ParseSVMLightV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ParseSVMLightV3.class, //
+                FrameKeyV3.class,
+                FrameKeyV3[].class);
+    }
+
+    @Override
+    protected ParseSVMLightV3 newInstance() {
+        return new ParseSVMLightV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ParseSVMLightV3 obj) throws IOException {
+        switch (name) {
+        case "destination_frame":
+            obj.destinationFrame = readObject(in, 0);
+            break;
+        case "source_frames":
+            obj.sourceFrames = readObject(in, 1);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ApiParseTypeValuesProvider;
+import org.codelibs.fione.h2o.bindings.pojos.DecryptionToolKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.JobV3;
+import org.codelibs.fione.h2o.bindings.pojos.ParseV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ParseV3Adapter extends PojoTypeAdapter<ParseV3> {
+
+    public ParseV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ParseV3.class, //
+                FrameKeyV3.class,
+                FrameKeyV3[].class,
+                ApiParseTypeValuesProvider.class,
+                DecryptionToolKeyV3.class,
+                JobV3.class);
+    }
+
+    @Override
+    protected ParseV3 newInstance() {
+        return new ParseV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ParseV3 obj) throws IOException {
+        switch (name) {
+        case "destination_frame":
+            obj.destinationFrame = readObject(in, 0);
+            break;
+        case "source_frames":
+            obj.sourceFrames = readObject(in, 1);
+            break;
+        case "parse_type":
+            obj.parseType = readObject(in, 2);
+            break;
+        case "separator":
+            obj.separator = readByte(in, obj.separator);
+            break;
+        case "single_quotes":
+            obj.singleQuotes = readBoolean(in, obj.singleQuotes);
+            break;
+        case "check_header":
+            obj.checkHeader = readInt(in, obj.checkHeader);
+            break;
+        case "number_columns":
+            obj.numberColumns = readInt(in, obj.numberColumns);
+            break;
+        case "column_names":
+            obj.columnNames = readStringArray(in);
+            break;
+        case "column_types":
+            obj.columnTypes = readStringArray(in);
+            break;
+        case "skipped_columns":
+            obj.skippedColumns = readIntArray(in);
+            break;
+        case "domains":
+            obj.domains = readStringArray2(in);
+            break;
+        case "na_strings":
+            obj.naStrings = readStringArray2(in);
+            break;
+        case "chunk_size":
+            obj.chunkSize = readInt(in, obj.chunkSize);
+            break;
+        case "delete_on_done":
+            obj.deleteOnDone = readBoolean(in, obj.deleteOnDone);
+            break;
+        case "blocking":
+            obj.blocking = readBoolean(in, obj.blocking);
+            break;
+        case "decrypt_tool":
+            obj.decryptTool = readObject(in, 3);
+            break;
+        case "custom_non_data_line_markers":
+            obj.customNonDataLineMarkers = readString(in);
+            break;
+        case "job":
+            obj.job = readObject(in, 4);
+            break;
+        case "rows":
+            obj.rows = readLong(in, obj.rows);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
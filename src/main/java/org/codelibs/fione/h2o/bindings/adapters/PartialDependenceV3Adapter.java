@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.PartialDependenceKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.PartialDependenceV3;
+import org.codelibs.fione.h2o.bindings.pojos.TwoDimTableV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class PartialDependenceV3Adapter extends PojoTypeAdapter<PartialDependenceV3> {
+
+    public PartialDependenceV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, PartialDependenceV3.class, //
+                ModelKeyV3.class,
+                FrameKeyV3.class,
+                TwoDimTableV3[].class,
+                PartialDependenceKeyV3.class);
+    }
+
+    @Override
+    protected PartialDependenceV3 newInstance() {
+        return new PartialDependenceV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final PartialDependenceV3 obj) throws IOException {
+        switch (name) {
+        case "model_id":
+            obj.modelId = readObject(in, 0);
+            break;
+        case "frame_id":
+            obj.frameId = readObject(in, 1);
+            break;
+        case "row_index":
+            obj.rowIndex = readLong(in, obj.rowIndex);
+            break;
+        case "cols":
+            obj.cols = readStringArray(in);
+            break;
+        case "weight_column_index":
+            obj.weightColumnIndex = readInt(in, obj.weightColumnIndex);
+            break;
+        case "add_missing_na":
+            obj.addMissingNa = readBoolean(in, obj.addMissingNa);
+            break;
+        case "nbins":
+            obj.nbins = readInt(in, obj.nbins);
+            break;
+        case "user_splits":
+            obj.userSplits = readDoubleArray(in);
+            break;
+        case "user_cols":
+            obj.userCols = readStringArray(in);
+            break;
+        case "num_user_splits":
+            obj.numUserSplits = readIntArray(in);
+            break;
+        case "partial_dependence_data":
+            obj.partialDependenceData = readObject(in, 2);
+            break;
+        case "col_pairs_2dpdp":
+            obj.colPairs2dpdp = readStringArray2(in);
+            break;
+        case "destination_key":
+            obj.destinationKey = readObject(in, 3);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
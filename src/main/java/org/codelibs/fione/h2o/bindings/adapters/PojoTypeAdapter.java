@@ -0,0 +1,294 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Base class of the TypeAdapters generated by tools/gen_java.py.
+ * Fields are dispatched by their JSON names, primitives and their arrays are read
+ * without boxing, and other fields are read by the adapters of Gson.
+ * Writing is delegated to the reflective adapter because requests are sent as form parameters.
+ */
+public abstract class PojoTypeAdapter<T> extends TypeAdapter<T> {
+
+    protected final Gson gson;
+
+    protected final TypeAdapterFactory factory;
+
+    private final Class<T> type;
+
+    private final Type[] fieldTypes;
+
+    private final TypeAdapter<?>[] fieldAdapters;
+
+    private volatile TypeAdapter<T> delegate;
+
+    /**
+     * @param fieldTypes types of the fields read by {@link #readObject(JsonReader, int)}
+     */
+    protected PojoTypeAdapter(final Gson gson, final TypeAdapterFactory factory, final Class<T> type, final Type... fieldTypes) {
+        this.gson = gson;
+        this.factory = factory;
+        this.type = type;
+        this.fieldTypes = fieldTypes;
+        this.fieldAdapters = new TypeAdapter<?>[fieldTypes.length];
+    }
+
+    @Override
+    public void write(final JsonWriter out, final T value) throws IOException {
+        TypeAdapter<T> adapter = delegate;
+        if (adapter == null) {
+            adapter = gson.getDelegateAdapter(factory, TypeToken.get(type));
+            delegate = adapter;
+        }
+        adapter.write(out, value);
+    }
+
+    @Override
+    public T read(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        final T obj = newInstance();
+        in.beginObject();
+        while (in.hasNext()) {
+            readField(in, in.nextName(), obj);
+        }
+        in.endObject();
+        return obj;
+    }
+
+    protected abstract T newInstance();
+
+    /**
+     * Reads the value of the field, or skips it if the name is unknown.
+     */
+    protected abstract void readField(JsonReader in, String name, T obj) throws IOException;
+
+    /**
+     * Reads the value with the Gson adapter of fieldTypes[index].
+     */
+    @SuppressWarnings("unchecked")
+    protected <V> V readObject(final JsonReader in, final int index) throws IOException {
+        TypeAdapter<?> adapter = fieldAdapters[index];
+        if (adapter == null) {
+            adapter = gson.getAdapter(TypeToken.get(fieldTypes[index]));
+            fieldAdapters[index] = adapter;
+        }
+        return (V) adapter.read(in);
+    }
+
+    // primitives keep the current value for null, as Gson's reflective adapter does
+
+    protected static boolean readBoolean(final JsonReader in, final boolean defaultValue) throws IOException {
+        final JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return defaultValue;
+        }
+        if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(in.nextString());
+        }
+        return in.nextBoolean();
+    }
+
+    protected static byte readByte(final JsonReader in, final byte defaultValue) throws IOException {
+        return (byte) readInt(in, defaultValue);
+    }
+
+    protected static short readShort(final JsonReader in, final short defaultValue) throws IOException {
+        return (short) readInt(in, defaultValue);
+    }
+
+    protected static int readInt(final JsonReader in, final int defaultValue) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return defaultValue;
+        }
+        try {
+            return in.nextInt();
+        } catch (final NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    protected static long readLong(final JsonReader in, final long defaultValue) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return defaultValue;
+        }
+        try {
+            return in.nextLong();
+        } catch (final NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    protected static float readFloat(final JsonReader in, final float defaultValue) throws IOException {
+        return (float) readDouble(in, defaultValue);
+    }
+
+    protected static double readDouble(final JsonReader in, final double defaultValue) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return defaultValue;
+        }
+        return in.nextDouble();
+    }
+
+    protected static String readString(final JsonReader in) throws IOException {
+        final JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+        return in.nextString();
+    }
+
+    // null elements of primitive arrays are read as 0, or NaN for floating point values
+
+    protected static double[] readDoubleArray(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        double[] values = new double[16];
+        int size = 0;
+        in.beginArray();
+        while (in.hasNext()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = readDouble(in, Double.NaN);
+        }
+        in.endArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    protected static float[] readFloatArray(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        float[] values = new float[16];
+        int size = 0;
+        in.beginArray();
+        while (in.hasNext()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = readFloat(in, Float.NaN);
+        }
+        in.endArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    protected static int[] readIntArray(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        int[] values = new int[16];
+        int size = 0;
+        in.beginArray();
+        while (in.hasNext()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = readInt(in, 0);
+        }
+        in.endArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    protected static long[] readLongArray(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        long[] values = new long[16];
+        int size = 0;
+        in.beginArray();
+        while (in.hasNext()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = readLong(in, 0L);
+        }
+        in.endArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    protected static double[][] readDoubleArray2(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        final List<double[]> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            list.add(readDoubleArray(in));
+        }
+        in.endArray();
+        return list.toArray(new double[list.size()][]);
+    }
+
+    protected static String[] readStringArray(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        final List<String> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            list.add(readString(in));
+        }
+        in.endArray();
+        return list.toArray(new String[list.size()]);
+    }
+
+    protected static String[][] readStringArray2(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        final List<String[]> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            list.add(readStringArray(in));
+        }
+        in.endArray();
+        return list.toArray(new String[list.size()][]);
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.codelibs.fione.h2o.bindings.pojos.AboutEntryV3;
+import org.codelibs.fione.h2o.bindings.pojos.AboutV3;
+import org.codelibs.fione.h2o.bindings.pojos.AggregatorModelOutputV99;
+import org.codelibs.fione.h2o.bindings.pojos.AggregatorParametersV99;
+import org.codelibs.fione.h2o.bindings.pojos.AssemblyKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.AssemblyV99;
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLBuildControlV99;
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLBuildModelsV99;
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLBuildSpecV99;
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLCustomParameterV99;
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLInputV99;
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLStoppingCriteriaV99;
+import org.codelibs.fione.h2o.bindings.pojos.AutoMLV99;
+import org.codelibs.fione.h2o.bindings.pojos.CapabilitiesV3;
+import org.codelibs.fione.h2o.bindings.pojos.CapabilityEntryV3;
+import org.codelibs.fione.h2o.bindings.pojos.CartesianSearchCriteriaV99;
+import org.codelibs.fione.h2o.bindings.pojos.CloudLockV3;
+import org.codelibs.fione.h2o.bindings.pojos.CloudV3;
+import org.codelibs.fione.h2o.bindings.pojos.ClusteringModelParametersSchemaV3;
+import org.codelibs.fione.h2o.bindings.pojos.ColSpecifierV3;
+import org.codelibs.fione.h2o.bindings.pojos.ColV3;
+import org.codelibs.fione.h2o.bindings.pojos.ColumnSpecsBase;
+import org.codelibs.fione.h2o.bindings.pojos.ConfusionMatrixV3;
+import org.codelibs.fione.h2o.bindings.pojos.CoxPHModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.CoxPHParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.CreateFrameOriginalIV4;
+import org.codelibs.fione.h2o.bindings.pojos.CreateFrameSimpleIV4;
+import org.codelibs.fione.h2o.bindings.pojos.CreateFrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.DCTTransformerV3;
+import org.codelibs.fione.h2o.bindings.pojos.DRFModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.DRFParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.DStackTraceV3;
+import org.codelibs.fione.h2o.bindings.pojos.DataInfoFrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.DecryptionSetupV3;
+import org.codelibs.fione.h2o.bindings.pojos.DecryptionToolKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.DeepLearningModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.DeepLearningParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.DeepWaterModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.DeepWaterParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.DownloadDataV3;
+import org.codelibs.fione.h2o.bindings.pojos.EndpointV4;
+import org.codelibs.fione.h2o.bindings.pojos.EndpointsListV4;
+import org.codelibs.fione.h2o.bindings.pojos.EventLogEntryV99;
+import org.codelibs.fione.h2o.bindings.pojos.EventLogV99;
+import org.codelibs.fione.h2o.bindings.pojos.EventV3;
+import org.codelibs.fione.h2o.bindings.pojos.ExampleModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.ExampleParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.FieldMetadataV3;
+import org.codelibs.fione.h2o.bindings.pojos.FindV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameBaseV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameChunkV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameChunksV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameSynopsisV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.FramesListV3;
+import org.codelibs.fione.h2o.bindings.pojos.FramesV3;
+import org.codelibs.fione.h2o.bindings.pojos.GBMModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.GBMParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.GLMModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.GLMParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.GLMRegularizationPathV3;
+import org.codelibs.fione.h2o.bindings.pojos.GLRMModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.GLRMParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.GarbageCollectV3;
+import org.codelibs.fione.h2o.bindings.pojos.GenericModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.GenericParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.GramV3;
+import org.codelibs.fione.h2o.bindings.pojos.GrepModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.GrepParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.GridExportV3;
+import org.codelibs.fione.h2o.bindings.pojos.GridImportV3;
+import org.codelibs.fione.h2o.bindings.pojos.GridKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.GridSchemaV99;
+import org.codelibs.fione.h2o.bindings.pojos.GridSearchSchema;
+import org.codelibs.fione.h2o.bindings.pojos.GridsV99;
+import org.codelibs.fione.h2o.bindings.pojos.H2OErrorV3;
+import org.codelibs.fione.h2o.bindings.pojos.H2OModelBuilderErrorV3;
+import org.codelibs.fione.h2o.bindings.pojos.HeartBeatEvent;
+import org.codelibs.fione.h2o.bindings.pojos.HyperSpaceSearchCriteriaV99;
+import org.codelibs.fione.h2o.bindings.pojos.IOEvent;
+import org.codelibs.fione.h2o.bindings.pojos.ImportFilesMultiV3;
+import org.codelibs.fione.h2o.bindings.pojos.ImportFilesV3;
+import org.codelibs.fione.h2o.bindings.pojos.ImportHiveTableV3;
+import org.codelibs.fione.h2o.bindings.pojos.ImportSQLTableV99;
+import org.codelibs.fione.h2o.bindings.pojos.InitIDV3;
+import org.codelibs.fione.h2o.bindings.pojos.InputSchemaV4;
+import org.codelibs.fione.h2o.bindings.pojos.InteractionV3;
+import org.codelibs.fione.h2o.bindings.pojos.IoStatsEntry;
+import org.codelibs.fione.h2o.bindings.pojos.IsolationForestModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.IsolationForestParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.JStackV3;
+import org.codelibs.fione.h2o.bindings.pojos.JobIV4;
+import org.codelibs.fione.h2o.bindings.pojos.JobKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.JobV3;
+import org.codelibs.fione.h2o.bindings.pojos.JobV4;
+import org.codelibs.fione.h2o.bindings.pojos.JobsV3;
+import org.codelibs.fione.h2o.bindings.pojos.KMeansModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.KMeansParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.KeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.KeyValueV3;
+import org.codelibs.fione.h2o.bindings.pojos.KillMinus3V3;
+import org.codelibs.fione.h2o.bindings.pojos.LeaderboardV99;
+import org.codelibs.fione.h2o.bindings.pojos.LeaderboardsV99;
+import org.codelibs.fione.h2o.bindings.pojos.ListRequestV4;
+import org.codelibs.fione.h2o.bindings.pojos.LogAndEchoV3;
+import org.codelibs.fione.h2o.bindings.pojos.LogsV3;
+import org.codelibs.fione.h2o.bindings.pojos.MakeGLMModelV3;
+import org.codelibs.fione.h2o.bindings.pojos.MetadataV3;
+import org.codelibs.fione.h2o.bindings.pojos.MissingInserterV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelBuilderV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelBuildersV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelExportV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelIdV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelImportV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelInfoV4;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsAnomalyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsAutoEncoderV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsBaseV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsBinomialGLMGenericV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsBinomialGLMV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsBinomialGenericV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsBinomialV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsClusteringV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsGLRMV99;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsHGLMGaussianGaussianGenericV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsHGLMGaussianGaussianV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsHGLMGenericV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsHGLMV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsListSchemaV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsMakerSchemaV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsMultinomialGLMGenericV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsMultinomialGLMV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsMultinomialGenericV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsMultinomialV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsOrdinalGLMGenericV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsOrdinalGLMV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsOrdinalGenericV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsOrdinalV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsPCAV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsRegressionGLMGenericV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsRegressionGLMV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsRegressionGenericV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsRegressionV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsSVDV99;
+import org.codelibs.fione.h2o.bindings.pojos.ModelOutputSchemaV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParameterSchemaV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersSchemaV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelsInfoV4;
+import org.codelibs.fione.h2o.bindings.pojos.ModelsV3;
+import org.codelibs.fione.h2o.bindings.pojos.NaiveBayesModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.NaiveBayesParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.NetworkBenchV3;
+import org.codelibs.fione.h2o.bindings.pojos.NetworkEvent;
+import org.codelibs.fione.h2o.bindings.pojos.NetworkTestV3;
+import org.codelibs.fione.h2o.bindings.pojos.NodeMemoryInfoV3;
+import org.codelibs.fione.h2o.bindings.pojos.NodePersistentStorageEntryV3;
+import org.codelibs.fione.h2o.bindings.pojos.NodePersistentStorageV3;
+import org.codelibs.fione.h2o.bindings.pojos.NodeV3;
+import org.codelibs.fione.h2o.bindings.pojos.OutputSchemaV4;
+import org.codelibs.fione.h2o.bindings.pojos.PCAModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.PCAParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.PSVMModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.PSVMParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.ParseSVMLightV3;
+import org.codelibs.fione.h2o.bindings.pojos.ParseSetupV3;
+import org.codelibs.fione.h2o.bindings.pojos.ParseV3;
+import org.codelibs.fione.h2o.bindings.pojos.PartialDependenceKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.PartialDependenceV3;
+import org.codelibs.fione.h2o.bindings.pojos.PersistS3CredentialsV3;
+import org.codelibs.fione.h2o.bindings.pojos.PingV3;
+import org.codelibs.fione.h2o.bindings.pojos.ProfilerNodeEntryV3;
+import org.codelibs.fione.h2o.bindings.pojos.ProfilerNodeV3;
+import org.codelibs.fione.h2o.bindings.pojos.ProfilerV3;
+import org.codelibs.fione.h2o.bindings.pojos.QuantileParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.RandomDiscreteValueSearchCriteriaV99;
+import org.codelibs.fione.h2o.bindings.pojos.RapidsExpressionV3;
+import org.codelibs.fione.h2o.bindings.pojos.RapidsFrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.RapidsFunctionV3;
+import org.codelibs.fione.h2o.bindings.pojos.RapidsHelpV3;
+import org.codelibs.fione.h2o.bindings.pojos.RapidsMapFrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.RapidsNumberV3;
+import org.codelibs.fione.h2o.bindings.pojos.RapidsNumbersV3;
+import org.codelibs.fione.h2o.bindings.pojos.RapidsSchemaV3;
+import org.codelibs.fione.h2o.bindings.pojos.RapidsStringV3;
+import org.codelibs.fione.h2o.bindings.pojos.RapidsStringsV3;
+import org.codelibs.fione.h2o.bindings.pojos.RapidsV99;
+import org.codelibs.fione.h2o.bindings.pojos.RemoveAllV3;
+import org.codelibs.fione.h2o.bindings.pojos.RemoveV3;
+import org.codelibs.fione.h2o.bindings.pojos.RequestSchemaV3;
+import org.codelibs.fione.h2o.bindings.pojos.RouteV3;
+import org.codelibs.fione.h2o.bindings.pojos.SVDModelOutputV99;
+import org.codelibs.fione.h2o.bindings.pojos.SVDParametersV99;
+import org.codelibs.fione.h2o.bindings.pojos.SchemaMetadataV3;
+import org.codelibs.fione.h2o.bindings.pojos.SchemaV3;
+import org.codelibs.fione.h2o.bindings.pojos.SessionIdV4;
+import org.codelibs.fione.h2o.bindings.pojos.SharedTreeModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.SharedTreeParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.ShutdownV3;
+import org.codelibs.fione.h2o.bindings.pojos.SplitFrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.StackedEnsembleModelOutputV99;
+import org.codelibs.fione.h2o.bindings.pojos.StackedEnsembleParametersV99;
+import org.codelibs.fione.h2o.bindings.pojos.SteamMetricsV3;
+import org.codelibs.fione.h2o.bindings.pojos.StepDefinitionV99;
+import org.codelibs.fione.h2o.bindings.pojos.StepV99;
+import org.codelibs.fione.h2o.bindings.pojos.StreamingSchema;
+import org.codelibs.fione.h2o.bindings.pojos.StringPairV3;
+import org.codelibs.fione.h2o.bindings.pojos.TabulateV3;
+import org.codelibs.fione.h2o.bindings.pojos.TargetEncoderModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.TargetEncoderParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.TargetEncoderTransformParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.TimelineV3;
+import org.codelibs.fione.h2o.bindings.pojos.TreeStatsV3;
+import org.codelibs.fione.h2o.bindings.pojos.TreeV3;
+import org.codelibs.fione.h2o.bindings.pojos.TwoDimTableV3;
+import org.codelibs.fione.h2o.bindings.pojos.TypeaheadV3;
+import org.codelibs.fione.h2o.bindings.pojos.UnlockKeysV3;
+import org.codelibs.fione.h2o.bindings.pojos.ValidationMessageV3;
+import org.codelibs.fione.h2o.bindings.pojos.VarImpV3;
+import org.codelibs.fione.h2o.bindings.pojos.WaterMeterCpuTicksV3;
+import org.codelibs.fione.h2o.bindings.pojos.WaterMeterIoV3;
+import org.codelibs.fione.h2o.bindings.pojos.Word2VecModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.Word2VecParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.Word2VecSynonymsV3;
+import org.codelibs.fione.h2o.bindings.pojos.Word2VecTransformV3;
+import org.codelibs.fione.h2o.bindings.pojos.XGBoostModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.XGBoostParametersV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Provides the generated TypeAdapters of the schema classes.
+ */
+public class PojoTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final Map<Class<?>, BiFunction<Gson, TypeAdapterFactory, TypeAdapter<?>>> ADAPTER_MAP = new HashMap<>(458);
+    static {
+        ADAPTER_MAP.put(AboutEntryV3.class, AboutEntryV3Adapter::new);
+        ADAPTER_MAP.put(AboutV3.class, AboutV3Adapter::new);
+        ADAPTER_MAP.put(AggregatorModelOutputV99.class, AggregatorModelOutputV99Adapter::new);
+        ADAPTER_MAP.put(AggregatorParametersV99.class, AggregatorParametersV99Adapter::new);
+        ADAPTER_MAP.put(AssemblyKeyV3.class, AssemblyKeyV3Adapter::new);
+        ADAPTER_MAP.put(AssemblyV99.class, AssemblyV99Adapter::new);
+        ADAPTER_MAP.put(AutoMLBuildControlV99.class, AutoMLBuildControlV99Adapter::new);
+        ADAPTER_MAP.put(AutoMLBuildModelsV99.class, AutoMLBuildModelsV99Adapter::new);
+        ADAPTER_MAP.put(AutoMLBuildSpecV99.class, AutoMLBuildSpecV99Adapter::new);
+        ADAPTER_MAP.put(AutoMLCustomParameterV99.class, AutoMLCustomParameterV99Adapter::new);
+        ADAPTER_MAP.put(AutoMLInputV99.class, AutoMLInputV99Adapter::new);
+        ADAPTER_MAP.put(AutoMLKeyV3.class, AutoMLKeyV3Adapter::new);
+        ADAPTER_MAP.put(AutoMLStoppingCriteriaV99.class, AutoMLStoppingCriteriaV99Adapter::new);
+        ADAPTER_MAP.put(AutoMLV99.class, AutoMLV99Adapter::new);
+        ADAPTER_MAP.put(CapabilitiesV3.class, CapabilitiesV3Adapter::new);
+        ADAPTER_MAP.put(CapabilityEntryV3.class, CapabilityEntryV3Adapter::new);
+        ADAPTER_MAP.put(CartesianSearchCriteriaV99.class, CartesianSearchCriteriaV99Adapter::new);
+        ADAPTER_MAP.put(CloudLockV3.class, CloudLockV3Adapter::new);
+        ADAPTER_MAP.put(CloudV3.class, CloudV3Adapter::new);
+        ADAPTER_MAP.put(ClusteringModelParametersSchemaV3.class, ClusteringModelParametersSchemaV3Adapter::new);
+        ADAPTER_MAP.put(ColSpecifierV3.class, ColSpecifierV3Adapter::new);
+        ADAPTER_MAP.put(ColV3.class, ColV3Adapter::new);
+        ADAPTER_MAP.put(ColumnSpecsBase.class, ColumnSpecsBaseAdapter::new);
+        ADAPTER_MAP.put(ConfusionMatrixV3.class, ConfusionMatrixV3Adapter::new);
+        ADAPTER_MAP.put(CoxPHModelOutputV3.class, CoxPHModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(CoxPHParametersV3.class, CoxPHParametersV3Adapter::new);
+        ADAPTER_MAP.put(CreateFrameOriginalIV4.class, CreateFrameOriginalIV4Adapter::new);
+        ADAPTER_MAP.put(CreateFrameSimpleIV4.class, CreateFrameSimpleIV4Adapter::new);
+        ADAPTER_MAP.put(CreateFrameV3.class, CreateFrameV3Adapter::new);
+        ADAPTER_MAP.put(DCTTransformerV3.class, DCTTransformerV3Adapter::new);
+        ADAPTER_MAP.put(DRFModelOutputV3.class, DRFModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(DRFParametersV3.class, DRFParametersV3Adapter::new);
+        ADAPTER_MAP.put(DStackTraceV3.class, DStackTraceV3Adapter::new);
+        ADAPTER_MAP.put(DataInfoFrameV3.class, DataInfoFrameV3Adapter::new);
+        ADAPTER_MAP.put(DecryptionSetupV3.class, DecryptionSetupV3Adapter::new);
+        ADAPTER_MAP.put(DecryptionToolKeyV3.class, DecryptionToolKeyV3Adapter::new);
+        ADAPTER_MAP.put(DeepLearningModelOutputV3.class, DeepLearningModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(DeepLearningParametersV3.class, DeepLearningParametersV3Adapter::new);
+        ADAPTER_MAP.put(DeepWaterModelOutputV3.class, DeepWaterModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(DeepWaterParametersV3.class, DeepWaterParametersV3Adapter::new);
+        ADAPTER_MAP.put(DownloadDataV3.class, DownloadDataV3Adapter::new);
+        ADAPTER_MAP.put(EndpointV4.class, EndpointV4Adapter::new);
+        ADAPTER_MAP.put(EndpointsListV4.class, EndpointsListV4Adapter::new);
+        ADAPTER_MAP.put(EventLogEntryV99.class, EventLogEntryV99Adapter::new);
+        ADAPTER_MAP.put(EventLogV99.class, EventLogV99Adapter::new);
+        ADAPTER_MAP.put(EventV3.class, EventV3Adapter::new);
+        ADAPTER_MAP.put(ExampleModelOutputV3.class, ExampleModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(ExampleParametersV3.class, ExampleParametersV3Adapter::new);
+        ADAPTER_MAP.put(FieldMetadataV3.class, FieldMetadataV3Adapter::new);
+        ADAPTER_MAP.put(FindV3.class, FindV3Adapter::new);
+        ADAPTER_MAP.put(FrameBaseV3.class, FrameBaseV3Adapter::new);
+        ADAPTER_MAP.put(FrameChunkV3.class, FrameChunkV3Adapter::new);
+        ADAPTER_MAP.put(FrameChunksV3.class, FrameChunksV3Adapter::new);
+        ADAPTER_MAP.put(FrameKeyV3.class, FrameKeyV3Adapter::new);
+        ADAPTER_MAP.put(FrameSynopsisV3.class, FrameSynopsisV3Adapter::new);
+        ADAPTER_MAP.put(FrameV3.class, FrameV3Adapter::new);
+        ADAPTER_MAP.put(FramesListV3.class, FramesListV3Adapter::new);
+        ADAPTER_MAP.put(FramesV3.class, FramesV3Adapter::new);
+        ADAPTER_MAP.put(GBMModelOutputV3.class, GBMModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(GBMParametersV3.class, GBMParametersV3Adapter::new);
+        ADAPTER_MAP.put(GLMModelOutputV3.class, GLMModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(GLMParametersV3.class, GLMParametersV3Adapter::new);
+        ADAPTER_MAP.put(GLMRegularizationPathV3.class, GLMRegularizationPathV3Adapter::new);
+        ADAPTER_MAP.put(GLRMModelOutputV3.class, GLRMModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(GLRMParametersV3.class, GLRMParametersV3Adapter::new);
+        ADAPTER_MAP.put(GarbageCollectV3.class, GarbageCollectV3Adapter::new);
+        ADAPTER_MAP.put(GenericModelOutputV3.class, GenericModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(GenericParametersV3.class, GenericParametersV3Adapter::new);
+        ADAPTER_MAP.put(GramV3.class, GramV3Adapter::new);
+        ADAPTER_MAP.put(GrepModelOutputV3.class, GrepModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(GrepParametersV3.class, GrepParametersV3Adapter::new);
+        ADAPTER_MAP.put(GridExportV3.class, GridExportV3Adapter::new);
+        ADAPTER_MAP.put(GridImportV3.class, GridImportV3Adapter::new);
+        ADAPTER_MAP.put(GridKeyV3.class, GridKeyV3Adapter::new);
+        ADAPTER_MAP.put(GridSchemaV99.class, GridSchemaV99Adapter::new);
+        ADAPTER_MAP.put(GridSearchSchema.class, GridSearchSchemaAdapter::new);
+        ADAPTER_MAP.put(GridsV99.class, GridsV99Adapter::new);
+        ADAPTER_MAP.put(H2OErrorV3.class, H2OErrorV3Adapter::new);
+        ADAPTER_MAP.put(H2OModelBuilderErrorV3.class, H2OModelBuilderErrorV3Adapter::new);
+        ADAPTER_MAP.put(HeartBeatEvent.class, HeartBeatEventAdapter::new);
+        ADAPTER_MAP.put(HyperSpaceSearchCriteriaV99.class, HyperSpaceSearchCriteriaV99Adapter::new);
+        ADAPTER_MAP.put(IOEvent.class, IOEventAdapter::new);
+        ADAPTER_MAP.put(ImportFilesMultiV3.class, ImportFilesMultiV3Adapter::new);
+        ADAPTER_MAP.put(ImportFilesV3.class, ImportFilesV3Adapter::new);
+        ADAPTER_MAP.put(ImportHiveTableV3.class, ImportHiveTableV3Adapter::new);
+        ADAPTER_MAP.put(ImportSQLTableV99.class, ImportSQLTableV99Adapter::new);
+        ADAPTER_MAP.put(InitIDV3.class, InitIDV3Adapter::new);
+        ADAPTER_MAP.put(InputSchemaV4.class, InputSchemaV4Adapter::new);
+        ADAPTER_MAP.put(InteractionV3.class, InteractionV3Adapter::new);
+        ADAPTER_MAP.put(IoStatsEntry.class, IoStatsEntryAdapter::new);
+        ADAPTER_MAP.put(IsolationForestModelOutputV3.class, IsolationForestModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(IsolationForestParametersV3.class, IsolationForestParametersV3Adapter::new);
+        ADAPTER_MAP.put(JStackV3.class, JStackV3Adapter::new);
+        ADAPTER_MAP.put(JobIV4.class, JobIV4Adapter::new);
+        ADAPTER_MAP.put(JobKeyV3.class, JobKeyV3Adapter::new);
+        ADAPTER_MAP.put(JobV3.class, JobV3Adapter::new);
+        ADAPTER_MAP.put(JobV4.class, JobV4Adapter::new);
+        ADAPTER_MAP.put(JobsV3.class, JobsV3Adapter::new);
+        ADAPTER_MAP.put(KMeansModelOutputV3.class, KMeansModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(KMeansParametersV3.class, KMeansParametersV3Adapter::new);
+        ADAPTER_MAP.put(KeyV3.class, KeyV3Adapter::new);
+        ADAPTER_MAP.put(KeyValueV3.class, KeyValueV3Adapter::new);
+        ADAPTER_MAP.put(KillMinus3V3.class, KillMinus3V3Adapter::new);
+        ADAPTER_MAP.put(LeaderboardV99.class, LeaderboardV99Adapter::new);
+        ADAPTER_MAP.put(LeaderboardsV99.class, LeaderboardsV99Adapter::new);
+        ADAPTER_MAP.put(ListRequestV4.class, ListRequestV4Adapter::new);
+        ADAPTER_MAP.put(LogAndEchoV3.class, LogAndEchoV3Adapter::new);
+        ADAPTER_MAP.put(LogsV3.class, LogsV3Adapter::new);
+        ADAPTER_MAP.put(MakeGLMModelV3.class, MakeGLMModelV3Adapter::new);
+        ADAPTER_MAP.put(MetadataV3.class, MetadataV3Adapter::new);
+        ADAPTER_MAP.put(MissingInserterV3.class, MissingInserterV3Adapter::new);
+        ADAPTER_MAP.put(ModelBuilderV3.class, ModelBuilderV3Adapter::new);
+        ADAPTER_MAP.put(ModelBuildersV3.class, ModelBuildersV3Adapter::new);
+        ADAPTER_MAP.put(ModelExportV3.class, ModelExportV3Adapter::new);
+        ADAPTER_MAP.put(ModelIdV3.class, ModelIdV3Adapter::new);
+        ADAPTER_MAP.put(ModelImportV3.class, ModelImportV3Adapter::new);
+        ADAPTER_MAP.put(ModelInfoV4.class, ModelInfoV4Adapter::new);
+        ADAPTER_MAP.put(ModelKeyV3.class, ModelKeyV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsAnomalyV3.class, ModelMetricsAnomalyV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsAutoEncoderV3.class, ModelMetricsAutoEncoderV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsBaseV3.class, ModelMetricsBaseV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsBinomialGLMGenericV3.class, ModelMetricsBinomialGLMGenericV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsBinomialGLMV3.class, ModelMetricsBinomialGLMV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsBinomialGenericV3.class, ModelMetricsBinomialGenericV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsBinomialV3.class, ModelMetricsBinomialV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsClusteringV3.class, ModelMetricsClusteringV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsGLRMV99.class, ModelMetricsGLRMV99Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsHGLMGaussianGaussianGenericV3.class, ModelMetricsHGLMGaussianGaussianGenericV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsHGLMGaussianGaussianV3.class, ModelMetricsHGLMGaussianGaussianV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsHGLMGenericV3.class, ModelMetricsHGLMGenericV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsHGLMV3.class, ModelMetricsHGLMV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsListSchemaV3.class, ModelMetricsListSchemaV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsMakerSchemaV3.class, ModelMetricsMakerSchemaV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsMultinomialGLMGenericV3.class, ModelMetricsMultinomialGLMGenericV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsMultinomialGLMV3.class, ModelMetricsMultinomialGLMV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsMultinomialGenericV3.class, ModelMetricsMultinomialGenericV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsMultinomialV3.class, ModelMetricsMultinomialV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsOrdinalGLMGenericV3.class, ModelMetricsOrdinalGLMGenericV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsOrdinalGLMV3.class, ModelMetricsOrdinalGLMV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsOrdinalGenericV3.class, ModelMetricsOrdinalGenericV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsOrdinalV3.class, ModelMetricsOrdinalV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsPCAV3.class, ModelMetricsPCAV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsRegressionGLMGenericV3.class, ModelMetricsRegressionGLMGenericV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsRegressionGLMV3.class, ModelMetricsRegressionGLMV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsRegressionGenericV3.class, ModelMetricsRegressionGenericV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsRegressionV3.class, ModelMetricsRegressionV3Adapter::new);
+        ADAPTER_MAP.put(ModelMetricsSVDV99.class, ModelMetricsSVDV99Adapter::new);
+        ADAPTER_MAP.put(ModelOutputSchemaV3.class, ModelOutputSchemaV3Adapter::new);
+        ADAPTER_MAP.put(ModelParameterSchemaV3.class, ModelParameterSchemaV3Adapter::new);
+        ADAPTER_MAP.put(ModelParametersSchemaV3.class, ModelParametersSchemaV3Adapter::new);
+        ADAPTER_MAP.put(ModelsInfoV4.class, ModelsInfoV4Adapter::new);
+        ADAPTER_MAP.put(ModelsV3.class, ModelsV3Adapter::new);
+        ADAPTER_MAP.put(NaiveBayesModelOutputV3.class, NaiveBayesModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(NaiveBayesParametersV3.class, NaiveBayesParametersV3Adapter::new);
+        ADAPTER_MAP.put(NetworkBenchV3.class, NetworkBenchV3Adapter::new);
+        ADAPTER_MAP.put(NetworkEvent.class, NetworkEventAdapter::new);
+        ADAPTER_MAP.put(NetworkTestV3.class, NetworkTestV3Adapter::new);
+        ADAPTER_MAP.put(NodeMemoryInfoV3.class, NodeMemoryInfoV3Adapter::new);
+        ADAPTER_MAP.put(NodePersistentStorageEntryV3.class, NodePersistentStorageEntryV3Adapter::new);
+        ADAPTER_MAP.put(NodePersistentStorageV3.class, NodePersistentStorageV3Adapter::new);
+        ADAPTER_MAP.put(NodeV3.class, NodeV3Adapter::new);
+        ADAPTER_MAP.put(OutputSchemaV4.class, OutputSchemaV4Adapter::new);
+        ADAPTER_MAP.put(PCAModelOutputV3.class, PCAModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(PCAParametersV3.class, PCAParametersV3Adapter::new);
+        ADAPTER_MAP.put(PSVMModelOutputV3.class, PSVMModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(PSVMParametersV3.class, PSVMParametersV3Adapter::new);
+        ADAPTER_MAP.put(ParseSVMLightV3.class, ParseSVMLightV3Adapter::new);
+        ADAPTER_MAP.put(ParseSetupV3.class, ParseSetupV3Adapter::new);
+        ADAPTER_MAP.put(ParseV3.class, ParseV3Adapter::new);
+        ADAPTER_MAP.put(PartialDependenceKeyV3.class, PartialDependenceKeyV3Adapter::new);
+        ADAPTER_MAP.put(PartialDependenceV3.class, PartialDependenceV3Adapter::new);
+        ADAPTER_MAP.put(PersistS3CredentialsV3.class, PersistS3CredentialsV3Adapter::new);
+        ADAPTER_MAP.put(PingV3.class, PingV3Adapter::new);
+        ADAPTER_MAP.put(ProfilerNodeEntryV3.class, ProfilerNodeEntryV3Adapter::new);
+        ADAPTER_MAP.put(ProfilerNodeV3.class, ProfilerNodeV3Adapter::new);
+        ADAPTER_MAP.put(ProfilerV3.class, ProfilerV3Adapter::new);
+        ADAPTER_MAP.put(QuantileParametersV3.class, QuantileParametersV3Adapter::new);
+        ADAPTER_MAP.put(RandomDiscreteValueSearchCriteriaV99.class, RandomDiscreteValueSearchCriteriaV99Adapter::new);
+        ADAPTER_MAP.put(RapidsExpressionV3.class, RapidsExpressionV3Adapter::new);
+        ADAPTER_MAP.put(RapidsFrameV3.class, RapidsFrameV3Adapter::new);
+        ADAPTER_MAP.put(RapidsFunctionV3.class, RapidsFunctionV3Adapter::new);
+        ADAPTER_MAP.put(RapidsHelpV3.class, RapidsHelpV3Adapter::new);
+        ADAPTER_MAP.put(RapidsMapFrameV3.class, RapidsMapFrameV3Adapter::new);
+        ADAPTER_MAP.put(RapidsNumberV3.class, RapidsNumberV3Adapter::new);
+        ADAPTER_MAP.put(RapidsNumbersV3.class, RapidsNumbersV3Adapter::new);
+        ADAPTER_MAP.put(RapidsSchemaV3.class, RapidsSchemaV3Adapter::new);
+        ADAPTER_MAP.put(RapidsStringV3.class, RapidsStringV3Adapter::new);
+        ADAPTER_MAP.put(RapidsStringsV3.class, RapidsStringsV3Adapter::new);
+        ADAPTER_MAP.put(RapidsV99.class, RapidsV99Adapter::new);
+        ADAPTER_MAP.put(RemoveAllV3.class, RemoveAllV3Adapter::new);
+        ADAPTER_MAP.put(RemoveV3.class, RemoveV3Adapter::new);
+        ADAPTER_MAP.put(RequestSchemaV3.class, RequestSchemaV3Adapter::new);
+        ADAPTER_MAP.put(RouteV3.class, RouteV3Adapter::new);
+        ADAPTER_MAP.put(SVDModelOutputV99.class, SVDModelOutputV99Adapter::new);
+        ADAPTER_MAP.put(SVDParametersV99.class, SVDParametersV99Adapter::new);
+        ADAPTER_MAP.put(SchemaMetadataV3.class, SchemaMetadataV3Adapter::new);
+        ADAPTER_MAP.put(SchemaV3.class, SchemaV3Adapter::new);
+        ADAPTER_MAP.put(SessionIdV4.class, SessionIdV4Adapter::new);
+        ADAPTER_MAP.put(SharedTreeModelOutputV3.class, SharedTreeModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(SharedTreeParametersV3.class, SharedTreeParametersV3Adapter::new);
+        ADAPTER_MAP.put(ShutdownV3.class, ShutdownV3Adapter::new);
+        ADAPTER_MAP.put(SplitFrameV3.class, SplitFrameV3Adapter::new);
+        ADAPTER_MAP.put(StackedEnsembleModelOutputV99.class, StackedEnsembleModelOutputV99Adapter::new);
+        ADAPTER_MAP.put(StackedEnsembleParametersV99.class, StackedEnsembleParametersV99Adapter::new);
+        ADAPTER_MAP.put(SteamMetricsV3.class, SteamMetricsV3Adapter::new);
+        ADAPTER_MAP.put(StepDefinitionV99.class, StepDefinitionV99Adapter::new);
+        ADAPTER_MAP.put(StepV99.class, StepV99Adapter::new);
+        ADAPTER_MAP.put(StreamingSchema.class, StreamingSchemaAdapter::new);
+        ADAPTER_MAP.put(StringPairV3.class, StringPairV3Adapter::new);
+        ADAPTER_MAP.put(TabulateV3.class, TabulateV3Adapter::new);
+        ADAPTER_MAP.put(TargetEncoderModelOutputV3.class, TargetEncoderModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(TargetEncoderParametersV3.class, TargetEncoderParametersV3Adapter::new);
+        ADAPTER_MAP.put(TargetEncoderTransformParametersV3.class, TargetEncoderTransformParametersV3Adapter::new);
+        ADAPTER_MAP.put(TimelineV3.class, TimelineV3Adapter::new);
+        ADAPTER_MAP.put(TreeStatsV3.class, TreeStatsV3Adapter::new);
+        ADAPTER_MAP.put(TreeV3.class, TreeV3Adapter::new);
+        ADAPTER_MAP.put(TwoDimTableV3.class, TwoDimTableV3Adapter::new);
+        ADAPTER_MAP.put(TypeaheadV3.class, TypeaheadV3Adapter::new);
+        ADAPTER_MAP.put(UnlockKeysV3.class, UnlockKeysV3Adapter::new);
+        ADAPTER_MAP.put(ValidationMessageV3.class, ValidationMessageV3Adapter::new);
+        ADAPTER_MAP.put(VarImpV3.class, VarImpV3Adapter::new);
+        ADAPTER_MAP.put(WaterMeterCpuTicksV3.class, WaterMeterCpuTicksV3Adapter::new);
+        ADAPTER_MAP.put(WaterMeterIoV3.class, WaterMeterIoV3Adapter::new);
+        ADAPTER_MAP.put(Word2VecModelOutputV3.class, Word2VecModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(Word2VecParametersV3.class, Word2VecParametersV3Adapter::new);
+        ADAPTER_MAP.put(Word2VecSynonymsV3.class, Word2VecSynonymsV3Adapter::new);
+        ADAPTER_MAP.put(Word2VecTransformV3.class, Word2VecTransformV3Adapter::new);
+        ADAPTER_MAP.put(XGBoostModelOutputV3.class, XGBoostModelOutputV3Adapter::new);
+        ADAPTER_MAP.put(XGBoostParametersV3.class, XGBoostParametersV3Adapter::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> type) {
+        final BiFunction<Gson, TypeAdapterFactory, TypeAdapter<?>> constructor = ADAPTER_MAP.get(type.getRawType());
+        if (constructor == null) {
+            return null;
+        }
+        return (TypeAdapter<T>) constructor.apply(gson, this);
+    }
+}
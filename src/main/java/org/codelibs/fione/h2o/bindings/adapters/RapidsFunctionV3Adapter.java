@@ -0,0 +1,60 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.RapidsFunctionV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class RapidsFunctionV3Adapter extends PojoTypeAdapter<RapidsFunctionV3> {
+
+    public RapidsFunctionV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, RapidsFunctionV3.class);
+    }
+
+    @Override
+    protected RapidsFunctionV3 newInstance() {
+        return new RapidsFunctionV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final RapidsFunctionV3 obj) throws IOException {
+        switch (name) {
+        case "funstr":
+            obj.funstr = readString(in);
+            break;
+        case "ast":
+            obj.ast = readString(in);
+            break;
+        case "session_id":
+            obj.sessionId = readString(in);
+            break;
+        case "id":
+            obj.id = readString(in);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
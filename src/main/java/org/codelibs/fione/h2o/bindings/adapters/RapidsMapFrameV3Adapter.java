@@ -0,0 +1,67 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.RapidsFrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.RapidsMapFrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.RapidsStringsV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class RapidsMapFrameV3Adapter extends PojoTypeAdapter<RapidsMapFrameV3> {
+
+    public RapidsMapFrameV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, RapidsMapFrameV3.class, //
+                RapidsFrameV3[].class,
+                RapidsStringsV3.class);
+    }
+
+    @Override
+    protected RapidsMapFrameV3 newInstance() {
+        return new RapidsMapFrameV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final RapidsMapFrameV3 obj) throws IOException {
+        switch (name) {
+        case "frames":
+            obj.frames = readObject(in, 0);
+            break;
+        case "map_keys":
+            obj.mapKeys = readObject(in, 1);
+            break;
+        case "ast":
+            obj.ast = readString(in);
+            break;
+        case "session_id":
+            obj.sessionId = readString(in);
+            break;
+        case "id":
+            obj.id = readString(in);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.RapidsV99;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class RapidsV99Adapter extends PojoTypeAdapter<RapidsV99> {
+
+    public RapidsV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, RapidsV99.class, //
+                FrameKeyV3.class);
+    }
+
+    @Override
+    protected RapidsV99 newInstance() {
+        return new RapidsV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final RapidsV99 obj) throws IOException {
+        switch (name) {
+        case "ast":
+            obj.ast = readString(in);
+            break;
+        case "error":
+            obj.error = readString(in);
+            break;
+        case "scalar":
+            obj.scalar = readDouble(in, obj.scalar);
+            break;
+        case "funstr":
+            obj.funstr = readString(in);
+            break;
+        case "string":
+            obj.string = readString(in);
+            break;
+        case "key":
+            obj.key = readObject(in, 0);
+            break;
+        case "num_rows":
+            obj.numRows = readLong(in, obj.numRows);
+            break;
+        case "num_cols":
+            obj.numCols = readInt(in, obj.numCols);
+            break;
+        case "_exclude_fields":
+            obj._excludeFields = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
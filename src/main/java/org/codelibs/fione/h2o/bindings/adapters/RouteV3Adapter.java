@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.RouteV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class RouteV3Adapter extends PojoTypeAdapter<RouteV3> {
+
+    public RouteV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, RouteV3.class);
+    }
+
+    @Override
+    protected RouteV3 newInstance() {
+        return new RouteV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final RouteV3 obj) throws IOException {
+        switch (name) {
+        case "http_method":
+            obj.httpMethod = readString(in);
+            break;
+        case "url_pattern":
+            obj.urlPattern = readString(in);
+            break;
+        case "summary":
+            obj.summary = readString(in);
+            break;
+        case "api_name":
+            obj.apiName = readString(in);
+            break;
+        case "handler_class":
+            obj.handlerClass = readString(in);
+            break;
+        case "handler_method":
+            obj.handlerMethod = readString(in);
+            break;
+        case "input_schema":
+            obj.inputSchema = readString(in);
+            break;
+        case "output_schema":
+            obj.outputSchema = readString(in);
+            break;
+        case "path_params":
+            obj.pathParams = readStringArray(in);
+            break;
+        case "markdown":
+            obj.markdown = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.JobKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.SplitFrameV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class SplitFrameV3Adapter extends PojoTypeAdapter<SplitFrameV3> {
+
+    public SplitFrameV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, SplitFrameV3.class, //
+                JobKeyV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3[].class);
+    }
+
+    @Override
+    protected SplitFrameV3 newInstance() {
+        return new SplitFrameV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final SplitFrameV3 obj) throws IOException {
+        switch (name) {
+        case "key":
+            obj.key = readObject(in, 0);
+            break;
+        case "dataset":
+            obj.dataset = readObject(in, 1);
+            break;
+        case "ratios":
+            obj.ratios = readDoubleArray(in);
+            break;
+        case "destination_frames":
+            obj.destinationFrames = readObject(in, 2);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColSpecifierV3;
+import org.codelibs.fione.h2o.bindings.pojos.EnsembleMetalearnerAlgorithm;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.GenmodelutilsDistributionFamily;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersCategoricalEncodingScheme;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersFoldAssignmentScheme;
+import org.codelibs.fione.h2o.bindings.pojos.ScoreKeeperStoppingMetric;
+import org.codelibs.fione.h2o.bindings.pojos.StackedEnsembleParametersV99;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class StackedEnsembleParametersV99Adapter extends PojoTypeAdapter<StackedEnsembleParametersV99> {
+
+    public StackedEnsembleParametersV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, StackedEnsembleParametersV99.class, //
+                ModelKeyV3[].class,
+                EnsembleMetalearnerAlgorithm.class,
+                ModelParametersFoldAssignmentScheme.class,
+                ColSpecifierV3.class,
+                FrameKeyV3.class,
+                ModelKeyV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                GenmodelutilsDistributionFamily.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ModelParametersFoldAssignmentScheme.class,
+                ModelParametersCategoricalEncodingScheme.class,
+                ModelKeyV3.class,
+                ScoreKeeperStoppingMetric.class);
+    }
+
+    @Override
+    protected StackedEnsembleParametersV99 newInstance() {
+        return new StackedEnsembleParametersV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final StackedEnsembleParametersV99 obj) throws IOException {
+        switch (name) {
+        case "base_models":
+            obj.baseModels = readObject(in, 0);
+            break;
+        case "metalearner_algorithm":
+            obj.metalearnerAlgorithm = readObject(in, 1);
+            break;
+        case "metalearner_nfolds":
+            obj.metalearnerNfolds = readInt(in, obj.metalearnerNfolds);
+            break;
+        case "metalearner_fold_assignment":
+            obj.metalearnerFoldAssignment = readObject(in, 2);
+            break;
+        case "metalearner_fold_column":
+            obj.metalearnerFoldColumn = readObject(in, 3);
+            break;
+        case "keep_levelone_frame":
+            obj.keepLeveloneFrame = readBoolean(in, obj.keepLeveloneFrame);
+            break;
+        case "metalearner_params":
+            obj.metalearnerParams = readString(in);
+            break;
+        case "blending_frame":
+            obj.blendingFrame = readObject(in, 4);
+            break;
+        case "seed":
+            obj.seed = readLong(in, obj.seed);
+            break;
+        case "model_id":
+            obj.modelId = readObject(in, 5);
+            break;
+        case "training_frame":
+            obj.trainingFrame = readObject(in, 6);
+            break;
+        case "validation_frame":
+            obj.validationFrame = readObject(in, 7);
+            break;
+        case "nfolds":
+            obj.nfolds = readInt(in, obj.nfolds);
+            break;
+        case "keep_cross_validation_models":
+            obj.keepCrossValidationModels = readBoolean(in, obj.keepCrossValidationModels);
+            break;
+        case "keep_cross_validation_predictions":
+            obj.keepCrossValidationPredictions = readBoolean(in, obj.keepCrossValidationPredictions);
+            break;
+        case "keep_cross_validation_fold_assignment":
+            obj.keepCrossValidationFoldAssignment = readBoolean(in, obj.keepCrossValidationFoldAssignment);
+            break;
+        case "parallelize_cross_validation":
+            obj.parallelizeCrossValidation = readBoolean(in, obj.parallelizeCrossValidation);
+            break;
+        case "distribution":
+            obj.distribution = readObject(in, 8);
+            break;
+        case "tweedie_power":
+            obj.tweediePower = readDouble(in, obj.tweediePower);
+            break;
+        case "quantile_alpha":
+            obj.quantileAlpha = readDouble(in, obj.quantileAlpha);
+            break;
+        case "huber_alpha":
+            obj.huberAlpha = readDouble(in, obj.huberAlpha);
+            break;
+        case "response_column":
+            obj.responseColumn = readObject(in, 9);
+            break;
+        case "weights_column":
+            obj.weightsColumn = readObject(in, 10);
+            break;
+        case "offset_column":
+            obj.offsetColumn = readObject(in, 11);
+            break;
+        case "fold_column":
+            obj.foldColumn = readObject(in, 12);
+            break;
+        case "fold_assignment":
+            obj.foldAssignment = readObject(in, 13);
+            break;
+        case "categorical_encoding":
+            obj.categoricalEncoding = readObject(in, 14);
+            break;
+        case "max_categorical_levels":
+            obj.maxCategoricalLevels = readInt(in, obj.maxCategoricalLevels);
+            break;
+        case "ignored_columns":
+            obj.ignoredColumns = readStringArray(in);
+            break;
+        case "ignore_const_cols":
+            obj.ignoreConstCols = readBoolean(in, obj.ignoreConstCols);
+            break;
+        case "score_each_iteration":
+            obj.scoreEachIteration = readBoolean(in, obj.scoreEachIteration);
+            break;
+        case "checkpoint":
+            obj.checkpoint = readObject(in, 15);
+            break;
+        case "stopping_rounds":
+            obj.stoppingRounds = readInt(in, obj.stoppingRounds);
+            break;
+        case "max_runtime_secs":
+            obj.maxRuntimeSecs = readDouble(in, obj.maxRuntimeSecs);
+            break;
+        case "stopping_metric":
+            obj.stoppingMetric = readObject(in, 16);
+            break;
+        case "stopping_tolerance":
+            obj.stoppingTolerance = readDouble(in, obj.stoppingTolerance);
+            break;
+        case "custom_metric_func":
+            obj.customMetricFunc = readString(in);
+            break;
+        case "custom_distribution_func":
+            obj.customDistributionFunc = readString(in);
+            break;
+        case "export_checkpoints_dir":
+            obj.exportCheckpointsDir = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.H2oautomlStepDefinitionAlias;
+import org.codelibs.fione.h2o.bindings.pojos.StepDefinitionV99;
+import org.codelibs.fione.h2o.bindings.pojos.StepV99;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class StepDefinitionV99Adapter extends PojoTypeAdapter<StepDefinitionV99> {
+
+    public StepDefinitionV99Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, StepDefinitionV99.class, //
+                H2oautomlStepDefinitionAlias.class,
+                StepV99[].class);
+    }
+
+    @Override
+    protected StepDefinitionV99 newInstance() {
+        return new StepDefinitionV99();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final StepDefinitionV99 obj) throws IOException {
+        switch (name) {
+        case "name":
+            obj.name = readString(in);
+            break;
+        case "alias":
+            obj.alias = readObject(in, 0);
+            break;
+        case "steps":
+            obj.steps = readObject(in, 1);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
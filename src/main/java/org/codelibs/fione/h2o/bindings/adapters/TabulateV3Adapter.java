@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColSpecifierV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.TabulateV3;
+import org.codelibs.fione.h2o.bindings.pojos.TwoDimTableV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class TabulateV3Adapter extends PojoTypeAdapter<TabulateV3> {
+
+    public TabulateV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, TabulateV3.class, //
+                FrameKeyV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                TwoDimTableV3.class,
+                TwoDimTableV3.class);
+    }
+
+    @Override
+    protected TabulateV3 newInstance() {
+        return new TabulateV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final TabulateV3 obj) throws IOException {
+        switch (name) {
+        case "dataset":
+            obj.dataset = readObject(in, 0);
+            break;
+        case "predictor":
+            obj.predictor = readObject(in, 1);
+            break;
+        case "response":
+            obj.response = readObject(in, 2);
+            break;
+        case "weight":
+            obj.weight = readObject(in, 3);
+            break;
+        case "nbins_predictor":
+            obj.nbinsPredictor = readInt(in, obj.nbinsPredictor);
+            break;
+        case "nbins_response":
+            obj.nbinsResponse = readInt(in, obj.nbinsResponse);
+            break;
+        case "count_table":
+            obj.countTable = readObject(in, 4);
+            break;
+        case "response_table":
+            obj.responseTable = readObject(in, 5);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.H2otargetencodingTargetEncoderDataLeakageHandlingStrategy;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.TargetEncoderTransformParametersV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class TargetEncoderTransformParametersV3Adapter extends PojoTypeAdapter<TargetEncoderTransformParametersV3> {
+
+    public TargetEncoderTransformParametersV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, TargetEncoderTransformParametersV3.class, //
+                ModelKeyV3.class,
+                H2otargetencodingTargetEncoderDataLeakageHandlingStrategy.class,
+                FrameKeyV3.class);
+    }
+
+    @Override
+    protected TargetEncoderTransformParametersV3 newInstance() {
+        return new TargetEncoderTransformParametersV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final TargetEncoderTransformParametersV3 obj) throws IOException {
+        switch (name) {
+        case "model":
+            obj.model = readObject(in, 0);
+            break;
+        case "seed":
+            obj.seed = readLong(in, obj.seed);
+            break;
+        case "data_leakage_handling":
+            obj.dataLeakageHandling = readObject(in, 1);
+            break;
+        case "noise":
+            obj.noise = readDouble(in, obj.noise);
+            break;
+        case "frame":
+            obj.frame = readObject(in, 2);
+            break;
+        case "blending":
+            obj.blending = readBoolean(in, obj.blending);
+            break;
+        case "inflection_point":
+            obj.inflectionPoint = readDouble(in, obj.inflectionPoint);
+            break;
+        case "smoothing":
+            obj.smoothing = readDouble(in, obj.smoothing);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
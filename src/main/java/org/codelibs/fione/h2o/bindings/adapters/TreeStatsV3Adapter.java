@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.TreeStatsV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class TreeStatsV3Adapter extends PojoTypeAdapter<TreeStatsV3> {
+
+    public TreeStatsV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, TreeStatsV3.class);
+    }
+
+    @Override
+    protected TreeStatsV3 newInstance() {
+        return new TreeStatsV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final TreeStatsV3 obj) throws IOException {
+        switch (name) {
+        case "min_depth":
+            obj.minDepth = readInt(in, obj.minDepth);
+            break;
+        case "max_depth":
+            obj.maxDepth = readInt(in, obj.maxDepth);
+            break;
+        case "mean_depth":
+            obj.meanDepth = readFloat(in, obj.meanDepth);
+            break;
+        case "min_leaves":
+            obj.minLeaves = readInt(in, obj.minLeaves);
+            break;
+        case "max_leaves":
+            obj.maxLeaves = readInt(in, obj.maxLeaves);
+            break;
+        case "mean_leaves":
+            obj.meanLeaves = readFloat(in, obj.meanLeaves);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.TreeV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class TreeV3Adapter extends PojoTypeAdapter<TreeV3> {
+
+    public TreeV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, TreeV3.class, //
+                ModelKeyV3.class,
+                int[][].class);
+    }
+
+    @Override
+    protected TreeV3 newInstance() {
+        return new TreeV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final TreeV3 obj) throws IOException {
+        switch (name) {
+        case "model":
+            obj.model = readObject(in, 0);
+            break;
+        case "tree_number":
+            obj.treeNumber = readInt(in, obj.treeNumber);
+            break;
+        case "tree_class":
+            obj.treeClass = readString(in);
+            break;
+        case "left_children":
+            obj.leftChildren = readIntArray(in);
+            break;
+        case "right_children":
+            obj.rightChildren = readIntArray(in);
+            break;
+        case "root_node_id":
+            obj.rootNodeId = readInt(in, obj.rootNodeId);
+            break;
+        case "thresholds":
+            obj.thresholds = readFloatArray(in);
+            break;
+        case "features":
+            obj.features = readStringArray(in);
+            break;
+        case "nas":
+            obj.nas = readStringArray(in);
+            break;
+        case "descriptions":
+            obj.descriptions = readStringArray(in);
+            break;
+        case "levels":
+            obj.levels = readObject(in, 1);
+            break;
+        case "predictions":
+            obj.predictions = readFloatArray(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
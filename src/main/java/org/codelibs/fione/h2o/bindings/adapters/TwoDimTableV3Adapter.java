@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColumnSpecsBase;
+import org.codelibs.fione.h2o.bindings.pojos.TwoDimTableV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class TwoDimTableV3Adapter extends PojoTypeAdapter<TwoDimTableV3> {
+
+    public TwoDimTableV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, TwoDimTableV3.class, //
+                ColumnSpecsBase[].class,
+                Object[][].class);
+    }
+
+    @Override
+    protected TwoDimTableV3 newInstance() {
+        return new TwoDimTableV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final TwoDimTableV3 obj) throws IOException {
+        switch (name) {
+        case "name":
+            obj.name = readString(in);
+            break;
+        case "description":
+            obj.description = readString(in);
+            break;
+        case "columns":
+            obj.columns = readObject(in, 0);
+            break;
+        case "rowcount":
+            obj.rowcount = readInt(in, obj.rowcount);
+            break;
+        case "data":
+            obj.data = readObject(in, 1);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ValidationMessageV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class ValidationMessageV3Adapter extends PojoTypeAdapter<ValidationMessageV3> {
+
+    public ValidationMessageV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, ValidationMessageV3.class);
+    }
+
+    @Override
+    protected ValidationMessageV3 newInstance() {
+        return new ValidationMessageV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final ValidationMessageV3 obj) throws IOException {
+        switch (name) {
+        case "message_type":
+            obj.messageType = readString(in);
+            break;
+        case "field_name":
+            obj.fieldName = readString(in);
+            break;
+        case "message":
+            obj.message = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
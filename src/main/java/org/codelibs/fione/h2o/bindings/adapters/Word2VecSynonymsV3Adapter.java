@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.Word2VecSynonymsV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class Word2VecSynonymsV3Adapter extends PojoTypeAdapter<Word2VecSynonymsV3> {
+
+    public Word2VecSynonymsV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, Word2VecSynonymsV3.class, //
+                ModelKeyV3.class);
+    }
+
+    @Override
+    protected Word2VecSynonymsV3 newInstance() {
+        return new Word2VecSynonymsV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final Word2VecSynonymsV3 obj) throws IOException {
+        switch (name) {
+        case "model":
+            obj.model = readObject(in, 0);
+            break;
+        case "word":
+            obj.word = readString(in);
+            break;
+        case "count":
+            obj.count = readInt(in, obj.count);
+            break;
+        case "synonyms":
+            obj.synonyms = readStringArray(in);
+            break;
+        case "scores":
+            obj.scores = readDoubleArray(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
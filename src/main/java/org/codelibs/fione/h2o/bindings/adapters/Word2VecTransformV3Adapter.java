@@ -0,0 +1,64 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.Word2VecModelAggregateMethod;
+import org.codelibs.fione.h2o.bindings.pojos.Word2VecTransformV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class Word2VecTransformV3Adapter extends PojoTypeAdapter<Word2VecTransformV3> {
+
+    public Word2VecTransformV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, Word2VecTransformV3.class, //
+                ModelKeyV3.class,
+                FrameKeyV3.class,
+                Word2VecModelAggregateMethod.class,
+                FrameKeyV3.class);
+    }
+
+    @Override
+    protected Word2VecTransformV3 newInstance() {
+        return new Word2VecTransformV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final Word2VecTransformV3 obj) throws IOException {
+        switch (name) {
+        case "model":
+            obj.model = readObject(in, 0);
+            break;
+        case "words_frame":
+            obj.wordsFrame = readObject(in, 1);
+            break;
+        case "aggregate_method":
+            obj.aggregateMethod = readObject(in, 2);
+            break;
+        case "vectors_frame":
+            obj.vectorsFrame = readObject(in, 3);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
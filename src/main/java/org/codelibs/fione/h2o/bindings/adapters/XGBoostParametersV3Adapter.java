@@ -0,0 +1,297 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColSpecifierV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.GenmodelutilsDistributionFamily;
+import org.codelibs.fione.h2o.bindings.pojos.KeyValueV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersCategoricalEncodingScheme;
+import org.codelibs.fione.h2o.bindings.pojos.ModelParametersFoldAssignmentScheme;
+import org.codelibs.fione.h2o.bindings.pojos.ScoreKeeperStoppingMetric;
+import org.codelibs.fione.h2o.bindings.pojos.TreexgboostXGBoostModelXGBoostParametersBackend;
+import org.codelibs.fione.h2o.bindings.pojos.TreexgboostXGBoostModelXGBoostParametersBooster;
+import org.codelibs.fione.h2o.bindings.pojos.TreexgboostXGBoostModelXGBoostParametersDMatrixType;
+import org.codelibs.fione.h2o.bindings.pojos.TreexgboostXGBoostModelXGBoostParametersDartNormalizeType;
+import org.codelibs.fione.h2o.bindings.pojos.TreexgboostXGBoostModelXGBoostParametersDartSampleType;
+import org.codelibs.fione.h2o.bindings.pojos.TreexgboostXGBoostModelXGBoostParametersGrowPolicy;
+import org.codelibs.fione.h2o.bindings.pojos.TreexgboostXGBoostModelXGBoostParametersTreeMethod;
+import org.codelibs.fione.h2o.bindings.pojos.XGBoostParametersV3;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+
+public class XGBoostParametersV3Adapter extends PojoTypeAdapter<XGBoostParametersV3> {
+
+    public XGBoostParametersV3Adapter(final Gson gson, final TypeAdapterFactory factory) {
+        super(gson, factory, XGBoostParametersV3.class, //
+                KeyValueV3[].class,
+                FrameKeyV3.class,
+                TreexgboostXGBoostModelXGBoostParametersTreeMethod.class,
+                TreexgboostXGBoostModelXGBoostParametersGrowPolicy.class,
+                TreexgboostXGBoostModelXGBoostParametersBooster.class,
+                TreexgboostXGBoostModelXGBoostParametersDartSampleType.class,
+                TreexgboostXGBoostModelXGBoostParametersDartNormalizeType.class,
+                TreexgboostXGBoostModelXGBoostParametersDMatrixType.class,
+                TreexgboostXGBoostModelXGBoostParametersBackend.class,
+                ModelKeyV3.class,
+                FrameKeyV3.class,
+                FrameKeyV3.class,
+                GenmodelutilsDistributionFamily.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ColSpecifierV3.class,
+                ModelParametersFoldAssignmentScheme.class,
+                ModelParametersCategoricalEncodingScheme.class,
+                ModelKeyV3.class,
+                ScoreKeeperStoppingMetric.class);
+    }
+
+    @Override
+    protected XGBoostParametersV3 newInstance() {
+        return new XGBoostParametersV3();
+    }
+
+    @Override
+    protected void readField(final JsonReader in, final String name, final XGBoostParametersV3 obj) throws IOException {
+        switch (name) {
+        case "ntrees":
+            obj.ntrees = readInt(in, obj.ntrees);
+            break;
+        case "n_estimators":
+            obj.nEstimators = readInt(in, obj.nEstimators);
+            break;
+        case "max_depth":
+            obj.maxDepth = readInt(in, obj.maxDepth);
+            break;
+        case "min_rows":
+            obj.minRows = readDouble(in, obj.minRows);
+            break;
+        case "min_child_weight":
+            obj.minChildWeight = readDouble(in, obj.minChildWeight);
+            break;
+        case "learn_rate":
+            obj.learnRate = readDouble(in, obj.learnRate);
+            break;
+        case "eta":
+            obj.eta = readDouble(in, obj.eta);
+            break;
+        case "sample_rate":
+            obj.sampleRate = readDouble(in, obj.sampleRate);
+            break;
+        case "subsample":
+            obj.subsample = readDouble(in, obj.subsample);
+            break;
+        case "col_sample_rate":
+            obj.colSampleRate = readDouble(in, obj.colSampleRate);
+            break;
+        case "colsample_bylevel":
+            obj.colsampleBylevel = readDouble(in, obj.colsampleBylevel);
+            break;
+        case "col_sample_rate_per_tree":
+            obj.colSampleRatePerTree = readDouble(in, obj.colSampleRatePerTree);
+            break;
+        case "colsample_bytree":
+            obj.colsampleBytree = readDouble(in, obj.colsampleBytree);
+            break;
+        case "monotone_constraints":
+            obj.monotoneConstraints = readObject(in, 0);
+            break;
+        case "max_abs_leafnode_pred":
+            obj.maxAbsLeafnodePred = readFloat(in, obj.maxAbsLeafnodePred);
+            break;
+        case "max_delta_step":
+            obj.maxDeltaStep = readFloat(in, obj.maxDeltaStep);
+            break;
+        case "score_tree_interval":
+            obj.scoreTreeInterval = readInt(in, obj.scoreTreeInterval);
+            break;
+        case "seed":
+            obj.seed = readLong(in, obj.seed);
+            break;
+        case "min_split_improvement":
+            obj.minSplitImprovement = readFloat(in, obj.minSplitImprovement);
+            break;
+        case "gamma":
+            obj.gamma = readFloat(in, obj.gamma);
+            break;
+        case "nthread":
+            obj.nthread = readInt(in, obj.nthread);
+            break;
+        case "save_matrix_directory":
+            obj.saveMatrixDirectory = readString(in);
+            break;
+        case "calibrate_model":
+            obj.calibrateModel = readBoolean(in, obj.calibrateModel);
+            break;
+        case "calibration_frame":
+            obj.calibrationFrame = readObject(in, 1);
+            break;
+        case "max_bins":
+            obj.maxBins = readInt(in, obj.maxBins);
+            break;
+        case "max_leaves":
+            obj.maxLeaves = readInt(in, obj.maxLeaves);
+            break;
+        case "min_sum_hessian_in_leaf":
+            obj.minSumHessianInLeaf = readFloat(in, obj.minSumHessianInLeaf);
+            break;
+        case "min_data_in_leaf":
+            obj.minDataInLeaf = readFloat(in, obj.minDataInLeaf);
+            break;
+        case "tree_method":
+            obj.treeMethod = readObject(in, 2);
+            break;
+        case "grow_policy":
+            obj.growPolicy = readObject(in, 3);
+            break;
+        case "booster":
+            obj.booster = readObject(in, 4);
+            break;
+        case "reg_lambda":
+            obj.regLambda = readFloat(in, obj.regLambda);
+            break;
+        case "reg_alpha":
+            obj.regAlpha = readFloat(in, obj.regAlpha);
+            break;
+        case "quiet_mode":
+            obj.quietMode = readBoolean(in, obj.quietMode);
+            break;
+        case "sample_type":
+            obj.sampleType = readObject(in, 5);
+            break;
+        case "normalize_type":
+            obj.normalizeType = readObject(in, 6);
+            break;
+        case "rate_drop":
+            obj.rateDrop = readFloat(in, obj.rateDrop);
+            break;
+        case "one_drop":
+            obj.oneDrop = readBoolean(in, obj.oneDrop);
+            break;
+        case "skip_drop":
+            obj.skipDrop = readFloat(in, obj.skipDrop);
+            break;
+        case "dmatrix_type":
+            obj.dmatrixType = readObject(in, 7);
+            break;
+        case "backend":
+            obj.backend = readObject(in, 8);
+            break;
+        case "gpu_id":
+            obj.gpuId = readInt(in, obj.gpuId);
+            break;
+        case "model_id":
+            obj.modelId = readObject(in, 9);
+            break;
+        case "training_frame":
+            obj.trainingFrame = readObject(in, 10);
+            break;
+        case "validation_frame":
+            obj.validationFrame = readObject(in, 11);
+            break;
+        case "nfolds":
+            obj.nfolds = readInt(in, obj.nfolds);
+            break;
+        case "keep_cross_validation_models":
+            obj.keepCrossValidationModels = readBoolean(in, obj.keepCrossValidationModels);
+            break;
+        case "keep_cross_validation_predictions":
+            obj.keepCrossValidationPredictions = readBoolean(in, obj.keepCrossValidationPredictions);
+            break;
+        case "keep_cross_validation_fold_assignment":
+            obj.keepCrossValidationFoldAssignment = readBoolean(in, obj.keepCrossValidationFoldAssignment);
+            break;
+        case "parallelize_cross_validation":
+            obj.parallelizeCrossValidation = readBoolean(in, obj.parallelizeCrossValidation);
+            break;
+        case "distribution":
+            obj.distribution = readObject(in, 12);
+            break;
+        case "tweedie_power":
+            obj.tweediePower = readDouble(in, obj.tweediePower);
+            break;
+        case "quantile_alpha":
+            obj.quantileAlpha = readDouble(in, obj.quantileAlpha);
+            break;
+        case "huber_alpha":
+            obj.huberAlpha = readDouble(in, obj.huberAlpha);
+            break;
+        case "response_column":
+            obj.responseColumn = readObject(in, 13);
+            break;
+        case "weights_column":
+            obj.weightsColumn = readObject(in, 14);
+            break;
+        case "offset_column":
+            obj.offsetColumn = readObject(in, 15);
+            break;
+        case "fold_column":
+            obj.foldColumn = readObject(in, 16);
+            break;
+        case "fold_assignment":
+            obj.foldAssignment = readObject(in, 17);
+            break;
+        case "categorical_encoding":
+            obj.categoricalEncoding = readObject(in, 18);
+            break;
+        case "max_categorical_levels":
+            obj.maxCategoricalLevels = readInt(in, obj.maxCategoricalLevels);
+            break;
+        case "ignored_columns":
+            obj.ignoredColumns = readStringArray(in);
+            break;
+        case "ignore_const_cols":
+            obj.ignoreConstCols = readBoolean(in, obj.ignoreConstCols);
+            break;
+        case "score_each_iteration":
+            obj.scoreEachIteration = readBoolean(in, obj.scoreEachIteration);
+            break;
+        case "checkpoint":
+            obj.checkpoint = readObject(in, 19);
+            break;
+        case "stopping_rounds":
+            obj.stoppingRounds = readInt(in, obj.stoppingRounds);
+            break;
+        case "max_runtime_secs":
+            obj.maxRuntimeSecs = readDouble(in, obj.maxRuntimeSecs);
+            break;
+        case "stopping_metric":
+            obj.stoppingMetric = readObject(in, 20);
+            break;
+        case "stopping_tolerance":
+            obj.stoppingTolerance = readDouble(in, obj.stoppingTolerance);
+            break;
+        case "custom_metric_func":
+            obj.customMetricFunc = readString(in);
+            break;
+        case "custom_distribution_func":
+            obj.customDistributionFunc = readString(in);
+            break;
+        case "export_checkpoints_dir":
+            obj.exportCheckpointsDir = readString(in);
+            break;
+        default:
+            in.skipValue();
+            break;
+        }
+    }
+}
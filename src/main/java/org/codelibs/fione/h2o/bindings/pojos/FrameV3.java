@@ -15,10 +15,7 @@
  */
 package org.codelibs.fione.h2o.bindings.pojos;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.codelibs.core.lang.StringUtil;
 
@@ -158,11 +155,7 @@ public class FrameV3 extends FrameBaseV3 {
         return Arrays.stream(columns).map(c -> c.label).toArray(n -> new String[n]);
     }
 
-    private transient AtomicInteger counter = new AtomicInteger(0);
-
-    public void refresh() {
-        counter.set(0);
-    }
+    private transient volatile String[][] formattedRows;
 
     public int getRowSize() {
         if (columns != null && columns.length > 0) {
@@ -176,21 +169,35 @@ public class FrameV3 extends FrameBaseV3 {
         return 0;
     }
 
-    public String[] getRow() {
-        final int index = counter.getAndAdd(1);
-        if (index >= getRowSize()) {
-            return StringUtil.EMPTY_STRINGS;
+    /**
+     * Returns the rows formatted as strings.
+     * They are created once, so a cached frame can be rendered by concurrent requests.
+     */
+    public String[][] getFormattedRows() {
+        String[][] values = formattedRows;
+        if (values == null) {
+            values = createFormattedRows();
+            formattedRows = values;
         }
-        final List<String> list = new ArrayList<>();
-        for (final ColV3 column : columns) {
-            if (column.data != null) {
-                list.add(Double.toString(column.data[index]));
-            } else if (column.stringData != null) {
-                list.add(column.stringData[index]);
-            } else {
-                list.add(StringUtil.EMPTY);
+        return values;
+    }
+
+    protected String[][] createFormattedRows() {
+        final String[][] values = new String[getRowSize()][];
+        for (int index = 0; index < values.length; index++) {
+            final String[] row = new String[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                final ColV3 column = columns[i];
+                if (column.data != null) {
+                    row[i] = Double.toString(column.data[index]);
+                } else if (column.stringData != null) {
+                    row[i] = column.stringData[index];
+                } else {
+                    row[i] = StringUtil.EMPTY;
+                }
             }
+            values[index] = row;
         }
-        return list.toArray(n -> new String[n]);
+        return values;
     }
 }
@@ -18,7 +18,6 @@ package org.codelibs.fione.h2o.bindings.pojos;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.codelibs.core.lang.StringUtil;
 
@@ -95,35 +94,45 @@ public class LeaderboardV99 extends SchemaV3 {
         return Arrays.stream(table.columns).filter(c -> StringUtil.isNotBlank(c.name)).map(c -> c.name).toArray(n -> new String[n]);
     }
 
-    private transient AtomicInteger counter = new AtomicInteger(0);
+    private transient volatile String[][] formattedRows;
 
-    public void refresh() {
-        counter.set(0);
+    /**
+     * Returns the rows of the table formatted by the column formats.
+     * They are created once, so a cached leaderboard can be rendered by concurrent requests.
+     */
+    public String[][] getFormattedRows() {
+        String[][] values = formattedRows;
+        if (values == null) {
+            values = createFormattedRows();
+            formattedRows = values;
+        }
+        return values;
     }
 
-    public String[] getRow() {
-        final int index = counter.getAndAdd(1);
-        if (index >= models.length) {
-            return StringUtil.EMPTY_STRINGS;
-        }
-        final List<String> list = new ArrayList<>();
-        for (int i = 0; i < table.columns.length; i++) {
-            final ColumnSpecsBase column = table.columns[i];
-            if (StringUtil.isBlank(column.name)) {
-                continue;
-            }
-            final Object value = table.data[i][index];
-            try {
-                final String formattedValue = String.format(column.format, value);
-                list.add(formattedValue);
-            } catch (final Exception e) {
-                if (value != null) {
-                    list.add(value.toString());
-                } else {
-                    list.add(StringUtil.EMPTY);
+    protected String[][] createFormattedRows() {
+        final int size = models != null ? models.length : 0;
+        final String[][] values = new String[size][];
+        for (int index = 0; index < size; index++) {
+            final List<String> list = new ArrayList<>();
+            for (int i = 0; i < table.columns.length; i++) {
+                final ColumnSpecsBase column = table.columns[i];
+                if (StringUtil.isBlank(column.name)) {
+                    continue;
+                }
+                final Object value = table.data[i][index];
+                try {
+                    final String formattedValue = String.format(column.format, value);
+                    list.add(formattedValue);
+                } catch (final Exception e) {
+                    if (value != null) {
+                        list.add(value.toString());
+                    } else {
+                        list.add(StringUtil.EMPTY);
+                    }
                 }
             }
+            values[index] = list.toArray(n -> new String[n]);
         }
-        return list.toArray(n -> new String[n]);
+        return values;
     }
 }
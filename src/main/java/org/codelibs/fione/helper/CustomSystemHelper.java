@@ -15,11 +15,18 @@
  */
 package org.codelibs.fione.helper;
 
+import java.nio.file.Paths;
+
 import javax.annotation.PostConstruct;
 
+import org.codelibs.core.lang.StringUtil;
 import org.codelibs.fess.helper.SystemHelper;
 import org.codelibs.fess.mylasta.direction.FessConfig;
 import org.codelibs.fess.util.ComponentUtil;
+import org.codelibs.fione.cache.DiskCache;
+import org.codelibs.fione.storage.AbstractProjectStorage;
+import org.codelibs.fione.storage.ProjectStorage;
+import org.codelibs.fione.storage.StorageCoordinator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,12 +40,39 @@ public class CustomSystemHelper extends SystemHelper {
         super.init();
 
         updateH2oSettings();
+        updateStorageSettings();
+        updateCacheSettings();
     }
 
     @Override
     public void updateSystemProperties() {
         super.updateSystemProperties();
         updateH2oSettings();
+        updateStorageSettings();
+        updateCacheSettings();
+    }
+
+    protected void updateStorageSettings() {
+        final FessConfig fessConfig = ComponentUtil.getFessConfig();
+        final StorageCoordinator storageCoordinator = ComponentUtil.getComponent(StorageCoordinator.class);
+        storageCoordinator.setDistributed(Boolean.parseBoolean(fessConfig.getSystemProperty("fione.storage.distributed", "false")));
+        final ProjectStorage projectStorage = ComponentUtil.getComponent(ProjectStorage.class);
+        if (projectStorage instanceof AbstractProjectStorage) {
+            final AbstractProjectStorage storage = (AbstractProjectStorage) projectStorage;
+            storage.setUploadPartSize(Integer.parseInt(fessConfig.getSystemProperty("fione.storage.upload.part_size", "8388608")));
+            storage.setUploadBufferCount(Integer.parseInt(fessConfig.getSystemProperty("fione.storage.upload.buffer_count", "4")));
+        }
+    }
+
+    protected void updateCacheSettings() {
+        final FessConfig fessConfig = ComponentUtil.getFessConfig();
+        final DiskCache diskCache = ComponentUtil.getComponent(DiskCache.class);
+        diskCache.setMaxSize(Long.parseLong(fessConfig.getSystemProperty("fione.cache.disk.max_size", "1073741824")));
+        final String path = fessConfig.getSystemProperty("fione.cache.disk.path", StringUtil.EMPTY);
+        diskCache.setDirectory(StringUtil.isNotBlank(path) ? Paths.get(path) : null);
+        final JobPoller jobPoller = ComponentUtil.getComponent(JobPoller.class);
+        jobPoller.setLeaderboardRefreshInterval(
+                Long.parseLong(fessConfig.getSystemProperty("fione.cache.leaderboard.refresh_interval", "5000")));
     }
 
     protected void updateH2oSettings() {
@@ -50,6 +84,11 @@ public class CustomSystemHelper extends SystemHelper {
         h2oHelper.setEndpoint(fessConfig.getSystemProperty("h2o.endpoint", "http://localhost:54321"));
         h2oHelper.setSecretAccessKey(fessConfig.getStorageAccessKey());
         h2oHelper.setSecretKeyId(fessConfig.getStorageSecretKey());
+        h2oHelper.setConnectTimeout(Integer.parseInt(fessConfig.getSystemProperty("h2o.timeout.connect", "15")));
+        h2oHelper.setWriteTimeout(Integer.parseInt(fessConfig.getSystemProperty("h2o.timeout.write", "900")));
+        h2oHelper.setReadTimeout(Integer.parseInt(fessConfig.getSystemProperty("h2o.timeout.read", "900")));
+        h2oHelper.setMaxRequests(Integer.parseInt(fessConfig.getSystemProperty("h2o.max_requests", "256")));
+        h2oHelper.setMaxRequestsPerHost(Integer.parseInt(fessConfig.getSystemProperty("h2o.max_requests_per_host", "256")));
         h2oHelper.invalidate();
     }
 
@@ -20,14 +20,16 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -70,7 +72,9 @@ import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.cache.RemovalListener;
 
+import okhttp3.Dispatcher;
 import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
@@ -87,6 +91,10 @@ public class H2oHelper {
 
     protected int readTimeout = 60 * 15;
 
+    protected int maxRequests = 256;
+
+    protected int maxRequestsPerHost = 256;
+
     protected String secretKeyId;
 
     protected String secretAccessKey;
@@ -95,42 +103,96 @@ public class H2oHelper {
 
     private final List<Interceptor> httpInterceptorList = new ArrayList<>();
 
-    private LoadingCache<String, H2oApi> h2oApiCache;
+    /** Keys of the sessions started in H2O. */
+    private LoadingCache<String, String> sessionCache;
+
+    private volatile OkHttpClient httpClient;
+
+    /** The client shared by all sessions, which is created again when its settings are changed. */
+    private volatile H2oApi h2oApi;
 
     @PostConstruct
     public void init() {
-        final RemovalListener<String, H2oApi> listener =
-                notification -> new Callable<>(notification.getValue().endSession(notification.getKey())).execute(response -> {}, t -> {});
-        h2oApiCache = CacheBuilder.newBuilder()//
+        // one connection pool and dispatcher for all sessions
+        final Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        httpClient = buildHttpClient(new OkHttpClient.Builder().dispatcher(dispatcher));
+        final RemovalListener<String, String> listener =
+                notification -> new Callable<>(getSharedH2oApi().endSession(notification.getKey())).execute(response -> {}, t -> {});
+        sessionCache = CacheBuilder.newBuilder()//
                 .expireAfterAccess(cacheDuration, TimeUnit.HOURS)//
                 .removalListener(listener)//
-                .build(new CacheLoader<String, H2oApi>() {
+                .build(new CacheLoader<String, String>() {
                     @Override
-                    public H2oApi load(final String key) throws IOException {
-                        final H2oApi h2o =
-                                new H2oApi(endpoint).connectTimeout(connectTimeout).readTimeout(readTimeout).writeTimeout(writeTimeout);
-                        httpInterceptorList.stream().forEach(h2o::addInterceptor);
-                        h2o.newSession(key).execute();
-                        return h2o;
+                    public String load(final String key) throws IOException {
+                        getSharedH2oApi().newSession(key).execute();
+                        return key;
                     }
                 });
     }
 
+    protected OkHttpClient buildHttpClient(final OkHttpClient.Builder builder) {
+        return builder.connectTimeout(connectTimeout, TimeUnit.SECONDS).writeTimeout(writeTimeout, TimeUnit.SECONDS)
+                .readTimeout(readTimeout, TimeUnit.SECONDS).build();
+    }
+
+    /**
+     * Applies changed timeouts to requests after this call, keeping the connection pool and dispatcher.
+     */
+    protected void rebuildHttpClient() {
+        if (httpClient != null) {
+            httpClient = buildHttpClient(httpClient.newBuilder());
+            h2oApi = null;
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (sessionCache != null) {
+            sessionCache.invalidateAll();
+        }
+        if (httpClient != null) {
+            httpClient.dispatcher().executorService().shutdown();
+            httpClient.connectionPool().evictAll();
+        }
+    }
+
     public void invalidate() {
-        h2oApiCache.invalidateAll();
+        sessionCache.invalidateAll();
+        h2oApi = null;
     }
 
+    /**
+     * @return the shared client, after the session of the current user is started in H2O
+     */
     protected H2oApi getH2oApi() {
-        final String sessionKey = getSessionKey();
         try {
-            return h2oApiCache.get(sessionKey);
+            sessionCache.get(getSessionKey());
         } catch (final ExecutionException e) {
             throw new FioneSystemException("Failed to read data from cache.", e);
         }
+        return getSharedH2oApi();
+    }
+
+    protected H2oApi getSharedH2oApi() {
+        H2oApi api = h2oApi;
+        if (api == null) {
+            synchronized (this) {
+                api = h2oApi;
+                if (api == null) {
+                    api = new H2oApi(endpoint).client(httpClient);
+                    httpInterceptorList.stream().forEach(api::addInterceptor);
+                    h2oApi = api;
+                }
+            }
+        }
+        return api;
     }
 
     public void setEndpoint(final String endpoint) {
         this.endpoint = endpoint;
+        h2oApi = null;
     }
 
     public Callable<CloudV3> getCloudStatus() {
@@ -153,6 +215,15 @@ public class H2oHelper {
         return getFrames(new FrameKeyV3(frameId));
     }
 
+    /**
+     * Lists all frames with their ids only.
+     */
+    public Callable<FramesListV3> listFrames() {
+        final Frames service = getH2oApi().getService(Frames.class);
+        return new Callable<>(service.list(null,
+                "__meta,frames/__meta,frames/frame_id/__meta,frames/frame_id/type,frames/frame_id/URL,frames/byte_size,frames/is_text"));
+    }
+
     public Callable<FramesV3> deleteFrame(final FrameKeyV3 frameId) {
         return new Callable<>(getH2oApi().deleteFrame(frameId));
     }
@@ -175,6 +246,18 @@ public class H2oHelper {
         return new Callable<>(call);
     }
 
+    /**
+     * Gets the frame without rows and columns, which is enough to read its checksum.
+     */
+    public Callable<FramesV3> getFrameHeader(final String frameId) {
+        final FramesV3 params = new FramesV3();
+        params.frameId = new FrameKeyV3(frameId);
+        params.rowCount = 0;
+        params.columnCount = 0;
+        params.fullColumnCount = 0;
+        return new Callable<>(getH2oApi().frame(params));
+    }
+
     public Callable<FramesV3> getFrameSummary(final String frameId) {
         return new Callable<>(getH2oApi().frameSummary(frameId));
     }
@@ -212,6 +295,10 @@ public class H2oHelper {
         return predict(new ModelKeyV3(modelId), new FrameKeyV3(frameId));
     }
 
+    public Callable<JobsV3> getJobs() {
+        return new Callable<>(getH2oApi().jobs());
+    }
+
     public Callable<JobsV3> getJobs(final JobKeyV3 jobId) {
         return new Callable<>(getH2oApi().jobs(jobId));
     }
@@ -229,7 +316,7 @@ public class H2oHelper {
         buf.append("(assign ").append(H2oApi.keyToString(destinationFrame)).append(" (cbind");
         Arrays.stream(sourceFrames).map(H2oApi::keyToString).forEach(s -> buf.append(' ').append(s));
         buf.append("))");
-        return new Callable<>(getH2oApi().rapidsExec(buf.toString()));
+        return new Callable<>(rapidsExec(buf.toString()));
     }
 
     public Callable<RapidsSchemaV3> bindFrames(final String destinationFrame, final String[] sourceFrames) {
@@ -254,12 +341,22 @@ public class H2oHelper {
         return new Callable<>(getH2oApi().frameColumnSummary(params.frameId, params.column));
     }
 
+    /**
+     * Rapids keeps temporary frames in a session, so the session key of the current user is sent with the expression.
+     */
+    protected Call<RapidsSchemaV3> rapidsExec(final String ast) {
+        final RapidsSchemaV3 params = new RapidsSchemaV3();
+        params.ast = ast;
+        params.sessionId = getSessionKey();
+        return getH2oApi().rapidsExec(params);
+    }
+
     public Callable<InitIDV3> newSession() {
-        return new Callable<>(getH2oApi().newSession(getSessionKey()));
+        return new Callable<>(getSharedH2oApi().newSession(getSessionKey()));
     }
 
     public void closeSession() {
-        h2oApiCache.invalidate(getSessionKey());
+        sessionCache.invalidate(getSessionKey());
     }
 
     protected String getSessionKey() {
@@ -313,7 +410,7 @@ public class H2oHelper {
         buf.append("(assign ").append(H2oApi.keyToString(targetFrame)).append(" (:= ").append(H2oApi.keyToString(targetFrame))
                 .append(" (as.").append(columnType).append(" (cols ").append(H2oApi.keyToString(targetFrame)).append(' ').append(index)
                 .append(")) ").append(index).append(" [").append(from).append(':').append(to).append("]))");
-        return new Callable<>(getH2oApi().rapidsExec(buf.toString()));
+        return new Callable<>(rapidsExec(buf.toString()));
     }
 
     public ParseV3 convert(final ParseSetupV3 params) {
@@ -377,44 +474,82 @@ public class H2oHelper {
         }
 
         public Response<T> execute(final long timeout) {
-            final CountDownLatch latch = new CountDownLatch(1);
-            final AtomicReference<Response<T>> result = new AtomicReference<>();
-            final AtomicReference<Throwable> failure = new AtomicReference<>();
-            execute(res -> {
-                result.set(res);
-                latch.countDown();
-            }, t -> {
-                failure.set(t);
-                latch.countDown();
-            });
             try {
-                latch.await(timeout, TimeUnit.MILLISECONDS);
+                return toFuture(timeout).get();
             } catch (final InterruptedException e) {
+                call.cancel();
                 throw new H2oAccessException("Interrupted.", e);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof TimeoutException) {
+                    throw new H2oAccessException("Request timeout.");
+                }
+                throw new H2oAccessException("Execution exception.", e.getCause());
             }
-            final Response<T> response = result.get();
-            if (response != null) {
-                return response;
-            }
-            final Throwable t = failure.get();
-            if (t != null) {
-                throw new H2oAccessException("Execution exception.", t);
-            }
-            call.cancel();
-            throw new H2oAccessException("Request timeout.");
+        }
+
+        /**
+         * Sends the request asynchronously.
+         * Cancelling the returned future cancels the HTTP call.
+         */
+        public CompletableFuture<Response<T>> toFuture() {
+            final CompletableFuture<Response<T>> future = new CompletableFuture<>();
+            future.whenComplete((res, t) -> {
+                if (t instanceof CancellationException || t instanceof TimeoutException) {
+                    call.cancel();
+                }
+            });
+            execute(future::complete, future::completeExceptionally);
+            return future;
+        }
+
+        /**
+         * Sends the request asynchronously.
+         * The returned future fails with TimeoutException and the HTTP call is cancelled if no response comes in time.
+         */
+        public CompletableFuture<Response<T>> toFuture(final long timeout) {
+            return toFuture().orTimeout(timeout, TimeUnit.MILLISECONDS);
         }
     }
 
+    /**
+     * Changed timeouts are used by requests after this call.
+     */
     public void setConnectTimeout(final int connectTimeout) {
         this.connectTimeout = connectTimeout;
+        rebuildHttpClient();
     }
 
+    /**
+     * @see #setConnectTimeout(int)
+     */
     public void setWriteTimeout(final int writeTimeout) {
         this.writeTimeout = writeTimeout;
+        rebuildHttpClient();
     }
 
+    /**
+     * @see #setConnectTimeout(int)
+     */
     public void setReadTimeout(final int readTimeout) {
         this.readTimeout = readTimeout;
+        rebuildHttpClient();
+    }
+
+    /**
+     * Sets the maximum number of concurrent requests to H2O. Queued requests count against their call timeout.
+     */
+    public void setMaxRequests(final int maxRequests) {
+        this.maxRequests = maxRequests;
+        if (httpClient != null) {
+            httpClient.dispatcher().setMaxRequests(maxRequests);
+        }
+    }
+
+    public void setMaxRequestsPerHost(final int maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        if (httpClient != null) {
+            httpClient.dispatcher().setMaxRequestsPerHost(maxRequestsPerHost);
+        }
     }
 
     public void setSecretKeyId(final String secretKeyId) {
@@ -427,6 +562,7 @@ public class H2oHelper {
 
     public void addHttpInterceptor(final Interceptor interceptor) {
         httpInterceptorList.add(interceptor);
+        h2oApi = null;
     }
 
     public void setCacheDuration(final long cacheDuration) {
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.helper;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.codelibs.fess.util.ComponentUtil;
+import org.codelibs.fione.entity.Project;
+import org.codelibs.fione.h2o.bindings.pojos.JobV3;
+
+/**
+ * Polls running H2O jobs of all projects in the background and stores their transitions.
+ * All watched projects share one /3/Jobs request per poll.
+ * The interval is reset to the minimum when a job changes and doubles up to the maximum otherwise.
+ * Leaderboards of running AutoML jobs are also refreshed in the background every leaderboardRefreshInterval,
+ * on their own thread so that slow leaderboard requests do not delay polling.
+ */
+public class JobPoller {
+
+    private static final Logger logger = LogManager.getLogger(JobPoller.class);
+
+    protected long minInterval = 1000L;
+
+    protected long maxInterval = 30000L;
+
+    /** The interval in milliseconds to refresh leaderboards of running AutoML jobs, or 0 to disable. */
+    protected volatile long leaderboardRefreshInterval = 5000L;
+
+    protected final Set<String> projectIdSet = ConcurrentHashMap.newKeySet();
+
+    protected ScheduledExecutorService scheduler;
+
+    protected ScheduledExecutorService refresher;
+
+    protected volatile long interval = minInterval;
+
+    protected volatile long nextPollTime;
+
+    protected volatile long nextRefreshTime;
+
+    protected volatile boolean wakeUp;
+
+    protected volatile boolean recovered;
+
+    @PostConstruct
+    public void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "JobPoller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::tick, minInterval, minInterval, TimeUnit.MILLISECONDS);
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "LeaderboardRefresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(this::refreshLeaderboards, minInterval, minInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Adds the project to poll until it has no running jobs.
+     */
+    public void watch(final String projectId) {
+        if (projectIdSet.add(projectId)) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Watch jobs in {}.", projectId);
+            }
+            interval = minInterval;
+            wakeUp = true;
+        }
+    }
+
+    public Set<String> getProjectIds() {
+        return projectIdSet;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    protected void tick() {
+        try {
+            if (!recovered) {
+                recover();
+            }
+            if (projectIdSet.isEmpty() || !wakeUp && System.currentTimeMillis() < nextPollTime) {
+                return;
+            }
+            wakeUp = false;
+            interval = poll() ? minInterval : Math.min(interval * 2, maxInterval);
+        } catch (final Throwable t) {
+            logger.warn("Failed to poll jobs.", t);
+            interval = maxInterval;
+        }
+        nextPollTime = System.currentTimeMillis() + interval;
+    }
+
+    /**
+     * Refreshes leaderboards of running AutoML jobs, so that pages read them from the cache.
+     * H2O gets one request per leaderboard and interval regardless of the number of viewers.
+     */
+    protected void refreshLeaderboards() {
+        try {
+            final long now = System.currentTimeMillis();
+            if (leaderboardRefreshInterval <= 0 || projectIdSet.isEmpty() || now < nextRefreshTime) {
+                return;
+            }
+            nextRefreshTime = now + leaderboardRefreshInterval;
+            final ProjectHelper projectHelper = getProjectHelper();
+            for (final String projectId : projectIdSet) {
+                projectHelper.refreshRunningLeaderboards(projectId);
+            }
+        } catch (final Throwable t) {
+            logger.warn("Failed to refresh leaderboards.", t);
+        }
+    }
+
+    /**
+     * @return true if a job was changed
+     */
+    protected boolean poll() {
+        final ProjectHelper projectHelper = getProjectHelper();
+        final Map<String, JobV3> latestJobMap = projectHelper.getLatestJobs();
+        if (latestJobMap == null) {
+            return false;
+        }
+        boolean changed = false;
+        for (final String projectId : projectIdSet) {
+            try {
+                final JobV3[] jobs = projectHelper.getJobs(projectId, false);
+                if (!projectHelper.refreshJobs(projectId, jobs, latestJobMap).isEmpty()) {
+                    changed = true;
+                }
+                if (!hasRunningJob(jobs)) {
+                    projectIdSet.remove(projectId);
+                    // a running job may have been stored after the jobs were read, and its watch() did not add the project
+                    if (hasRunningJob(projectHelper.getJobs(projectId, false))) {
+                        watch(projectId);
+                    } else if (logger.isDebugEnabled()) {
+                        logger.debug("No running jobs in {}.", projectId);
+                    }
+                }
+            } catch (final Exception e) {
+                // polled again, because the failure may be transient
+                logger.warn("Failed to update jobs in {}.", projectId, e);
+                projectIdSet.add(projectId);
+            }
+        }
+        return changed;
+    }
+
+    protected boolean hasRunningJob(final JobV3[] jobs) {
+        return Arrays.stream(jobs).anyMatch(j -> JobV3.RUNNING.equals(j.status));
+    }
+
+    /**
+     * Finds projects with running jobs after a restart.
+     */
+    protected void recover() {
+        final ProjectHelper projectHelper = getProjectHelper();
+        for (final Project project : projectHelper.getProjects()) {
+            try {
+                if (hasRunningJob(projectHelper.getJobs(project.getId(), false))) {
+                    watch(project.getId());
+                }
+            } catch (final Exception e) {
+                logger.warn("Failed to read jobs in {}.", project.getId(), e);
+            }
+        }
+        recovered = true;
+    }
+
+    protected ProjectHelper getProjectHelper() {
+        return ComponentUtil.getComponent(ProjectHelper.class);
+    }
+
+    public void setMinInterval(final long minInterval) {
+        this.minInterval = minInterval;
+    }
+
+    public void setMaxInterval(final long maxInterval) {
+        this.maxInterval = maxInterval;
+    }
+
+    public void setLeaderboardRefreshInterval(final long leaderboardRefreshInterval) {
+        this.leaderboardRefreshInterval = leaderboardRefreshInterval;
+        nextRefreshTime = 0L;
+    }
+}
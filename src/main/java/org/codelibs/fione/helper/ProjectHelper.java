@@ -19,34 +19,43 @@ import static org.codelibs.core.stream.StreamUtil.stream;
 import static org.codelibs.fione.h2o.bindings.H2oApi.keyToString;
 
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
 import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
 
 import org.apache.logging.log4j.LogManager;
@@ -60,15 +69,25 @@ import org.codelibs.fess.exception.StorageException;
 import org.codelibs.fess.mylasta.direction.FessConfig;
 import org.codelibs.fess.util.ComponentUtil;
 import org.codelibs.fess.util.ResourceUtil;
+import org.codelibs.fione.cache.CacheInvalidationBus;
+import org.codelibs.fione.cache.CacheKey;
+import org.codelibs.fione.cache.CacheRegion;
+import org.codelibs.fione.cache.CacheTag;
+import org.codelibs.fione.cache.DiskCache;
+import org.codelibs.fione.cache.FrameIndex;
+import org.codelibs.fione.cache.ResponseCache;
 import org.codelibs.fione.entity.DataSet;
 import org.codelibs.fione.entity.Project;
+import org.codelibs.fione.entity.ProjectManifest;
 import org.codelibs.fione.exception.CacheNotFoundException;
 import org.codelibs.fione.exception.FioneSystemException;
 import org.codelibs.fione.exception.H2oAccessException;
+import org.codelibs.fione.exception.ObjectNotFoundException;
 import org.codelibs.fione.h2o.bindings.H2oApi;
 import org.codelibs.fione.h2o.bindings.pojos.AutoMLBuildControlV99;
 import org.codelibs.fione.h2o.bindings.pojos.AutoMLBuildModelsV99;
 import org.codelibs.fione.h2o.bindings.pojos.AutoMLInputV99;
+import org.codelibs.fione.h2o.bindings.pojos.CloudV3;
 import org.codelibs.fione.h2o.bindings.pojos.ColV3;
 import org.codelibs.fione.h2o.bindings.pojos.FrameBaseV3;
 import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
@@ -83,36 +102,34 @@ import org.codelibs.fione.h2o.bindings.pojos.KeyV3;
 import org.codelibs.fione.h2o.bindings.pojos.LeaderboardV99;
 import org.codelibs.fione.h2o.bindings.pojos.ModelExportV3;
 import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
-import org.codelibs.fione.h2o.bindings.pojos.ModelMetricsListSchemaV3;
 import org.codelibs.fione.h2o.bindings.pojos.ModelSchemaBaseV3;
 import org.codelibs.fione.h2o.bindings.pojos.ModelsV3;
 import org.codelibs.fione.h2o.bindings.pojos.ParseV3;
 import org.codelibs.fione.h2o.bindings.pojos.RapidsSchemaV3;
-import org.codelibs.fione.h2o.bindings.pojos.SchemaV3;
+import org.codelibs.fione.storage.JobJournal;
+import org.codelibs.fione.storage.ProjectStorage;
+import org.codelibs.fione.storage.StorageCoordinator;
+import org.codelibs.fione.storage.StorageCoordinator.Lease;
+import org.codelibs.fione.storage.UploadOutputStream;
+import org.codelibs.fione.util.CsvProjector;
+import org.codelibs.fione.util.CsvSchemaGuesser;
+import org.codelibs.fione.util.ParallelCsvProjector;
 import org.codelibs.fione.util.StringCodecUtil;
+import org.codelibs.fione.util.StripedLock;
 import org.lastaflute.di.exception.IORuntimeException;
 import org.lastaflute.web.servlet.request.stream.WrittenStreamOut;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.google.gson.Gson;
-import com.orangesignal.csv.CsvConfig;
-import com.orangesignal.csv.CsvReader;
-import com.orangesignal.csv.CsvWriter;
-
-import io.minio.ErrorCode;
-import io.minio.MinioClient;
-import io.minio.Result;
-import io.minio.errors.ErrorResponseException;
-import io.minio.messages.DeleteError;
-import io.minio.messages.Item;
+import com.google.gson.JsonElement;
 import retrofit2.Response;
 
 public class ProjectHelper {
 
     private static final Logger logger = LogManager.getLogger(ProjectHelper.class);
 
+    protected static final String DATASET_CONFIG_SUFFIX = "_dataset.json";
+
     @Resource
     private H2oHelper h2oHelper;
 
@@ -122,18 +139,68 @@ public class ProjectHelper {
 
     protected final Gson gson = H2oApi.createGson();
 
-    protected ReadWriteLock jobLock = new ReentrantReadWriteLock();
+    protected final Gson leaderboardGson = gson.newBuilder().serializeSpecialFloatingPointValues().create();
+
+    protected StripedLock jobLock = new StripedLock(64);
+
+    protected StripedLock manifestLock = new StripedLock(64);
+
+    protected int jobJournalCompactionSize = 50;
+
+    protected long jobRefreshInterval = 5000L;
+
+    /** The size of the head of a data object from which its schema is guessed without H2O. */
+    protected int schemaSampleSize = 64 * 1024;
+
+    protected CsvSchemaGuesser csvSchemaGuesser = new CsvSchemaGuesser();
+
+    private volatile boolean schemaCloudUpdated;
+
+    /** The time in milliseconds from the commit of a dataset generation until the data objects of older ones can be deleted. */
+    protected long dataSetGcDelay = 60000L;
+
+    /** The size of byte ranges which are projected in parallel by filterColumns. */
+    protected long csvChunkSize = 8L * 1024L * 1024L;
+
+    protected int csvThreadSize = Runtime.getRuntime().availableProcessors();
+
+    private volatile ExecutorService csvExecutor;
+
+    @Resource
+    protected StorageCoordinator storageCoordinator;
+
+    @Resource
+    protected JobPoller jobPoller;
+
+    protected final Map<String, JobJournal> jobJournalMap = new ConcurrentHashMap<>();
+
+    @Resource
+    protected ProjectStorage projectStorage;
+
+    @Resource
+    protected ResponseCache responseCache;
+
+    @Resource
+    protected DiskCache diskCache;
+
+    @Resource
+    protected CacheInvalidationBus cacheInvalidationBus;
+
+    @Resource
+    protected FrameIndex frameIndex;
 
-    protected Cache<Object, SchemaV3> responseCache = CacheBuilder.newBuilder().expireAfterWrite(10, TimeUnit.MINUTES).build();
+    @PreDestroy
+    public void destroy() {
+        final ExecutorService executor = csvExecutor;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
 
     public Project[] getProjects() {
-        final FessConfig fessConfig = ComponentUtil.getFessConfig();
         final List<Project> list = new ArrayList<>();
         try {
-            final MinioClient minioClient = createClient(fessConfig);
-            for (final Result<Item> result : minioClient.listObjects(fessConfig.getStorageBucket(), projectFolderName + "/", false)) {
-                final Item item = result.get();
-                final String objectName = item.objectName();
+            for (final String objectName : projectStorage.listObjects(projectFolderName + "/", false)) {
                 if (logger.isDebugEnabled()) {
                     logger.debug("objectName: {}", objectName);
                 }
@@ -145,41 +212,28 @@ public class ProjectHelper {
             }
         } catch (final Exception e) {
             if (logger.isDebugEnabled()) {
-                logger.debug("Failed to access " + fessConfig.getStorageEndpoint(), e);
+                logger.debug("Failed to access the project storage.", e);
             }
         }
         return list.toArray(n -> new Project[n]);
     }
 
-    protected MinioClient createClient(final FessConfig fessConfig) {
-        try {
-            return new MinioClient(fessConfig.getStorageEndpoint(), fessConfig.getStorageAccessKey(), fessConfig.getStorageSecretKey());
-        } catch (final Exception e) {
-            throw new StorageException("Failed to create MinioClient: " + fessConfig.getStorageEndpoint(), e);
-        }
-    }
-
     public void store(final Project project) {
         if (logger.isDebugEnabled()) {
             logger.debug("Store project:{}", project);
         }
-        final FessConfig fessConfig = ComponentUtil.getFessConfig();
-        final MinioClient minioClient = createClient(fessConfig);
         final String json = gson.toJson(project);
         if (logger.isDebugEnabled()) {
             logger.debug("project: {}", json);
         }
         final String objectName = getProjectConfigPath(project.getId());
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(json.getBytes(Constants.UTF_8_CHARSET))) {
-            final String bucketName = fessConfig.getStorageBucket();
-            if (!minioClient.bucketExists(bucketName)) {
-                minioClient.makeBucket(bucketName);
-                logger.info("Create bucket {}.", bucketName);
-            }
-            minioClient.putObject(bucketName, objectName, bais, null, null, null, "application/json");
+        try {
+            projectStorage.ensureBucket();
+            projectStorage.putBytes(objectName, json.getBytes(Constants.UTF_8_CHARSET), "application/json");
         } catch (final Exception e) {
             throw new StorageException("Failed to create " + objectName, e);
         }
+        updateManifest(project.getId(), manifest -> manifest.setProject(project));
     }
 
     public Project getProject(final String projectId) {
@@ -187,21 +241,99 @@ public class ProjectHelper {
     }
 
     protected Project getProject(final String projectId, final boolean loadParams) {
-        final FessConfig fessConfig = ComponentUtil.getFessConfig();
-        final MinioClient minioClient = createClient(fessConfig);
+        if (loadParams) {
+            final ProjectManifest manifest = getManifest(projectId);
+            final Project project = manifest.getProject();
+            project.setDataSets(manifest.getDataSets());
+            project.setFrameIds(getFrames(project));
+            project.setJobs(getJobs(projectId));
+            return project;
+        }
         final String objectName = getProjectConfigPath(projectId);
-        try (Reader reader =
-                new InputStreamReader(minioClient.getObject(fessConfig.getStorageBucket(), objectName), Constants.UTF_8_CHARSET)) {
-            final Project project = gson.fromJson(reader, Project.class);
-            if (loadParams) {
-                project.setDataSets(getDataSets(fessConfig, minioClient, projectId));
-                project.setFrameIds(getFrames(project));
-                project.setJobs(getJobs(projectId));
+        try (Reader reader = new InputStreamReader(projectStorage.getObject(objectName), Constants.UTF_8_CHARSET)) {
+            return gson.fromJson(reader, Project.class);
+        } catch (final Exception e) {
+            throw new StorageException("Failed to read " + objectName, e);
+        }
+    }
+
+    protected ProjectManifest getManifest(final String projectId) {
+        final String objectName = getManifestPath(projectId);
+        try {
+            final ProjectManifest manifest = parseManifest(projectStorage.getBytes(objectName));
+            if (manifest != null) {
+                return manifest;
+            }
+            logger.info("Manifest for {} is stale.", projectId);
+        } catch (final ObjectNotFoundException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} does not exist.", objectName);
             }
-            return project;
         } catch (final Exception e) {
             throw new StorageException("Failed to read " + objectName, e);
         }
+        return rebuildManifest(projectId);
+    }
+
+    /**
+     * @return the manifest, or null if it has an older format
+     */
+    protected ProjectManifest parseManifest(final byte[] data) {
+        final ProjectManifest manifest = gson.fromJson(new String(data, Constants.UTF_8_CHARSET), ProjectManifest.class);
+        if (manifest != null && manifest.isCurrentFormat() && manifest.getProject() != null) {
+            return manifest;
+        }
+        return null;
+    }
+
+    /**
+     * Creates manifest.json from project.json, dataset configs and jobs.json.
+     */
+    public ProjectManifest rebuildManifest(final String projectId) {
+        return updateManifest(projectId, manifest -> {}, true);
+    }
+
+    protected ProjectManifest updateManifest(final String projectId, final Consumer<ProjectManifest> updater) {
+        return updateManifest(projectId, updater, false);
+    }
+
+    protected ProjectManifest updateManifest(final String projectId, final Consumer<ProjectManifest> updater, final boolean rebuild) {
+        final String objectName = getManifestPath(projectId);
+        // jobs in an old manifest are migrated before it is overwritten
+        getJobJournal(projectId).initialize();
+        // the updater is called again on conflict, so it only creates the manifest
+        final AtomicBoolean created = new AtomicBoolean();
+        final ProjectManifest result = manifestLock.write(projectId, () -> {
+            final byte[] data = storageCoordinator.update(objectName, "application/json", current -> {
+                ProjectManifest manifest = current != null && !rebuild ? parseManifest(current) : null;
+                created.set(manifest == null);
+                if (manifest == null) {
+                    manifest = createManifest(projectId);
+                }
+                updater.accept(manifest);
+                manifest.touch();
+                final String json = gson.toJson(manifest);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("manifest: {}", json);
+                }
+                return json.getBytes(Constants.UTF_8_CHARSET);
+            });
+            return parseManifest(data);
+        });
+        if (created.get()) {
+            // objects of old generations may be left by a restart
+            for (final DataSet dataSet : result.getDataSets()) {
+                projectStorage.getTaskExecutor().execute(() -> deleteOldGenerations(projectId, dataSet));
+            }
+        }
+        return result;
+    }
+
+    protected ProjectManifest createManifest(final String projectId) {
+        logger.info("Rebuild manifest for {}.", projectId);
+        final ProjectManifest manifest = new ProjectManifest(getProject(projectId, false));
+        manifest.setDataSets(loadDataSets(projectId));
+        return manifest;
     }
 
     public boolean projectExists(final String projectId) {
@@ -224,49 +356,64 @@ public class ProjectHelper {
     }
 
     protected String[] getFrames(final Project project, final BiPredicate<String, String> condition) {
+        final FrameIndex.Snapshot snapshot;
+        try {
+            snapshot = frameIndex.getSnapshot(this::listFrameIds);
+        } catch (final Exception e) {
+            logger.warn("Failed to get frames.", e);
+            return StringUtil.EMPTY_STRINGS;
+        }
         final List<String> frameIdList = new ArrayList<>();
         Arrays.stream(project.getDataSets()).map(d -> getFrameName(project.getId(), d.getId())).forEach(baseName -> {
-            try {
-                final Response<FramesListV3> response = h2oHelper.getFrames(baseName).execute(requestTimeout);
-                if (logger.isDebugEnabled()) {
-                    logger.debug("getFrames: {}", response);
+            for (final String frameId : snapshot.find(baseName)) {
+                if (condition.test(frameId, baseName)) {
+                    frameIdList.add(frameId);
                 }
-                if (response.code() == 200) {
-                    for (final FrameBaseV3 frame : response.body().frames) {
-                        final String frameId = keyToString(frame.frameId);
-                        if (frameId != null && condition.test(frameId, baseName)) {
-                            frameIdList.add(frameId);
-                        }
-                    }
-                } else {
-                    logger.warn("Failed to get frames: {}", response);
-                }
-            } catch (final Exception e) {
-                logger.warn("Failed to get frames.", e);
             }
         });
         return frameIdList.stream().distinct().toArray(n -> new String[n]);
     }
 
+    /**
+     * @return ids of all frames in H2O by one request to /3/Frames
+     */
+    protected String[] listFrameIds() {
+        final Response<FramesListV3> response = h2oHelper.listFrames().execute(requestTimeout);
+        if (logger.isDebugEnabled()) {
+            logger.debug("listFrames: {}", response);
+        }
+        if (response.code() != 200) {
+            throw new H2oAccessException("Failed to get frames: " + response);
+        }
+        final FrameBaseV3[] frames = response.body().frames;
+        return frames != null ? Arrays.stream(frames).map(f -> keyToString(f.frameId)).toArray(n -> new String[n])
+                : StringUtil.EMPTY_STRINGS;
+    }
+
     public DataSet[] getDataSets(final String projectId) {
-        final FessConfig fessConfig = ComponentUtil.getFessConfig();
-        final MinioClient minioClient = createClient(fessConfig);
-        return getDataSets(fessConfig, minioClient, projectId);
+        return getManifest(projectId).getDataSets();
     }
 
-    protected DataSet[] getDataSets(final FessConfig fessConfig, final MinioClient minioClient, final String projectId) {
+    protected DataSet[] loadDataSets(final String projectId) {
+        final Set<String> dataSetIds = new LinkedHashSet<>();
         final String prefix = projectFolderName + "/" + projectId + "/data/";
+        for (final String objectName : projectStorage.listObjects(prefix, false)) {
+            final String[] values = objectName.split("/");
+            if (values.length == 4) {
+                dataSetIds.add(StringCodecUtil.encodeUrlSafe(values[3]));
+            }
+        }
+        // datasets written as generations have no object in the data folder
+        final String configPrefix = projectFolderName + "/" + projectId + "/config/";
+        for (final String objectName : projectStorage.listObjects(configPrefix, false)) {
+            if (objectName.endsWith(DATASET_CONFIG_SUFFIX)) {
+                dataSetIds.add(objectName.substring(configPrefix.length(), objectName.length() - DATASET_CONFIG_SUFFIX.length()));
+            }
+        }
         final List<DataSet> list = new ArrayList<>();
-        for (final Result<Item> result : minioClient.listObjects(fessConfig.getStorageBucket(), prefix, false)) {
+        for (final String dataSetId : dataSetIds) {
             try {
-                final Item item = result.get();
-                final String objectName = item.objectName();
-                final String[] values = objectName.split("/");
-                if (values.length == 4) {
-                    final String dataSetId = StringCodecUtil.encodeUrlSafe(values[3]);
-                    final DataSet dataSet = getDataSet(fessConfig, minioClient, projectId, dataSetId);
-                    list.add(dataSet);
-                }
+                list.add(loadDataSet(projectId, dataSetId));
             } catch (final Exception e) {
                 logger.warn("Failed to read dataset", e);
             }
@@ -275,15 +422,17 @@ public class ProjectHelper {
     }
 
     public DataSet getDataSet(final String projectId, final String dataSetId) {
-        final FessConfig fessConfig = ComponentUtil.getFessConfig();
-        final MinioClient minioClient = createClient(fessConfig);
-        return getDataSet(fessConfig, minioClient, projectId, dataSetId);
+        for (final DataSet dataSet : getDataSets(projectId)) {
+            if (dataSet.getId().equals(dataSetId)) {
+                return dataSet;
+            }
+        }
+        return createDataSet(projectId, dataSetId);
     }
 
-    protected DataSet getDataSet(final FessConfig fessConfig, final MinioClient minioClient, final String projectId, final String dataSetId) {
+    protected DataSet loadDataSet(final String projectId, final String dataSetId) {
         final String objectName = getDataSetConfigPath(projectId, dataSetId);
-        try (Reader reader =
-                new InputStreamReader(minioClient.getObject(fessConfig.getStorageBucket(), objectName), Constants.UTF_8_CHARSET)) {
+        try (Reader reader = new InputStreamReader(projectStorage.getObject(objectName), Constants.UTF_8_CHARSET)) {
             return gson.fromJson(reader, DataSet.class);
         } catch (final Exception e) {
             if (logger.isDebugEnabled()) {
@@ -294,16 +443,11 @@ public class ProjectHelper {
     }
 
     public DataSet addDataSet(final String projectId, final String fileName, final InputStream in) {
-        final FessConfig fessConfig = ComponentUtil.getFessConfig();
-        final MinioClient minioClient = createClient(fessConfig);
-        final String objectName = getDataPath(projectId, fileName);
-        try {
-            minioClient.putObject(fessConfig.getStorageBucket(), objectName, in, null, null, null, "application/octet-stream");
-        } catch (final Exception e) {
-            throw new StorageException("Failed to store " + objectName, e);
-        }
-
         final DataSet dataSet = createDataSet(projectId, StringCodecUtil.encodeUrlSafe(fileName));
+        dataSet.setGeneration(nextGeneration(projectId, dataSet.getId()));
+        dataSet.setPath(getS3Path(projectId, dataSet));
+        projectStorage.putObject(getDataPath(projectId, dataSet), in, -1, "application/octet-stream");
+
         if (fileName.toLowerCase(Locale.ROOT).contains("test")) {
             dataSet.setType(DataSet.TEST);
         }
@@ -318,11 +462,67 @@ public class ProjectHelper {
         return dataSet;
     }
 
-    public void deleteDataSet(final String projectId, final String dataSetId) {
-        final FessConfig fessConfig = ComponentUtil.getFessConfig();
-        final MinioClient minioClient = createClient(fessConfig);
+    /**
+     * @return a generation newer than the current one of the dataset, for a data object which is written before the dataset is stored
+     */
+    protected long nextGeneration(final String projectId, final String dataSetId) {
+        final DataSet current = getManifest(projectId).getDataSet(dataSetId);
+        return Math.max(current != null ? current.getGeneration() + 1 : 1L, System.currentTimeMillis());
+    }
+
+    /**
+     * Deletes the data objects of generations older than the committed one if dataSetGcDelay has passed since the commit,
+     * so that their readers can finish. The generations folder is listed, so objects left by a restart are deleted too.
+     * The committed generation itself is deleted by the sweep after the next commit or a rebuild of the manifest.
+     */
+    protected void deleteOldGenerations(final String projectId, final DataSet dataSet) {
+        if (dataSet.getGeneration() == 0L || System.currentTimeMillis() - dataSet.getCommittedTime() < dataSetGcDelay) {
+            return;
+        }
+        try {
+            final String prefix = getDataGenerationsPath(projectId, dataSet.getId());
+            final List<String> objectNames = new ArrayList<>();
+            for (final String objectName : projectStorage.listObjects(prefix, true)) {
+                final long generation = parseGeneration(prefix, objectName);
+                if (generation >= 0L && generation < dataSet.getGeneration()) {
+                    objectNames.add(objectName);
+                }
+            }
+            final String legacyObjectName = getDataPath(projectId, dataSet.getName());
+            if (projectStorage.exists(legacyObjectName)) {
+                objectNames.add(legacyObjectName);
+            }
+            if (!objectNames.isEmpty()) {
+                projectStorage.deleteObjects(objectNames);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Deleted old generations: {}", objectNames);
+                }
+            }
+        } catch (final Exception e) {
+            logger.warn("Failed to delete old generations of {} in {}", dataSet.getId(), projectId, e);
+        }
+    }
 
-        final DataSet dataSet = getDataSet(fessConfig, minioClient, projectId, dataSetId);
+    /**
+     * @return the generation in the object name under the generations folder, or -1 if it is not a generation
+     */
+    protected long parseGeneration(final String prefix, final String objectName) {
+        if (!objectName.startsWith(prefix)) {
+            return -1L;
+        }
+        final int end = objectName.indexOf('/', prefix.length());
+        if (end < 0) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(objectName.substring(prefix.length(), end));
+        } catch (final NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    public void deleteDataSet(final String projectId, final String dataSetId) {
+        final DataSet dataSet = getDataSet(projectId, dataSetId);
         if (dataSet.getSchema() != null) {
             final FrameKeyV3 destinationFrame = dataSet.getSchema().destinationFrame;
             h2oHelper.deleteFrame(destinationFrame).execute(deleteFrameResponse -> {
@@ -341,88 +541,160 @@ public class ProjectHelper {
         final String dataPath = getDataPath(projectId, name);
         final String configPath = getDataSetConfigPath(projectId, dataSetId);
         try {
-            final Iterable<Result<DeleteError>> results =
-                    minioClient.removeObjects(fessConfig.getStorageBucket(), Lists.newArrayList(dataPath, configPath));
-            for (final Result<DeleteError> result : results) {
-                logger.warn("Failed to delete {}", result.get());
-            }
+            final List<String> objectNames = Lists.newArrayList(dataPath, configPath);
+            objectNames.addAll(projectStorage.listObjects(getDataGenerationsPath(projectId, dataSetId), true));
+            projectStorage.deleteObjects(objectNames);
         } catch (final Exception e) {
             throw new StorageException("Failed to delete data files.", e);
         }
+        updateManifest(projectId, manifest -> manifest.removeDataSet(dataSetId));
     }
 
     public void loadDataSetSchema(final String projectId, final DataSet dataSet) {
         loadDataSetSchema(projectId, dataSet, () -> {});
     }
 
+    /**
+     * Loads the schema of the dataset, which is guessed from the head of the data object if it is certain,
+     * or by importing the data object into H2O otherwise.
+     */
     public void loadDataSetSchema(final String projectId, final DataSet dataSet, final Runnable chain) {
         final JobV3 workingJob = createWorkingJob(dataSet.getName(), "Parse Schema", 0.2f);
         store(projectId, workingJob);
-        h2oHelper.importFiles(dataSet.getPath()).execute(importResponse -> {
-            if (logger.isDebugEnabled()) {
-                logger.debug("importFiles: {}", importResponse);
+        final ParseV3 guessedSchema = guessSchema(projectId, dataSet);
+        final CompletableFuture<Void> future;
+        if (guessedSchema != null) {
+            dataSet.setSchema(guessedSchema);
+            store(projectId, dataSet);
+            future = CompletableFuture.completedFuture(null);
+        } else {
+            future = h2oHelper.importFiles(dataSet.getPath()).toFuture().thenCompose(importResponse -> {
+                final String[] frames = checkResponse("importFiles", importResponse).destinationFrames;
+                return h2oHelper.setupParse(frames).toFuture().thenComposeAsync(setupResponse -> {
+                    final ParseV3 meta = h2oHelper.convert(checkResponse("setupParse", setupResponse));
+                    meta.destinationFrame = new FrameKeyV3(getFrameName(projectId, dataSet.getId()) + ".hex");
+                    dataSet.setSchema(meta);
+                    store(projectId, dataSet);
+                    return h2oHelper.deleteFrame(frames[0]).toFuture();
+                }, projectStorage.getTaskExecutor());
+            }).thenAccept(deleteResponse -> {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("deleteFrame: {}", deleteResponse);
+                }
+            });
+        }
+        // stages which access the storage run on its task executor, not on threads of the HTTP client
+        future.thenRunAsync(chain, projectStorage.getTaskExecutor()).whenCompleteAsync((v, t) -> {
+            if (t != null) {
+                logger.warn("Failed to load schema: projectId:{}, dataSet:{}", projectId, dataSet, unwrap(t));
             }
-            if (importResponse.code() == 200) {
-                final String[] frames = importResponse.body().destinationFrames;
-                h2oHelper.setupParse(frames).execute(setupResponse -> {
-                    if (logger.isDebugEnabled()) {
-                        logger.debug("setupParse: {}", setupResponse);
-                    }
-                    if (setupResponse.code() == 200) {
-                        final ParseV3 meta = h2oHelper.convert(setupResponse.body());
-                        meta.destinationFrame = new FrameKeyV3(getFrameName(projectId, dataSet.getId()) + ".hex");
-                        dataSet.setSchema(meta);
-                        store(projectId, dataSet);
-                        h2oHelper.deleteFrame(frames[0]).execute(deleteResponse -> {
-                            if (logger.isDebugEnabled()) {
-                                logger.debug("deleteFrame: {}", deleteResponse);
-                            }
-                            chain.run();
-                            finish(projectId, workingJob, null);
-                        }, t -> {
-                            logger.warn("Failed to delete frame: {}", frames[0], t);
-                            finish(projectId, workingJob, t);
-                        });
-                    } else {
-                        logger.warn("Failed to parse data: projectId:{}, dataSet:{}", projectId, dataSet);
-                        finish(projectId, workingJob, new H2oAccessException("Failed to access " + setupResponse));
-                    }
-                }, t -> {
-                    logger.warn("Failed to parse data: projectId:{}, dataSet:{}", projectId, dataSet, t);
-                    finish(projectId, workingJob, t);
-                });
-            } else {
-                logger.warn("Failed to import data: projectId:{}, dataSet:{}", projectId, dataSet);
-                finish(projectId, workingJob, new H2oAccessException("Failed to access " + importResponse));
+            finish(projectId, workingJob, unwrap(t));
+        }, projectStorage.getTaskExecutor());
+    }
+
+    /**
+     * Sets the nodes and cores of the H2O cloud to the schema guesser once, so that its chunk sizes fit the cloud.
+     */
+    protected void updateSchemaCloud() {
+        if (schemaCloudUpdated) {
+            return;
+        }
+        try {
+            final Response<CloudV3> response = h2oHelper.getCloudStatus().execute(requestTimeout);
+            final CloudV3 cloud = response.body();
+            if (response.code() == 200 && cloud != null && cloud.nodes != null && cloud.nodes.length > 0) {
+                final int cores = Arrays.stream(cloud.nodes).mapToInt(n -> n.cpusAllowed > 0 ? n.cpusAllowed : n.numCpus).min().orElse(1);
+                csvSchemaGuesser.setCloud(cloud.nodes.length, Math.max(cores, 1));
+                schemaCloudUpdated = true;
             }
-        }, t -> {
-            logger.warn("Failed to import data: projectId:{}, dataSet:{}", projectId, dataSet, t);
-            finish(projectId, workingJob, t);
-        });
+        } catch (final Exception e) {
+            logger.warn("Failed to get the cloud status.", e);
+        }
     }
 
+    /**
+     * Guesses the schema from the head of the data object, which is read by a ranged request.
+     *
+     * @return the schema, or null if H2O should guess it
+     */
+    protected ParseV3 guessSchema(final String projectId, final DataSet dataSet) {
+        if (schemaSampleSize <= 0) {
+            return null;
+        }
+        final String objectName = getDataPath(projectId, dataSet);
+        try (InputStream in = projectStorage.getObject(objectName, 0L, schemaSampleSize + 1L)) {
+            final byte[] sample = in.readNBytes(schemaSampleSize + 1);
+            final long totalSize = sample.length <= schemaSampleSize ? sample.length : projectStorage.getSize(objectName);
+            updateSchemaCloud();
+            final ParseV3 schema = csvSchemaGuesser.guess(sample, Math.min(sample.length, schemaSampleSize), totalSize);
+            if (schema == null) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("The schema of {} is guessed by H2O.", objectName);
+                }
+                return null;
+            }
+            schema.sourceFrames = new FrameKeyV3[] { new FrameKeyV3(dataSet.getPath()) };
+            schema.destinationFrame = new FrameKeyV3(getFrameName(projectId, dataSet.getId()) + ".hex");
+            return schema;
+        } catch (final Exception e) {
+            logger.warn("Failed to guess the schema of {}", objectName, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the dataset, and commits its generation if it is newer than the current one.
+     * When a generation is replaced, the generations replaced by it are deleted on the task executor.
+     */
     public void store(final String projectId, final DataSet dataSet) {
         if (logger.isDebugEnabled()) {
             logger.debug("Store projectId:{}, dataSet:{}", projectId, dataSet);
         }
-        final FessConfig fessConfig = ComponentUtil.getFessConfig();
-        final MinioClient minioClient = createClient(fessConfig);
+        final AtomicReference<DataSet> replacedRef = new AtomicReference<>();
+        updateManifest(projectId, manifest -> {
+            final DataSet current = manifest.getDataSet(dataSet.getId());
+            if (current != null && current.getGeneration() > dataSet.getGeneration()) {
+                // the data object has been replaced since the dataset was read
+                dataSet.setGeneration(current.getGeneration());
+                dataSet.setPath(current.getPath());
+            }
+            if (current != null && current.getGeneration() == dataSet.getGeneration()) {
+                dataSet.setCommittedTime(current.getCommittedTime());
+            } else {
+                dataSet.setCommittedTime(System.currentTimeMillis());
+            }
+            replacedRef.set(current);
+            manifest.putDataSet(dataSet);
+        });
+
         final String json = gson.toJson(dataSet);
         if (logger.isDebugEnabled()) {
             logger.debug("dataSet: {}", json);
         }
         final String objectName = getDataSetConfigPath(projectId, dataSet.getId());
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(json.getBytes(Constants.UTF_8_CHARSET))) {
-            minioClient.putObject(fessConfig.getStorageBucket(), objectName, bais, null, null, null, "application/json");
+        try {
+            projectStorage.putBytes(objectName, json.getBytes(Constants.UTF_8_CHARSET), "application/json");
         } catch (final Exception e) {
             throw new StorageException("Failed to create " + objectName, e);
         }
+
+        final DataSet replaced = replacedRef.get();
+        if (replaced != null && replaced.getGeneration() != dataSet.getGeneration()) {
+            projectStorage.getTaskExecutor().execute(() -> deleteOldGenerations(projectId, replaced));
+        }
     }
 
     public FrameV3 getColumnSummaries(final String projectId, final String frameId) {
         try {
-            final String cacheKey = "frameSummary@" + projectId + "," + frameId;
-            final FrameV3 columnSummaries = (FrameV3) responseCache.get(cacheKey, () -> {
+            final CacheKey cacheKey = CacheKey.of(projectId, frameId);
+            final FrameV3 columnSummaries = responseCache.get(CacheRegion.FRAME_SUMMARY, cacheKey, () -> {
+                final long checksum = diskCache.isEnabled() ? getFrameChecksum(frameId) : 0L;
+                if (diskCache.isEnabled()) {
+                    final FrameV3 frame = diskCache.get(CacheRegion.FRAME_SUMMARY, frameId, checksum);
+                    if (frame != null) {
+                        return frame;
+                    }
+                }
                 final Response<FramesV3> response = h2oHelper.getFrameSummary(frameId).execute();
                 if (logger.isDebugEnabled()) {
                     logger.debug("getFrameSummary: {}", response);
@@ -433,17 +705,16 @@ public class ProjectHelper {
                         if (data.frames[0] == null) {
                             throw new CacheNotFoundException();
                         }
+                        if (diskCache.isEnabled()) {
+                            diskCache.put(CacheRegion.FRAME_SUMMARY, frameId, checksum, data.frames[0]);
+                        }
                         return data.frames[0];
                     }
                 }
                 throw new CacheNotFoundException();
             });
-            columnSummaries.refresh();
             return columnSummaries;
         } catch (final Exception e) {
-            if (e.getCause() instanceof CacheNotFoundException) {
-                return null;
-            }
             if (logger.isDebugEnabled()) {
                 logger.debug("Failed to get data from cache.", e);
             }
@@ -451,39 +722,47 @@ public class ProjectHelper {
         }
     }
 
+    /**
+     * Gets the checksum of the frame, which is changed when the frame is recreated with other data.
+     */
+    protected long getFrameChecksum(final String frameId) {
+        final Response<FramesV3> response = h2oHelper.getFrameHeader(frameId).execute();
+        if (logger.isDebugEnabled()) {
+            logger.debug("getFrameHeader: {}", response);
+        }
+        if (response.code() == 200) {
+            final FramesV3 data = response.body();
+            if (data.frames != null && data.frames.length == 1 && data.frames[0] != null) {
+                return data.frames[0].checksum;
+            }
+        }
+        throw new CacheNotFoundException();
+    }
+
     public void createFrame(final String projectId, final DataSet dataSet, final Consumer<Response<ParseV3>> result) {
         final JobV3 workingJob = createWorkingJob(dataSet.getName(), "Parse Frame", 0.2f);
         store(projectId, workingJob);
-        h2oHelper.importFiles(dataSet.getPath()).execute(importResponse -> {
-            if (logger.isDebugEnabled()) {
-                logger.debug("importFiles: {}", importResponse);
+        h2oHelper.importFiles(dataSet.getPath()).toFuture().thenCompose(importResponse -> {
+            final String[] frames = checkResponse("importFiles", importResponse).destinationFrames;
+            // the schema may be guessed locally, or from an older generation of the data object,
+            // and is copied because the dataset may be shared by other readers
+            final ParseV3 schema = gson.fromJson(gson.toJson(dataSet.getSchema()), ParseV3.class);
+            schema.sourceFrames = Arrays.stream(frames).map(FrameKeyV3::new).toArray(n -> new FrameKeyV3[n]);
+            return h2oHelper.parseFiles(schema).toFuture();
+        }).thenAcceptAsync(parseResponse -> {
+            final String frameId = keyToString(checkResponse("parseFiles", parseResponse).destinationFrame);
+            logger.info("Create frame: {}", frameId);
+            // a frame with the same name may be cached, or cached as missing
+            cacheInvalidationBus.publish(CacheTag.frame(frameId));
+            deleteJob(projectId, workingJob.key.name);
+            store(projectId, parseResponse.body().job);
+            result.accept(parseResponse);
+        }, projectStorage.getTaskExecutor()).whenCompleteAsync((v, t) -> {
+            if (t != null) {
+                logger.warn("Failed to create frame: dataSet:{}", dataSet, unwrap(t));
+                finish(projectId, workingJob, unwrap(t));
             }
-            if (importResponse.code() == 200) {
-                h2oHelper.parseFiles(dataSet.getSchema()).execute(parseResponse -> {
-                    if (logger.isDebugEnabled()) {
-                        logger.debug("parseRes: {}", parseResponse);
-                    }
-                    if (parseResponse.code() == 200) {
-                        logger.info("Create frame: {}", keyToString(parseResponse.body().destinationFrame));
-                        deleteJob(projectId, workingJob.key.name);
-                        store(projectId, parseResponse.body().job);
-                        result.accept(parseResponse);
-                    } else {
-                        logger.warn("Failed to parse data: dataSet:{}", dataSet);
-                        finish(projectId, workingJob, new H2oAccessException("Failed to access " + parseResponse));
-                    }
-                }, t -> {
-                    logger.warn("Failed to parse data: dataSet:{}", dataSet, t);
-                    finish(projectId, workingJob, t);
-                });
-            } else {
-                logger.warn("Failed to import data: dataSet:{}", dataSet);
-                finish(projectId, workingJob, new H2oAccessException("Failed to access " + importResponse));
-            }
-        }, t -> {
-            logger.warn("Failed to import data: dataSet:{}", dataSet, t);
-            finish(projectId, workingJob, new H2oAccessException("Failed to access ", t));
-        });
+        }, projectStorage.getTaskExecutor());
     }
 
     public void deleteFrame(final String frameId) {
@@ -491,6 +770,7 @@ public class ProjectHelper {
         if (logger.isDebugEnabled()) {
             logger.debug("deleteFrame: {}", response);
         }
+        cacheInvalidationBus.publish(CacheTag.frame(frameId));
         if (response.code() == 200) {
             logger.info("Deleted frame: {}", frameId);
         } else {
@@ -499,8 +779,10 @@ public class ProjectHelper {
     }
 
     protected void deleteFrameQuietly(final String frameId) {
-        h2oHelper.deleteFrame(frameId).execute(delteFrameResonse -> logger.info("Deleted frame: {}", frameId),
-                t -> logger.warn("Failed to delete frame: {}", frameId, t));
+        h2oHelper.deleteFrame(frameId).execute(delteFrameResonse -> {
+            cacheInvalidationBus.publish(CacheTag.frame(frameId));
+            logger.info("Deleted frame: {}", frameId);
+        }, t -> logger.warn("Failed to delete frame: {}", frameId, t));
     }
 
     public void runAutoML(final String projectId, final AutoMLBuildControlV99 buildControl, final AutoMLInputV99 inputSpec,
@@ -526,66 +808,195 @@ public class ProjectHelper {
         });
     }
 
+    /**
+     * Reads the persisted jobs. Running jobs are updated by {@link JobPoller}.
+     */
     protected JobV3[] getJobs(final String projectId) {
-        return getJobs(projectId, true);
+        final JobV3[] jobs = getJobs(projectId, false);
+        if (Arrays.stream(jobs).anyMatch(j -> JobV3.RUNNING.equals(j.status))) {
+            jobPoller.watch(projectId);
+        }
+        return jobs;
     }
 
     protected JobV3[] getJobs(final String projectId, final boolean update) {
-        final FessConfig fessConfig = ComponentUtil.getFessConfig();
-        final MinioClient minioClient = createClient(fessConfig);
-        final String objectName = getJobsConfigPath(projectId);
-        try (Reader reader =
-                new InputStreamReader(minioClient.getObject(fessConfig.getStorageBucket(), objectName), Constants.UTF_8_CHARSET)) {
-            final JobV3[] jobs = gson.fromJson(reader, JobV3[].class);
-            if (update) {
-                jobLock.writeLock().lock();
-                try {
-                    final List<JobV3> list = new ArrayList<>();
-                    for (final JobV3 job : jobs) {
-                        if (JobV3.RUNNING.equals(job.status)) {
-                            try {
-                                final Response<JobsV3> response = h2oHelper.getJobs(keyToString(job.key)).execute(requestTimeout);
-                                if (logger.isDebugEnabled()) {
-                                    logger.debug("getJobs: {}", response);
-                                }
-                                if (response.code() == 200) {
-                                    JobV3 target = null;
-                                    for (final JobV3 j : response.body().jobs) {
-                                        if (keyToString(job.key).equals(keyToString(j.key))) {
-                                            target = j;
-                                        }
-                                    }
-                                    if (target == null && job.getKind() == Kind.AUTO_ML && job.ready()) {
-                                        job.status = JobV3.CANCELLED;
-                                    }
-                                    list.add(target != null ? target : job);
-                                } else {
-                                    list.add(job);
-                                }
-                            } catch (final Exception e) {
-                                logger.warn("Failed to access job: {}", job.key, e);
-                                list.add(job);
-                            }
-                        } else {
-                            list.add(job);
+        final JobV3[] jobs = jobLock.read(projectId, () -> getJobJournal(projectId).read());
+        if (update) {
+            refreshJobs(projectId, jobs, null);
+        }
+        return jobs;
+    }
+
+    /**
+     * Updates running jobs in the array and the journal.
+     *
+     * @param latestJobMap jobs from /3/Jobs, or null to request them
+     * @return changed jobs
+     */
+    protected Map<String, JobV3> refreshJobs(final String projectId, final JobV3[] jobs, final Map<String, JobV3> latestJobMap) {
+        final Map<String, JobV3> runningJobMap = new LinkedHashMap<>();
+        for (final JobV3 job : jobs) {
+            if (JobV3.RUNNING.equals(job.status)) {
+                runningJobMap.put(keyToString(job.key), job);
+            }
+        }
+        if (runningJobMap.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        // one node refreshes the jobs at a time, and the lease is held until the result is written
+        final Lease lease = storageCoordinator.tryAcquire(getJobsPath(projectId) + "refresh.lease", jobRefreshInterval);
+        if (lease == null) {
+            // being refreshed by another node
+            return Collections.emptyMap();
+        }
+        final Map<String, JobV3> updatedJobMap;
+        try {
+            // H2O is accessed without holding the lock
+            updatedJobMap = fetchJobs(runningJobMap, latestJobMap != null ? latestJobMap : getLatestJobs());
+            if (updatedJobMap.isEmpty()) {
+                return updatedJobMap;
+            }
+
+            // apply only to jobs which nobody changed after they were read
+            jobLock.write(projectId, () -> {
+                final JobJournal journal = getJobJournal(projectId);
+                for (final JobV3 current : journal.read()) {
+                    final String jobId = keyToString(current.key);
+                    final JobV3 updatedJob = updatedJobMap.get(jobId);
+                    if (updatedJob != null && isSameJob(current, runningJobMap.get(jobId))) {
+                        journal.put(updatedJob);
+                    }
+                }
+            });
+        } finally {
+            storageCoordinator.release(lease);
+        }
+        for (int i = 0; i < jobs.length; i++) {
+            final JobV3 updatedJob = updatedJobMap.get(keyToString(jobs[i].key));
+            if (updatedJob != null) {
+                jobs[i] = updatedJob;
+            }
+        }
+        // objects created by finished jobs may be cached as missing or running
+        updatedJobMap.values().stream().filter(j -> !JobV3.RUNNING.equals(j.status)).map(j -> keyToString(j.dest))
+                .filter(StringUtil::isNotBlank).forEach(id -> responseCache.invalidate(CacheKey.of(projectId, id)));
+        // leaderboards of completed AutoML jobs are stored while H2O still has them
+        updatedJobMap.values().stream().filter(j -> j.getKind() == Kind.AUTO_ML && JobV3.DONE.equals(j.status))
+                .filter(j -> StringUtil.isNotBlank(keyToString(j.dest))).forEach(j -> storeFinishedLeaderboard(projectId, j));
+        return updatedJobMap;
+    }
+
+    /**
+     * @return all jobs in H2O by one request to /3/Jobs, or null if failed
+     */
+    protected Map<String, JobV3> getLatestJobs() {
+        try {
+            final Response<JobsV3> response = h2oHelper.getJobs().execute(requestTimeout);
+            if (logger.isDebugEnabled()) {
+                logger.debug("getJobs: {}", response);
+            }
+            if (response.code() == 200) {
+                final Map<String, JobV3> latestJobMap = new HashMap<>();
+                for (final JobV3 j : response.body().jobs) {
+                    latestJobMap.put(keyToString(j.key), j);
+                }
+                return latestJobMap;
+            }
+            logger.warn("Failed to get jobs: {}", response);
+        } catch (final Exception e) {
+            logger.warn("Failed to access jobs.", e);
+        }
+        return null;
+    }
+
+    /**
+     * Compares running jobs with the /3/Jobs list.
+     * Jobs not in the list are requested one by one.
+     *
+     * @return changed jobs
+     */
+    protected Map<String, JobV3> fetchJobs(final Map<String, JobV3> runningJobMap, final Map<String, JobV3> latestJobMap) {
+        final Map<String, JobV3> updatedJobMap = new HashMap<>();
+        if (latestJobMap == null) {
+            return updatedJobMap;
+        }
+        final List<JobV3> missingJobList = new ArrayList<>();
+        runningJobMap.forEach((jobId, job) -> {
+            final JobV3 latestJob = latestJobMap.get(jobId);
+            if (latestJob == null) {
+                missingJobList.add(job);
+            } else if (!isSameJob(latestJob, job)) {
+                updatedJobMap.put(jobId, latestJob);
+            }
+        });
+
+        for (final JobV3 job : missingJobList) {
+            final String jobId = keyToString(job.key);
+            try {
+                final Response<JobsV3> response = h2oHelper.getJobs(jobId).execute(requestTimeout);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("getJobs: {}", response);
+                }
+                if (response.code() == 200) {
+                    final JobV3 target = response.body().findJob(jobId);
+                    if (target != null) {
+                        if (!isSameJob(target, job)) {
+                            updatedJobMap.put(jobId, target);
                         }
+                    } else if (job.getKind() == Kind.AUTO_ML && job.ready()) {
+                        final JobV3 cancelledJob = gson.fromJson(gson.toJson(job), JobV3.class);
+                        cancelledJob.status = JobV3.CANCELLED;
+                        updatedJobMap.put(jobId, cancelledJob);
                     }
-                    store(projectId, list.toArray(n -> new JobV3[n]));
-                } finally {
-                    jobLock.writeLock().unlock();
                 }
+            } catch (final Exception e) {
+                logger.warn("Failed to access job: {}", jobId, e);
             }
-            return jobs;
-        } catch (final ErrorResponseException e) {
-            final String code = e.errorResponse().code();
-            if ("NoSuchKey".equals(code)) {
-                return new JobV3[0];
+        }
+        return updatedJobMap;
+    }
+
+    protected boolean isSameJob(final JobV3 job1, final JobV3 job2) {
+        if (job1 == null || job2 == null) {
+            return job1 == job2;
+        }
+        // fields which change while a job runs and when it finishes
+        return Objects.equals(job1.status, job2.status) && job1.progress == job2.progress && job1.msec == job2.msec
+                && Objects.equals(job1.progressMsg, job2.progressMsg) && Objects.equals(job1.exception, job2.exception);
+    }
+
+    protected JobJournal getJobJournal(final String projectId) {
+        return jobJournalMap.computeIfAbsent(projectId, id -> {
+            final JobJournal journal = new JobJournal(projectStorage, gson, getJobsPath(id), () -> loadLegacyJobs(id));
+            journal.setCompactionSize(jobJournalCompactionSize);
+            journal.setCoordinator(storageCoordinator);
+            return journal;
+        });
+    }
+
+    /**
+     * Reads jobs kept by an older version in manifest.json or jobs.json.
+     */
+    protected JobV3[] loadLegacyJobs(final String projectId) {
+        try {
+            final String json = new String(projectStorage.getBytes(getManifestPath(projectId)), Constants.UTF_8_CHARSET);
+            final JsonElement manifest = gson.fromJson(json, JsonElement.class);
+            if (manifest.isJsonObject() && manifest.getAsJsonObject().has("jobs")) {
+                logger.info("Migrate jobs from manifest in {}.", projectId);
+                return gson.fromJson(manifest.getAsJsonObject().get("jobs"), JobV3[].class);
             }
-            throw new StorageException("Failed to read " + objectName, e);
+        } catch (final ObjectNotFoundException e) {
+            // nothing
+        }
+        final String objectName = getJobsConfigPath(projectId);
+        try (Reader reader = new InputStreamReader(projectStorage.getObject(objectName), Constants.UTF_8_CHARSET)) {
+            final JobV3[] jobs = gson.fromJson(reader, JobV3[].class);
+            return jobs != null ? jobs : new JobV3[0];
+        } catch (final ObjectNotFoundException e) {
+            return new JobV3[0];
         } catch (final Exception e) {
             throw new StorageException("Failed to read " + objectName, e);
         }
-
     }
 
     public void store(final String projectId, final JobV3 job) {
@@ -596,33 +1007,19 @@ public class ProjectHelper {
             return;
         }
 
-        jobLock.writeLock().lock();
-        try {
-            final JobV3[] oldJobs = getJobs(projectId, false);
-            for (int i = 0; i < oldJobs.length; i++) {
-                if (oldJobs[i].key.name.equals(job.key.name)) {
-                    oldJobs[i] = job;
-                    store(projectId, oldJobs);
-                    return;
-                }
+        jobLock.write(projectId, () -> getJobJournal(projectId).put(job));
+        if (JobV3.RUNNING.equals(job.status)) {
+            final String leaderboardId = job.getKind() == Kind.AUTO_ML ? keyToString(job.dest) : null;
+            if (StringUtil.isNotBlank(leaderboardId)) {
+                // an AutoML job with the same project name adds models to the leaderboard of the previous one
+                deleteStoredLeaderboard(projectId, leaderboardId);
             }
-
-            final JobV3[] jobs = Arrays.copyOf(oldJobs, oldJobs.length + 1);
-            jobs[jobs.length - 1] = job;
-            store(projectId, jobs);
-        } finally {
-            jobLock.writeLock().unlock();
+            jobPoller.watch(projectId);
         }
     }
 
     public void deleteJob(final String projectId, final String jobId) {
-        jobLock.writeLock().lock();
-        try {
-            store(projectId,
-                    Arrays.stream(getJobs(projectId, false)).filter(j -> !jobId.equals(keyToString(j.key))).toArray(n -> new JobV3[n]));
-        } finally {
-            jobLock.writeLock().unlock();
-        }
+        jobLock.write(projectId, () -> getJobJournal(projectId).delete(jobId));
 
         final JobKeyV3 jobKey = new JobKeyV3(jobId);
         h2oHelper.getJobs(jobKey).execute(getJobResponse -> {
@@ -643,9 +1040,8 @@ public class ProjectHelper {
         }, t -> logger.warn("Failed to get job: {}", jobId, t));
     }
 
-    public synchronized void deleteAllJobs(final String projectId) {
-        jobLock.writeLock().lock();
-        try {
+    public void deleteAllJobs(final String projectId) {
+        jobLock.write(projectId, () -> {
             final JobV3[] jobs =
                     Arrays.stream(getJobs(projectId, false)).filter(j -> j.getKind() == Kind.AUTO_ML && !JobV3.RUNNING.equals(j.status))
                             .toArray(n -> new JobV3[n]);
@@ -655,6 +1051,7 @@ public class ProjectHelper {
                             final String leaderboardId = keyToString(job.dest);
                             if (StringUtil.isNotBlank(leaderboardId)) {
                                 final LeaderboardV99 leaderboard = getLeaderboard(projectId, leaderboardId);
+                                deleteStoredLeaderboard(projectId, leaderboardId);
                                 if (leaderboard != null) {
                                     stream(leaderboard.models).of(
                                             st -> st.map(H2oApi::keyToString).filter(StringUtil::isNotBlank).forEach(modelId -> {
@@ -670,48 +1067,59 @@ public class ProjectHelper {
             }
             store(projectId, Arrays.stream(getJobs(projectId, false)).filter(j -> JobV3.RUNNING.equals(j.status))
                     .toArray(n -> new JobV3[n]));
-        } finally {
-            jobLock.writeLock().unlock();
-        }
+        });
     }
 
     protected void store(final String projectId, final JobV3[] jobs) {
-        final FessConfig fessConfig = ComponentUtil.getFessConfig();
-        final MinioClient minioClient = createClient(fessConfig);
-        final String json = gson.toJson(jobs);
         if (logger.isDebugEnabled()) {
-            logger.debug("jobs: {}", json);
-        }
-        final String objectName = getJobsConfigPath(projectId);
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(json.getBytes(Constants.UTF_8_CHARSET))) {
-            minioClient.putObject(fessConfig.getStorageBucket(), objectName, bais, null, null, null, "application/json");
-        } catch (final Exception e) {
-            throw new StorageException("Failed to create " + objectName, e);
+            logger.debug("jobs: {}", gson.toJson(jobs));
         }
+        getJobJournal(projectId).reset(jobs);
     }
 
     public LeaderboardV99 getLeaderboard(final String projectId, final String leaderboardId) {
         try {
-            final String cacheKey = "leaderboard@" + projectId + "," + leaderboardId;
-            final LeaderboardV99 leaderboard = (LeaderboardV99) responseCache.get(cacheKey, () -> {
-                final Response<LeaderboardV99> response = h2oHelper.getLeaderboard(leaderboardId).execute();
-                if (logger.isDebugEnabled()) {
-                    logger.debug("getLeaderboard: {}", response);
+            final CacheKey cacheKey = CacheKey.of(projectId, leaderboardId);
+            // a running leaderboard is served without reading jobs, because refreshJobs invalidates it when its job finishes,
+            // but a finished one is not, because an AutoML job with the same project name may run again
+            final boolean finished;
+            final long checksum;
+            if (responseCache.contains(CacheRegion.LEADERBOARD, cacheKey)) {
+                finished = false;
+                checksum = 0L;
+            } else {
+                final JobV3 job = getLeaderboardJob(projectId, leaderboardId);
+                finished = job == null || !JobV3.RUNNING.equals(job.status);
+                // a leaderboard on the disk is not read after the next run
+                checksum = job != null ? job.startTime : 0L;
+            }
+            final CacheRegion<LeaderboardV99> region = finished ? CacheRegion.FINISHED_LEADERBOARD : CacheRegion.LEADERBOARD;
+            // finished leaderboards are not changed until the next run, so they are read from the disk or the project folder
+            final LeaderboardV99 leaderboard = responseCache.get(region, cacheKey, () -> {
+                if (finished) {
+                    LeaderboardV99 data = diskCache.isEnabled() ? diskCache.get(region, leaderboardId, checksum) : null;
+                    if (data == null) {
+                        data = loadStoredLeaderboard(projectId, leaderboardId);
+                        if (data != null && diskCache.isEnabled()) {
+                            diskCache.put(region, leaderboardId, checksum, data);
+                        }
+                    }
+                    if (data != null) {
+                        data.getFormattedRows();
+                        return data;
+                    }
                 }
-                if (response.code() == 200) {
-                    return response.body();
-                } else if (response.code() == 404) {
-                    throw new CacheNotFoundException();
+                final LeaderboardV99 data = fetchLeaderboard(leaderboardId);
+                if (finished) {
+                    storeLeaderboard(projectId, leaderboardId, data);
+                    if (diskCache.isEnabled()) {
+                        diskCache.put(region, leaderboardId, checksum, data);
+                    }
                 }
-                logger.warn("Failed to read leaderboard: {}", response);
-                throw new CacheNotFoundException();
+                return data;
             });
-            leaderboard.refresh();
             return leaderboard;
         } catch (final Exception e) {
-            if (e.getCause() instanceof CacheNotFoundException) {
-                return null;
-            }
             if (logger.isDebugEnabled()) {
                 logger.debug("Failed to get data from cache.", e);
             }
@@ -719,6 +1127,129 @@ public class ProjectHelper {
         }
     }
 
+    /**
+     * Reads the leaderboard from H2O.
+     *
+     * @throws CacheNotFoundException if H2O does not return the leaderboard
+     */
+    protected LeaderboardV99 fetchLeaderboard(final String leaderboardId) {
+        final Response<LeaderboardV99> response = h2oHelper.getLeaderboard(leaderboardId).execute(requestTimeout);
+        if (logger.isDebugEnabled()) {
+            logger.debug("getLeaderboard: {}", response);
+        }
+        if (response.code() == 200) {
+            final LeaderboardV99 data = response.body();
+            // formatted before it is cached, so the cached leaderboard is not changed by rendering
+            data.getFormattedRows();
+            return data;
+        } else if (response.code() != 404) {
+            logger.warn("Failed to read leaderboard: {}", response);
+        }
+        throw new CacheNotFoundException();
+    }
+
+    /**
+     * Replaces cached leaderboards of running AutoML jobs with the latest ones.
+     * Only leaderboards in the cache are refreshed, because nobody views the others.
+     */
+    public void refreshRunningLeaderboards(final String projectId) {
+        Arrays.stream(getJobs(projectId, false)).filter(j -> j.getKind() == Kind.AUTO_ML && JobV3.RUNNING.equals(j.status))
+                .map(j -> keyToString(j.dest)).filter(StringUtil::isNotBlank).forEach(leaderboardId -> {
+                    final CacheKey cacheKey = CacheKey.of(projectId, leaderboardId);
+                    if (!responseCache.contains(CacheRegion.LEADERBOARD, cacheKey)) {
+                        return;
+                    }
+                    try {
+                        responseCache.put(CacheRegion.LEADERBOARD, cacheKey, fetchLeaderboard(leaderboardId));
+                    } catch (final CacheNotFoundException e) {
+                        if (logger.isDebugEnabled()) {
+                            logger.debug("{} is not created yet.", leaderboardId);
+                        }
+                    } catch (final Exception e) {
+                        logger.warn("Failed to refresh {} in {}", leaderboardId, projectId, e);
+                    }
+                });
+    }
+
+    /**
+     * Replaces the stored and cached leaderboard of a completed AutoML job with the one in H2O,
+     * which has models of the previous runs with the same project name too.
+     */
+    protected void storeFinishedLeaderboard(final String projectId, final JobV3 job) {
+        final String leaderboardId = keyToString(job.dest);
+        try {
+            final LeaderboardV99 data = fetchLeaderboard(leaderboardId);
+            storeLeaderboard(projectId, leaderboardId, data);
+            if (diskCache.isEnabled()) {
+                diskCache.put(CacheRegion.FINISHED_LEADERBOARD, leaderboardId, job.startTime, data);
+            }
+            responseCache.put(CacheRegion.FINISHED_LEADERBOARD, CacheKey.of(projectId, leaderboardId), data);
+        } catch (final CacheNotFoundException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} is not found in H2O.", leaderboardId);
+            }
+        } catch (final Exception e) {
+            logger.warn("Failed to store {} in {}", leaderboardId, projectId, e);
+        }
+    }
+
+    /**
+     * Stores the leaderboard of a finished AutoML job into the project folder,
+     * so that it is served without H2O and survives restarts of H2O.
+     */
+    protected void storeLeaderboard(final String projectId, final String leaderboardId, final LeaderboardV99 leaderboard) {
+        final String objectName = getLeaderboardPath(projectId, leaderboardId);
+        try (final UploadOutputStream out = projectStorage.openUploadStream(objectName, "application/json")) {
+            final Writer writer = new OutputStreamWriter(out, Constants.UTF_8_CHARSET);
+            leaderboardGson.toJson(leaderboard, writer);
+            writer.flush();
+            out.commit();
+            if (logger.isDebugEnabled()) {
+                logger.debug("Stored leaderboard: {}", objectName);
+            }
+        } catch (final Exception e) {
+            logger.warn("Failed to store {}", objectName, e);
+        }
+    }
+
+    /**
+     * @return the stored leaderboard, or null if it is not stored
+     */
+    protected LeaderboardV99 loadStoredLeaderboard(final String projectId, final String leaderboardId) {
+        final String objectName = getLeaderboardPath(projectId, leaderboardId);
+        try {
+            return leaderboardGson.fromJson(new String(projectStorage.getBytes(objectName), Constants.UTF_8_CHARSET), LeaderboardV99.class);
+        } catch (final ObjectNotFoundException e) {
+            return null;
+        } catch (final Exception e) {
+            logger.warn("Failed to read {}", objectName, e);
+            return null;
+        }
+    }
+
+    protected void deleteStoredLeaderboard(final String projectId, final String leaderboardId) {
+        final String objectName = getLeaderboardPath(projectId, leaderboardId);
+        try {
+            projectStorage.deleteObjects(Lists.newArrayList(objectName));
+        } catch (final Exception e) {
+            logger.warn("Failed to delete {}", objectName, e);
+        }
+        cacheInvalidationBus.publish(CacheTag.leaderboard(leaderboardId));
+    }
+
+    /**
+     * Finds the AutoML job which added models to the leaderboard last.
+     * A running job still adds models to it.
+     *
+     * @return the job, or null if not found
+     */
+    protected JobV3 getLeaderboardJob(final String projectId, final String leaderboardId) {
+        return Arrays.stream(getJobs(projectId, false))
+                .filter(j -> j.getKind() == Kind.AUTO_ML && leaderboardId.equals(keyToString(j.dest)))
+                .max(Comparator.comparing((final JobV3 j) -> JobV3.RUNNING.equals(j.status)).thenComparingLong(j -> j.startTime))
+                .orElse(null);
+    }
+
     public void predict(final String projectId, final String frameId, final String modelId, final String name) {
         predict(projectId, frameId, modelId, name, d -> {});
     }
@@ -727,77 +1258,50 @@ public class ProjectHelper {
             final Consumer<DataSet> consumer) {
         final JobV3 workingJob = createWorkingJob(name, "Export Prediction", 0.25f);
         store(projectId, workingJob);
-        h2oHelper.predict(modelId, frameId).execute(
-                predictResponse -> {
-                    if (logger.isDebugEnabled()) {
-                        logger.debug("predict: {}", predictResponse);
-                    }
-                    if (predictResponse.code() == 200) {
-                        workingJob.progress = 0.5f;
-                        store(projectId, workingJob);
-                        final ModelMetricsListSchemaV3 modelMetricsListSchema = predictResponse.body();
-                        final String predictionsFrameId = keyToString(modelMetricsListSchema.predictionsFrame);
-                        final String destinationFrameId = "combind-" + predictionsFrameId;
-                        h2oHelper.bindFrames(destinationFrameId, new String[] { predictionsFrameId, frameId }).execute(
-                                bindFramesResponse -> {
-                                    if (logger.isDebugEnabled()) {
-                                        logger.debug("bindFrames: {}", bindFramesResponse);
-                                    }
-                                    if (bindFramesResponse.code() == 200) {
-                                        workingJob.progress = 0.75f;
-                                        store(projectId, workingJob);
-                                        h2oHelper.exportFrame(new FrameKeyV3(destinationFrameId), getPredictCsvPath(projectId, name), true)
-                                                .execute(
-                                                        exportFrameResponse -> {
-                                                            if (logger.isDebugEnabled()) {
-                                                                logger.debug("exportFrame: {}", exportFrameResponse);
-                                                            }
-                                                            if (bindFramesResponse.code() == 200) {
-                                                                final DataSet dataSet =
-                                                                        createDataSet(projectId,
-                                                                                StringCodecUtil.encodeUrlSafe(name + ".csv"));
-                                                                dataSet.setType(DataSet.PREDICT);
-                                                                store(projectId, dataSet);
-                                                                consumer.accept(dataSet);
-                                                                finish(projectId, workingJob, null);
-                                                            } else {
-                                                                logger.warn("Failed to export frame: {}", exportFrameResponse);
-                                                                finish(projectId, workingJob, new H2oAccessException("Failed to access "
-                                                                        + exportFrameResponse));
-                                                            }
-                                                            deleteFrameQuietly(destinationFrameId);
-                                                            deleteFrameQuietly(predictionsFrameId);
-                                                        }, t -> {
-                                                            logger.warn("Failed to export frame: {}", name, t);
-                                                            finish(projectId, workingJob, t);
-                                                            deleteFrameQuietly(destinationFrameId);
-                                                            deleteFrameQuietly(predictionsFrameId);
-                                                        });
-                                    } else {
-                                        logger.warn("Failed to export frame: {}", bindFramesResponse);
-                                        finish(projectId, workingJob, new H2oAccessException("Failed to access " + bindFramesResponse));
-                                        deleteFrameQuietly(predictionsFrameId);
-                                    }
-                                }, t -> {
-                                    logger.warn("Failed to export frame: {}", name, t);
-                                    finish(projectId, workingJob, t);
-                                    deleteFrameQuietly(predictionsFrameId);
-                                });
-                    } else {
-                        logger.warn("Failed to export frame: {}", predictResponse);
-                        finish(projectId, workingJob, new H2oAccessException("Failed to access " + predictResponse));
-                    }
-                }, t -> {
-                    logger.warn("Failed to export frame: {}", name, t);
-                    finish(projectId, workingJob, t);
-                });
+        final DataSet dataSet = createDataSet(projectId, StringCodecUtil.encodeUrlSafe(name + ".csv"));
+        dataSet.setGeneration(nextGeneration(projectId, dataSet.getId()));
+        dataSet.setPath(getS3Path(projectId, dataSet));
+        dataSet.setType(DataSet.PREDICT);
+        final AtomicReference<String> predictionsFrameRef = new AtomicReference<>();
+        final AtomicReference<String> destinationFrameRef = new AtomicReference<>();
+        final Executor executor = projectStorage.getTaskExecutor();
+        h2oHelper.predict(modelId, frameId).toFuture().thenComposeAsync(predictResponse -> {
+            final String predictionsFrameId = keyToString(checkResponse("predict", predictResponse).predictionsFrame);
+            predictionsFrameRef.set(predictionsFrameId);
+            workingJob.progress = 0.5f;
+            store(projectId, workingJob);
+            final String destinationFrameId = "combind-" + predictionsFrameId;
+            return h2oHelper.bindFrames(destinationFrameId, new String[] { predictionsFrameId, frameId }).toFuture()
+                    .thenApply(bindFramesResponse -> {
+                        checkResponse("bindFrames", bindFramesResponse);
+                        destinationFrameRef.set(destinationFrameId);
+                        return destinationFrameId;
+                    });
+        }, executor).thenComposeAsync(destinationFrameId -> {
+            workingJob.progress = 0.75f;
+            store(projectId, workingJob);
+            return h2oHelper.exportFrame(new FrameKeyV3(destinationFrameId), getPredictCsvPath(projectId, dataSet), true).toFuture();
+        }, executor).thenAcceptAsync(exportFrameResponse -> {
+            checkResponse("exportFrame", exportFrameResponse);
+            store(projectId, dataSet);
+            consumer.accept(dataSet);
+        }, executor).whenCompleteAsync((v, t) -> {
+            if (t != null) {
+                logger.warn("Failed to export frame: {}", name, unwrap(t));
+            }
+            finish(projectId, workingJob, unwrap(t));
+            if (destinationFrameRef.get() != null) {
+                deleteFrameQuietly(destinationFrameRef.get());
+            }
+            if (predictionsFrameRef.get() != null) {
+                deleteFrameQuietly(predictionsFrameRef.get());
+            }
+        }, executor);
     }
 
     public void writeDataSet(final String projectId, final DataSet dataSet, final WrittenStreamOut out) {
-        final FessConfig fessConfig = ComponentUtil.getFessConfig();
-        final MinioClient minioClient = createClient(fessConfig);
-        final String objectName = getDataPath(projectId, dataSet.getName());
-        try (InputStream in = minioClient.getObject(fessConfig.getStorageBucket(), objectName)) {
+        final String objectName = getDataPath(projectId, dataSet);
+        try (InputStream in = projectStorage.getObject(objectName)) {
             out.write(in);
         } catch (final Exception e) {
             throw new StorageException("Failed to write " + objectName, e);
@@ -806,11 +1310,12 @@ public class ProjectHelper {
 
     public void renewSession(final String projectId) {
         final Project project = getProject(projectId);
-        responseCache.invalidateAll();
+        cacheInvalidationBus.publish(CacheTag.project(projectId));
         deleteAllJobs(projectId);
         Arrays.stream(getFrames(project, (x, y) -> x.endsWith(y + ".hex"))).forEach(frameId -> {
             try {
                 final Response<FramesV3> deleteFrameResponse = h2oHelper.deleteFrame(frameId).execute();
+                cacheInvalidationBus.publish(CacheTag.frame(frameId));
                 if (logger.isDebugEnabled()) {
                     logger.debug("deleteFrame: {}", deleteFrameResponse);
                 }
@@ -827,21 +1332,17 @@ public class ProjectHelper {
     public void deleteProject(final String projectId) {
         h2oHelper.closeSession();
 
-        final FessConfig fessConfig = ComponentUtil.getFessConfig();
-        final MinioClient minioClient = createClient(fessConfig);
         final String path = projectFolderName + "/" + projectId + "/";
-        for (final Result<Item> result : minioClient.listObjects(fessConfig.getStorageBucket(), path, true)) {
-            try {
-                final Item item = result.get();
-                final String objectName = item.objectName();
-                if (logger.isDebugEnabled()) {
-                    logger.debug("objectName: {}", objectName);
-                }
-                minioClient.removeObject(fessConfig.getStorageBucket(), objectName);
-            } catch (final Exception e) {
-                logger.warn("Failed to remove an object from {}.", path, e);
+        try {
+            final List<String> objectNames = projectStorage.listObjects(path, true);
+            if (logger.isDebugEnabled()) {
+                logger.debug("objectNames: {}", objectNames);
             }
+            projectStorage.deleteObjects(objectNames);
+        } catch (final Exception e) {
+            logger.warn("Failed to remove objects from {}.", path, e);
         }
+        jobJournalMap.remove(projectId);
     }
 
     public void changeColumnType(final String projectId, final String frameId, final int index, final String columnType, final long from,
@@ -857,6 +1358,7 @@ public class ProjectHelper {
         if (logger.isDebugEnabled()) {
             logger.debug("changeColumnType: {}", response);
         }
+        cacheInvalidationBus.publish(CacheTag.frame(frameId));
         if (response.code() != 200) {
             throw new H2oAccessException("Failed to change Column " + index + " in " + frameId);
         }
@@ -884,8 +1386,8 @@ public class ProjectHelper {
 
     public FrameV3 getFrameData(final FramesV3 params) {
         try {
-            final String cacheKey = params.toString();
-            final FrameV3 frameData = (FrameV3) responseCache.get(cacheKey, () -> {
+            final CacheKey cacheKey = CacheKey.of(params);
+            final FrameV3 frameData = responseCache.get(CacheRegion.FRAME_DATA, cacheKey, () -> {
                 final Response<FramesV3> response = h2oHelper.getFrameData(params).execute();
                 if (logger.isDebugEnabled()) {
                     logger.debug("getFrameData: {}", response);
@@ -894,6 +1396,7 @@ public class ProjectHelper {
                     final FramesV3 frames = response.body();
                     for (final FrameV3 frame : frames.frames) {
                         if (params.frameId.name.equals(frame.frameId.name)) {
+                            frame.getFormattedRows();
                             return frame;
                         }
                     }
@@ -903,51 +1406,41 @@ public class ProjectHelper {
                 logger.warn("Failed to read leaderboard: {}", response);
                 throw new CacheNotFoundException();
             });
-            frameData.refresh();
             return frameData;
         } catch (final Exception e) {
-            if (e.getCause() instanceof CacheNotFoundException) {
-                return null;
-            }
             if (logger.isDebugEnabled()) {
                 logger.debug("Failed to get data from cache.", e);
             }
             return null;
-
         }
     }
 
     public ColV3 getFrameColumnData(final FramesV3 params) {
         try {
-            final String cacheKey = params.toString();
-            final ColV3 colData =
-                    (ColV3) responseCache.get(cacheKey, () -> {
-                        final Response<FramesV3> response = h2oHelper.getFrameColumnData(params).execute();
-                        if (logger.isDebugEnabled()) {
-                            logger.debug("getFrameColumnData: {}", response);
-                        }
-                        if (response.code() == 200) {
-                            final FramesV3 frames = response.body();
-                            if (frames.frames != null && frames.frames.length > 0 && frames.frames[0] != null
-                                    && frames.frames[0].columns.length > 0) {
-                                return frames.frames[0].columns[0];
-                            }
-                        } else if (response.code() == 404) {
-                            throw new CacheNotFoundException();
-                        }
-                        logger.warn("Failed to read leaderboard: {}", response);
-                        throw new CacheNotFoundException();
-                    });
+            final CacheKey cacheKey = CacheKey.of(params);
+            final ColV3 colData = responseCache.get(CacheRegion.COLUMN_DATA, cacheKey, () -> {
+                final Response<FramesV3> response = h2oHelper.getFrameColumnData(params).execute();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("getFrameColumnData: {}", response);
+                }
+                if (response.code() == 200) {
+                    final FramesV3 frames = response.body();
+                    if (frames.frames != null && frames.frames.length > 0 && frames.frames[0] != null
+                            && frames.frames[0].columns.length > 0) {
+                        return frames.frames[0].columns[0];
+                    }
+                } else if (response.code() == 404) {
+                    throw new CacheNotFoundException();
+                }
+                logger.warn("Failed to read leaderboard: {}", response);
+                throw new CacheNotFoundException();
+            });
             return colData;
         } catch (final Exception e) {
-            if (e.getCause() instanceof CacheNotFoundException) {
-                return null;
-            }
             if (logger.isDebugEnabled()) {
                 logger.debug("Failed to get data from cache.", e);
             }
             return null;
-
         }
     }
 
@@ -956,8 +1449,8 @@ public class ProjectHelper {
             return null;
         }
         try {
-            final String cacheKey = "model@" + projectId + "," + modelId;
-            return (ModelSchemaBaseV3) responseCache.get(cacheKey, () -> {
+            final CacheKey cacheKey = CacheKey.of(projectId, modelId);
+            return responseCache.get(CacheRegion.MODEL, cacheKey, () -> {
                 final Response<ModelsV3> response = h2oHelper.getModel(new ModelKeyV3(modelId)).execute();
                 if (logger.isDebugEnabled()) {
                     logger.debug("getModel: {}", response);
@@ -976,9 +1469,6 @@ public class ProjectHelper {
                 throw new CacheNotFoundException();
             });
         } catch (final Exception e) {
-            if (e.getCause() instanceof CacheNotFoundException) {
-                return null;
-            }
             if (logger.isDebugEnabled()) {
                 logger.debug("Failed to get data from cache.", e);
             }
@@ -1042,6 +1532,8 @@ public class ProjectHelper {
         if (logger.isDebugEnabled()) {
             logger.debug("deleteFrame: {}", response);
         }
+        // also evicts leaderboards which list the model
+        cacheInvalidationBus.publish(CacheTag.model(modelId));
         if (response.code() == 200) {
             logger.info("Deleted frame: {}", modelId);
         } else {
@@ -1060,12 +1552,9 @@ public class ProjectHelper {
             logger.debug("model: {}", json);
         }
 
-        final FessConfig fessConfig = ComponentUtil.getFessConfig();
-        final MinioClient minioClient = createClient(fessConfig);
         final String objectName = getModelConfigPath(projectId, leaderboardId, modelId);
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(json.getBytes(Constants.UTF_8_CHARSET))) {
-            final String bucketName = fessConfig.getStorageBucket();
-            minioClient.putObject(bucketName, objectName, bais, null, null, null, "application/json");
+        try {
+            projectStorage.putBytes(objectName, json.getBytes(Constants.UTF_8_CHARSET), "application/json");
         } catch (final Exception e) {
             throw new StorageException("Failed to create " + objectName, e);
         }
@@ -1130,96 +1619,98 @@ public class ProjectHelper {
         }, "ExportAllModels").start();
     }
 
-    protected InputStream openStorageObject(final MinioClient minioClient, final String bucketName, final String objectName) {
+    protected InputStream openStorageObject(final String objectName) {
         for (int i = 0; i < 60; i++) {
             try {
-                return minioClient.getObject(bucketName, objectName);
-            } catch (final ErrorResponseException e) {
-                if (e.errorResponse().errorCode() != ErrorCode.NO_SUCH_OBJECT) {
-                    throw new StorageException("Failed to access " + objectName, e);
+                return projectStorage.getObject(objectName);
+            } catch (final ObjectNotFoundException e) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("{} does not exist yet.", objectName);
                 }
-            } catch (final Exception e) {
-                throw new StorageException("Failed to access " + objectName, e);
             }
             ThreadUtil.sleepQuietly(1000L);
         }
         throw new StorageException(objectName + " does not exist");
     }
 
+    /**
+     * Writes the columns of the dataset to a new generation, and commits it by storing the dataset.
+     * Readers of the current generation are not affected until the commit.
+     */
     public void filterColumns(final String projectId, final DataSet dataSet, final Map<String, String> columnMap) {
-        final FessConfig fessConfig = ComponentUtil.getFessConfig();
-        final MinioClient minioClient = createClient(fessConfig);
-        final String objectName = getDataPath(projectId, dataSet.getName());
-        final String tempObjectName = objectName + ".tmp";
-        final CsvConfig csvConfig = new CsvConfig(',', '"', '"');
-        csvConfig.setIgnoreEmptyLines(true);
-        try (final CsvReader csvReader =
-                new CsvReader(new InputStreamReader(openStorageObject(minioClient, fessConfig.getStorageBucket(), objectName),
-                        Constants.UTF_8_CHARSET), csvConfig)) {
-            final Map<String, Integer> indexMap = new HashMap<>();
-            final List<String> headerList = csvReader.readValues();
-            for (int i = 0; i < headerList.size(); i++) {
-                final String name = headerList.get(i);
-                if (columnMap.containsKey(name)) {
-                    indexMap.put(columnMap.get(name), i);
-                }
-            }
-            if (indexMap.isEmpty()) {
+        final String objectName = getDataPath(projectId, dataSet);
+        final long generation = nextGeneration(projectId, dataSet.getId());
+        final String generationObjectName = getDataGenerationPath(projectId, dataSet.getId(), generation, dataSet.getName());
+        try (final InputStream in = openStorageObject(objectName)) {
+            final CsvProjector projector = new CsvProjector(in, columnMap);
+            if (!projector.hasColumns()) {
                 if (logger.isDebugEnabled()) {
                     logger.debug("columns do not exist: {}", columnMap);
                 }
                 return;
             }
 
-            try (final PipedOutputStream pipedOut = new PipedOutputStream(); final PipedInputStream pipedIn = new PipedInputStream()) {
-                final Thread pipeWriter = new Thread(() -> {
-                    try {
-                        minioClient.putObject(fessConfig.getStorageBucket(), tempObjectName, pipedIn, null, null, null, null);
-                    } catch (final Exception e) {
-                        logger.warn("Failed to write {}.", tempObjectName, e);
-                    }
-                });
-
-                pipedIn.connect(pipedOut);
-                pipeWriter.start();
-
-                try (final CsvWriter csvWriter = new CsvWriter(new OutputStreamWriter(pipedOut), csvConfig)) {
-                    final List<String> indices = columnMap.values().stream().collect(Collectors.toList());
-                    csvWriter.writeValues(indices);
-                    List<String> list;
-                    while ((list = csvReader.readValues()) != null) {
-                        final List<String> l = list;
-                        final List<String> valueList = indices.stream().map(s -> {
-                            if (indexMap.containsKey(s)) {
-                                final int index = indexMap.get(s).intValue();
-                                if (index < l.size()) {
-                                    return l.get(index);
-                                }
-                            }
-                            return StringUtil.EMPTY;
-                        }).collect(Collectors.toList());
-                        csvWriter.writeValues(valueList);
-                    }
+            try (final UploadOutputStream out = projectStorage.openUploadStream(generationObjectName, null)) {
+                final long size = projectStorage.getSize(objectName);
+                final long rows;
+                if (size >= csvChunkSize * 2) {
+                    final ParallelCsvProjector parallelProjector = new ParallelCsvProjector(
+                            (offset, length) -> projectStorage.getObject(objectName, offset, length), size, getCsvExecutor());
+                    parallelProjector.setChunkSize(csvChunkSize);
+                    parallelProjector.setMaxChunksInFlight(csvThreadSize * 2);
+                    rows = parallelProjector.writeTo(projector, out);
+                } else {
+                    rows = projector.writeTo(out);
+                }
+                out.commit();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("wrote {} rows to {}.", rows, generationObjectName);
                 }
-                pipeWriter.join();
             }
         } catch (final Exception e) {
-            throw new StorageException("Failed to write " + objectName, e);
+            throw new StorageException("Failed to write " + generationObjectName, e);
         }
 
-        try {
-            if (logger.isDebugEnabled()) {
-                logger.debug("copying {} to {}.", tempObjectName, objectName);
-            }
-            minioClient.copyObject(fessConfig.getStorageBucket(), objectName, null, null, fessConfig.getStorageBucket(), tempObjectName,
-                    null, null);
-            if (logger.isDebugEnabled()) {
-                logger.debug("removing {}.", tempObjectName);
+        dataSet.setGeneration(generation);
+        dataSet.setPath(getS3Path(projectId, dataSet));
+        store(projectId, dataSet);
+    }
+
+    protected ExecutorService getCsvExecutor() {
+        if (csvExecutor == null) {
+            synchronized (this) {
+                if (csvExecutor == null) {
+                    final AtomicInteger counter = new AtomicInteger();
+                    csvExecutor = Executors.newFixedThreadPool(csvThreadSize, r -> {
+                        final Thread thread = new Thread(r, "CsvProjector-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
             }
-            minioClient.removeObject(fessConfig.getStorageBucket(), tempObjectName);
-        } catch (final Exception e) {
-            throw new StorageException("Failed to update " + objectName, e);
         }
+        return csvExecutor;
+    }
+
+    /**
+     * @return the body of the successful response
+     * @throws H2oAccessException if the response is not successful
+     */
+    protected <T> T checkResponse(final String name, final Response<T> response) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("{}: {}", name, response);
+        }
+        if (response.code() != 200) {
+            throw new H2oAccessException("Failed to access " + response);
+        }
+        return response.body();
+    }
+
+    protected Throwable unwrap(final Throwable t) {
+        if (t instanceof CompletionException && t.getCause() != null) {
+            return t.getCause();
+        }
+        return t;
     }
 
     protected JobV3 createWorkingJob(final String target, final String description, final float progress) {
@@ -1257,25 +1748,63 @@ public class ProjectHelper {
         store(projectId, job);
     }
 
-    protected String getPredictCsvPath(final String projectId, final String name) {
+    public Map<String, StripedLock.LockStats> getLockStats() {
+        final Map<String, StripedLock.LockStats> statsMap = new LinkedHashMap<>();
+        statsMap.put("job.read", jobLock.getReadStats());
+        statsMap.put("job.write", jobLock.getWriteStats());
+        statsMap.put("manifest.write", manifestLock.getWriteStats());
+        return statsMap;
+    }
+
+    protected String getPredictCsvPath(final String projectId, final DataSet dataSet) {
         final FessConfig fessConfig = ComponentUtil.getFessConfig();
-        return "s3a://" + fessConfig.getStorageBucket() + "/" + projectFolderName + "/" + projectId + "/data/" + name + ".csv";
+        return "s3a://" + fessConfig.getStorageBucket() + "/" + getDataPath(projectId, dataSet);
     }
 
     protected String getDataPath(final String projectId, final String fileName) {
         return projectFolderName + "/" + projectId + "/data/" + fileName;
     }
 
+    /**
+     * @return the data object of the current generation of the dataset
+     */
+    protected String getDataPath(final String projectId, final DataSet dataSet) {
+        if (dataSet.getGeneration() == 0L) {
+            return getDataPath(projectId, dataSet.getName());
+        }
+        return getDataGenerationPath(projectId, dataSet.getId(), dataSet.getGeneration(), dataSet.getName());
+    }
+
+    protected String getDataGenerationsPath(final String projectId, final String dataSetId) {
+        return projectFolderName + "/" + projectId + "/generations/" + dataSetId + "/";
+    }
+
+    protected String getDataGenerationPath(final String projectId, final String dataSetId, final long generation, final String fileName) {
+        return getDataGenerationsPath(projectId, dataSetId) + generation + "/" + fileName;
+    }
+
     protected String getProjectConfigPath(final String projectId) {
         return projectFolderName + "/" + projectId + "/project.json";
     }
 
+    protected String getManifestPath(final String projectId) {
+        return projectFolderName + "/" + projectId + "/manifest.json";
+    }
+
+    protected String getJobsPath(final String projectId) {
+        return projectFolderName + "/" + projectId + "/jobs/";
+    }
+
     protected String getJobsConfigPath(final String projectId) {
         return projectFolderName + "/" + projectId + "/jobs.json";
     }
 
     protected String getDataSetConfigPath(final String projectId, final String dataSetId) {
-        return projectFolderName + "/" + projectId + "/config/" + dataSetId + "_dataset.json";
+        return projectFolderName + "/" + projectId + "/config/" + dataSetId + DATASET_CONFIG_SUFFIX;
+    }
+
+    protected String getLeaderboardPath(final String projectId, final String leaderboardId) {
+        return projectFolderName + "/" + projectId + "/leaderboard/" + StringCodecUtil.encodeUrlSafe(leaderboardId) + ".json";
     }
 
     protected String getS3Path(final String projectId, final String fileName) {
@@ -1283,6 +1812,11 @@ public class ProjectHelper {
         return "s3://" + fessConfig.getStorageBucket() + "/" + projectFolderName + "/" + projectId + "/data/" + fileName;
     }
 
+    protected String getS3Path(final String projectId, final DataSet dataSet) {
+        final FessConfig fessConfig = ComponentUtil.getFessConfig();
+        return "s3://" + fessConfig.getStorageBucket() + "/" + getDataPath(projectId, dataSet);
+    }
+
     protected String getModelConfigPath(final String projectId, final String leaderboardId, final String modelId) {
         return projectFolderName + "/" + projectId + "/model/" + StringCodecUtil.encodeUrlSafe(leaderboardId) + "/" + modelId + ".json";
     }
@@ -692,6 +692,60 @@ public class FioneLabels extends FessMessages {
     /** The key of the message: No available servers. */
     public static final String LABELS_systemml_no_servers = "{labels.systemml_no_servers}";
 
+    /** The key of the message: Response Cache */
+    public static final String LABELS_systemml_cache = "{labels.systemml_cache}";
+
+    /** The key of the message: Region */
+    public static final String LABELS_systemml_cache_region = "{labels.systemml_cache_region}";
+
+    /** The key of the message: Entries */
+    public static final String LABELS_systemml_cache_entries = "{labels.systemml_cache_entries}";
+
+    /** The key of the message: Size(Used/Max) */
+    public static final String LABELS_systemml_cache_size = "{labels.systemml_cache_size}";
+
+    /** The key of the message: TTL */
+    public static final String LABELS_systemml_cache_ttl = "{labels.systemml_cache_ttl}";
+
+    /** The key of the message: Hit Ratio */
+    public static final String LABELS_systemml_cache_hit_ratio = "{labels.systemml_cache_hit_ratio}";
+
+    /** The key of the message: Hits */
+    public static final String LABELS_systemml_cache_hits = "{labels.systemml_cache_hits}";
+
+    /** The key of the message: Misses */
+    public static final String LABELS_systemml_cache_misses = "{labels.systemml_cache_misses}";
+
+    /** The key of the message: Negative Hits */
+    public static final String LABELS_systemml_cache_negative_hits = "{labels.systemml_cache_negative_hits}";
+
+    /** The key of the message: Evictions */
+    public static final String LABELS_systemml_cache_evictions = "{labels.systemml_cache_evictions}";
+
+    /** The key of the message: Avg Load Time */
+    public static final String LABELS_systemml_cache_load_time = "{labels.systemml_cache_load_time}";
+
+    /** The key of the message: Disk */
+    public static final String LABELS_systemml_cache_disk = "{labels.systemml_cache_disk}";
+
+    /** The key of the message: Locks */
+    public static final String LABELS_systemml_lock = "{labels.systemml_lock}";
+
+    /** The key of the message: Lock */
+    public static final String LABELS_systemml_lock_name = "{labels.systemml_lock_name}";
+
+    /** The key of the message: Acquisitions */
+    public static final String LABELS_systemml_lock_count = "{labels.systemml_lock_count}";
+
+    /** The key of the message: Contended */
+    public static final String LABELS_systemml_lock_contended = "{labels.systemml_lock_contended}";
+
+    /** The key of the message: Wait Time(Total/Max) */
+    public static final String LABELS_systemml_lock_wait_time = "{labels.systemml_lock_wait_time}";
+
+    /** The key of the message: Hold Time(Total/Max) */
+    public static final String LABELS_systemml_lock_hold_time = "{labels.systemml_lock_hold_time}";
+
     /**
      * Assert the property is not null.
      * @param property The value of the property. (NotNull)
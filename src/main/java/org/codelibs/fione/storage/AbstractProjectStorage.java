@@ -0,0 +1,229 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.codelibs.fess.exception.StorageException;
+
+public abstract class AbstractProjectStorage implements ProjectStorage {
+
+    private static final Logger logger = LogManager.getLogger(AbstractProjectStorage.class);
+
+    protected int asyncThreadSize = 4;
+
+    protected int asyncQueueSize = 1000;
+
+    protected int uploadThreadSize = 4;
+
+    protected int taskThreadSize = 8;
+
+    protected int uploadPartSize = 8 * 1024 * 1024;
+
+    protected int uploadBufferCount = 4;
+
+    protected final StorageStats stats = new StorageStats();
+
+    private volatile ExecutorService executorService;
+
+    private volatile ExecutorService uploadExecutorService;
+
+    private volatile ExecutorService taskExecutorService;
+
+    @PreDestroy
+    public void destroy() {
+        shutdown(taskExecutorService);
+        shutdown(uploadExecutorService);
+        shutdown(executorService);
+    }
+
+    protected void shutdown(final ExecutorService executor) {
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (final InterruptedException e) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Override
+    public byte[] getBytes(final String objectName) {
+        try (InputStream in = getObject(objectName)) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new StorageException("Failed to read " + objectName, e);
+        }
+    }
+
+    @Override
+    public VersionedObject getVersionedObject(final String objectName) {
+        // the tag is read first, so a later conditional write fails if the content is newer
+        final String etag = getETag(objectName);
+        return new VersionedObject(getBytes(objectName), etag);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> getBytesAsync(final String objectName) {
+        return CompletableFuture.supplyAsync(() -> getBytes(objectName), getExecutorService());
+    }
+
+    @Override
+    public CompletableFuture<Void> putBytesAsync(final String objectName, final byte[] data, final String contentType) {
+        return CompletableFuture.runAsync(() -> putBytes(objectName, data, contentType), getExecutorService());
+    }
+
+    @Override
+    public CompletableFuture<List<String>> listObjectsAsync(final String prefix, final boolean recursive) {
+        return CompletableFuture.supplyAsync(() -> listObjects(prefix, recursive), getExecutorService());
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteObjectsAsync(final List<String> objectNames) {
+        return CompletableFuture.runAsync(() -> deleteObjects(objectNames), getExecutorService());
+    }
+
+    @Override
+    public UploadOutputStream openUploadStream(final String objectName, final String contentType) {
+        return new UploadOutputStream(this, objectName, contentType, getUploadExecutorService(), uploadPartSize, uploadBufferCount);
+    }
+
+    @Override
+    public StorageStats getStats() {
+        return stats;
+    }
+
+    protected <T> T measure(final String operation, final Supplier<T> supplier) {
+        final long start = System.nanoTime();
+        boolean success = false;
+        try {
+            final T result = supplier.get();
+            success = true;
+            return result;
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            stats.record(operation, elapsed, success);
+            if (logger.isDebugEnabled()) {
+                logger.debug("{}: {}ns, success={}", operation, elapsed, success);
+            }
+        }
+    }
+
+    protected void measure(final String operation, final Runnable runnable) {
+        measure(operation, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    protected ExecutorService getExecutorService() {
+        if (executorService == null) {
+            synchronized (this) {
+                if (executorService == null) {
+                    final AtomicInteger counter = new AtomicInteger();
+                    executorService =
+                            new ThreadPoolExecutor(asyncThreadSize, asyncThreadSize, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(
+                                    asyncQueueSize), r -> {
+                                final Thread thread = new Thread(r, "ProjectStorage-" + counter.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            }, new ThreadPoolExecutor.CallerRunsPolicy());
+                }
+            }
+        }
+        return executorService;
+    }
+
+    /**
+     * Uploads run on their own threads, because an upload waits for the writer, which may be a thread of the async executor.
+     */
+    protected ExecutorService getUploadExecutorService() {
+        if (uploadExecutorService == null) {
+            synchronized (this) {
+                if (uploadExecutorService == null) {
+                    final AtomicInteger counter = new AtomicInteger();
+                    uploadExecutorService =
+                            new ThreadPoolExecutor(uploadThreadSize, uploadThreadSize, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                    r -> {
+                                        final Thread thread = new Thread(r, "ProjectStorageUpload-" + counter.incrementAndGet());
+                                        thread.setDaemon(true);
+                                        return thread;
+                                    });
+                }
+            }
+        }
+        return uploadExecutorService;
+    }
+
+    @Override
+    public Executor getTaskExecutor() {
+        if (taskExecutorService == null) {
+            synchronized (this) {
+                if (taskExecutorService == null) {
+                    final AtomicInteger counter = new AtomicInteger();
+                    taskExecutorService =
+                            new ThreadPoolExecutor(taskThreadSize, taskThreadSize, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                                final Thread thread = new Thread(r, "ProjectStorageTask-" + counter.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                }
+            }
+        }
+        return taskExecutorService;
+    }
+
+    public void setAsyncThreadSize(final int asyncThreadSize) {
+        this.asyncThreadSize = asyncThreadSize;
+    }
+
+    public void setAsyncQueueSize(final int asyncQueueSize) {
+        this.asyncQueueSize = asyncQueueSize;
+    }
+
+    public void setUploadThreadSize(final int uploadThreadSize) {
+        this.uploadThreadSize = uploadThreadSize;
+    }
+
+    public void setTaskThreadSize(final int taskThreadSize) {
+        this.taskThreadSize = taskThreadSize;
+    }
+
+    public void setUploadPartSize(final int uploadPartSize) {
+        this.uploadPartSize = uploadPartSize;
+    }
+
+    public void setUploadBufferCount(final int uploadBufferCount) {
+        this.uploadBufferCount = uploadBufferCount;
+    }
+}
@@ -0,0 +1,492 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.storage;
+
+import static org.codelibs.fione.h2o.bindings.H2oApi.keyToString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.codelibs.fess.crawler.Constants;
+import org.codelibs.fess.exception.StorageException;
+import org.codelibs.fione.exception.ConflictException;
+import org.codelibs.fione.exception.ObjectNotFoundException;
+import org.codelibs.fione.h2o.bindings.pojos.JobV3;
+
+import com.google.gson.Gson;
+
+/**
+ * Append-only job store of a project.
+ * Each job update is written as one small journal entry, and the entries are
+ * folded into snapshot.json when their number reaches the compaction size.
+ * Reading merges the snapshot and the remaining entries in sequence order.
+ * The merged jobs are kept with the entity tag of the snapshot and the last applied sequence,
+ * so a read fetches the entries following that sequence one by one without listing the journal.
+ * Only when no entry follows, the entity tag of the snapshot is checked, and the journal is read in full
+ * when it has changed, which means that it was compacted or reset.
+ * Nothing is written until the first write, which stores the initial jobs as the first snapshot.
+ * In distributed mode, writes are serialized across nodes by a lease in the journal folder,
+ * and entries are created only if absent, so a stale sequence never overwrites another node's entry.
+ */
+public class JobJournal {
+
+    private static final Logger logger = LogManager.getLogger(JobJournal.class);
+
+    protected static final String PUT = "put";
+
+    protected static final String DELETE = "delete";
+
+    protected static final int MAX_READ_ATTEMPTS = 3;
+
+    protected final ProjectStorage storage;
+
+    protected final Gson gson;
+
+    protected final String basePath;
+
+    protected final Supplier<JobV3[]> initialJobs;
+
+    protected int compactionSize = 50;
+
+    protected StorageCoordinator coordinator;
+
+    protected long leaseTime = 30000L;
+
+    protected long leaseTimeout = 10000L;
+
+    private long lastSeq = -1;
+
+    private long snapshotSeq;
+
+    private volatile boolean initialized;
+
+    private volatile View view;
+
+    /**
+     * @param basePath the folder of the journal, ending with "/"
+     * @param initialJobs jobs to start with when neither a snapshot nor entries exist
+     */
+    public JobJournal(final ProjectStorage storage, final Gson gson, final String basePath, final Supplier<JobV3[]> initialJobs) {
+        this.storage = storage;
+        this.gson = gson;
+        this.basePath = basePath;
+        this.initialJobs = initialJobs;
+    }
+
+    public JobV3[] read() {
+        for (int i = 1;; i++) {
+            try {
+                return readOnce();
+            } catch (final ObjectNotFoundException e) {
+                // an entry was removed by compaction while reading
+                if (i >= MAX_READ_ATTEMPTS) {
+                    throw e;
+                }
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Retry to read {}.", basePath, e);
+                }
+            }
+        }
+    }
+
+    protected JobV3[] readOnce() {
+        final View current = view;
+        if (current != null) {
+            final View next = readNext(current);
+            if (next != null) {
+                view = next;
+                return next.jobMap.values().toArray(n -> new JobV3[n]);
+            }
+        }
+        return readAll();
+    }
+
+    /**
+     * Applies the entries following the sequence of the view until one is missing.
+     * Entries are appended in sequence order, so the applied ones are always a consistent prefix.
+     *
+     * @return null if the snapshot has changed since the view was read
+     */
+    protected View readNext(final View current) {
+        Map<String, JobV3> jobMap = null;
+        long seq = current.seq;
+        for (;; seq++) {
+            final byte[] data;
+            try {
+                data = storage.getBytes(getEntryPath(seq + 1));
+            } catch (final ObjectNotFoundException e) {
+                break;
+            }
+            if (jobMap == null) {
+                jobMap = new LinkedHashMap<>(current.jobMap);
+            }
+            apply(jobMap, data);
+        }
+        if (jobMap != null) {
+            return new View(current.etag, seq, jobMap);
+        }
+        // nothing was appended, or the entries were removed by compaction or reset
+        return Objects.equals(getSnapshotETag(), current.etag) ? current : null;
+    }
+
+    protected JobV3[] readAll() {
+        for (int i = 1;; i++) {
+            final View current = readView();
+            final List<String> entryNames = listEntries(current.seq);
+            if (!Objects.equals(getSnapshotETag(), current.etag)) {
+                // compacted or reset after the snapshot was read, so the listed entries may not follow it
+                if (i >= MAX_READ_ATTEMPTS) {
+                    throw new StorageException("The snapshot in " + basePath + " was changed while reading.");
+                }
+                continue;
+            }
+            if (current.etag == null && entryNames.isEmpty()) {
+                return initialJobs.get();
+            }
+            View next = current;
+            if (!entryNames.isEmpty()) {
+                final Map<String, JobV3> jobMap = new LinkedHashMap<>(current.jobMap);
+                apply(jobMap, entryNames);
+                next = new View(current.etag, parseSeq(entryNames.get(entryNames.size() - 1)), jobMap);
+            }
+            view = next;
+            return next.jobMap.values().toArray(n -> new JobV3[n]);
+        }
+    }
+
+    public synchronized void put(final JobV3 job) {
+        final Entry entry = new Entry();
+        entry.op = PUT;
+        entry.jobId = keyToString(job.key);
+        entry.job = job;
+        write(() -> append(entry));
+    }
+
+    public synchronized void delete(final String jobId) {
+        final Entry entry = new Entry();
+        entry.op = DELETE;
+        entry.jobId = jobId;
+        write(() -> append(entry));
+    }
+
+    /**
+     * Replaces all jobs by writing a new snapshot.
+     */
+    public synchronized void reset(final JobV3[] jobs) {
+        write(() -> {
+            final long seq = nextSeq();
+            writeSnapshot(seq, jobs);
+            removeEntries(seq);
+        });
+    }
+
+    /**
+     * Folds the journal entries into the snapshot.
+     */
+    public synchronized void compact() {
+        write(this::doCompact);
+    }
+
+    /**
+     * Stores the initial jobs as the first snapshot unless the journal has been written.
+     * Nothing is accessed once this instance has initialized the journal.
+     */
+    public synchronized void initialize() {
+        if (!initialized) {
+            write(() -> {});
+        }
+    }
+
+    protected void write(final Runnable runnable) {
+        if (isDistributed()) {
+            coordinator.withLease(basePath + "writer.lease", leaseTime, leaseTimeout, () -> {
+                // other nodes may have appended entries
+                lastSeq = -1;
+                ensureInitialized();
+                runnable.run();
+            });
+        } else {
+            ensureInitialized();
+            runnable.run();
+        }
+    }
+
+    protected boolean isDistributed() {
+        return coordinator != null && coordinator.isDistributed();
+    }
+
+    protected void doCompact() {
+        final long seq = getLastSeq();
+        final JobV3[] jobs = read();
+        writeSnapshot(seq, jobs);
+        removeEntries(seq);
+        logger.info("Compacted jobs in {} at {}.", basePath, seq);
+    }
+
+    protected void ensureInitialized() {
+        if (initialized) {
+            return;
+        }
+        if (!storage.exists(getSnapshotPath()) && storage.listObjects(getEntryFolder(), true).isEmpty()) {
+            logger.info("Create job snapshot in {}.", basePath);
+            writeSnapshot(0, initialJobs.get());
+        }
+        initialized = true;
+    }
+
+    protected void append(final Entry entry) {
+        entry.time = System.currentTimeMillis();
+        for (int i = 1;; i++) {
+            entry.seq = nextSeq();
+            final byte[] data = gson.toJson(entry).getBytes(Constants.UTF_8_CHARSET);
+            if (!isDistributed()) {
+                try {
+                    storage.putBytes(getEntryPath(entry.seq), data, "application/json");
+                } catch (final RuntimeException e) {
+                    // not to leave a gap in the sequence
+                    lastSeq = -1;
+                    throw e;
+                }
+                break;
+            }
+            try {
+                storage.putBytesIfMatch(getEntryPath(entry.seq), data, "application/json", null);
+                break;
+            } catch (final ConflictException e) {
+                if (i >= MAX_READ_ATTEMPTS) {
+                    throw e;
+                }
+                logger.warn("Sequence {} in {} is used by another node.", entry.seq, basePath);
+                lastSeq = -1;
+            }
+        }
+        if (entry.seq - snapshotSeq >= compactionSize) {
+            try {
+                doCompact();
+            } catch (final Exception e) {
+                logger.warn("Failed to compact {}.", basePath, e);
+            }
+        }
+    }
+
+    protected void apply(final Map<String, JobV3> jobMap, final List<String> entryNames) {
+        final List<CompletableFuture<byte[]>> futures = new ArrayList<>(entryNames.size());
+        for (final String entryName : entryNames) {
+            futures.add(storage.getBytesAsync(entryName));
+        }
+        for (final CompletableFuture<byte[]> future : futures) {
+            final byte[] data;
+            try {
+                data = future.join();
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof StorageException) {
+                    throw (StorageException) e.getCause();
+                }
+                throw new StorageException("Failed to read entries in " + basePath, e);
+            }
+            apply(jobMap, data);
+        }
+    }
+
+    protected void apply(final Map<String, JobV3> jobMap, final byte[] data) {
+        final Entry entry = gson.fromJson(new String(data, Constants.UTF_8_CHARSET), Entry.class);
+        if (PUT.equals(entry.op)) {
+            jobMap.put(entry.jobId, entry.job);
+        } else if (DELETE.equals(entry.op)) {
+            jobMap.remove(entry.jobId);
+        }
+    }
+
+    protected View readView() {
+        try {
+            final VersionedObject object = storage.getVersionedObject(getSnapshotPath());
+            final Snapshot snapshot = parseSnapshot(object.getData());
+            final Map<String, JobV3> jobMap = new LinkedHashMap<>();
+            for (final JobV3 job : snapshot.jobs) {
+                jobMap.put(keyToString(job.key), job);
+            }
+            return new View(object.getETag(), snapshot.seq, jobMap);
+        } catch (final ObjectNotFoundException e) {
+            return new View(null, 0, Collections.emptyMap());
+        }
+    }
+
+    protected String getSnapshotETag() {
+        try {
+            return storage.getETag(getSnapshotPath());
+        } catch (final ObjectNotFoundException e) {
+            return null;
+        }
+    }
+
+    protected Snapshot readSnapshot() {
+        try {
+            return parseSnapshot(storage.getBytes(getSnapshotPath()));
+        } catch (final ObjectNotFoundException e) {
+            return null;
+        }
+    }
+
+    protected Snapshot parseSnapshot(final byte[] data) {
+        Snapshot snapshot = gson.fromJson(new String(data, Constants.UTF_8_CHARSET), Snapshot.class);
+        if (snapshot == null) {
+            snapshot = new Snapshot();
+        }
+        if (snapshot.jobs == null) {
+            snapshot.jobs = new JobV3[0];
+        }
+        return snapshot;
+    }
+
+    protected void writeSnapshot(final long seq, final JobV3[] jobs) {
+        final Snapshot snapshot = new Snapshot();
+        snapshot.seq = seq;
+        snapshot.time = System.currentTimeMillis();
+        snapshot.jobs = jobs;
+        storage.putBytes(getSnapshotPath(), gson.toJson(snapshot).getBytes(Constants.UTF_8_CHARSET), "application/json");
+        snapshotSeq = seq;
+    }
+
+    protected void removeEntries(final long seq) {
+        final List<String> entryNames = new ArrayList<>();
+        for (final String entryName : storage.listObjects(getEntryFolder(), true)) {
+            final long entrySeq = parseSeq(entryName);
+            if (entrySeq >= 0 && entrySeq <= seq) {
+                entryNames.add(entryName);
+            }
+        }
+        storage.deleteObjects(entryNames);
+    }
+
+    /**
+     * @return entry names after the sequence, in sequence order
+     */
+    protected List<String> listEntries(final long afterSeq) {
+        final List<String> entryNames = new ArrayList<>();
+        for (final String entryName : storage.listObjects(getEntryFolder(), true)) {
+            if (parseSeq(entryName) > afterSeq) {
+                entryNames.add(entryName);
+            }
+        }
+        Collections.sort(entryNames);
+        return entryNames;
+    }
+
+    protected long nextSeq() {
+        lastSeq = getLastSeq() + 1;
+        return lastSeq;
+    }
+
+    protected long getLastSeq() {
+        if (lastSeq < 0) {
+            final Snapshot snapshot = readSnapshot();
+            snapshotSeq = snapshot != null ? snapshot.seq : 0;
+            long seq = snapshotSeq;
+            for (final String entryName : storage.listObjects(getEntryFolder(), true)) {
+                seq = Math.max(seq, parseSeq(entryName));
+            }
+            lastSeq = seq;
+        }
+        return lastSeq;
+    }
+
+    protected long parseSeq(final String entryName) {
+        final int start = entryName.lastIndexOf('/') + 1;
+        final int end = entryName.lastIndexOf(".json");
+        if (end <= start) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(entryName.substring(start, end));
+        } catch (final NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    protected String getSnapshotPath() {
+        return basePath + "snapshot.json";
+    }
+
+    protected String getEntryFolder() {
+        return basePath + "journal/";
+    }
+
+    protected String getEntryPath(final long seq) {
+        return getEntryFolder() + String.format("%020d", seq) + ".json";
+    }
+
+    public void setCompactionSize(final int compactionSize) {
+        this.compactionSize = compactionSize;
+    }
+
+    public void setCoordinator(final StorageCoordinator coordinator) {
+        this.coordinator = coordinator;
+    }
+
+    public void setLeaseTime(final long leaseTime) {
+        this.leaseTime = leaseTime;
+    }
+
+    public void setLeaseTimeout(final long leaseTimeout) {
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    protected static class Entry {
+        protected long seq;
+
+        protected long time;
+
+        protected String op;
+
+        protected String jobId;
+
+        protected JobV3 job;
+    }
+
+    /**
+     * Jobs merged from the snapshot with the entity tag and the entries up to the sequence.
+     */
+    protected static class View {
+        protected final String etag;
+
+        protected final long seq;
+
+        protected final Map<String, JobV3> jobMap;
+
+        protected View(final String etag, final long seq, final Map<String, JobV3> jobMap) {
+            this.etag = etag;
+            this.seq = seq;
+            this.jobMap = jobMap;
+        }
+    }
+
+    protected static class Snapshot {
+        protected long seq;
+
+        protected long time;
+
+        protected JobV3[] jobs;
+    }
+}
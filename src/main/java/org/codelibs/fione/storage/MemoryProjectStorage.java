@@ -0,0 +1,208 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.codelibs.fess.exception.StorageException;
+import org.codelibs.fione.exception.ConflictException;
+import org.codelibs.fione.exception.ObjectNotFoundException;
+
+/**
+ * ProjectStorage on heap memory, for tests and benchmarks.
+ */
+public class MemoryProjectStorage extends AbstractProjectStorage {
+
+    protected final ConcurrentNavigableMap<String, StoredObject> objectMap = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void ensureBucket() {
+        // nothing
+    }
+
+    @Override
+    public InputStream getObject(final String objectName) {
+        return measure("getObject", () -> new ByteArrayInputStream(getStoredObject(objectName).data));
+    }
+
+    @Override
+    public InputStream getObject(final String objectName, final long offset, final long length) {
+        return measure("getObject", () -> {
+            final byte[] data = getStoredObject(objectName).data;
+            final int start = (int) Math.min(offset, data.length);
+            final int end = length < 0 ? data.length : (int) Math.min(offset + length, data.length);
+            return new ByteArrayInputStream(data, start, end - start);
+        });
+    }
+
+    @Override
+    public long getSize(final String objectName) {
+        return measure("getSize", () -> (long) getStoredObject(objectName).data.length);
+    }
+
+    @Override
+    public byte[] getBytes(final String objectName) {
+        return measure("getBytes", () -> getStoredObject(objectName).data.clone());
+    }
+
+    @Override
+    public void putObject(final String objectName, final InputStream in, final long size, final String contentType) {
+        measure("putObject", () -> {
+            try {
+                objectMap.put(objectName, new StoredObject(in.readAllBytes(), contentType));
+            } catch (final IOException e) {
+                throw new StorageException("Failed to store " + objectName, e);
+            }
+        });
+    }
+
+    @Override
+    public void putBytes(final String objectName, final byte[] data, final String contentType) {
+        measure("putBytes", () -> {
+            objectMap.put(objectName, new StoredObject(data.clone(), contentType));
+        });
+    }
+
+    @Override
+    public List<String> listObjects(final String prefix, final boolean recursive) {
+        return measure("listObjects", () -> {
+            final List<String> list = new ArrayList<>();
+            String lastFolder = null;
+            for (final String objectName : objectMap.tailMap(prefix).keySet()) {
+                if (!objectName.startsWith(prefix)) {
+                    break;
+                }
+                final int pos = objectName.indexOf('/', prefix.length());
+                if (recursive || pos == -1) {
+                    list.add(objectName);
+                } else {
+                    final String folder = objectName.substring(0, pos + 1);
+                    if (!folder.equals(lastFolder)) {
+                        list.add(folder);
+                        lastFolder = folder;
+                    }
+                }
+            }
+            return list;
+        });
+    }
+
+    @Override
+    public boolean exists(final String objectName) {
+        return measure("exists", () -> objectMap.containsKey(objectName));
+    }
+
+    @Override
+    public String getETag(final String objectName) {
+        return measure("getETag", () -> getStoredObject(objectName).etag);
+    }
+
+    @Override
+    public VersionedObject getVersionedObject(final String objectName) {
+        return measure("getVersionedObject", () -> {
+            final StoredObject object = getStoredObject(objectName);
+            return new VersionedObject(object.data.clone(), object.etag);
+        });
+    }
+
+    @Override
+    public void putBytesIfMatch(final String objectName, final byte[] data, final String contentType, final String etag) {
+        measure("putBytesIfMatch", () -> {
+            objectMap.compute(objectName, (k, current) -> {
+                if (etag == null ? current != null : current == null || !etag.equals(current.etag)) {
+                    throw new ConflictException(objectName + " was changed by another writer.");
+                }
+                return new StoredObject(data.clone(), contentType);
+            });
+        });
+    }
+
+    @Override
+    public void copyObject(final String sourceObjectName, final String targetObjectName) {
+        measure("copyObject", () -> {
+            final StoredObject source = getStoredObject(sourceObjectName);
+            objectMap.put(targetObjectName, new StoredObject(source.data, source.contentType));
+        });
+    }
+
+    @Override
+    public void deleteObject(final String objectName) {
+        measure("deleteObject", () -> {
+            objectMap.remove(objectName);
+        });
+    }
+
+    @Override
+    public void deleteObjects(final List<String> objectNames) {
+        measure("deleteObjects", () -> {
+            objectNames.forEach(objectMap::remove);
+        });
+    }
+
+    public Map<String, StoredObject> getObjectMap() {
+        return objectMap;
+    }
+
+    protected StoredObject getStoredObject(final String objectName) {
+        final StoredObject object = objectMap.get(objectName);
+        if (object == null) {
+            throw new ObjectNotFoundException(objectName + " does not exist");
+        }
+        return object;
+    }
+
+    public static class StoredObject {
+
+        private static final AtomicLong VERSION = new AtomicLong();
+
+        protected final byte[] data;
+
+        protected final String contentType;
+
+        protected final long lastModified = System.currentTimeMillis();
+
+        protected final String etag = Long.toHexString(VERSION.incrementAndGet());
+
+        protected StoredObject(final byte[] data, final String contentType) {
+            this.data = data;
+            this.contentType = contentType;
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public String getETag() {
+            return etag;
+        }
+    }
+}
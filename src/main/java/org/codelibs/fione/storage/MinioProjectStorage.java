@@ -0,0 +1,325 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.codelibs.fess.exception.StorageException;
+import org.codelibs.fess.mylasta.direction.FessConfig;
+import org.codelibs.fess.util.ComponentUtil;
+import org.codelibs.fione.exception.ConflictException;
+import org.codelibs.fione.exception.ObjectNotFoundException;
+
+import io.minio.ErrorCode;
+import io.minio.MinioClient;
+import io.minio.Result;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.DeleteError;
+import io.minio.messages.Item;
+
+/**
+ * ProjectStorage on MinIO/S3.
+ * A MinioClient keeps its HTTP connection pool, so one client is shared
+ * until the endpoint or credentials are changed.
+ */
+public class MinioProjectStorage extends AbstractProjectStorage {
+
+    private static final Logger logger = LogManager.getLogger(MinioProjectStorage.class);
+
+    private volatile ClientHolder clientHolder;
+
+    private volatile String checkedBucketName;
+
+    @Override
+    public void ensureBucket() {
+        final String bucketName = getBucketName();
+        if (bucketName.equals(checkedBucketName)) {
+            return;
+        }
+        measure("ensureBucket", () -> {
+            try {
+                final MinioClient minioClient = getClient();
+                if (!minioClient.bucketExists(bucketName)) {
+                    minioClient.makeBucket(bucketName);
+                    logger.info("Create bucket {}.", bucketName);
+                }
+                checkedBucketName = bucketName;
+            } catch (final Exception e) {
+                throw new StorageException("Failed to create " + bucketName, e);
+            }
+        });
+    }
+
+    @Override
+    public InputStream getObject(final String objectName) {
+        return measure("getObject", () -> {
+            try {
+                return getClient().getObject(getBucketName(), objectName);
+            } catch (final Exception e) {
+                throw toStorageException("Failed to read " + objectName, e);
+            }
+        });
+    }
+
+    @Override
+    public InputStream getObject(final String objectName, final long offset, final long length) {
+        return measure("getObject", () -> {
+            try {
+                return getClient().getObject(getBucketName(), objectName, offset, length < 0 ? null : Long.valueOf(length));
+            } catch (final Exception e) {
+                throw toStorageException("Failed to read " + objectName, e);
+            }
+        });
+    }
+
+    @Override
+    public long getSize(final String objectName) {
+        return measure("getSize", () -> {
+            try {
+                return getClient().statObject(getBucketName(), objectName).length();
+            } catch (final Exception e) {
+                throw toStorageException("Failed to access " + objectName, e);
+            }
+        });
+    }
+
+    @Override
+    public byte[] getBytes(final String objectName) {
+        return measure("getBytes", () -> {
+            try (InputStream in = getClient().getObject(getBucketName(), objectName)) {
+                return in.readAllBytes();
+            } catch (final Exception e) {
+                throw toStorageException("Failed to read " + objectName, e);
+            }
+        });
+    }
+
+    @Override
+    public void putObject(final String objectName, final InputStream in, final long size, final String contentType) {
+        measure("putObject", () -> {
+            try {
+                getClient().putObject(getBucketName(), objectName, in, size < 0 ? null : Long.valueOf(size), null, null, contentType);
+            } catch (final Exception e) {
+                throw new StorageException("Failed to store " + objectName, e);
+            }
+        });
+    }
+
+    @Override
+    public void putBytes(final String objectName, final byte[] data, final String contentType) {
+        measure("putBytes", () -> {
+            try (ByteArrayInputStream bais = new ByteArrayInputStream(data)) {
+                getClient().putObject(getBucketName(), objectName, bais, Long.valueOf(data.length), null, null, contentType);
+            } catch (final Exception e) {
+                throw new StorageException("Failed to store " + objectName, e);
+            }
+        });
+    }
+
+    @Override
+    public List<String> listObjects(final String prefix, final boolean recursive) {
+        return measure("listObjects", () -> {
+            final List<String> list = new ArrayList<>();
+            try {
+                for (final Result<Item> result : getClient().listObjects(getBucketName(), prefix, recursive)) {
+                    list.add(result.get().objectName());
+                }
+            } catch (final Exception e) {
+                throw toStorageException("Failed to list " + prefix, e);
+            }
+            return list;
+        });
+    }
+
+    @Override
+    public boolean exists(final String objectName) {
+        return measure("exists", () -> {
+            try {
+                return getClient().statObject(getBucketName(), objectName) != null;
+            } catch (final Exception e) {
+                if (isNotFound(e)) {
+                    return false;
+                }
+                throw new StorageException("Failed to access " + objectName, e);
+            }
+        });
+    }
+
+    @Override
+    public String getETag(final String objectName) {
+        return measure("getETag", () -> {
+            try {
+                return normalizeETag(getClient().statObject(getBucketName(), objectName).etag());
+            } catch (final Exception e) {
+                throw toStorageException("Failed to access " + objectName, e);
+            }
+        });
+    }
+
+    @Override
+    public void putBytesIfMatch(final String objectName, final byte[] data, final String contentType, final String etag) {
+        measure("putBytesIfMatch", () -> {
+            final Map<String, String> headerMap = new HashMap<>();
+            if (etag == null) {
+                headerMap.put("If-None-Match", "*");
+            } else {
+                headerMap.put("If-Match", "\"" + etag + "\"");
+            }
+            try (ByteArrayInputStream bais = new ByteArrayInputStream(data)) {
+                getClient().putObject(getBucketName(), objectName, bais, Long.valueOf(data.length), headerMap, null, contentType);
+            } catch (final Exception e) {
+                if (isPreconditionFailed(e)) {
+                    throw new ConflictException(objectName + " was changed by another writer.", e);
+                }
+                throw new StorageException("Failed to store " + objectName, e);
+            }
+        });
+    }
+
+    @Override
+    public void copyObject(final String sourceObjectName, final String targetObjectName) {
+        measure("copyObject", () -> {
+            try {
+                final String bucketName = getBucketName();
+                getClient().copyObject(bucketName, targetObjectName, null, null, bucketName, sourceObjectName, null, null);
+            } catch (final Exception e) {
+                throw toStorageException("Failed to copy " + sourceObjectName + " to " + targetObjectName, e);
+            }
+        });
+    }
+
+    @Override
+    public void deleteObject(final String objectName) {
+        measure("deleteObject", () -> {
+            try {
+                getClient().removeObject(getBucketName(), objectName);
+            } catch (final Exception e) {
+                throw toStorageException("Failed to delete " + objectName, e);
+            }
+        });
+    }
+
+    @Override
+    public void deleteObjects(final List<String> objectNames) {
+        if (objectNames.isEmpty()) {
+            return;
+        }
+        measure("deleteObjects", () -> {
+            try {
+                for (final Result<DeleteError> result : getClient().removeObjects(getBucketName(), objectNames)) {
+                    logger.warn("Failed to delete {}", result.get());
+                }
+            } catch (final Exception e) {
+                throw new StorageException("Failed to delete " + objectNames, e);
+            }
+        });
+    }
+
+    protected String getBucketName() {
+        return ComponentUtil.getFessConfig().getStorageBucket();
+    }
+
+    protected MinioClient getClient() {
+        final FessConfig fessConfig = ComponentUtil.getFessConfig();
+        final String endpoint = fessConfig.getStorageEndpoint();
+        final String accessKey = fessConfig.getStorageAccessKey();
+        final String secretKey = fessConfig.getStorageSecretKey();
+        ClientHolder holder = clientHolder;
+        if (holder == null || !holder.matches(endpoint, accessKey, secretKey)) {
+            synchronized (this) {
+                holder = clientHolder;
+                if (holder == null || !holder.matches(endpoint, accessKey, secretKey)) {
+                    holder = new ClientHolder(endpoint, accessKey, secretKey, createClient(endpoint, accessKey, secretKey));
+                    clientHolder = holder;
+                    checkedBucketName = null;
+                }
+            }
+        }
+        return holder.client;
+    }
+
+    protected MinioClient createClient(final String endpoint, final String accessKey, final String secretKey) {
+        try {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Create MinioClient: {}", endpoint);
+            }
+            return new MinioClient(endpoint, accessKey, secretKey);
+        } catch (final Exception e) {
+            throw new StorageException("Failed to create MinioClient: " + endpoint, e);
+        }
+    }
+
+    protected boolean isNotFound(final Exception e) {
+        if (e instanceof ErrorResponseException) {
+            final ErrorResponseException ere = (ErrorResponseException) e;
+            return "NoSuchKey".equals(ere.errorResponse().code()) || ere.errorResponse().errorCode() == ErrorCode.NO_SUCH_OBJECT;
+        }
+        return false;
+    }
+
+    protected boolean isPreconditionFailed(final Exception e) {
+        if (e instanceof ErrorResponseException) {
+            final String code = ((ErrorResponseException) e).errorResponse().code();
+            return "PreconditionFailed".equals(code) || "ConditionalRequestConflict".equals(code);
+        }
+        return false;
+    }
+
+    protected String normalizeETag(final String etag) {
+        if (etag != null && etag.length() >= 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+            return etag.substring(1, etag.length() - 1);
+        }
+        return etag;
+    }
+
+    protected StorageException toStorageException(final String message, final Exception e) {
+        if (isNotFound(e)) {
+            return new ObjectNotFoundException(message, e);
+        }
+        return new StorageException(message, e);
+    }
+
+    protected static class ClientHolder {
+
+        private final String endpoint;
+
+        private final String accessKey;
+
+        private final String secretKey;
+
+        private final MinioClient client;
+
+        protected ClientHolder(final String endpoint, final String accessKey, final String secretKey, final MinioClient client) {
+            this.endpoint = endpoint;
+            this.accessKey = accessKey;
+            this.secretKey = secretKey;
+            this.client = client;
+        }
+
+        protected boolean matches(final String endpoint, final String accessKey, final String secretKey) {
+            return Objects.equals(this.endpoint, endpoint) && Objects.equals(this.accessKey, accessKey)
+                    && Objects.equals(this.secretKey, secretKey);
+        }
+    }
+}
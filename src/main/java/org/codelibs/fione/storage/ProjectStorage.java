@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.storage;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Object storage used by ProjectHelper to keep project files.
+ * Implementations are long-lived and shared by all requests.
+ * A missing object is reported by {@link org.codelibs.fione.exception.ObjectNotFoundException}
+ * and other failures by {@link org.codelibs.fess.exception.StorageException}.
+ */
+public interface ProjectStorage {
+
+    /**
+     * Creates the bucket if it does not exist.
+     */
+    void ensureBucket();
+
+    InputStream getObject(String objectName);
+
+    /**
+     * Reads a byte range of the object.
+     *
+     * @param length the length of the range, or -1 to read to the end
+     */
+    InputStream getObject(String objectName, long offset, long length);
+
+    /**
+     * @return the size of the object in bytes
+     */
+    long getSize(String objectName);
+
+    byte[] getBytes(String objectName);
+
+    /**
+     * @param size the object size, or -1 if unknown
+     */
+    void putObject(String objectName, InputStream in, long size, String contentType);
+
+    void putBytes(String objectName, byte[] data, String contentType);
+
+    /**
+     * Opens a stream which uploads the data written to it.
+     * The object is stored by {@link UploadOutputStream#commit()}, and not stored if the stream is closed without commit.
+     */
+    UploadOutputStream openUploadStream(String objectName, String contentType);
+
+    /**
+     * Lists object names under the prefix.
+     * If recursive is false, nested objects are collapsed into their folder name ending with "/".
+     */
+    List<String> listObjects(String prefix, boolean recursive);
+
+    boolean exists(String objectName);
+
+    /**
+     * @return the entity tag of the object
+     */
+    String getETag(String objectName);
+
+    VersionedObject getVersionedObject(String objectName);
+
+    /**
+     * Writes the object only if its entity tag equals the given one.
+     * If etag is null, the object is written only if it does not exist.
+     * A failed condition is reported by {@link org.codelibs.fione.exception.ConflictException}.
+     */
+    void putBytesIfMatch(String objectName, byte[] data, String contentType, String etag);
+
+    void copyObject(String sourceObjectName, String targetObjectName);
+
+    void deleteObject(String objectName);
+
+    void deleteObjects(List<String> objectNames);
+
+    CompletableFuture<byte[]> getBytesAsync(String objectName);
+
+    CompletableFuture<Void> putBytesAsync(String objectName, byte[] data, String contentType);
+
+    CompletableFuture<List<String>> listObjectsAsync(String prefix, boolean recursive);
+
+    CompletableFuture<Void> deleteObjectsAsync(List<String> objectNames);
+
+    StorageStats getStats();
+
+    /**
+     * Returns the executor for callers' tasks which block on this storage, such as stages after H2O responses.
+     * The async operations of this storage run on other threads, so the tasks may wait for them.
+     */
+    Executor getTaskExecutor();
+
+}
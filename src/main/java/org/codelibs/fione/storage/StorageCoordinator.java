@@ -0,0 +1,339 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.storage;
+
+import java.net.InetAddress;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import javax.annotation.Resource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.codelibs.core.lang.ThreadUtil;
+import org.codelibs.core.net.UuidUtil;
+import org.codelibs.fess.crawler.Constants;
+import org.codelibs.fess.exception.StorageException;
+import org.codelibs.fione.exception.ConflictException;
+import org.codelibs.fione.exception.ObjectNotFoundException;
+
+import com.google.gson.Gson;
+
+/**
+ * Coordinates writes of several nodes sharing one bucket.
+ * Read-modify-write is done with conditional writes on entity tags and retried on conflict,
+ * and exclusive work is guarded by lease objects that expire when the owner dies.
+ * When distributed mode is disabled, updates are plain writes and leases are always granted.
+ * Distributed mode is enabled only if the storage rejects a conditional write with a wrong entity tag.
+ */
+public class StorageCoordinator {
+
+    private static final Logger logger = LogManager.getLogger(StorageCoordinator.class);
+
+    @Resource
+    protected ProjectStorage projectStorage;
+
+    protected final Gson gson = new Gson();
+
+    protected volatile boolean distributed = false;
+
+    protected String nodeId = createNodeId();
+
+    protected int maxRetries = 10;
+
+    protected long retryInterval = 50L;
+
+    /**
+     * Updates the object by read-modify-write.
+     * The updater receives the current content, or null if the object does not exist,
+     * and may be called again if another node changed the object in the meantime.
+     *
+     * @return the written content
+     */
+    public byte[] update(final String objectName, final String contentType, final UnaryOperator<byte[]> updater) {
+        if (!distributed) {
+            byte[] current;
+            try {
+                current = projectStorage.getBytes(objectName);
+            } catch (final ObjectNotFoundException e) {
+                current = null;
+            }
+            final byte[] data = updater.apply(current);
+            projectStorage.putBytes(objectName, data, contentType);
+            return data;
+        }
+
+        for (int i = 0;; i++) {
+            VersionedObject current;
+            try {
+                current = projectStorage.getVersionedObject(objectName);
+            } catch (final ObjectNotFoundException e) {
+                current = null;
+            }
+            final byte[] data = updater.apply(current != null ? current.getData() : null);
+            try {
+                projectStorage.putBytesIfMatch(objectName, data, contentType, current != null ? current.getETag() : null);
+                return data;
+            } catch (final ConflictException e) {
+                if (i >= maxRetries) {
+                    throw e;
+                }
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Conflict on {}, retry {}.", objectName, i + 1);
+                }
+                backoff(i);
+            }
+        }
+    }
+
+    /**
+     * @return the lease, or null if another owner holds an unexpired lease
+     */
+    public Lease tryAcquire(final String leaseName, final long leaseTime) {
+        final long now = System.currentTimeMillis();
+        final Lease lease = new Lease(leaseName, nodeId, UuidUtil.create(), now + leaseTime);
+        if (!distributed) {
+            return lease;
+        }
+
+        String etag = null;
+        try {
+            final VersionedObject current = projectStorage.getVersionedObject(leaseName);
+            final Lease held = gson.fromJson(new String(current.getData(), Constants.UTF_8_CHARSET), Lease.class);
+            if (held != null && held.expiry > now) {
+                return null;
+            }
+            etag = current.getETag();
+        } catch (final ObjectNotFoundException e) {
+            // not held
+        }
+
+        final byte[] data = gson.toJson(lease).getBytes(Constants.UTF_8_CHARSET);
+        try {
+            projectStorage.putBytesIfMatch(leaseName, data, "application/json", etag);
+        } catch (final ConflictException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} was acquired by another owner.", leaseName);
+            }
+            return null;
+        }
+
+        // read back in case the store ignores conditional headers
+        try {
+            final Lease written = gson.fromJson(new String(projectStorage.getBytes(leaseName), Constants.UTF_8_CHARSET), Lease.class);
+            if (written != null && lease.token.equals(written.token)) {
+                return lease;
+            }
+        } catch (final ObjectNotFoundException e) {
+            // released by another owner
+        }
+        return null;
+    }
+
+    /**
+     * Waits for the lease until the timeout.
+     */
+    public Lease acquire(final String leaseName, final long leaseTime, final long timeout) {
+        final long deadline = System.currentTimeMillis() + timeout;
+        for (int i = 0;; i++) {
+            final Lease lease = tryAcquire(leaseName, leaseTime);
+            if (lease != null) {
+                return lease;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new ConflictException("Failed to acquire " + leaseName + " in " + timeout + "ms.");
+            }
+            backoff(i);
+        }
+    }
+
+    /**
+     * Releases the lease by overwriting it with an expired one if it is still held by the lease.
+     * The lease object is not deleted because a delete cannot be conditional on the entity tag.
+     */
+    public void release(final Lease lease) {
+        if (!distributed || lease == null) {
+            return;
+        }
+        try {
+            final VersionedObject current = projectStorage.getVersionedObject(lease.name);
+            final Lease held = gson.fromJson(new String(current.getData(), Constants.UTF_8_CHARSET), Lease.class);
+            if (held != null && lease.token.equals(held.token)) {
+                final Lease released = new Lease(lease.name, lease.owner, lease.token, 0L);
+                projectStorage.putBytesIfMatch(lease.name, gson.toJson(released).getBytes(Constants.UTF_8_CHARSET), "application/json",
+                        current.getETag());
+            }
+        } catch (final ObjectNotFoundException e) {
+            // removed with its folder
+        } catch (final ConflictException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} was acquired by another owner before the release.", lease.name);
+            }
+        } catch (final Exception e) {
+            logger.warn("Failed to release {}.", lease.name, e);
+        }
+    }
+
+    public <T> T withLease(final String leaseName, final long leaseTime, final long timeout, final Supplier<T> supplier) {
+        if (!distributed) {
+            return supplier.get();
+        }
+        final Lease lease = acquire(leaseName, leaseTime, timeout);
+        try {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Acquired {}.", lease);
+            }
+            return supplier.get();
+        } finally {
+            if (lease.isExpired()) {
+                logger.warn("{} expired before the work finished.", lease);
+            }
+            release(lease);
+        }
+    }
+
+    public void withLease(final String leaseName, final long leaseTime, final long timeout, final Runnable runnable) {
+        withLease(leaseName, leaseTime, timeout, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    protected void backoff(final int retryCount) {
+        final long interval = retryInterval * (1L << Math.min(retryCount, 6));
+        ThreadUtil.sleepQuietly(interval / 2 + ThreadLocalRandom.current().nextLong(interval / 2 + 1));
+    }
+
+    protected static String createNodeId() {
+        String hostname;
+        try {
+            hostname = InetAddress.getLocalHost().getHostName();
+        } catch (final Exception e) {
+            hostname = "unknown";
+        }
+        return hostname + "-" + UuidUtil.create().substring(0, 8);
+    }
+
+    public boolean isDistributed() {
+        return distributed;
+    }
+
+    /**
+     * @throws StorageException if distributed mode is enabled and the storage does not support conditional writes
+     */
+    public void setDistributed(final boolean distributed) {
+        if (distributed && !this.distributed && !supportsConditionalWrite()) {
+            throw new StorageException("The storage ignores conditional writes, so distributed mode cannot be enabled.");
+        }
+        this.distributed = distributed;
+    }
+
+    /**
+     * Checks that writes conditional on absence and on a wrong entity tag are rejected.
+     */
+    protected boolean supportsConditionalWrite() {
+        final String probeName = "fione/.probe/" + nodeId + "-" + UuidUtil.create();
+        final byte[] data = nodeId.getBytes(Constants.UTF_8_CHARSET);
+        try {
+            projectStorage.putBytesIfMatch(probeName, data, "text/plain", null);
+            try {
+                projectStorage.putBytesIfMatch(probeName, data, "text/plain", null);
+                logger.warn("{} was overwritten by a write conditional on its absence.", probeName);
+                return false;
+            } catch (final ConflictException e) {
+                // ok
+            }
+            try {
+                projectStorage.putBytesIfMatch(probeName, data, "text/plain", "00000000000000000000000000000000");
+                logger.warn("{} was overwritten by a write conditional on a wrong entity tag.", probeName);
+                return false;
+            } catch (final ConflictException e) {
+                // ok
+            }
+            return true;
+        } finally {
+            try {
+                projectStorage.deleteObject(probeName);
+            } catch (final Exception e) {
+                logger.warn("Failed to delete {}.", probeName, e);
+            }
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(final String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public void setMaxRetries(final int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public void setRetryInterval(final long retryInterval) {
+        this.retryInterval = retryInterval;
+    }
+
+    public void setProjectStorage(final ProjectStorage projectStorage) {
+        this.projectStorage = projectStorage;
+    }
+
+    public static class Lease {
+
+        protected String name;
+
+        protected String owner;
+
+        protected String token;
+
+        protected long expiry;
+
+        public Lease() {
+            // for gson
+        }
+
+        protected Lease(final String name, final String owner, final String token, final long expiry) {
+            this.name = name;
+            this.owner = owner;
+            this.token = token;
+            this.expiry = expiry;
+        }
+
+        public boolean isExpired() {
+            return System.currentTimeMillis() >= expiry;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getOwner() {
+            return owner;
+        }
+
+        public long getExpiry() {
+            return expiry;
+        }
+
+        @Override
+        public String toString() {
+            return "Lease [name=" + name + ", owner=" + owner + ", expiry=" + expiry + "]";
+        }
+    }
+}
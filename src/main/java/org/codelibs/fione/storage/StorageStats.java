@@ -0,0 +1,112 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.storage;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency statistics per storage operation.
+ */
+public class StorageStats {
+
+    private final Map<String, OperationStats> operationMap = new ConcurrentHashMap<>();
+
+    public void record(final String operation, final long elapsedNanos, final boolean success) {
+        operationMap.computeIfAbsent(operation, k -> new OperationStats(k)).record(elapsedNanos, success);
+    }
+
+    public OperationStats get(final String operation) {
+        return operationMap.get(operation);
+    }
+
+    public Map<String, OperationStats> getOperations() {
+        return new TreeMap<>(operationMap);
+    }
+
+    public void reset() {
+        operationMap.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "StorageStats [" + getOperations().values() + "]";
+    }
+
+    public static class OperationStats {
+
+        private final String name;
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder errorCount = new LongAdder();
+
+        private final LongAdder totalNanos = new LongAdder();
+
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0L);
+
+        protected OperationStats(final String name) {
+            this.name = name;
+        }
+
+        protected void record(final long elapsedNanos, final boolean success) {
+            count.increment();
+            if (!success) {
+                errorCount.increment();
+            }
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getErrorCount() {
+            return errorCount.sum();
+        }
+
+        public long getTotalTime() {
+            return TimeUnit.NANOSECONDS.toMillis(totalNanos.sum());
+        }
+
+        public long getMaxTime() {
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        }
+
+        public double getAverageTime() {
+            final long c = count.sum();
+            if (c == 0) {
+                return 0d;
+            }
+            return totalNanos.sum() / (double) c / 1000000d;
+        }
+
+        @Override
+        public String toString() {
+            return name + "{count=" + getCount() + ", errors=" + getErrorCount() + ", avg=" + getAverageTime() + "ms, max=" + getMaxTime()
+                    + "ms}";
+        }
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * An output stream which uploads the written data to {@link ProjectStorage} while it is written.
+ * The data is passed to the upload task on the executor through a ring of buffers of partSize,
+ * so the writer blocks while all buffers wait for the upload. The buffers are allocated when parts are filled,
+ * and the first one grows from a small size, so a small stream does not hold the whole ring.
+ * If the data fits in one buffer, it is uploaded by one request when it is committed.
+ * The upload is completed by {@link #commit()}, and closing the stream without commit aborts it.
+ * A failure of the upload is thrown to the writer by the next write or commit.
+ */
+public class UploadOutputStream extends OutputStream {
+
+    private static final Logger logger = LogManager.getLogger(UploadOutputStream.class);
+
+    private static final Part END = new Part(null, -1);
+
+    private static final Part ABORT = new Part(null, -1);
+
+    private static final long WAIT_INTERVAL = 100L;
+
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+
+    private final ProjectStorage storage;
+
+    private final String objectName;
+
+    private final String contentType;
+
+    private final ExecutorService executor;
+
+    private final BlockingQueue<Part> filledQueue;
+
+    private final BlockingQueue<byte[]> freeQueue;
+
+    private final int partSize;
+
+    private final int bufferCount;
+
+    private int allocatedCount;
+
+    private byte[] current;
+
+    private int count;
+
+    private long size;
+
+    private Future<?> upload;
+
+    private boolean closed;
+
+    /**
+     * @param partSize the size of a buffer
+     * @param bufferCount the number of buffers, at least 2
+     */
+    public UploadOutputStream(final ProjectStorage storage, final String objectName, final String contentType,
+            final ExecutorService executor, final int partSize, final int bufferCount) {
+        this.storage = storage;
+        this.objectName = objectName;
+        this.contentType = contentType;
+        this.executor = executor;
+        this.partSize = partSize;
+        this.bufferCount = Math.max(bufferCount, 2);
+        filledQueue = new ArrayBlockingQueue<>(this.bufferCount + 1);
+        freeQueue = new ArrayBlockingQueue<>(this.bufferCount);
+        current = new byte[Math.min(partSize, INITIAL_BUFFER_SIZE)];
+        allocatedCount = 1;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        if (count == current.length) {
+            nextBuffer(1);
+        }
+        current[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        ensureOpen();
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (count == current.length) {
+                nextBuffer(remaining);
+            }
+            final int n = Math.min(remaining, current.length - count);
+            System.arraycopy(b, offset, current, count, n);
+            count += n;
+            offset += n;
+            remaining -= n;
+        }
+    }
+
+    /**
+     * Uploads the rest of the data, and waits for the upload to finish.
+     */
+    public void commit() throws IOException {
+        ensureOpen();
+        if (upload == null) {
+            closed = true;
+            storage.putBytes(objectName, count == current.length ? current : Arrays.copyOf(current, count), contentType);
+            size = count;
+        } else {
+            if (count > 0) {
+                put(new Part(current, count));
+                size += count;
+                count = 0;
+            }
+            put(END);
+            // the upload task ends by itself from here, and close() must abort it until here
+            closed = true;
+            waitForUpload();
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Uploaded {}: {} bytes", objectName, size);
+        }
+    }
+
+    /**
+     * Aborts the upload unless it is committed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (upload != null) {
+            filledQueue.clear();
+            filledQueue.offer(ABORT);
+            try {
+                upload.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (final ExecutionException e) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Aborted the upload of {}.", objectName, e.getCause());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of bytes uploaded by the commit
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Grows the first buffer up to partSize, or sends the full buffer as a part.
+     *
+     * @param length the length of the data to be written
+     */
+    protected void nextBuffer(final int length) throws IOException {
+        if (current.length < partSize) {
+            final long capacity = Math.max(current.length * 2L, (long) count + length);
+            current = Arrays.copyOf(current, (int) Math.min(partSize, capacity));
+        } else {
+            sendPart();
+        }
+    }
+
+    protected void sendPart() throws IOException {
+        if (upload == null) {
+            upload = executor.submit(() -> storage.putObject(objectName, new PartInputStream(), -1, contentType));
+        }
+        put(new Part(current, count));
+        size += count;
+        current = freeQueue.poll();
+        if (current == null && allocatedCount < bufferCount) {
+            current = new byte[partSize];
+            allocatedCount++;
+        }
+        try {
+            while (current == null && (current = freeQueue.poll(WAIT_INTERVAL, TimeUnit.MILLISECONDS)) == null) {
+                checkUpload();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while uploading " + objectName);
+        }
+        count = 0;
+    }
+
+    protected void put(final Part part) throws IOException {
+        try {
+            while (!filledQueue.offer(part, WAIT_INTERVAL, TimeUnit.MILLISECONDS)) {
+                checkUpload();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while uploading " + objectName);
+        }
+    }
+
+    /**
+     * Throws the failure of the upload if it has stopped before the end of the data.
+     */
+    protected void checkUpload() throws IOException {
+        if (upload.isDone()) {
+            waitForUpload();
+            throw new IOException("The upload of " + objectName + " stopped before the end of the data.");
+        }
+    }
+
+    protected void waitForUpload() throws IOException {
+        try {
+            upload.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while uploading " + objectName);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Failed to upload " + objectName, cause);
+        }
+    }
+
+    protected void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("The upload of " + objectName + " is closed.");
+        }
+    }
+
+    protected static class Part {
+
+        protected final byte[] data;
+
+        protected final int length;
+
+        protected Part(final byte[] data, final int length) {
+            this.data = data;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Reads the parts in the upload task, and returns their buffers to the writer.
+     */
+    protected class PartInputStream extends InputStream {
+
+        private Part part;
+
+        private int pos;
+
+        private boolean ended;
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            final int n = read(b, 0, 1);
+            return n < 0 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (part == null || pos == part.length) {
+                if (ended) {
+                    return -1;
+                }
+                if (part != null) {
+                    freeQueue.offer(part.data);
+                }
+                try {
+                    part = filledQueue.take();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while uploading " + objectName);
+                }
+                pos = 0;
+                if (part == END) {
+                    ended = true;
+                    part = null;
+                } else if (part == ABORT) {
+                    part = null;
+                    throw new IOException("The upload of " + objectName + " is aborted.");
+                }
+            }
+            final int n = Math.min(len, part.length - pos);
+            System.arraycopy(part.data, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.storage;
+
+/**
+ * Object content with the entity tag read before the content.
+ * A conditional write with this tag fails if the object was changed after the tag was read.
+ */
+public class VersionedObject {
+
+    private final byte[] data;
+
+    private final String etag;
+
+    public VersionedObject(final byte[] data, final String etag) {
+        this.data = data;
+        this.etag = etag;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public String getETag() {
+        return etag;
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Projects columns of a CSV stream without decoding rows.
+ * Fields are delimited on bytes, and the byte ranges of selected fields are copied to the output as they are,
+ * so quoted fields keep their quotes. Only the header is decoded to find the columns.
+ * The separator is a comma, a quote is escaped by doubling it, and empty lines are skipped.
+ * A projector for a part of the same CSV is created by {@link #newProjector(InputStream)},
+ * which reads rows only up to the given offset, so that chunks of a large CSV are projected in parallel.
+ */
+public class CsvProjector {
+
+    protected static final byte SEPARATOR = ',';
+
+    protected static final byte QUOTE = '"';
+
+    protected static final byte LF = '\n';
+
+    protected static final byte CR = '\r';
+
+    protected static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+
+    private byte[] buf = new byte[BUFFER_SIZE];
+
+    private int pos;
+
+    private int limit;
+
+    /** The offset of the buffer head in the input. */
+    private long base;
+
+    private boolean eof;
+
+    private int[] fieldStarts = new int[64];
+
+    private int[] fieldEnds = new int[64];
+
+    private int fieldCount;
+
+    private final String[] outputNames;
+
+    /** Input field indices by output columns, or -1 for a missing column. */
+    private final int[] columnIndices;
+
+    private final byte[] outBuf = new byte[BUFFER_SIZE];
+
+    private int outPos;
+
+    /**
+     * Reads the header of the input.
+     *
+     * @param columnMap output column names by input column names, in the output order
+     */
+    public CsvProjector(final InputStream in, final Map<String, String> columnMap) throws IOException {
+        this.in = in;
+        outputNames = columnMap.values().toArray(new String[columnMap.size()]);
+        columnIndices = new int[outputNames.length];
+        Arrays.fill(columnIndices, -1);
+        skipBom();
+        if (!nextRow(Long.MAX_VALUE)) {
+            return;
+        }
+        final Map<String, Integer> indexMap = new HashMap<>();
+        for (int i = 0; i < fieldCount; i++) {
+            final String name = columnMap.get(decodeField(i));
+            if (name != null) {
+                indexMap.put(name, i);
+            }
+        }
+        for (int i = 0; i < outputNames.length; i++) {
+            columnIndices[i] = indexMap.getOrDefault(outputNames[i], -1);
+        }
+    }
+
+    protected CsvProjector(final InputStream in, final String[] outputNames, final int[] columnIndices) {
+        this.in = in;
+        this.outputNames = outputNames;
+        this.columnIndices = columnIndices;
+    }
+
+    /**
+     * Creates a projector with the columns of this one for another part of the CSV, which has no header.
+     */
+    public CsvProjector newProjector(final InputStream in) {
+        return new CsvProjector(in, outputNames, columnIndices);
+    }
+
+    /**
+     * @return true if one of the columns exists in the input
+     */
+    public boolean hasColumns() {
+        for (final int index : columnIndices) {
+            if (index >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the header and the projected rows. The output is not closed.
+     *
+     * @return the number of rows written, excluding the header
+     */
+    public long writeTo(final OutputStream out) throws IOException {
+        writeHeader(out);
+        return writeRows(out, Long.MAX_VALUE);
+    }
+
+    public void writeHeader(final OutputStream out) throws IOException {
+        for (int i = 0; i < outputNames.length; i++) {
+            if (i > 0) {
+                writeByte(out, SEPARATOR);
+            }
+            writeQuoted(out, outputNames[i]);
+        }
+        writeByte(out, LF);
+        flush(out);
+    }
+
+    /**
+     * Writes the projected rows which start before maxOffset. The output is not closed.
+     *
+     * @return the number of rows written
+     */
+    public long writeRows(final OutputStream out, final long maxOffset) throws IOException {
+        long count = 0;
+        final int[] indices = columnIndices;
+        while (nextRow(maxOffset)) {
+            for (int i = 0; i < indices.length; i++) {
+                if (i > 0) {
+                    writeByte(out, SEPARATOR);
+                }
+                final int index = indices[i];
+                if (index >= 0 && index < fieldCount) {
+                    writeBytes(out, buf, fieldStarts[index], fieldEnds[index] - fieldStarts[index]);
+                }
+            }
+            writeByte(out, LF);
+            count++;
+        }
+        flush(out);
+        return count;
+    }
+
+    /**
+     * Skips to the first line break outside quotes, assuming the input does not start in a quoted field.
+     * This finds the start of a row from an arbitrary offset, which is right unless the offset is in a quoted field.
+     *
+     * @return false if there is no line break
+     */
+    public boolean skipPartialRow() throws IOException {
+        boolean quoted = false;
+        int i = pos;
+        while (true) {
+            if (i >= limit) {
+                if (eof) {
+                    pos = limit;
+                    return false;
+                }
+                final int consumed = i - pos;
+                fill();
+                i = pos + consumed;
+                continue;
+            }
+            final byte b = buf[i];
+            if (b == QUOTE) {
+                quoted = !quoted;
+            } else if (b == LF && !quoted) {
+                pos = i + 1;
+                return true;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * @return the offset of the next row in the input
+     */
+    public long getOffset() {
+        return base + pos;
+    }
+
+    /**
+     * Parses the next non-empty row which starts before maxOffset into the field ranges.
+     *
+     * @return false at the end of the input or maxOffset
+     */
+    protected boolean nextRow(final long maxOffset) throws IOException {
+        while (true) {
+            if (base + pos >= maxOffset) {
+                return false;
+            }
+            final int next = parseRow(pos, eof);
+            if (next >= 0) {
+                pos = next;
+                if (fieldCount == 1 && fieldStarts[0] == fieldEnds[0]) {
+                    // empty line
+                    continue;
+                }
+                return true;
+            }
+            if (eof) {
+                return false;
+            }
+            fill();
+        }
+    }
+
+    /**
+     * @return the position after the row, or -1 if the row is not complete in the buffer
+     */
+    protected int parseRow(final int from, final boolean atEof) {
+        if (from >= limit) {
+            return -1;
+        }
+        final byte[] b = buf;
+        int i = from;
+        fieldCount = 0;
+        while (true) {
+            final int start = i;
+            if (i < limit && b[i] == QUOTE) {
+                i++;
+                while (true) {
+                    if (i >= limit) {
+                        if (!atEof) {
+                            return -1;
+                        }
+                        break;
+                    }
+                    if (b[i] == QUOTE) {
+                        if (i + 1 >= limit && !atEof) {
+                            return -1;
+                        }
+                        if (i + 1 < limit && b[i + 1] == QUOTE) {
+                            i += 2;
+                            continue;
+                        }
+                        i++;
+                        break;
+                    }
+                    i++;
+                }
+            }
+            while (i < limit && b[i] != SEPARATOR && b[i] != LF) {
+                i++;
+            }
+            if (i >= limit) {
+                if (!atEof) {
+                    return -1;
+                }
+                addField(start, i > start && b[i - 1] == CR ? i - 1 : i);
+                return limit;
+            }
+            if (b[i] == SEPARATOR) {
+                addField(start, i);
+                i++;
+            } else {
+                addField(start, i > start && b[i - 1] == CR ? i - 1 : i);
+                return i + 1;
+            }
+        }
+    }
+
+    protected void addField(final int start, final int end) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldCount++;
+    }
+
+    /**
+     * Moves the incomplete row to the head of the buffer and reads more bytes.
+     */
+    protected void fill() throws IOException {
+        if (pos > 0) {
+            System.arraycopy(buf, pos, buf, 0, limit - pos);
+            limit -= pos;
+            base += pos;
+            pos = 0;
+        }
+        if (limit == buf.length) {
+            // a row longer than the buffer
+            buf = Arrays.copyOf(buf, buf.length * 2);
+        }
+        final int n = in.read(buf, limit, buf.length - limit);
+        if (n < 0) {
+            eof = true;
+        } else {
+            limit += n;
+        }
+    }
+
+    protected void skipBom() throws IOException {
+        while (limit < 3 && !eof) {
+            fill();
+        }
+        if (limit >= 3 && (buf[0] & 0xff) == 0xef && (buf[1] & 0xff) == 0xbb && (buf[2] & 0xff) == 0xbf) {
+            pos = 3;
+        }
+    }
+
+    protected String decodeField(final int index) {
+        final int start = fieldStarts[index];
+        final int end = fieldEnds[index];
+        if (end - start >= 2 && buf[start] == QUOTE && buf[end - 1] == QUOTE) {
+            final String value = new String(buf, start + 1, end - start - 2, StandardCharsets.UTF_8);
+            return value.replace("\"\"", "\"");
+        }
+        return new String(buf, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    protected void writeQuoted(final OutputStream out, final String value) throws IOException {
+        final byte[] bytes = ('"' + value.replace("\"", "\"\"") + '"').getBytes(StandardCharsets.UTF_8);
+        writeBytes(out, bytes, 0, bytes.length);
+    }
+
+    protected void flush(final OutputStream out) throws IOException {
+        if (outPos > 0) {
+            out.write(outBuf, 0, outPos);
+            outPos = 0;
+        }
+        out.flush();
+    }
+
+    protected void writeByte(final OutputStream out, final byte value) throws IOException {
+        if (outPos == outBuf.length) {
+            out.write(outBuf, 0, outPos);
+            outPos = 0;
+        }
+        outBuf[outPos++] = value;
+    }
+
+    protected void writeBytes(final OutputStream out, final byte[] bytes, final int offset, final int length) throws IOException {
+        if (length > outBuf.length - outPos) {
+            out.write(outBuf, 0, outPos);
+            outPos = 0;
+            if (length > outBuf.length) {
+                out.write(bytes, offset, length);
+                return;
+            }
+        }
+        System.arraycopy(bytes, offset, outBuf, outPos, length);
+        outPos += length;
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.codelibs.fione.h2o.bindings.pojos.ApiParseTypeValuesProvider;
+import org.codelibs.fione.h2o.bindings.pojos.ParseV3;
+
+/**
+ * Guesses the parse setup of a CSV file from a sample of its head, as H2O does by /3/ParseSetup.
+ * The separator, the header, NA strings and the column types are detected,
+ * and the column types use the names of H2O: Numeric, Enum, Time and UUID.
+ * Null is returned when the guess is not certain, such as for non-CSV data, inconsistent rows,
+ * columns with mixed or no values, or categorical columns with unique values, so that H2O should guess it.
+ */
+public class CsvSchemaGuesser {
+
+    private static final Logger logger = LogManager.getLogger(CsvSchemaGuesser.class);
+
+    public static final String NUMERIC = "Numeric";
+
+    public static final String ENUM = "Enum";
+
+    public static final String TIME = "Time";
+
+    public static final String UUID = "UUID";
+
+    /** The default chunk size of H2O file vectors. */
+    protected static final long DEFAULT_CHUNK_SIZE = 1L << 22;
+
+    protected static final long MIN_CHUNK_SIZE = 1L << 12;
+
+    protected static final long MAX_CHUNK_SIZE = (1L << 28) - 1;
+
+    /** The number of chunks per node over which H2O enlarges chunks. */
+    protected static final long PER_NODE_CHUNK_COUNT_LIMIT = 1L << 21;
+
+    /** A space is not a candidate because it is ambiguous with text values, which H2O guesses better. */
+    protected static final char[] SEPARATORS = { ',', '\t', ';', '|' };
+
+    protected static final Set<String> NA_STRINGS = Set.of("NA", "N/A", "na", "n/a", "null", "NULL", "None", "?");
+
+    protected static final Pattern NUMBER_PATTERN = Pattern.compile("[-+]?(\\d+\\.?\\d*|\\.\\d+)([eE][-+]?\\d+)?");
+
+    protected static final Pattern TIME_PATTERN =
+            Pattern.compile("\\d{4}([-/])\\d{1,2}\\1\\d{1,2}([ T]\\d{1,2}:\\d{2}(:\\d{2}(\\.\\d{1,9})?)?)?");
+
+    protected static final Pattern UUID_PATTERN =
+            Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    protected static final Pattern SVMLIGHT_PATTERN = Pattern.compile("\\d+:[-+.\\deE]+");
+
+    /** The minimum number of data rows in a sample which is not the whole file. */
+    protected int minRows = 10;
+
+    /** The minimum ratio of rows which have the same number of fields. */
+    protected double minConsistency = 0.95;
+
+    /** The ratio of unique values over which a categorical column is not certain. */
+    protected double maxUniqueRatio = 0.95;
+
+    /** The number of nodes of the H2O cloud, for which the chunk size is calculated. */
+    protected int cloudSize = 1;
+
+    /** The number of CPU cores of a H2O node. */
+    protected int cores = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * @param totalSize the size of the whole file, which is not larger than length if the sample is the whole file
+     * @return the parse setup without source and destination frames, or null if the guess is not certain
+     */
+    public ParseV3 guess(final byte[] data, final int length, final long totalSize) {
+        if (length == 0 || isBinary(data, length)) {
+            return null;
+        }
+        final boolean complete = totalSize <= length;
+        String text = new String(data, 0, length, StandardCharsets.UTF_8);
+        if (text.startsWith("\ufeff")) {
+            text = text.substring(1);
+        }
+        if (text.startsWith("@") || text.startsWith("%")) {
+            // ARFF
+            return null;
+        }
+
+        char separator = 0;
+        List<String[]> rows = null;
+        int numberColumns = 0;
+        double consistency = 0;
+        for (final char c : SEPARATORS) {
+            final List<String[]> records = tokenize(text, c, complete);
+            final int mode = getMode(records);
+            if (mode < 2) {
+                continue;
+            }
+            final double ratio = (double) records.stream().filter(r -> r.length == mode).count() / records.size();
+            if (ratio > consistency) {
+                separator = c;
+                rows = records;
+                numberColumns = mode;
+                consistency = ratio;
+            }
+        }
+        if (rows == null || consistency < minConsistency) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("No consistent separator: {}", consistency);
+            }
+            return null;
+        }
+        final int columns = numberColumns;
+        rows.removeIf(r -> r.length != columns);
+        if (rows.stream().anyMatch(r -> Arrays.stream(r).anyMatch(v -> SVMLIGHT_PATTERN.matcher(v).matches()))) {
+            return null;
+        }
+
+        final String[] first = rows.get(0);
+        final List<String[]> dataRows = rows.subList(1, rows.size());
+        final boolean header = isHeader(first, dataRows);
+        final List<String[]> values = header ? dataRows : rows;
+        if (values.isEmpty() || !complete && values.size() < minRows) {
+            return null;
+        }
+
+        final String[] columnTypes = new String[columns];
+        final String[][] naStrings = new String[columns][];
+        boolean hasNaStrings = false;
+        for (int i = 0; i < columns; i++) {
+            final Set<String> naSet = new LinkedHashSet<>();
+            columnTypes[i] = guessType(values, i, naSet);
+            if (columnTypes[i] == null) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Uncertain type of column {}", i);
+                }
+                return null;
+            }
+            if (!naSet.isEmpty()) {
+                naStrings[i] = naSet.toArray(new String[naSet.size()]);
+                hasNaStrings = true;
+            }
+        }
+
+        final ParseV3 schema = new ParseV3();
+        schema.parseType = ApiParseTypeValuesProvider.CSV;
+        schema.separator = (byte) separator;
+        schema.singleQuotes = false;
+        schema.checkHeader = header ? 1 : -1;
+        schema.numberColumns = columns;
+        if (header) {
+            schema.columnNames = first;
+        } else {
+            schema.columnNames = new String[columns];
+            for (int i = 0; i < columns; i++) {
+                schema.columnNames[i] = "C" + (i + 1);
+            }
+        }
+        schema.columnTypes = columnTypes;
+        schema.naStrings = hasNaStrings ? naStrings : null;
+        schema.chunkSize = calcChunkSize(totalSize, columns, getMaxLineLength(data, length));
+        schema.deleteOnDone = true;
+        schema.blocking = true;
+        return schema;
+    }
+
+    /**
+     * Calculates the chunk size as FileVec.calcOptimalChunkSize of H2O does,
+     * so that a parse spreads over all cores and a chunk contains at least 10 lines.
+     */
+    protected int calcChunkSize(final long totalSize, final int numberColumns, final int maxLineLength) {
+        final long localParseSize = totalSize / Math.max(cloudSize, 1);
+        final long minLinesSize = 10L * maxLineLength;
+        long chunkSize = Math.max(localParseSize / (4L * Math.max(cores, 1)) + 1, MIN_CHUNK_SIZE);
+        if (chunkSize > 1024 * 1024) {
+            chunkSize = (chunkSize & ~511L) + 512;
+        }
+        if (totalSize <= 1 << 16) {
+            chunkSize = Math.max(DEFAULT_CHUNK_SIZE, minLinesSize);
+        } else if (chunkSize < DEFAULT_CHUNK_SIZE && localParseSize / chunkSize * numberColumns < PER_NODE_CHUNK_COUNT_LIMIT) {
+            chunkSize = Math.max(chunkSize, minLinesSize);
+        } else {
+            final long chunkCount = 4L * cores * numberColumns;
+            if (chunkCount > PER_NODE_CHUNK_COUNT_LIMIT) {
+                final int shift = 63 - Long.numberOfLeadingZeros(chunkCount / PER_NODE_CHUNK_COUNT_LIMIT);
+                chunkSize <<= Math.max(2, shift);
+            }
+            chunkSize = Math.min(chunkSize, MAX_CHUNK_SIZE);
+            if (chunkSize <= minLinesSize) {
+                chunkSize = Math.max(DEFAULT_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, minLinesSize));
+            }
+        }
+        return (int) chunkSize;
+    }
+
+    protected int getMaxLineLength(final byte[] data, final int length) {
+        int max = 0;
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            if (data[i] == '\n') {
+                max = Math.max(max, i - start + 1);
+                start = i + 1;
+            }
+        }
+        return Math.max(max, length - start);
+    }
+
+    /**
+     * The first row is a header if its values are distinct labels, and it is not like the data in its columns.
+     */
+    protected boolean isHeader(final String[] first, final List<String[]> dataRows) {
+        if (dataRows.isEmpty()) {
+            return false;
+        }
+        final Set<String> names = new HashSet<>();
+        for (final String value : first) {
+            final String name = value.trim();
+            if (name.isEmpty() || NA_STRINGS.contains(name) || isNumber(name) || !names.add(name)) {
+                return false;
+            }
+        }
+        for (int i = 0; i < first.length; i++) {
+            final String name = first[i].trim();
+            for (final String[] row : dataRows) {
+                if (row[i].trim().equals(name)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param naSet the NA strings found in the column
+     * @return the type, or null if it is not certain
+     */
+    protected String guessType(final List<String[]> rows, final int index, final Set<String> naSet) {
+        int count = 0;
+        int numbers = 0;
+        int times = 0;
+        int uuids = 0;
+        final Set<String> uniqueValues = new HashSet<>();
+        for (final String[] row : rows) {
+            final String value = row[index].trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            if (NA_STRINGS.contains(value)) {
+                naSet.add(value);
+                continue;
+            }
+            count++;
+            if (isNumber(value)) {
+                numbers++;
+            } else if (TIME_PATTERN.matcher(value).matches()) {
+                times++;
+            } else if (UUID_PATTERN.matcher(value).matches()) {
+                uuids++;
+            }
+            uniqueValues.add(value);
+        }
+        if (count == 0) {
+            return null;
+        }
+        if (numbers == count) {
+            return NUMERIC;
+        }
+        if (times == count) {
+            return TIME;
+        }
+        if (uuids == count) {
+            return UUID;
+        }
+        if (numbers > 0 || times > 0 || uuids > 0) {
+            // mixed values
+            return null;
+        }
+        if (count >= minRows && uniqueValues.size() > count * maxUniqueRatio) {
+            // may be a string column
+            return null;
+        }
+        return ENUM;
+    }
+
+    protected boolean isNumber(final String value) {
+        return NUMBER_PATTERN.matcher(value).matches();
+    }
+
+    protected boolean isBinary(final byte[] data, final int length) {
+        for (int i = 0; i < length; i++) {
+            if (data[i] == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected int getMode(final List<String[]> records) {
+        final int[] counts = new int[records.stream().mapToInt(r -> r.length).max().orElse(0) + 1];
+        int mode = 0;
+        for (final String[] record : records) {
+            counts[record.length]++;
+            if (counts[record.length] > counts[mode]) {
+                mode = record.length;
+            }
+        }
+        return mode;
+    }
+
+    /**
+     * Splits the text into records. Fields can be quoted by double quotes, which are escaped by doubling them.
+     *
+     * @param complete false to drop the last record, which may be cut off
+     */
+    protected List<String[]> tokenize(final String text, final char separator, final boolean complete) {
+        final List<String[]> records = new ArrayList<>();
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder buf = new StringBuilder();
+        boolean quoted = false;
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < length && text.charAt(i + 1) == '"') {
+                        buf.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    buf.append(c);
+                }
+            } else if (c == '"' && buf.length() == 0) {
+                quoted = true;
+            } else if (c == separator) {
+                fields.add(buf.toString());
+                buf.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                fields.add(buf.toString());
+                buf.setLength(0);
+                if (fields.size() > 1 || !fields.get(0).isEmpty()) {
+                    records.add(fields.toArray(new String[fields.size()]));
+                }
+                fields.clear();
+            } else {
+                buf.append(c);
+            }
+        }
+        if (complete && !quoted && (buf.length() > 0 || !fields.isEmpty())) {
+            fields.add(buf.toString());
+            records.add(fields.toArray(new String[fields.size()]));
+        }
+        return records;
+    }
+
+    public void setMinRows(final int minRows) {
+        this.minRows = minRows;
+    }
+
+    public void setCloud(final int cloudSize, final int cores) {
+        this.cloudSize = cloudSize;
+        this.cores = cores;
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Projects columns of a large CSV object in chunks on an executor.
+ * The object is split into byte ranges, and each range is read by ranged requests and projected by {@link CsvProjector}.
+ * A chunk starts at the first line break outside quotes in its range. The start is checked against
+ * the end of the previous chunk when the outputs are written in order, and the chunk is projected again from there
+ * if its range started in a quoted field.
+ */
+public class ParallelCsvProjector {
+
+    private static final Logger logger = LogManager.getLogger(ParallelCsvProjector.class);
+
+    /**
+     * Reads a byte range of the object.
+     */
+    public interface RangeReader {
+
+        InputStream read(long offset, long length) throws IOException;
+    }
+
+    private final RangeReader reader;
+
+    private final long size;
+
+    private final ExecutorService executor;
+
+    protected long chunkSize = 8L * 1024L * 1024L;
+
+    /** The size of ranged requests after the range of a chunk, which are needed for its last row. */
+    protected long readAheadSize = 1024L * 1024L;
+
+    protected int maxChunksInFlight = Runtime.getRuntime().availableProcessors() * 2;
+
+    private long respliceCount;
+
+    /**
+     * @param size the size of the object
+     */
+    public ParallelCsvProjector(final RangeReader reader, final long size, final ExecutorService executor) {
+        this.reader = reader;
+        this.size = size;
+        this.executor = executor;
+    }
+
+    /**
+     * Writes the header and the projected rows in order. The output is not closed.
+     *
+     * @param header the projector which reads the object from the start, and projects the first chunk
+     * @return the number of rows written
+     */
+    public long writeTo(final CsvProjector header, final OutputStream out) throws IOException {
+        final int chunkCount = (int) Math.max(1L, (size + chunkSize - 1) / chunkSize);
+        header.writeHeader(out);
+
+        final Deque<Future<Chunk>> futures = new ArrayDeque<>();
+        int submitted = 0;
+        long rows = 0L;
+        try {
+            futures.add(executor.submit(() -> project(header, 0, 0L)));
+            submitted++;
+            long expectedStart = -1L;
+            for (int i = 0; i < chunkCount; i++) {
+                while (submitted < chunkCount && futures.size() < maxChunksInFlight) {
+                    final int index = submitted;
+                    futures.add(executor.submit(() -> projectFromBoundary(header, index)));
+                    submitted++;
+                }
+                Chunk chunk = futures.poll().get();
+                if (i > 0 && chunk.start != expectedStart) {
+                    // the range started in a quoted field, so the chunk is projected from the end of the previous one
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Chunk {} started at {}, but the previous chunk ended at {}.", i, chunk.start, expectedStart);
+                    }
+                    respliceCount++;
+                    chunk = project(header.newProjector(new RangeInputStream(expectedStart, getChunkEnd(i) - expectedStart)), i,
+                            expectedStart);
+                }
+                chunk.data.writeTo(out);
+                rows += chunk.rows;
+                expectedStart = chunk.end;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while projecting chunks.", e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Failed to project a chunk.", cause);
+        } finally {
+            futures.forEach(f -> f.cancel(true));
+        }
+        out.flush();
+        return rows;
+    }
+
+    protected Chunk projectFromBoundary(final CsvProjector header, final int index) throws IOException {
+        // the byte before the range is read, so a range which starts at a row is not skipped
+        final long offset = getChunkStart(index) - 1L;
+        final CsvProjector projector = header.newProjector(new RangeInputStream(offset, getChunkEnd(index) - offset));
+        if (!projector.skipPartialRow()) {
+            return new Chunk(size, size, 0L, new ByteArrayOutputStream(0));
+        }
+        return project(projector, index, offset);
+    }
+
+    /**
+     * Projects the rows which start before the end of the chunk.
+     *
+     * @param offset the offset of the input of the projector in the object
+     */
+    protected Chunk project(final CsvProjector projector, final int index, final long offset) throws IOException {
+        final long start = offset + projector.getOffset();
+        final long end = getChunkEnd(index);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(Math.max(end - start, 0L), chunkSize));
+        final long rows = projector.writeRows(out, end - offset);
+        return new Chunk(start, offset + projector.getOffset(), rows, out);
+    }
+
+    protected long getChunkStart(final int index) {
+        return index * chunkSize;
+    }
+
+    protected long getChunkEnd(final int index) {
+        return Math.min((index + 1) * chunkSize, size);
+    }
+
+    public void setChunkSize(final long chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public void setReadAheadSize(final long readAheadSize) {
+        this.readAheadSize = readAheadSize;
+    }
+
+    public void setMaxChunksInFlight(final int maxChunksInFlight) {
+        this.maxChunksInFlight = maxChunksInFlight;
+    }
+
+    /**
+     * @return the number of chunks projected again because their ranges started in quoted fields
+     */
+    public long getRespliceCount() {
+        return respliceCount;
+    }
+
+    protected static class Chunk {
+
+        protected final long start;
+
+        protected final long end;
+
+        protected final long rows;
+
+        protected final ByteArrayOutputStream data;
+
+        protected Chunk(final long start, final long end, final long rows, final ByteArrayOutputStream data) {
+            this.start = start;
+            this.end = end;
+            this.rows = rows;
+            this.data = data;
+        }
+    }
+
+    /**
+     * Reads the object from the offset by a ranged request of the first length,
+     * and continues by ranged requests of readAheadSize until the end of the object.
+     */
+    protected class RangeInputStream extends InputStream {
+
+        private long position;
+
+        private long length;
+
+        private InputStream current;
+
+        protected RangeInputStream(final long offset, final long length) {
+            position = offset;
+            this.length = Math.max(length, 1L);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            final int n = read(b, 0, 1);
+            return n < 0 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            while (true) {
+                if (current == null) {
+                    if (position >= size) {
+                        return -1;
+                    }
+                    current = reader.read(position, Math.min(length, size - position));
+                    length = readAheadSize;
+                }
+                final int n = current.read(b, off, len);
+                if (n >= 0) {
+                    position += n;
+                    return n;
+                }
+                current.close();
+                current = null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (current != null) {
+                current.close();
+                current = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Supplier;
+
+import com.google.common.util.concurrent.Striped;
+
+/**
+ * Read/write locks striped by key, with wait and hold time statistics.
+ * Locks are reentrant, so a thread holding the write lock of a key can take it again.
+ */
+public class StripedLock {
+
+    private final Striped<ReadWriteLock> striped;
+
+    private final LockStats readStats = new LockStats("read");
+
+    private final LockStats writeStats = new LockStats("write");
+
+    public StripedLock(final int stripes) {
+        striped = Striped.readWriteLock(stripes);
+    }
+
+    public <T> T read(final String key, final Supplier<T> supplier) {
+        return execute(striped.get(key).readLock(), readStats, supplier);
+    }
+
+    public void read(final String key, final Runnable runnable) {
+        execute(striped.get(key).readLock(), readStats, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    public <T> T write(final String key, final Supplier<T> supplier) {
+        return execute(striped.get(key).writeLock(), writeStats, supplier);
+    }
+
+    public void write(final String key, final Runnable runnable) {
+        execute(striped.get(key).writeLock(), writeStats, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    protected <T> T execute(final Lock lock, final LockStats stats, final Supplier<T> supplier) {
+        final long start = System.nanoTime();
+        final boolean contended = !lock.tryLock();
+        if (contended) {
+            lock.lock();
+        }
+        final long acquired = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            lock.unlock();
+            stats.record(contended, acquired - start, System.nanoTime() - acquired);
+        }
+    }
+
+    public LockStats getReadStats() {
+        return readStats;
+    }
+
+    public LockStats getWriteStats() {
+        return writeStats;
+    }
+
+    @Override
+    public String toString() {
+        return "StripedLock [" + readStats + ", " + writeStats + "]";
+    }
+
+    public static class LockStats {
+
+        private final String name;
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder contendedCount = new LongAdder();
+
+        private final LongAdder totalWaitNanos = new LongAdder();
+
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Long::max, 0L);
+
+        private final LongAdder totalHoldNanos = new LongAdder();
+
+        private final LongAccumulator maxHoldNanos = new LongAccumulator(Long::max, 0L);
+
+        protected LockStats(final String name) {
+            this.name = name;
+        }
+
+        protected void record(final boolean contended, final long waitNanos, final long holdNanos) {
+            count.increment();
+            if (contended) {
+                contendedCount.increment();
+            }
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulate(waitNanos);
+            totalHoldNanos.add(holdNanos);
+            maxHoldNanos.accumulate(holdNanos);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getContendedCount() {
+            return contendedCount.sum();
+        }
+
+        /**
+         * @return total wait time in milliseconds
+         */
+        public long getTotalWaitTime() {
+            return TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum());
+        }
+
+        public long getMaxWaitTime() {
+            return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+        }
+
+        /**
+         * @return total hold time in milliseconds
+         */
+        public long getTotalHoldTime() {
+            return TimeUnit.NANOSECONDS.toMillis(totalHoldNanos.sum());
+        }
+
+        public long getMaxHoldTime() {
+            return TimeUnit.NANOSECONDS.toMillis(maxHoldNanos.get());
+        }
+
+        public void reset() {
+            count.reset();
+            contendedCount.reset();
+            totalWaitNanos.reset();
+            maxWaitNanos.reset();
+            totalHoldNanos.reset();
+            maxHoldNanos.reset();
+        }
+
+        @Override
+        public String toString() {
+            return name + "{count=" + getCount() + ", contended=" + getContendedCount() + ", waitTime=" + getTotalWaitTime()
+                    + "ms, maxWaitTime=" + getMaxWaitTime() + "ms, holdTime=" + getTotalHoldTime() + "ms, maxHoldTime=" + getMaxHoldTime()
+                    + "ms}";
+        }
+    }
+}
@@ -268,9 +268,9 @@
 														</tr>
 													</thead>
 													<tbody>
-														<c:forEach var="data" varStatus="s" begin="0" end="${frameData.rowSize}">
+														<c:forEach var="row" varStatus="s" items="${frameData.formattedRows}">
 															<tr>
-																<c:forEach var="data" varStatus="x" items="${frameData.row}">
+																<c:forEach var="data" varStatus="x" items="${row}">
 																	<td>${f:h(data)}</td>
 																</c:forEach>
 															</tr>
@@ -439,9 +439,9 @@
 														</tr>
 													</thead>
 													<tbody>
-														<c:forEach var="data" varStatus="s" items="${leaderboard.models}">
+														<c:forEach var="row" varStatus="s" items="${leaderboard.formattedRows}">
 															<tr>
-																<c:forEach var="data" varStatus="x" items="${leaderboard.row}">
+																<c:forEach var="data" varStatus="x" items="${row}">
 																	<c:if test="${fn:contains(data, 'AutoML')}"><td><a href="${contextPath}/admin/automl/model/${f:u(project.id)}/${f:u(data)}?fid=${f:u(frameId)}&lid=${f:u(leaderboardId)}">${f:h(data)}</a></td></c:if>
 																	<c:if test="${not fn:contains(data, 'AutoML')}"><td>${f:h(data)}</td></c:if>
 																</c:forEach>
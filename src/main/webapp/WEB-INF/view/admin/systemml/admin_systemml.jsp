@@ -221,6 +221,100 @@
 						</div>
 					</div>
 					</c:if>
+					<div class="col-md-12">
+						<div class="card card-outline card-primary">
+							<div class="card-header">
+								<h3 class="card-title">
+									<la:message key="labels.systemml_cache" />
+								</h3>
+								<div class="card-tools">
+								</div>
+							</div>
+							<div class="card-body">
+								<table class="table table-bordered table-striped small">
+									<thead>
+										<tr>
+											<th style="width:160px"><la:message key="labels.systemml_cache_region" /></th>
+											<th><la:message key="labels.systemml_cache_entries" /></th>
+											<th><la:message key="labels.systemml_cache_size" /></th>
+											<th><la:message key="labels.systemml_cache_ttl" /></th>
+											<th><la:message key="labels.systemml_cache_hit_ratio" /></th>
+											<th><la:message key="labels.systemml_cache_hits" /></th>
+											<th><la:message key="labels.systemml_cache_misses" /></th>
+											<th><la:message key="labels.systemml_cache_negative_hits" /></th>
+											<th><la:message key="labels.systemml_cache_evictions" /></th>
+											<th><la:message key="labels.systemml_cache_load_time" /></th>
+										</tr>
+									</thead>
+									<tbody>
+										<c:forEach var="stats" varStatus="s" items="${cacheStats}">
+										<tr>
+											<td>${f:h(stats.name)}</td>
+											<td>${fe:formatNumber(stats.size, "###,###")}</td>
+											<td>${fe:formatFileSize(stats.weight)} / ${fe:formatFileSize(stats.maxWeight)}</td>
+											<td>${fe:formatDuration(stats.ttl)}</td>
+											<td>${fi:formatNumber(stats.hitRate * 100, "%.1f")}%</td>
+											<td>${fe:formatNumber(stats.hitCount, "###,###")}</td>
+											<td>${fe:formatNumber(stats.missCount, "###,###")}</td>
+											<td>${fe:formatNumber(stats.negativeHitCount, "###,###")}</td>
+											<td>${fe:formatNumber(stats.evictionCount, "###,###")}</td>
+											<td>${fi:formatNumber(stats.averageLoadTime, "%,.1f")} ms</td>
+										</tr>
+										</c:forEach>
+										<c:if test="${diskCache.enabled}">
+										<tr>
+											<td><la:message key="labels.systemml_cache_disk" /></td>
+											<td>${fe:formatNumber(diskCache.fileCount, "###,###")}</td>
+											<td>${fe:formatFileSize(diskCache.size)} / ${fe:formatFileSize(diskCache.maxSize)}</td>
+											<td>${f:h(diskCache.directory)}</td>
+											<td>${fi:formatNumber(diskCache.hitRate * 100, "%.1f")}%</td>
+											<td>${fe:formatNumber(diskCache.hitCount, "###,###")}</td>
+											<td>${fe:formatNumber(diskCache.missCount, "###,###")}</td>
+											<td></td>
+											<td>${fe:formatNumber(diskCache.evictionCount, "###,###")}</td>
+											<td></td>
+										</tr>
+										</c:if>
+									</tbody>
+								</table>
+							</div>
+						</div>
+					</div>
+					<div class="col-md-12">
+						<div class="card card-outline card-primary">
+							<div class="card-header">
+								<h3 class="card-title">
+									<la:message key="labels.systemml_lock" />
+								</h3>
+								<div class="card-tools">
+								</div>
+							</div>
+							<div class="card-body">
+								<table class="table table-bordered table-striped small">
+									<thead>
+										<tr>
+											<th style="width:160px"><la:message key="labels.systemml_lock_name" /></th>
+											<th><la:message key="labels.systemml_lock_count" /></th>
+											<th><la:message key="labels.systemml_lock_contended" /></th>
+											<th><la:message key="labels.systemml_lock_wait_time" /></th>
+											<th><la:message key="labels.systemml_lock_hold_time" /></th>
+										</tr>
+									</thead>
+									<tbody>
+										<c:forEach var="entry" varStatus="s" items="${lockStats}">
+										<tr>
+											<td>${f:h(entry.key)}</td>
+											<td>${fe:formatNumber(entry.value.count, "###,###")}</td>
+											<td>${fe:formatNumber(entry.value.contendedCount, "###,###")}</td>
+											<td>${fe:formatNumber(entry.value.totalWaitTime, "###,###")} ms / ${fe:formatNumber(entry.value.maxWaitTime, "###,###")} ms</td>
+											<td>${fe:formatNumber(entry.value.totalHoldTime, "###,###")} ms / ${fe:formatNumber(entry.value.maxHoldTime, "###,###")} ms</td>
+										</tr>
+										</c:forEach>
+									</tbody>
+								</table>
+							</div>
+						</div>
+					</div>
 				</div>
 			</section>
 		</div>
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.cache;
+
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.FramesV3;
+import org.dbflute.utflute.core.PlainTestCase;
+
+public class CacheKeyTest extends PlainTestCase {
+
+    public void test_of() {
+        assertEquals(CacheKey.of("p1", "m1"), CacheKey.of("p1", "m1"));
+        assertEquals(CacheKey.of("p1", "m1").hashCode(), CacheKey.of("p1", "m1").hashCode());
+        assertFalse(CacheKey.of("p1", "m1").equals(CacheKey.of("p2", "m1")));
+        assertFalse(CacheKey.of("p1", "m1").equals(CacheKey.of("p1", "m2")));
+        assertFalse(CacheKey.of("p1", "m1").equals(null));
+        assertEquals("p1/m1", CacheKey.of("p1", "m1").toString());
+    }
+
+    public void test_of_params() {
+        final FramesV3 params = createParams();
+        final CacheKey key = CacheKey.of(params);
+        assertEquals(key, CacheKey.of(createParams()));
+        assertEquals("train.hex", key.getId());
+        assertNull(key.getProjectId());
+        assertEquals("train.hex[20+20,10+10]", key.toString());
+
+        params.rowOffset = 40L;
+        assertFalse(key.equals(CacheKey.of(params)));
+        params.rowOffset = 20L;
+        params.column = "c1";
+        assertFalse(key.equals(CacheKey.of(params)));
+        assertEquals("train.hex#c1[20+20,10+10]", CacheKey.of(params).toString());
+        // fields which are not a part of the key
+        params.column = null;
+        params._excludeFields = "frames/frame_id";
+        assertEquals(key, CacheKey.of(params));
+    }
+
+    private FramesV3 createParams() {
+        final FramesV3 params = new FramesV3();
+        params.frameId = new FrameKeyV3("train.hex");
+        params.rowOffset = 20L;
+        params.rowCount = 20;
+        params.columnOffset = 10;
+        params.columnCount = 10;
+        return params;
+    }
+}
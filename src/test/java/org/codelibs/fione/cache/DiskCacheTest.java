@@ -0,0 +1,131 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.codelibs.fione.h2o.bindings.pojos.ColV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.LeaderboardV99;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.dbflute.utflute.core.PlainTestCase;
+
+public class DiskCacheTest extends PlainTestCase {
+
+    private Path directory;
+
+    private DiskCache diskCache;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        directory = Files.createTempDirectory("fione-cache");
+        diskCache = new DiskCache();
+        diskCache.setDirectory(directory);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try (Stream<Path> stream = Files.walk(directory)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+        super.tearDown();
+    }
+
+    public void test_disabled() {
+        final DiskCache disabled = new DiskCache();
+        assertFalse(disabled.isEnabled());
+        disabled.put(CacheRegion.FRAME_SUMMARY, "train.hex", 1L, createFrame());
+        assertNull(disabled.get(CacheRegion.FRAME_SUMMARY, "train.hex", 1L));
+    }
+
+    public void test_putAndGet() throws IOException {
+        assertTrue(diskCache.isEnabled());
+        assertNull(diskCache.get(CacheRegion.FRAME_SUMMARY, "train.hex", 123L));
+
+        diskCache.put(CacheRegion.FRAME_SUMMARY, "train.hex", 123L, createFrame());
+        assertEquals(1, diskCache.getFileCount());
+        assertTrue(diskCache.getSize() > 0);
+
+        final FrameV3 frame = diskCache.get(CacheRegion.FRAME_SUMMARY, "train.hex", 123L);
+        assertEquals("train.hex", frame.frameId.name);
+        assertEquals(2, frame.columns.length);
+        assertEquals(1.5, frame.columns[0].mean, 0.0);
+        assertTrue(Double.isNaN(frame.columns[1].data[1]));
+        assertNull(diskCache.get(CacheRegion.FRAME_SUMMARY, "train.hex", 124L));
+        assertNull(diskCache.get(CacheRegion.FINISHED_LEADERBOARD, "train.hex", 123L));
+        assertEquals(1, diskCache.getHitCount());
+        assertEquals(3, diskCache.getMissCount());
+
+        // restart
+        final DiskCache other = new DiskCache();
+        other.setDirectory(directory);
+        assertEquals(1, other.getFileCount());
+        assertEquals(diskCache.getSize(), other.getSize());
+        assertNotNull(other.get(CacheRegion.FRAME_SUMMARY, "train.hex", 123L));
+
+        diskCache.remove(CacheRegion.FRAME_SUMMARY, "train.hex");
+        assertEquals(0, diskCache.getFileCount());
+        assertEquals(0, diskCache.getSize());
+        assertNull(diskCache.get(CacheRegion.FRAME_SUMMARY, "train.hex", 123L));
+    }
+
+    public void test_leaderboard() {
+        final LeaderboardV99 leaderboard = new LeaderboardV99();
+        leaderboard.projectName = "automl@@label";
+        leaderboard.models = new ModelKeyV3[] { new ModelKeyV3("GBM_1_AutoML") };
+        diskCache.put(CacheRegion.FINISHED_LEADERBOARD, leaderboard.projectName, 0L, leaderboard);
+        final LeaderboardV99 value = diskCache.get(CacheRegion.FINISHED_LEADERBOARD, "automl@@label", 0L);
+        assertEquals("GBM_1_AutoML", value.models[0].name);
+    }
+
+    public void test_evict() throws Exception {
+        diskCache.put(CacheRegion.FRAME_SUMMARY, "f0", 1L, createFrame());
+        final long size = diskCache.getSize();
+        diskCache.setMaxSize(size * 3);
+        final long baseTime = System.currentTimeMillis() - 100000L;
+        Files.setLastModifiedTime(diskCache.getPath(CacheRegion.FRAME_SUMMARY, "f0"), FileTime.fromMillis(baseTime));
+        for (int i = 1; i < 6; i++) {
+            diskCache.put(CacheRegion.FRAME_SUMMARY, "f" + i, 1L, createFrame());
+            Files.setLastModifiedTime(diskCache.getPath(CacheRegion.FRAME_SUMMARY, "f" + i), FileTime.fromMillis(baseTime + i * 1000L));
+        }
+        assertTrue(diskCache.getSize() <= size * 3);
+        assertTrue(diskCache.getEvictionCount() > 0);
+        assertNull(diskCache.get(CacheRegion.FRAME_SUMMARY, "f0", 1L));
+        assertNotNull(diskCache.get(CacheRegion.FRAME_SUMMARY, "f5", 1L));
+    }
+
+    private FrameV3 createFrame() {
+        final FrameV3 frame = new FrameV3();
+        frame.frameId = new FrameKeyV3("train.hex");
+        frame.checksum = 123L;
+        frame.columns = new ColV3[2];
+        for (int i = 0; i < frame.columns.length; i++) {
+            final ColV3 col = new ColV3();
+            col.label = "c" + i;
+            col.mean = 1.5;
+            col.data = new double[] { 1.0, Double.NaN, 3.0 };
+            frame.columns[i] = col;
+        }
+        return frame;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.codelibs.fione.cache.FrameIndex.Snapshot;
+import org.dbflute.utflute.core.PlainTestCase;
+
+public class FrameIndexTest extends PlainTestCase {
+
+    public void test_find() throws Exception {
+        final FrameIndex frameIndex = new FrameIndex();
+        final Snapshot snapshot = frameIndex.getSnapshot(() -> new String[] { "p2_ZGF0YQ.hex", "p1_dHJhaW4.hex", "p1_dGVzdA.hex",
+                "p1_dHJhaW4_0.hex", null, "p1_dHJhaW4.hex", "p10_a" });
+        assertEquals(5, snapshot.size());
+        assertEquals("[p1_dHJhaW4.hex, p1_dHJhaW4_0.hex]", Arrays.toString(snapshot.find("p1_dHJhaW4")));
+        assertEquals(3, snapshot.find("p1_").length);
+        assertEquals(1, snapshot.find("p2_").length);
+        assertEquals(0, snapshot.find("p3_").length);
+        assertEquals(0, snapshot.find("q").length);
+        assertEquals(5, snapshot.find("").length);
+    }
+
+    public void test_ttl() throws Exception {
+        final FrameIndex frameIndex = new FrameIndex();
+        frameIndex.setTtl(200L);
+        final AtomicInteger counter = new AtomicInteger();
+        final Callable<String[]> loader = () -> {
+            counter.incrementAndGet();
+            return new String[] { "p1_a.hex" };
+        };
+        final Snapshot snapshot = frameIndex.getSnapshot(loader);
+        assertSame(snapshot, frameIndex.getSnapshot(loader));
+        assertEquals(1, counter.get());
+
+        frameIndex.invalidate(CacheTag.model("m1"));
+        assertSame(snapshot, frameIndex.getSnapshot(loader));
+        frameIndex.invalidate(CacheTag.frame("p1_a.hex"));
+        assertNotSame(snapshot, frameIndex.getSnapshot(loader));
+        assertEquals(2, counter.get());
+
+        Thread.sleep(300L);
+        frameIndex.getSnapshot(loader);
+        assertEquals(3, counter.get());
+    }
+
+    public void test_invalidateWhileLoading() throws Exception {
+        final FrameIndex frameIndex = new FrameIndex();
+        final Snapshot snapshot = frameIndex.getSnapshot(() -> {
+            frameIndex.invalidate(CacheTag.project("p1"));
+            return new String[] { "p1_a.hex" };
+        });
+        assertEquals(1, snapshot.size());
+        assertNotSame(snapshot, frameIndex.getSnapshot(() -> new String[0]));
+    }
+}
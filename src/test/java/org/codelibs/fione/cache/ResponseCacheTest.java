@@ -0,0 +1,280 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.codelibs.fione.cache.ResponseCache.RegionStats;
+import org.codelibs.fione.exception.CacheNotFoundException;
+import org.codelibs.fione.h2o.bindings.pojos.ColV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.FramesV3;
+import org.codelibs.fione.h2o.bindings.pojos.LeaderboardV99;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelSchemaBaseV3;
+import org.dbflute.utflute.core.PlainTestCase;
+
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+public class ResponseCacheTest extends PlainTestCase {
+
+    private ResponseCache responseCache;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        responseCache = new ResponseCache();
+        responseCache.maxHeapSize = 10 * 1024 * 1024;
+        responseCache.ttlMap.put("model", 1000L);
+        responseCache.init();
+    }
+
+    public void test_get() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        final FrameV3 frame = createFrame(10, 100);
+        assertSame(frame, responseCache.get(CacheRegion.FRAME_DATA, CacheKey.of("p1", "f1"), () -> {
+            counter.incrementAndGet();
+            return frame;
+        }));
+        assertSame(frame, responseCache.get(CacheRegion.FRAME_DATA, CacheKey.of("p1", "f1"), () -> {
+            counter.incrementAndGet();
+            return createFrame(1, 1);
+        }));
+        assertEquals(1, counter.get());
+        assertNull(responseCache.getIfPresent(CacheRegion.FRAME_SUMMARY, CacheKey.of("p1", "f1")));
+        assertTrue(responseCache.contains(CacheRegion.FRAME_DATA, CacheKey.of("p1", "f1")));
+        assertFalse(responseCache.contains(CacheRegion.FRAME_SUMMARY, CacheKey.of("p1", "f1")));
+
+        final RegionStats stats = responseCache.getStats(CacheRegion.FRAME_DATA);
+        assertEquals(1, stats.getSize());
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getLoadCount());
+        assertTrue(stats.getWeight() > 10 * 100 * 8);
+
+        responseCache.invalidate(CacheRegion.FRAME_DATA, CacheKey.of("p1", "f1"));
+        assertEquals(0, responseCache.getStats(CacheRegion.FRAME_DATA).getWeight());
+        assertNull(responseCache.getIfPresent(CacheRegion.FRAME_DATA, CacheKey.of("p1", "f1")));
+    }
+
+    public void test_get_notFound() throws Exception {
+        responseCache.negativeTtl = 200L;
+        final CacheKey key = CacheKey.of("p1", "l1");
+        final AtomicInteger counter = new AtomicInteger();
+        final Callable<LeaderboardV99> loader = () -> {
+            counter.incrementAndGet();
+            throw new CacheNotFoundException();
+        };
+        assertNull(responseCache.get(CacheRegion.LEADERBOARD, key, loader));
+        assertNull(responseCache.get(CacheRegion.LEADERBOARD, key, loader));
+        assertNull(responseCache.get(CacheRegion.LEADERBOARD, key, loader));
+        assertEquals(1, counter.get());
+        assertEquals(2, responseCache.getStats(CacheRegion.LEADERBOARD).getNegativeHitCount());
+
+        Thread.sleep(300L);
+        final LeaderboardV99 leaderboard = new LeaderboardV99();
+        assertSame(leaderboard, responseCache.get(CacheRegion.LEADERBOARD, key, () -> leaderboard));
+
+        responseCache.put(CacheRegion.LEADERBOARD, key, leaderboard);
+        responseCache.invalidate(key);
+        assertNull(responseCache.getIfPresent(CacheRegion.LEADERBOARD, key));
+        assertNull(responseCache.get(CacheRegion.LEADERBOARD, key, loader));
+        assertEquals(2, counter.get());
+    }
+
+    public void test_get_error() throws Exception {
+        try {
+            responseCache.get(CacheRegion.LEADERBOARD, CacheKey.of("p1", "l1"), () -> {
+                throw new IllegalStateException();
+            });
+            fail();
+        } catch (final UncheckedExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(1, responseCache.getStats(CacheRegion.LEADERBOARD).getLoadExceptionCount());
+        assertEquals(0, responseCache.getStats(CacheRegion.LEADERBOARD).getSize());
+    }
+
+    public void test_get_singleFlight() throws Exception {
+        final CacheKey key = CacheKey.of("p1", "m1");
+        final AtomicInteger counter = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ModelSchemaBaseV3 model = new ModelSchemaBaseV3();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<ModelSchemaBaseV3>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> responseCache.get(CacheRegion.MODEL, key, () -> {
+                    counter.incrementAndGet();
+                    latch.await();
+                    return model;
+                })));
+            }
+            Thread.sleep(100L);
+            latch.countDown();
+            for (final Future<ModelSchemaBaseV3> future : futures) {
+                assertSame(model, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, counter.get());
+    }
+
+    public void test_invalidate_tag() throws Exception {
+        final FramesV3 params = new FramesV3();
+        params.frameId = new FrameKeyV3("f1");
+        params.rowCount = 10;
+        final LeaderboardV99 leaderboard = new LeaderboardV99();
+        leaderboard.models = new ModelKeyV3[] { new ModelKeyV3("m1"), new ModelKeyV3("m2") };
+        responseCache.put(CacheRegion.FRAME_SUMMARY, CacheKey.of("p1", "f1"), createFrame(1, 1));
+        responseCache.put(CacheRegion.FRAME_DATA, CacheKey.of(params), createFrame(1, 10));
+        responseCache.put(CacheRegion.FRAME_SUMMARY, CacheKey.of("p2", "f2"), createFrame(1, 1));
+        responseCache.put(CacheRegion.LEADERBOARD, CacheKey.of("p1", "l1"), leaderboard);
+        responseCache.put(CacheRegion.MODEL, CacheKey.of("p1", "m1"), new ModelSchemaBaseV3());
+        responseCache.put(CacheRegion.MODEL, CacheKey.of("p1", "m3"), new ModelSchemaBaseV3());
+
+        final CacheInvalidationBus bus = new CacheInvalidationBus();
+        bus.addListener(responseCache);
+        bus.publish(CacheTag.frame("f1"));
+        assertNull(responseCache.getIfPresent(CacheRegion.FRAME_SUMMARY, CacheKey.of("p1", "f1")));
+        assertNull(responseCache.getIfPresent(CacheRegion.FRAME_DATA, CacheKey.of(params)));
+        assertNotNull(responseCache.getIfPresent(CacheRegion.FRAME_SUMMARY, CacheKey.of("p2", "f2")));
+        assertNotNull(responseCache.getIfPresent(CacheRegion.LEADERBOARD, CacheKey.of("p1", "l1")));
+
+        bus.publish(CacheTag.model("m1"));
+        assertNull(responseCache.getIfPresent(CacheRegion.MODEL, CacheKey.of("p1", "m1")));
+        assertNull(responseCache.getIfPresent(CacheRegion.LEADERBOARD, CacheKey.of("p1", "l1")));
+        assertNotNull(responseCache.getIfPresent(CacheRegion.MODEL, CacheKey.of("p1", "m3")));
+
+        // reloaded entries are tagged again
+        responseCache.get(CacheRegion.LEADERBOARD, CacheKey.of("p1", "l1"), () -> leaderboard);
+        bus.publish(CacheTag.project("p1"));
+        assertNull(responseCache.getIfPresent(CacheRegion.LEADERBOARD, CacheKey.of("p1", "l1")));
+        assertNull(responseCache.getIfPresent(CacheRegion.MODEL, CacheKey.of("p1", "m3")));
+        assertNotNull(responseCache.getIfPresent(CacheRegion.FRAME_SUMMARY, CacheKey.of("p2", "f2")));
+        for (final CacheRegion<?> region : CacheRegion.values()) {
+            if (region != CacheRegion.FRAME_SUMMARY) {
+                assertTrue(responseCache.getRegion(region).tagMap.isEmpty());
+            }
+        }
+    }
+
+    public void test_invalidate_tag_loading() throws Exception {
+        final CacheKey key = CacheKey.of("p1", "m1");
+        final ModelSchemaBaseV3 oldModel = new ModelSchemaBaseV3();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch invalidated = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<ModelSchemaBaseV3> future = executor.submit(() -> responseCache.get(CacheRegion.MODEL, key, () -> {
+                loading.countDown();
+                invalidated.await();
+                return oldModel;
+            }));
+            loading.await();
+            responseCache.invalidate(CacheTag.model("m1"));
+            invalidated.countDown();
+            // the caller gets the value, but it is not cached
+            assertSame(oldModel, future.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertNull(responseCache.getIfPresent(CacheRegion.MODEL, key));
+        final ModelSchemaBaseV3 newModel = new ModelSchemaBaseV3();
+        assertSame(newModel, responseCache.get(CacheRegion.MODEL, key, () -> newModel));
+        assertTrue(responseCache.getRegion(CacheRegion.MODEL).loadingMap.isEmpty());
+
+        // a failed load does not leave its key in the index
+        try {
+            responseCache.get(CacheRegion.MODEL, CacheKey.of("p1", "m2"), () -> {
+                throw new IllegalStateException();
+            });
+            fail();
+        } catch (final UncheckedExecutionException e) {
+            // expected
+        }
+        assertNull(responseCache.getRegion(CacheRegion.MODEL).tagMap.get(CacheTag.model("m2")));
+    }
+
+    public void test_maxWeight() throws Exception {
+        final long maxWeight = responseCache.getStats(CacheRegion.FRAME_DATA).getMaxWeight();
+        assertEquals(10 * 1024 * 1024 * 30 / 100, maxWeight);
+        for (int i = 0; i < 100; i++) {
+            responseCache.put(CacheRegion.FRAME_DATA, CacheKey.of("p1", "f" + i), createFrame(10, 1000));
+        }
+        final RegionStats stats = responseCache.getStats(CacheRegion.FRAME_DATA);
+        assertTrue(stats.getEvictionCount() > 0);
+        assertTrue(stats.getSize() < 100);
+        assertTrue(stats.getWeight() <= maxWeight);
+        assertEquals(0, responseCache.getStats(CacheRegion.COLUMN_DATA).getSize());
+
+        responseCache.invalidateAll();
+        assertEquals(0, responseCache.getStats(CacheRegion.FRAME_DATA).getWeight());
+    }
+
+    public void test_maxWeight_largeEntry() throws Exception {
+        final long maxWeight = responseCache.getStats(CacheRegion.FRAME_DATA).getMaxWeight();
+        final FrameV3 frame = createFrame(1, (int) (maxWeight / 2 / 8));
+        responseCache.put(CacheRegion.FRAME_DATA, CacheKey.of("p1", "f1"), frame);
+        final RegionStats stats = responseCache.getStats(CacheRegion.FRAME_DATA);
+        assertTrue(stats.getWeight() > maxWeight / 4);
+        assertEquals(0, stats.getEvictionCount());
+        assertSame(frame, responseCache.getIfPresent(CacheRegion.FRAME_DATA, CacheKey.of("p1", "f1")));
+    }
+
+    public void test_ttl() throws Exception {
+        assertEquals(1000L, responseCache.getStats(CacheRegion.MODEL).getTtl());
+        assertEquals(CacheRegion.FINISHED_LEADERBOARD.getDefaultTtl(), responseCache.getStats(CacheRegion.FINISHED_LEADERBOARD).getTtl());
+        assertTrue(CacheRegion.FINISHED_LEADERBOARD.getDefaultTtl() > CacheRegion.LEADERBOARD.getDefaultTtl());
+        assertEquals(100, CacheRegion.values().stream().mapToInt(CacheRegion::getHeapRatio).sum());
+        assertSame(CacheRegion.MODEL, CacheRegion.valueOf("model"));
+    }
+
+    public void test_estimate() {
+        final SizeEstimator estimator = new SizeEstimator();
+        assertEquals(0L, estimator.estimate(null));
+        assertEquals(16L + 8000L, estimator.estimate(new double[1000]));
+        final ColV3 col = new ColV3();
+        final long empty = estimator.estimate(col);
+        col.data = new double[1000];
+        assertEquals(empty + 8016L, estimator.estimate(col));
+
+        final FrameV3 frame = createFrame(2, 1000);
+        frame.columns[1] = frame.columns[0];
+        assertTrue(estimator.estimate(frame) < estimator.estimate(createFrame(2, 1000)));
+    }
+
+    private FrameV3 createFrame(final int columns, final int rows) {
+        final FrameV3 frame = new FrameV3();
+        frame.columns = new ColV3[columns];
+        for (int i = 0; i < columns; i++) {
+            final ColV3 col = new ColV3();
+            col.label = "column_" + i;
+            col.data = new double[rows];
+            frame.columns[i] = col;
+        }
+        return frame;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings;
+
+import org.codelibs.fione.h2o.bindings.pojos.DRFModelV3;
+import org.codelibs.fione.h2o.bindings.pojos.GBMModelOutputV3;
+import org.codelibs.fione.h2o.bindings.pojos.GBMModelV3;
+import org.codelibs.fione.h2o.bindings.pojos.GBMParametersV3;
+import org.codelibs.fione.h2o.bindings.pojos.GBMV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelBuilderSchema;
+import org.codelibs.fione.h2o.bindings.pojos.ModelSchemaBaseV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelsV3;
+import org.dbflute.utflute.core.PlainTestCase;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+public class H2oApiTest extends PlainTestCase {
+
+    private final Gson gson = H2oApi.createGson();
+
+    public void test_readModels() throws Exception {
+        final ModelsV3 models = gson.fromJson(ModelsV3Benchmark.createModelsJson(40), ModelsV3.class);
+        assertEquals(1, models.models.length);
+        final GBMModelV3 model = (GBMModelV3) models.models[0];
+        assertEquals("GBM_1_AutoML_20200101_000000", model.modelId.name);
+        assertEquals("gbm", model.algo);
+        assertEquals(1234567890L, model.checksum);
+
+        final GBMParametersV3 parameters = model.parameters;
+        assertEquals(50, parameters.ntrees);
+        assertEquals(0.1, parameters.learnRate, 0.0);
+        assertEquals(42L, parameters.seed);
+        assertEquals("automl_training_train.hex", parameters.trainingFrame.name);
+        assertEquals(4, parameters.ignoredColumns.length);
+
+        final GBMModelOutputV3 output = model.output;
+        assertEquals(40, output.names.length);
+        assertEquals("level_19", output.domains[0][19]);
+        assertNull(output.domains[1]);
+        assertEquals("DONE", output.status);
+
+        final ModelsV3Benchmark benchmark = new ModelsV3Benchmark();
+        benchmark.columns = 40;
+        benchmark.setup();
+        assertEquals(new Gson().toJson(benchmark.tree()[0]), new Gson().toJson(model));
+    }
+
+    public void test_readModel_fieldsBeforeAlgo() {
+        final ModelSchemaBaseV3 model = gson.fromJson(
+                "{\"model_id\":{\"name\":\"drf1\",\"type\":\"Key<Model>\"},\"output\":{\"status\":\"RUNNING\"},\"algo\":\"drf\"}",
+                ModelSchemaBaseV3.class);
+        assertTrue(model instanceof DRFModelV3);
+        assertEquals("drf1", model.modelId.name);
+        assertEquals("RUNNING", ((DRFModelV3) model).output.status);
+    }
+
+    public void test_readModelBuilder() {
+        final ModelBuilderSchema<?> builder =
+                gson.fromJson("{\"algo\":\"gbm\",\"parameters\":[{\"actual_value\":3,\"name\":\"ntrees\"}]}", ModelBuilderSchema.class);
+        assertTrue(builder instanceof GBMV3);
+        assertEquals(3, ((GBMV3) builder).parameters.ntrees);
+    }
+
+    public void test_readModel_invalid() {
+        assertNull(gson.fromJson("null", ModelSchemaBaseV3.class));
+        try {
+            gson.fromJson("{\"algo\":\"unknown\"}", ModelSchemaBaseV3.class);
+            fail();
+        } catch (final JsonParseException e) {
+            // ok
+        }
+        try {
+            gson.fromJson("{\"checksum\":1}", ModelSchemaBaseV3.class);
+            fail();
+        } catch (final JsonParseException e) {
+            // ok
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.codelibs.fione.h2o.bindings.pojos.GBMModelV3;
+import org.codelibs.fione.h2o.bindings.pojos.ModelsV3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Compares the streaming model adapter with the former tree-based parsing
+ * on a GBM ModelsV3 response shaped like the ones H2O returns.
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.codelibs.fione.h2o.bindings.ModelsV3Benchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelsV3Benchmark {
+
+    @Param({ "100", "2000" })
+    public int columns;
+
+    private String json;
+
+    private Gson gson;
+
+    @Setup
+    public void setup() throws IOException {
+        json = createModelsJson(columns);
+        gson = H2oApi.createGson();
+    }
+
+    @Benchmark
+    public ModelsV3 streaming() {
+        return gson.fromJson(json, ModelsV3.class);
+    }
+
+    /**
+     * Parsing before the streaming adapter: the response is read into a tree,
+     * "parameters" is rewritten, and each model is bound by a new unconfigured Gson.
+     */
+    @Benchmark
+    public GBMModelV3[] tree() {
+        final JsonObject root = gson.fromJson(json, JsonObject.class);
+        final JsonArray models = root.getAsJsonArray("models");
+        final GBMModelV3[] results = new GBMModelV3[models.size()];
+        for (int i = 0; i < results.length; i++) {
+            final JsonObject jobj = gson.fromJson(models.get(i), JsonObject.class);
+            final JsonObject paramsNew = new JsonObject();
+            for (final JsonElement item : jobj.getAsJsonArray("parameters")) {
+                final JsonObject itemObj = item.getAsJsonObject();
+                paramsNew.add(itemObj.get("name").getAsString(), itemObj.get("actual_value"));
+            }
+            jobj.add("parameters", paramsNew);
+            results[i] = new Gson().fromJson(jobj, GBMModelV3.class);
+        }
+        return results;
+    }
+
+    protected static String createModelsJson(final int columns) throws IOException {
+        final StringWriter sw = new StringWriter();
+        try (JsonWriter out = new JsonWriter(sw)) {
+            out.beginObject();
+            out.name("__meta").beginObject().name("schema_version").value(3).name("schema_name").value("ModelsV3").endObject();
+            out.name("models").beginArray();
+            out.beginObject();
+            out.name("__meta").beginObject().name("schema_version").value(3).name("schema_name").value("GBMModelV3").endObject();
+            writeKey(out, "model_id", "GBM_1_AutoML_20200101_000000", "Key<Model>");
+            out.name("algo").value("gbm");
+            out.name("algo_full_name").value("Gradient Boosting Machine");
+            out.name("response_column_name").value("label");
+            writeKey(out, "data_frame", "automl_training_train.hex", "Key<Frame>");
+            out.name("timestamp").value(1577836800000L);
+            out.name("have_pojo").value(true);
+            out.name("have_mojo").value(true);
+
+            out.name("parameters").beginArray();
+            final String[][] params = { { "ntrees", "int", "50" }, { "max_depth", "int", "6" }, { "min_rows", "double", "10.0" },
+                    { "learn_rate", "double", "0.1" }, { "sample_rate", "double", "0.8" }, { "col_sample_rate", "double", "0.8" },
+                    { "nbins_top_level", "int", "1024" }, { "nbins_cats", "int", "1024" }, { "score_tree_interval", "int", "5" },
+                    { "stopping_rounds", "int", "3" }, { "stopping_tolerance", "double", "0.001" }, { "seed", "long", "42" },
+                    { "distribution", "enum", "bernoulli" }, { "histogram_type", "enum", "AUTO" },
+                    { "categorical_encoding", "enum", "AUTO" }, { "fold_assignment", "enum", "Modulo" } };
+            for (final String[] param : params) {
+                out.beginObject();
+                out.name("__meta").beginObject().name("schema_name").value("ModelParameterSchemaV3").endObject();
+                out.name("name").value(param[0]);
+                out.name("label").value(param[0]);
+                out.name("help").value("Help text of " + param[0] + " shown in Flow.");
+                out.name("required").value(false);
+                out.name("type").value(param[1]);
+                if ("enum".equals(param[1])) {
+                    out.name("default_value").value(param[2]);
+                    out.name("actual_value").value(param[2]);
+                } else {
+                    out.name("default_value").value(Double.parseDouble(param[2]));
+                    out.name("actual_value").value(Double.parseDouble(param[2]));
+                }
+                out.name("level").value("critical");
+                out.name("values").beginArray().endArray();
+                out.name("is_member_of_frames").beginArray().endArray();
+                out.name("is_mutually_exclusive_with").beginArray().endArray();
+                out.name("gridable").value(true);
+                out.endObject();
+            }
+            out.beginObject();
+            out.name("name").value("training_frame");
+            out.name("type").value("Key<Frame>");
+            out.name("actual_value").beginObject().name("name").value("automl_training_train.hex").name("type").value("Key<Frame>")
+                    .endObject();
+            out.endObject();
+            out.beginObject();
+            out.name("name").value("ignored_columns");
+            out.name("type").value("string[]");
+            out.name("actual_value").beginArray();
+            for (int i = 0; i < columns / 10; i++) {
+                out.value("ignored_" + i);
+            }
+            out.endArray();
+            out.endObject();
+            out.endArray();
+
+            out.name("output").beginObject();
+            out.name("names").beginArray();
+            for (int i = 0; i < columns; i++) {
+                out.value("column_" + i);
+            }
+            out.endArray();
+            out.name("column_types").beginArray();
+            for (int i = 0; i < columns; i++) {
+                out.value(i % 4 == 0 ? "Enum" : "Numeric");
+            }
+            out.endArray();
+            out.name("domains").beginArray();
+            for (int i = 0; i < columns; i++) {
+                if (i % 4 == 0) {
+                    out.beginArray();
+                    for (int j = 0; j < 20; j++) {
+                        out.value("level_" + j);
+                    }
+                    out.endArray();
+                } else {
+                    out.nullValue();
+                }
+            }
+            out.endArray();
+            out.name("model_category").value("Binomial");
+            out.name("status").value("DONE");
+            out.name("start_time").value(1577836800000L);
+            out.name("end_time").value(1577836860000L);
+            out.name("run_time").value(60000L);
+            out.endObject();
+
+            out.name("compatible_frames").nullValue();
+            out.name("checksum").value(1234567890L);
+            out.endObject();
+            out.endArray();
+            out.endObject();
+        }
+        return sw.toString();
+    }
+
+    private static void writeKey(final JsonWriter out, final String name, final String value, final String type) throws IOException {
+        out.name(name).beginObject().name("name").value(value).name("type").value(type).name("URL").value("/3/" + value).endObject();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ModelsV3Benchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.codelibs.fione.h2o.bindings.H2oApi;
+import org.codelibs.fione.h2o.bindings.pojos.FramesV3;
+import org.codelibs.fione.h2o.bindings.pojos.LeaderboardsV99;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Compares the generated adapters with Gson's reflective adapter
+ * on FramesV3 and LeaderboardsV99 responses shaped like the ones H2O returns.
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.codelibs.fione.h2o.bindings.adapters.PojoTypeAdapterBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PojoTypeAdapterBenchmark {
+
+    @Param({ "10", "100" })
+    public int columns;
+
+    @Param({ "1000" })
+    public int rows;
+
+    private String framesJson;
+
+    private String leaderboardsJson;
+
+    private Gson generatedGson;
+
+    private Gson reflectiveGson;
+
+    @Setup
+    public void setup() throws IOException {
+        framesJson = createFramesJson(columns, rows);
+        leaderboardsJson = createLeaderboardsJson(columns * 5);
+        generatedGson = H2oApi.createGson();
+        reflectiveGson = new GsonBuilder().setLenient().create();
+    }
+
+    @Benchmark
+    public FramesV3 framesGenerated() {
+        return generatedGson.fromJson(framesJson, FramesV3.class);
+    }
+
+    @Benchmark
+    public FramesV3 framesReflective() {
+        return reflectiveGson.fromJson(framesJson, FramesV3.class);
+    }
+
+    @Benchmark
+    public LeaderboardsV99 leaderboardsGenerated() {
+        return generatedGson.fromJson(leaderboardsJson, LeaderboardsV99.class);
+    }
+
+    @Benchmark
+    public LeaderboardsV99 leaderboardsReflective() {
+        return reflectiveGson.fromJson(leaderboardsJson, LeaderboardsV99.class);
+    }
+
+    protected static String createFramesJson(final int columns, final int rows) throws IOException {
+        final StringWriter sw = new StringWriter();
+        try (JsonWriter out = new JsonWriter(sw)) {
+            out.setLenient(true);
+            out.beginObject();
+            out.name("__meta").beginObject().name("schema_version").value(3).name("schema_name").value("FramesV3").endObject();
+            out.name("row_offset").value(0);
+            out.name("row_count").value(rows);
+            out.name("frames").beginArray();
+            out.beginObject();
+            writeKey(out, "frame_id", "train.hex", "Key<Frame>");
+            out.name("byte_size").value(123456789L);
+            out.name("is_text").value(false);
+            out.name("row_offset").value(0);
+            out.name("row_count").value(rows);
+            out.name("column_count").value(columns);
+            out.name("total_column_count").value(columns);
+            out.name("checksum").value(987654321L);
+            out.name("rows").value(rows * 10L);
+            out.name("num_columns").value(columns);
+            out.name("default_percentiles").beginArray();
+            for (final double p : new double[] { 0.001, 0.01, 0.1, 0.25, 0.333, 0.5, 0.667, 0.75, 0.9, 0.99, 0.999 }) {
+                out.value(p);
+            }
+            out.endArray();
+            out.name("columns").beginArray();
+            for (int i = 0; i < columns; i++) {
+                final boolean isEnum = i % 5 == 0;
+                out.beginObject();
+                out.name("__meta").beginObject().name("schema_name").value("ColV3").endObject();
+                out.name("label").value("column_" + i);
+                out.name("missing_count").value(i);
+                out.name("zero_count").value(i * 2);
+                out.name("positive_infinity_count").value(0);
+                out.name("negative_infinity_count").value(0);
+                out.name("mins").beginArray().value(0.0).value(0.5).value(1.0).endArray();
+                out.name("maxs").beginArray().value(100.0).value(99.5).value(99.0).endArray();
+                out.name("mean").value(50.0 + i);
+                out.name("sigma").value(12.5);
+                out.name("type").value(isEnum ? "enum" : "real");
+                if (isEnum) {
+                    out.name("domain").beginArray();
+                    for (int j = 0; j < 10; j++) {
+                        out.value("level_" + j);
+                    }
+                    out.endArray();
+                } else {
+                    out.name("domain").nullValue();
+                }
+                out.name("domain_cardinality").value(isEnum ? 10 : 0);
+                out.name("data").beginArray();
+                for (int j = 0; j < rows; j++) {
+                    if (j % 97 == 0) {
+                        out.value("NaN");
+                    } else {
+                        out.value(isEnum ? j % 10 : j * 0.25 + i);
+                    }
+                }
+                out.endArray();
+                out.name("string_data").nullValue();
+                out.name("precision").value(-1);
+                out.name("histogram_bins").beginArray();
+                for (int j = 0; j < 64; j++) {
+                    out.value(j * 3L);
+                }
+                out.endArray();
+                out.name("histogram_base").value(0.0);
+                out.name("histogram_stride").value(1.5625);
+                out.name("percentiles").beginArray();
+                for (int j = 0; j < 11; j++) {
+                    out.value(j * 10.0);
+                }
+                out.endArray();
+                out.endObject();
+            }
+            out.endArray();
+            out.name("compatible_models").nullValue();
+            out.endObject();
+            out.endArray();
+            out.endObject();
+        }
+        return sw.toString();
+    }
+
+    protected static String createLeaderboardsJson(final int models) throws IOException {
+        final StringWriter sw = new StringWriter();
+        try (JsonWriter out = new JsonWriter(sw)) {
+            out.beginObject();
+            out.name("project_name").value("automl");
+            out.name("leaderboards").beginArray();
+            out.beginObject();
+            out.name("project_name").value("automl");
+            out.name("models").beginArray();
+            for (int i = 0; i < models; i++) {
+                out.beginObject().name("name").value("GBM_" + i + "_AutoML_20200101").name("type").value("Key<Model>").name("URL")
+                        .value("/3/Models/GBM_" + i + "_AutoML_20200101").endObject();
+            }
+            out.endArray();
+            writeKey(out, "leaderboard_frame", "test.hex", "Key<Frame>");
+            out.name("leaderboard_frame_checksum").value(123456789L);
+            out.name("sort_metrics").beginArray();
+            for (int i = 0; i < models; i++) {
+                out.value(0.9 - i * 0.001);
+            }
+            out.endArray();
+            out.name("sort_metric").value("auc");
+            out.name("sort_decreasing").value(true);
+            out.endObject();
+            out.endArray();
+            out.endObject();
+        }
+        return sw.toString();
+    }
+
+    private static void writeKey(final JsonWriter out, final String name, final String value, final String type) throws IOException {
+        out.name(name).beginObject().name("name").value(value).name("type").value(type).name("URL").value("/3/" + value).endObject();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PojoTypeAdapterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
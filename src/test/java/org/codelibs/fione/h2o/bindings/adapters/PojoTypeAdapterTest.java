@@ -0,0 +1,77 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.adapters;
+
+import org.codelibs.fione.h2o.bindings.H2oApi;
+import org.codelibs.fione.h2o.bindings.pojos.ColV3;
+import org.codelibs.fione.h2o.bindings.pojos.FrameV3;
+import org.codelibs.fione.h2o.bindings.pojos.FramesV3;
+import org.codelibs.fione.h2o.bindings.pojos.JobV3;
+import org.codelibs.fione.h2o.bindings.pojos.LeaderboardsV99;
+import org.dbflute.utflute.core.PlainTestCase;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+public class PojoTypeAdapterTest extends PlainTestCase {
+
+    private final Gson gson = H2oApi.createGson();
+
+    private final Gson reflectiveGson = new GsonBuilder().setLenient().create();
+
+    private final Gson writer = new GsonBuilder().serializeSpecialFloatingPointValues().create();
+
+    public void test_readFrames() throws Exception {
+        final String json = PojoTypeAdapterBenchmark.createFramesJson(6, 200);
+        final FramesV3 frames = gson.fromJson(json, FramesV3.class);
+        final FrameV3 frame = frames.frames[0];
+        assertEquals("train.hex", frame.frameId.name);
+        assertEquals(6, frame.columns.length);
+        final ColV3 col = frame.columns[1];
+        assertEquals("column_1", col.label);
+        assertEquals(200, col.data.length);
+        assertTrue(Double.isNaN(col.data[0]));
+        assertEquals(64, col.histogramBins.length);
+        assertNull(col.domain);
+        assertEquals(10, frame.columns[0].domain.length);
+
+        assertEquals(writer.toJson(reflectiveGson.fromJson(json, FramesV3.class)), writer.toJson(frames));
+    }
+
+    public void test_readLeaderboards() throws Exception {
+        final String json = PojoTypeAdapterBenchmark.createLeaderboardsJson(20);
+        final LeaderboardsV99 leaderboards = gson.fromJson(json, LeaderboardsV99.class);
+        assertEquals(20, leaderboards.leaderboards[0].models.length);
+        assertEquals("GBM_3_AutoML_20200101", leaderboards.leaderboards[0].models[3].name);
+        assertEquals(writer.toJson(reflectiveGson.fromJson(json, LeaderboardsV99.class)), writer.toJson(leaderboards));
+    }
+
+    public void test_nullAndDefaults() {
+        final JobV3 job = gson.fromJson("{\"status\":\"RUNNING\",\"progress\":null,\"msec\":\"12\",\"ready_for_view\":\"true\",\"x\":[1]}",
+                JobV3.class);
+        assertEquals("RUNNING", job.status);
+        assertEquals(new JobV3().progress, job.progress, 0.0);
+        assertEquals(12L, job.msec);
+        assertTrue(job.readyForView);
+        assertNull(gson.fromJson("null", JobV3.class));
+    }
+
+    public void test_write() {
+        final JobV3 job = new JobV3();
+        job.status = "DONE";
+        assertEquals(reflectiveGson.toJson(job), gson.toJson(job));
+    }
+}
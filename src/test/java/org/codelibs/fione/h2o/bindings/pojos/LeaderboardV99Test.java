@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.h2o.bindings.pojos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+public class LeaderboardV99Test extends PlainTestCase {
+
+    public void test_getFormattedRows() {
+        final LeaderboardV99 leaderboard = createLeaderboard(3);
+        assertEquals(2, leaderboard.getColumnNames().length);
+        final String[][] rows = leaderboard.getFormattedRows();
+        assertEquals(3, rows.length);
+        assertEquals("GBM_0_AutoML", rows[0][0]);
+        assertEquals("0.900000", rows[0][1]);
+        assertEquals("0.880000", rows[2][1]);
+        assertSame(rows, leaderboard.getFormattedRows());
+
+        final LeaderboardV99 empty = new LeaderboardV99();
+        assertEquals(0, empty.getFormattedRows().length);
+    }
+
+    public void test_getFormattedRows_concurrent() throws Exception {
+        final LeaderboardV99 leaderboard = createLeaderboard(50);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    final List<String> names = new ArrayList<>();
+                    for (final String[] row : leaderboard.getFormattedRows()) {
+                        names.add(row[0]);
+                    }
+                    return names;
+                }));
+            }
+            for (final Future<List<String>> future : futures) {
+                final List<String> names = future.get();
+                assertEquals(50, names.size());
+                for (int i = 0; i < names.size(); i++) {
+                    assertEquals("GBM_" + i + "_AutoML", names.get(i));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private LeaderboardV99 createLeaderboard(final int size) {
+        final LeaderboardV99 leaderboard = new LeaderboardV99();
+        leaderboard.models = new ModelKeyV3[size];
+        leaderboard.table = new TwoDimTableV3();
+        leaderboard.table.columns =
+                new ColumnSpecsBase[] { createColumn("", "%s"), createColumn("model_id", "%s"), createColumn("auc", "%.6f") };
+        leaderboard.table.data = new Object[3][size];
+        for (int i = 0; i < size; i++) {
+            leaderboard.models[i] = new ModelKeyV3("GBM_" + i + "_AutoML");
+            leaderboard.table.data[0][i] = Integer.toString(i);
+            leaderboard.table.data[1][i] = "GBM_" + i + "_AutoML";
+            leaderboard.table.data[2][i] = 0.9 - i * 0.01;
+        }
+        return leaderboard;
+    }
+
+    private ColumnSpecsBase createColumn(final String name, final String format) {
+        final ColumnSpecsBase column = new ColumnSpecsBase();
+        column.name = name;
+        column.format = format;
+        return column;
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.codelibs.core.lang.ThreadUtil;
+
+import org.codelibs.fione.cache.CacheInvalidationBus;
+import org.codelibs.fione.cache.DiskCache;
+import org.codelibs.fione.cache.ResponseCache;
+import org.codelibs.fione.entity.DataSet;
+import org.codelibs.fione.entity.ProjectManifest;
+import org.codelibs.fione.exception.ConflictException;
+import org.codelibs.fione.exception.CacheNotFoundException;
+import org.codelibs.fione.h2o.bindings.pojos.JobKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.JobV3;
+import org.codelibs.fione.h2o.bindings.pojos.KeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.LeaderboardV99;
+import org.codelibs.fione.h2o.bindings.pojos.ModelKeyV3;
+import org.codelibs.fione.storage.MemoryProjectStorage;
+import org.codelibs.fione.storage.StorageCoordinator;
+import org.dbflute.utflute.core.PlainTestCase;
+
+public class ProjectHelperTest extends PlainTestCase {
+
+    private MemoryProjectStorage storage;
+
+    private ProjectHelper projectHelper;
+
+    private StorageCoordinator storageCoordinator;
+
+    private LeaderboardV99 h2oLeaderboard;
+
+    private final AtomicInteger manifestConflicts = new AtomicInteger();
+
+    private final AtomicInteger sweepCount = new AtomicInteger();
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        storage = new MemoryProjectStorage() {
+            @Override
+            public void putBytesIfMatch(final String objectName, final byte[] data, final String contentType, final String etag) {
+                if (objectName.endsWith("/manifest.json") && manifestConflicts.getAndDecrement() > 0) {
+                    throw new ConflictException("Changed by another node: " + objectName);
+                }
+                super.putBytesIfMatch(objectName, data, contentType, etag);
+            }
+        };
+        final ResponseCache responseCache = new ResponseCache();
+        responseCache.init();
+        final CacheInvalidationBus cacheInvalidationBus = new CacheInvalidationBus();
+        cacheInvalidationBus.addListener(responseCache);
+        storageCoordinator = new StorageCoordinator();
+        storageCoordinator.setProjectStorage(storage);
+        projectHelper = new ProjectHelper() {
+            @Override
+            protected LeaderboardV99 fetchLeaderboard(final String leaderboardId) {
+                if (h2oLeaderboard == null) {
+                    throw new CacheNotFoundException();
+                }
+                return h2oLeaderboard;
+            }
+
+            @Override
+            protected void deleteOldGenerations(final String projectId, final DataSet dataSet) {
+                sweepCount.incrementAndGet();
+                super.deleteOldGenerations(projectId, dataSet);
+            }
+        };
+        projectHelper.projectStorage = storage;
+        projectHelper.storageCoordinator = storageCoordinator;
+        projectHelper.responseCache = responseCache;
+        projectHelper.diskCache = new DiskCache();
+        projectHelper.cacheInvalidationBus = cacheInvalidationBus;
+        projectHelper.jobPoller = new JobPoller();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        storage.destroy();
+        super.tearDown();
+    }
+
+    public void test_getLeaderboard_sameProjectName() {
+        final String projectId = "p1";
+        final String leaderboardId = "automl_p1";
+
+        // first run
+        final JobV3 job1 = createAutoMLJob("job1", leaderboardId, 1000L);
+        h2oLeaderboard = createLeaderboard(1);
+        projectHelper.store(projectId, job1);
+        assertEquals(1, projectHelper.getLeaderboard(projectId, leaderboardId).models.length);
+        finish(projectId, job1);
+        h2oLeaderboard = null;
+        assertEquals(1, projectHelper.getLeaderboard(projectId, leaderboardId).models.length);
+
+        // second run adds models to the same leaderboard
+        final JobV3 job2 = createAutoMLJob("job2", leaderboardId, 2000L);
+        h2oLeaderboard = createLeaderboard(2);
+        projectHelper.store(projectId, job2);
+        assertEquals(2, projectHelper.getLeaderboard(projectId, leaderboardId).models.length);
+        h2oLeaderboard = createLeaderboard(3);
+        finish(projectId, job2);
+        h2oLeaderboard = null;
+        assertEquals(3, projectHelper.getLeaderboard(projectId, leaderboardId).models.length);
+        assertEquals(3, projectHelper.loadStoredLeaderboard(projectId, leaderboardId).models.length);
+    }
+
+    public void test_store_deletesOldGenerations() {
+        final String projectId = "p1";
+        storage.putBytes(projectHelper.getProjectConfigPath(projectId), "{\"id\":\"p1\"}".getBytes(StandardCharsets.UTF_8),
+                "application/json");
+        projectHelper.dataSetGcDelay = 0L;
+        final DataSet dataSet = new DataSet();
+        dataSet.setId("d1");
+        dataSet.setName("data.csv");
+        final String legacyObjectName = projectHelper.getDataPath(projectId, dataSet);
+        storage.putBytes(legacyObjectName, new byte[1], "text/csv");
+        projectHelper.store(projectId, dataSet);
+
+        final String[] objectNames = new String[4];
+        for (int generation = 1; generation <= 3; generation++) {
+            objectNames[generation] = projectHelper.getDataGenerationPath(projectId, "d1", generation, "data.csv");
+            storage.putBytes(objectNames[generation], new byte[1], "text/csv");
+            dataSet.setGeneration(generation);
+            projectHelper.store(projectId, dataSet);
+        }
+        waitUntilDeleted(objectNames[1]);
+        assertFalse(storage.exists(legacyObjectName));
+        // readers of the replaced generation are not broken
+        assertTrue(storage.exists(objectNames[2]));
+        assertTrue(storage.exists(objectNames[3]));
+
+        // generations are not deleted when the dataset is stored without changing them
+        projectHelper.store(projectId, dataSet);
+        ThreadUtil.sleepQuietly(100L);
+        assertTrue(storage.exists(objectNames[2]));
+    }
+
+    public void test_rebuildManifest_conflict() {
+        final String projectId = "p1";
+        storage.putBytes(projectHelper.getProjectConfigPath(projectId), "{\"id\":\"p1\"}".getBytes(StandardCharsets.UTF_8),
+                "application/json");
+        storage.putBytes(projectHelper.getDataSetConfigPath(projectId, "d1"),
+                "{\"id\":\"d1\",\"name\":\"data.csv\"}".getBytes(StandardCharsets.UTF_8), "application/json");
+        storageCoordinator.setDistributed(true);
+        storageCoordinator.setRetryInterval(1L);
+        manifestConflicts.set(2);
+
+        final ProjectManifest manifest = projectHelper.rebuildManifest(projectId);
+        assertEquals(1, manifest.getDataSets().length);
+        assertEquals(-1, manifestConflicts.get());
+        // the retried updater does not schedule sweeps
+        for (int i = 0; i < 100 && sweepCount.get() == 0; i++) {
+            ThreadUtil.sleepQuietly(10L);
+        }
+        ThreadUtil.sleepQuietly(100L);
+        assertEquals(1, sweepCount.get());
+        assertTrue(storage.exists("fione/p1/jobs/snapshot.json"));
+    }
+
+    public void test_refreshJobs_distributed() {
+        final String projectId = "p1";
+        storageCoordinator.setDistributed(true);
+        final JobV3 job = createAutoMLJob("job1", "frame1", 1000L);
+        job.description = "Parse";
+        projectHelper.store(projectId, job);
+
+        final JobV3 progressedJob = createAutoMLJob("job1", "frame1", 1000L);
+        progressedJob.description = "Parse";
+        progressedJob.progress = 0.5f;
+        JobV3[] jobs = projectHelper.getJobs(projectId, false);
+        assertEquals(1, projectHelper.refreshJobs(projectId, jobs, Map.of("job1", progressedJob)).size());
+
+        // the lease is released, so the next refresh is not skipped
+        final JobV3 doneJob = createAutoMLJob("job1", "frame1", 1000L);
+        doneJob.description = "Parse";
+        doneJob.status = JobV3.DONE;
+        doneJob.progress = 1.0f;
+        jobs = projectHelper.getJobs(projectId, false);
+        assertEquals(0.5f, jobs[0].progress, 0.0f);
+        assertEquals(1, projectHelper.refreshJobs(projectId, jobs, Map.of("job1", doneJob)).size());
+        assertEquals(JobV3.DONE, projectHelper.getJobs(projectId, false)[0].status);
+    }
+
+    private void waitUntilDeleted(final String objectName) {
+        for (int i = 0; i < 100 && storage.exists(objectName); i++) {
+            ThreadUtil.sleepQuietly(10L);
+        }
+        assertFalse(storage.exists(objectName));
+    }
+
+    private void finish(final String projectId, final JobV3 job) {
+        final JobV3 doneJob = createAutoMLJob(job.key.name, job.dest.name, job.startTime);
+        doneJob.status = JobV3.DONE;
+        doneJob.progress = 1.0f;
+        final JobV3[] jobs = projectHelper.getJobs(projectId, false);
+        projectHelper.refreshJobs(projectId, jobs, Map.of(job.key.name, doneJob));
+    }
+
+    private JobV3 createAutoMLJob(final String jobId, final String leaderboardId, final long startTime) {
+        final JobV3 job = new JobV3();
+        job.key = new JobKeyV3(jobId);
+        job.dest = new KeyV3(leaderboardId);
+        job.description = "AutoML build";
+        job.status = JobV3.RUNNING;
+        job.startTime = startTime;
+        return job;
+    }
+
+    private LeaderboardV99 createLeaderboard(final int size) {
+        final LeaderboardV99 leaderboard = new LeaderboardV99();
+        leaderboard.models = new ModelKeyV3[size];
+        for (int i = 0; i < size; i++) {
+            leaderboard.models[i] = new ModelKeyV3("model" + i);
+        }
+        return leaderboard;
+    }
+}
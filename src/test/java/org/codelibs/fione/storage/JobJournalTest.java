@@ -0,0 +1,168 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.storage;
+
+import org.codelibs.fione.h2o.bindings.pojos.JobKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.JobV3;
+import org.codelibs.fione.storage.StorageStats.OperationStats;
+import org.dbflute.utflute.core.PlainTestCase;
+
+import com.google.gson.Gson;
+
+public class JobJournalTest extends PlainTestCase {
+
+    private MemoryProjectStorage storage;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        storage = new MemoryProjectStorage();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        storage.destroy();
+        super.tearDown();
+    }
+
+    public void test_initialJobs() {
+        final JobJournal journal = new JobJournal(storage, new Gson(), "fione/p1/jobs/", () -> new JobV3[] { createJob("a", JobV3.DONE) });
+        final JobV3[] jobs = journal.read();
+        assertEquals(1, jobs.length);
+        assertEquals("a", jobs[0].key.name);
+        assertFalse(storage.exists("fione/p1/jobs/snapshot.json"));
+
+        journal.initialize();
+        assertTrue(storage.exists("fione/p1/jobs/snapshot.json"));
+        assertEquals(1, journal.read().length);
+
+        journal.put(createJob("b", JobV3.DONE));
+        assertEquals(2, journal.read().length);
+    }
+
+    public void test_read_incremental() {
+        final JobJournal journal = new JobJournal(storage, new Gson(), "fione/p1/jobs/", () -> new JobV3[0]);
+        journal.put(createJob("a", JobV3.RUNNING));
+        journal.put(createJob("b", JobV3.RUNNING));
+        assertEquals(2, journal.read().length);
+
+        final long snapshotReads = getCount("getVersionedObject");
+        final long snapshotChecks = getCount("getETag");
+        final long entryReads = getCount("getBytes");
+        final long lists = getCount("listObjects");
+        journal.put(createJob("a", JobV3.DONE));
+        journal.put(createJob("c", JobV3.RUNNING));
+        final JobV3[] jobs = journal.read();
+        assertEquals(3, jobs.length);
+        assertEquals(JobV3.DONE, jobs[0].status);
+        assertEquals(snapshotReads, getCount("getVersionedObject"));
+        assertEquals(snapshotChecks, getCount("getETag"));
+        // two entries and the missing next one
+        assertEquals(entryReads + 3, getCount("getBytes"));
+        assertEquals(lists, getCount("listObjects"));
+
+        assertEquals(3, journal.read().length);
+        assertEquals(snapshotReads, getCount("getVersionedObject"));
+        assertEquals(snapshotChecks + 1, getCount("getETag"));
+        assertEquals(entryReads + 4, getCount("getBytes"));
+        assertEquals(lists, getCount("listObjects"));
+    }
+
+    public void test_read_resetByAnotherInstance() {
+        final JobJournal journal1 = new JobJournal(storage, new Gson(), "fione/p1/jobs/", () -> new JobV3[0]);
+        journal1.put(createJob("a", JobV3.RUNNING));
+        journal1.put(createJob("b", JobV3.RUNNING));
+        assertEquals(2, journal1.read().length);
+
+        final JobJournal journal2 = new JobJournal(storage, new Gson(), "fione/p1/jobs/", () -> new JobV3[0]);
+        journal2.reset(new JobV3[] { createJob("c", JobV3.RUNNING) });
+
+        final JobV3[] jobs = journal1.read();
+        assertEquals(1, jobs.length);
+        assertEquals("c", jobs[0].key.name);
+    }
+
+    public void test_read_compactedByAnotherInstance() {
+        final JobJournal journal1 = new JobJournal(storage, new Gson(), "fione/p1/jobs/", () -> new JobV3[0]);
+        journal1.put(createJob("a", JobV3.RUNNING));
+        journal1.put(createJob("b", JobV3.RUNNING));
+        assertEquals(2, journal1.read().length);
+
+        final JobJournal journal2 = new JobJournal(storage, new Gson(), "fione/p1/jobs/", () -> new JobV3[0]);
+        journal2.setCompactionSize(3);
+        journal2.put(createJob("c", JobV3.RUNNING));
+        journal2.put(createJob("d", JobV3.RUNNING));
+        assertEquals(1, storage.listObjects("fione/p1/jobs/journal/", true).size());
+
+        final JobV3[] jobs = journal1.read();
+        assertEquals(4, jobs.length);
+        assertEquals("d", jobs[3].key.name);
+    }
+
+    public void test_putAndDelete() {
+        final JobJournal journal = new JobJournal(storage, new Gson(), "fione/p1/jobs/", () -> new JobV3[0]);
+        assertEquals(0, journal.read().length);
+
+        journal.put(createJob("a", JobV3.RUNNING));
+        journal.put(createJob("b", JobV3.RUNNING));
+        journal.put(createJob("a", JobV3.DONE));
+        assertEquals(3, storage.listObjects("fione/p1/jobs/journal/", true).size());
+
+        JobV3[] jobs = journal.read();
+        assertEquals(2, jobs.length);
+        assertEquals("a", jobs[0].key.name);
+        assertEquals(JobV3.DONE, jobs[0].status);
+        assertEquals("b", jobs[1].key.name);
+
+        journal.delete("a");
+        jobs = journal.read();
+        assertEquals(1, jobs.length);
+        assertEquals("b", jobs[0].key.name);
+
+        // a new instance continues the sequence
+        final JobJournal journal2 = new JobJournal(storage, new Gson(), "fione/p1/jobs/", () -> new JobV3[0]);
+        journal2.put(createJob("c", JobV3.RUNNING));
+        assertEquals(2, journal.read().length);
+    }
+
+    public void test_compact() {
+        final JobJournal journal = new JobJournal(storage, new Gson(), "fione/p1/jobs/", () -> new JobV3[0]);
+        journal.setCompactionSize(5);
+        for (int i = 0; i < 12; i++) {
+            journal.put(createJob("job" + (i % 3), JobV3.RUNNING));
+        }
+        assertTrue(storage.listObjects("fione/p1/jobs/journal/", true).size() < 5);
+        assertEquals(3, journal.read().length);
+
+        journal.reset(new JobV3[] { createJob("x", JobV3.DONE) });
+        assertTrue(storage.listObjects("fione/p1/jobs/journal/", true).isEmpty());
+        final JobV3[] jobs = journal.read();
+        assertEquals(1, jobs.length);
+        assertEquals("x", jobs[0].key.name);
+    }
+
+    private long getCount(final String operation) {
+        final OperationStats stats = storage.getStats().get(operation);
+        return stats != null ? stats.getCount() : 0;
+    }
+
+    private JobV3 createJob(final String name, final String status) {
+        final JobV3 job = new JobV3();
+        job.key = new JobKeyV3(name);
+        job.status = status;
+        return job;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.storage;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.codelibs.fione.exception.ObjectNotFoundException;
+import org.dbflute.utflute.core.PlainTestCase;
+
+public class MemoryProjectStorageTest extends PlainTestCase {
+
+    private MemoryProjectStorage storage;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        storage = new MemoryProjectStorage();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        storage.destroy();
+        super.tearDown();
+    }
+
+    public void test_putAndGet() throws Exception {
+        storage.putBytes("fione/p1/project.json", "{}".getBytes(StandardCharsets.UTF_8), "application/json");
+        assertEquals("{}", new String(storage.getBytes("fione/p1/project.json"), StandardCharsets.UTF_8));
+        assertTrue(storage.exists("fione/p1/project.json"));
+        assertFalse(storage.exists("fione/p2/project.json"));
+        assertEquals(2L, storage.getSize("fione/p1/project.json"));
+        try (InputStream in = storage.getObject("fione/p1/project.json", 1L, 5L)) {
+            assertEquals("}", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        try (InputStream in = storage.getObject("fione/p1/project.json", 0L, -1L)) {
+            assertEquals("{}", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        try {
+            storage.getBytes("fione/p2/project.json");
+            fail();
+        } catch (final ObjectNotFoundException e) {
+            // ok
+        }
+    }
+
+    public void test_listObjects() {
+        final byte[] data = new byte[] { 1 };
+        storage.putBytes("fione/p1/project.json", data, null);
+        storage.putBytes("fione/p1/data/a.csv", data, null);
+        storage.putBytes("fione/p1/data/b.csv", data, null);
+        storage.putBytes("fione/p2/project.json", data, null);
+        storage.putBytes("fione2/p3/project.json", data, null);
+
+        assertEquals(Arrays.asList("fione/p1/", "fione/p2/"), storage.listObjects("fione/", false));
+        assertEquals(Arrays.asList("fione/p1/data/", "fione/p1/project.json"), storage.listObjects("fione/p1/", false));
+        final List<String> all = storage.listObjects("fione/p1/", true);
+        assertEquals(Arrays.asList("fione/p1/data/a.csv", "fione/p1/data/b.csv", "fione/p1/project.json"), all);
+
+        storage.deleteObjects(all);
+        assertTrue(storage.listObjects("fione/p1/", true).isEmpty());
+        assertEquals(1, storage.listObjects("fione/", true).size());
+    }
+
+    public void test_asyncAndStats() throws Exception {
+        storage.putBytesAsync("a/b", new byte[] { 1, 2 }, null).get();
+        assertEquals(2, storage.getBytesAsync("a/b").get().length);
+        storage.copyObject("a/b", "a/c");
+        assertEquals(Arrays.asList("a/b", "a/c"), storage.listObjectsAsync("a/", false).get());
+        storage.deleteObjectsAsync(Arrays.asList("a/b", "a/c")).get();
+        assertFalse(storage.exists("a/b"));
+
+        final StorageStats stats = storage.getStats();
+        assertEquals(1L, stats.get("putBytes").getCount());
+        assertEquals(1L, stats.get("getBytes").getCount());
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.codelibs.fess.exception.StorageException;
+import org.codelibs.fione.exception.ConflictException;
+import org.codelibs.fione.h2o.bindings.pojos.JobKeyV3;
+import org.codelibs.fione.h2o.bindings.pojos.JobV3;
+import org.codelibs.fione.storage.StorageCoordinator.Lease;
+import org.dbflute.utflute.core.PlainTestCase;
+
+import com.google.gson.Gson;
+
+public class StorageCoordinatorTest extends PlainTestCase {
+
+    private MemoryProjectStorage storage;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        storage = new MemoryProjectStorage();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        storage.destroy();
+        super.tearDown();
+    }
+
+    public void test_putBytesIfMatch() {
+        storage.putBytesIfMatch("a", new byte[] { 1 }, null, null);
+        try {
+            storage.putBytesIfMatch("a", new byte[] { 2 }, null, null);
+            fail();
+        } catch (final ConflictException e) {
+            // ok
+        }
+        final VersionedObject object = storage.getVersionedObject("a");
+        storage.putBytesIfMatch("a", new byte[] { 3 }, null, object.getETag());
+        try {
+            storage.putBytesIfMatch("a", new byte[] { 4 }, null, object.getETag());
+            fail();
+        } catch (final ConflictException e) {
+            // ok
+        }
+        assertEquals(3, storage.getBytes("a")[0]);
+    }
+
+    public void test_update_concurrent() throws Exception {
+        final int nodes = 4;
+        final int count = 25;
+        final ExecutorService executor = Executors.newFixedThreadPool(nodes);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < nodes; i++) {
+                final StorageCoordinator coordinator = createCoordinator("node" + i);
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < count; j++) {
+                        coordinator.update("counter", null, current -> {
+                            final int value = current == null ? 0 : Integer.parseInt(new String(current, StandardCharsets.UTF_8));
+                            return String.valueOf(value + 1).getBytes(StandardCharsets.UTF_8);
+                        });
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(String.valueOf(nodes * count), new String(storage.getBytes("counter"), StandardCharsets.UTF_8));
+    }
+
+    public void test_lease() {
+        final StorageCoordinator coordinator1 = createCoordinator("node1");
+        final StorageCoordinator coordinator2 = createCoordinator("node2");
+
+        final Lease lease = coordinator1.tryAcquire("x.lease", 60000L);
+        assertNotNull(lease);
+        assertEquals("node1", lease.getOwner());
+        assertNull(coordinator2.tryAcquire("x.lease", 60000L));
+
+        coordinator1.release(lease);
+        assertTrue(isReleased("x.lease"));
+        assertNotNull(coordinator2.tryAcquire("x.lease", 1L));
+
+        // expired lease can be taken over
+        final long start = System.currentTimeMillis();
+        while (System.currentTimeMillis() - start < 10L) {
+            Thread.yield();
+        }
+        assertNotNull(coordinator1.tryAcquire("x.lease", 60000L));
+    }
+
+    public void test_journal_multipleNodes() throws Exception {
+        final JobJournal journal1 = createJournal("node1");
+        final JobJournal journal2 = createJournal("node2");
+        assertEquals(0, journal1.read().length);
+
+        journal1.put(createJob("a"));
+        journal2.put(createJob("b"));
+        // journal1 has a stale sequence
+        journal1.put(createJob("c"));
+        journal2.delete("a");
+
+        final JobV3[] jobs = journal1.read();
+        assertEquals(2, jobs.length);
+        assertEquals("b", jobs[0].key.name);
+        assertEquals("c", jobs[1].key.name);
+        assertTrue(isReleased("fione/p1/jobs/writer.lease"));
+    }
+
+    public void test_release_takenOver() {
+        final AtomicBoolean takeOver = new AtomicBoolean();
+        final Lease other = new Lease("x.lease", "node2", "token2", Long.MAX_VALUE);
+        storage.destroy();
+        storage = new MemoryProjectStorage() {
+            @Override
+            public VersionedObject getVersionedObject(final String objectName) {
+                final VersionedObject object = super.getVersionedObject(objectName);
+                if (takeOver.getAndSet(false)) {
+                    // node2 takes over the lease after node1 read it
+                    putBytes(objectName, new Gson().toJson(other).getBytes(StandardCharsets.UTF_8), "application/json");
+                }
+                return object;
+            }
+        };
+        final StorageCoordinator coordinator1 = createCoordinator("node1");
+        final Lease lease = coordinator1.tryAcquire("x.lease", 60000L);
+        assertNotNull(lease);
+        takeOver.set(true);
+        coordinator1.release(lease);
+
+        final Lease held = new Gson().fromJson(new String(storage.getBytes("x.lease"), StandardCharsets.UTF_8), Lease.class);
+        assertEquals("node2", held.getOwner());
+        assertFalse(held.isExpired());
+    }
+
+    public void test_setDistributed_unsupported() {
+        final StorageCoordinator coordinator = new StorageCoordinator();
+        coordinator.setProjectStorage(new MemoryProjectStorage() {
+            @Override
+            public void putBytesIfMatch(final String objectName, final byte[] data, final String contentType, final String etag) {
+                putBytes(objectName, data, contentType);
+            }
+        });
+        try {
+            coordinator.setDistributed(true);
+            fail();
+        } catch (final StorageException e) {
+            assertFalse(coordinator.isDistributed());
+        }
+    }
+
+    private boolean isReleased(final String leaseName) {
+        final Lease lease = new Gson().fromJson(new String(storage.getBytes(leaseName), StandardCharsets.UTF_8), Lease.class);
+        return lease.isExpired();
+    }
+
+    private StorageCoordinator createCoordinator(final String nodeId) {
+        final StorageCoordinator coordinator = new StorageCoordinator();
+        coordinator.setProjectStorage(storage);
+        coordinator.setDistributed(true);
+        coordinator.setNodeId(nodeId);
+        coordinator.setRetryInterval(1L);
+        coordinator.setMaxRetries(1000);
+        return coordinator;
+    }
+
+    private JobJournal createJournal(final String nodeId) {
+        final JobJournal journal = new JobJournal(storage, new Gson(), "fione/p1/jobs/", () -> new JobV3[0]);
+        journal.setCoordinator(createCoordinator(nodeId));
+        return journal;
+    }
+
+    private JobV3 createJob(final String name) {
+        final JobV3 job = new JobV3();
+        job.key = new JobKeyV3(name);
+        job.status = JobV3.RUNNING;
+        return job;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.codelibs.fess.exception.StorageException;
+import org.dbflute.utflute.core.PlainTestCase;
+
+public class UploadOutputStreamTest extends PlainTestCase {
+
+    private ExecutorService executor;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        executor.shutdownNow();
+        super.tearDown();
+    }
+
+    public void test_commit() throws Exception {
+        final MemoryProjectStorage storage = new MemoryProjectStorage();
+        final byte[] data = new byte[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        try (UploadOutputStream out = new UploadOutputStream(storage, "small", "text/csv", executor, 16, 2)) {
+            out.write(data, 0, 10);
+            out.commit();
+            assertEquals(10L, out.getSize());
+        }
+        assertTrue(Arrays.equals(Arrays.copyOf(data, 10), storage.getBytes("small")));
+
+        try (UploadOutputStream out = new UploadOutputStream(storage, "large", "text/csv", executor, 16, 2)) {
+            out.write(data[0]);
+            out.write(data, 1, 500);
+            for (int i = 501; i < data.length; i++) {
+                out.write(data[i]);
+            }
+            out.commit();
+            assertEquals(1000L, out.getSize());
+        }
+        assertTrue(Arrays.equals(data, storage.getBytes("large")));
+        assertEquals(1L, storage.getStats().get("putBytes").getCount());
+        assertEquals(1L, storage.getStats().get("putObject").getCount());
+
+        // the first buffer grows up to the part size
+        try (UploadOutputStream out = new UploadOutputStream(storage, "grown", "text/csv", executor, 20000, 2)) {
+            for (int i = 0; i < 19; i++) {
+                out.write(data);
+            }
+            out.commit();
+            assertEquals(19000L, out.getSize());
+        }
+        assertEquals(19000, storage.getBytes("grown").length);
+        assertEquals(2L, storage.getStats().get("putBytes").getCount());
+        assertEquals(1L, storage.getStats().get("putObject").getCount());
+    }
+
+    public void test_close_abort() throws Exception {
+        final MemoryProjectStorage storage = new MemoryProjectStorage();
+        try (UploadOutputStream out = new UploadOutputStream(storage, "small", null, executor, 16, 2)) {
+            out.write(new byte[10]);
+        }
+        assertFalse(storage.exists("small"));
+        try (UploadOutputStream out = new UploadOutputStream(storage, "large", null, executor, 16, 2)) {
+            out.write(new byte[100]);
+        }
+        assertFalse(storage.exists("large"));
+    }
+
+    public void test_uploadFailure() throws Exception {
+        final MemoryProjectStorage storage = new MemoryProjectStorage() {
+            @Override
+            public void putObject(final String objectName, final InputStream in, final long size, final String contentType) {
+                try {
+                    in.read(new byte[20]);
+                } catch (final IOException e) {
+                    // ignore
+                }
+                throw new StorageException("Failed to store " + objectName);
+            }
+        };
+        try (UploadOutputStream out = new UploadOutputStream(storage, "large", null, executor, 16, 2)) {
+            for (int i = 0; i < 100; i++) {
+                out.write(new byte[16]);
+            }
+            fail();
+        } catch (final StorageException e) {
+            assertEquals("Failed to store large", e.getMessage());
+        }
+    }
+
+    public void test_commitFailure() throws Exception {
+        final MemoryProjectStorage storage = new MemoryProjectStorage();
+        try (UploadOutputStream out = new UploadOutputStream(storage, "large", null, executor, 16, 2)) {
+            out.write(new byte[100]);
+            Thread.currentThread().interrupt();
+            out.commit();
+            fail();
+        } catch (final IOException e) {
+            // interrupted while queuing the rest
+        } finally {
+            Thread.interrupted();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertFalse(storage.exists("large"));
+    }
+}
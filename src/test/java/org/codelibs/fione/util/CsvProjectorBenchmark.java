@@ -0,0 +1,160 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.orangesignal.csv.CsvConfig;
+import com.orangesignal.csv.CsvReader;
+import com.orangesignal.csv.CsvWriter;
+
+/**
+ * Compares {@link CsvProjector} with the CsvReader and CsvWriter projection which filterColumns used before,
+ * on a prediction CSV with quoted labels. The score is rows per second.
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.codelibs.fione.util.CsvProjectorBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvProjectorBenchmark {
+
+    private static final int ROWS = 100000;
+
+    @Param({ "5", "50" })
+    public int columns;
+
+    private byte[] csv;
+
+    private Map<String, String> columnMap;
+
+    @Setup
+    public void setup() {
+        csv = createCsv(columns, ROWS);
+        columnMap = new LinkedHashMap<>();
+        columnMap.put("predict", "predict");
+        columnMap.put("column_1", "id");
+        columnMap.put("p1", "p1");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long projector() throws IOException {
+        final NullOutputStream out = new NullOutputStream();
+        new CsvProjector(new ByteArrayInputStream(csv), columnMap).writeTo(out);
+        return out.count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long csvReader() throws IOException {
+        final NullOutputStream out = new NullOutputStream();
+        final CsvConfig csvConfig = new CsvConfig(',', '"', '"');
+        csvConfig.setIgnoreEmptyLines(true);
+        try (final CsvReader csvReader =
+                new CsvReader(new InputStreamReader(new ByteArrayInputStream(csv), StandardCharsets.UTF_8), csvConfig)) {
+            final Map<String, Integer> indexMap = new HashMap<>();
+            final List<String> headerList = csvReader.readValues();
+            for (int i = 0; i < headerList.size(); i++) {
+                final String name = headerList.get(i);
+                if (columnMap.containsKey(name)) {
+                    indexMap.put(columnMap.get(name), i);
+                }
+            }
+            try (final CsvWriter csvWriter = new CsvWriter(new OutputStreamWriter(out), csvConfig)) {
+                final List<String> indices = columnMap.values().stream().collect(Collectors.toList());
+                csvWriter.writeValues(indices);
+                List<String> list;
+                while ((list = csvReader.readValues()) != null) {
+                    final List<String> l = list;
+                    csvWriter.writeValues(indices.stream().map(s -> {
+                        final Integer index = indexMap.get(s);
+                        return index != null && index.intValue() < l.size() ? l.get(index.intValue()) : "";
+                    }).collect(Collectors.toList()));
+                }
+            }
+        }
+        return out.count;
+    }
+
+    static byte[] createCsv(final int columns, final int rows) {
+        final StringBuilder buf = new StringBuilder();
+        buf.append("predict,p0,p1");
+        for (int i = 0; i < columns; i++) {
+            buf.append(",column_").append(i);
+        }
+        buf.append('\n');
+        for (int r = 0; r < rows; r++) {
+            buf.append(r % 2 == 0 ? "\"yes\"" : "\"no, maybe\"").append(',').append(r % 7 / 7.0).append(',').append(1 - r % 7 / 7.0);
+            for (int i = 0; i < columns; i++) {
+                buf.append(',').append(r * 31 + i);
+            }
+            buf.append('\n');
+        }
+        return buf.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static class NullOutputStream extends OutputStream {
+
+        long count;
+
+        @Override
+        public void write(final int b) {
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            count += len;
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CsvProjectorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+public class CsvProjectorTest extends PlainTestCase {
+
+    public void test_project() throws Exception {
+        final String csv = "id,name,\"score\",memo\r\n" //
+                + "1,abc,0.5,x\r\n" //
+                + "\r\n" //
+                + "2,\"a,\"\"b\"\"\",0.25,\"line1\nline2\"\r\n" //
+                + "3,,,\n" //
+                + "4\n" //
+                + "5,e,1.0";
+        final Map<String, String> columnMap = new LinkedHashMap<>();
+        columnMap.put("score", "predict");
+        columnMap.put("name", "name");
+        columnMap.put("unknown", "unknown");
+        final String expected = "\"predict\",\"name\",\"unknown\"\n" //
+                + "0.5,abc,\n" //
+                + "0.25,\"a,\"\"b\"\"\",\n" //
+                + ",,\n" //
+                + ",,\n" //
+                + "1.0,e,\n";
+        assertEquals(expected, project(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), columnMap, 5));
+        // every row crosses the boundaries of reads
+        assertEquals(expected, project(new OneByteInputStream(csv.getBytes(StandardCharsets.UTF_8)), columnMap, 5));
+    }
+
+    public void test_project_bom() throws Exception {
+        final byte[] bytes = "\ufeff\"\u30e9\u30d9\u30eb\",value\n\"\u3042\",1\n".getBytes(StandardCharsets.UTF_8);
+        final Map<String, String> columnMap = new LinkedHashMap<>();
+        columnMap.put("\u30e9\u30d9\u30eb", "\u30e9\u30d9\u30eb");
+        assertEquals("\"\u30e9\u30d9\u30eb\"\n\"\u3042\"\n", project(new ByteArrayInputStream(bytes), columnMap, 1));
+    }
+
+    public void test_project_longRow() throws Exception {
+        final StringBuilder buf = new StringBuilder("a,b\n");
+        final String value = "x".repeat(CsvProjector.BUFFER_SIZE * 3);
+        buf.append("1,").append(value).append('\n').append("2,y\n");
+        final Map<String, String> columnMap = new LinkedHashMap<>();
+        columnMap.put("b", "b");
+        assertEquals("\"b\"\n" + value + "\ny\n",
+                project(new ByteArrayInputStream(buf.toString().getBytes(StandardCharsets.UTF_8)), columnMap, 2));
+    }
+
+    public void test_hasColumns() throws Exception {
+        final Map<String, String> columnMap = new LinkedHashMap<>();
+        columnMap.put("x", "x");
+        assertFalse(new CsvProjector(new ByteArrayInputStream("a,b\n1,2\n".getBytes(StandardCharsets.UTF_8)), columnMap).hasColumns());
+        assertFalse(new CsvProjector(new ByteArrayInputStream(new byte[0]), columnMap).hasColumns());
+        columnMap.put("b", "y");
+        assertTrue(new CsvProjector(new ByteArrayInputStream("a,b\n1,2\n".getBytes(StandardCharsets.UTF_8)), columnMap).hasColumns());
+    }
+
+    public void test_skipPartialRow() throws Exception {
+        final byte[] bytes = "1,\"a\nb\"\n2,c\n3,d\n".getBytes(StandardCharsets.UTF_8);
+        final Map<String, String> columnMap = new LinkedHashMap<>();
+        columnMap.put("b", "b");
+        final CsvProjector header = new CsvProjector(new ByteArrayInputStream("a,b\n".getBytes(StandardCharsets.UTF_8)), columnMap);
+
+        CsvProjector projector = header.newProjector(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+        assertTrue(projector.skipPartialRow());
+        assertEquals(7L, projector.getOffset());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(1L, projector.writeRows(out, 11L));
+        assertEquals("c\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(11L, projector.getOffset());
+
+        // a range which starts in a quoted field is not synchronized
+        projector = header.newProjector(new ByteArrayInputStream(bytes, 4, bytes.length - 4));
+        assertTrue(projector.skipPartialRow());
+        assertEquals(1L, projector.getOffset());
+
+        projector = header.newProjector(new ByteArrayInputStream(bytes, 13, 2));
+        assertFalse(projector.skipPartialRow());
+    }
+
+    private String project(final InputStream in, final Map<String, String> columnMap, final long rows) throws IOException {
+        final CsvProjector projector = new CsvProjector(in, columnMap);
+        assertTrue(projector.hasColumns());
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(rows, projector.writeTo(out));
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static class OneByteInputStream extends FilterInputStream {
+
+        OneByteInputStream(final byte[] bytes) {
+            super(new ByteArrayInputStream(bytes));
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.codelibs.fione.h2o.bindings.pojos.ApiParseTypeValuesProvider;
+import org.codelibs.fione.h2o.bindings.pojos.ParseV3;
+import org.dbflute.utflute.core.PlainTestCase;
+
+public class CsvSchemaGuesserTest extends PlainTestCase {
+
+    private CsvSchemaGuesser guesser;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        guesser = new CsvSchemaGuesser();
+        guesser.setMinRows(3);
+    }
+
+    public void test_guess() {
+        final String csv = "\ufeffid,\"name\",score,date,key\r\n" //
+                + "1,a,0.5,2020-01-01,0f8fad5b-d9cb-469f-a165-70867728950e\r\n" //
+                + "2,\"b,c\",NA,2020-01-02 10:00:00,7c9e6679-7425-40de-944b-e07fc1f90ae7\r\n" //
+                + "3,a,-1e3,2020/1/3,\r\n" //
+                + "4,b,,2020-01-04,7c9e6679-7425-40de-944b-e07fc1f90ae7\r\n";
+        final ParseV3 schema = guess(csv, true);
+        assertEquals(ApiParseTypeValuesProvider.CSV, schema.parseType);
+        assertEquals(',', schema.separator);
+        assertEquals(1, schema.checkHeader);
+        assertEquals(5, schema.numberColumns);
+        assertEquals("[id, name, score, date, key]", Arrays.toString(schema.columnNames));
+        assertEquals("[Numeric, Enum, Numeric, Time, UUID]", Arrays.toString(schema.columnTypes));
+        assertNull(schema.naStrings[0]);
+        assertEquals("[NA]", Arrays.toString(schema.naStrings[2]));
+        assertTrue(schema.deleteOnDone);
+        assertEquals(4 * 1024 * 1024, schema.chunkSize);
+    }
+
+    public void test_guess_noHeader() {
+        final ParseV3 schema = guess("1\tx\n2\ty\n3\tx\n4\ty", true);
+        assertEquals('\t', schema.separator);
+        assertEquals(-1, schema.checkHeader);
+        assertEquals("[C1, C2]", Arrays.toString(schema.columnNames));
+        assertEquals("[Numeric, Enum]", Arrays.toString(schema.columnTypes));
+        assertNull(schema.naStrings);
+    }
+
+    public void test_guess_sample() {
+        final StringBuilder buf = new StringBuilder("a;b\n");
+        for (int i = 0; i < 10; i++) {
+            buf.append(i).append(";\"x\n").append(i % 2).append("\"\n");
+        }
+        buf.append("10;\"cut");
+        final ParseV3 schema = guess(buf.toString(), false);
+        assertEquals(';', schema.separator);
+        assertEquals("[Numeric, Enum]", Arrays.toString(schema.columnTypes));
+
+        // too few rows in a sample
+        assertNull(guess("a,b\n1,2\n3,4\n", false));
+        assertNotNull(guess("a,b\n1,2\n3,4\n", true));
+    }
+
+    public void test_guess_uncertain() {
+        assertNull(guess("", true));
+        assertNull(guess("a\n1\n2\n3\n", true));
+        assertNull(guess("a,b\n1,2\n3\n4,5,6\n7,8\n", true));
+        // mixed values
+        assertNull(guess("a,b\n1,x\n2,3\n3,y\n", true));
+        // no values
+        assertNull(guess("a,b\n1,\n2,NA\n3,\n", true));
+        // unique strings
+        assertNull(guess("a,b\n1,w\n2,x\n3,y\n4,z\n", true));
+        assertNull(guess("@relation test\n@attribute a numeric\n", true));
+        assertNull(guess("1 1:0.5 2:1\n0 1:0.1 2:3\n1 1:0.2 2:1\n", true));
+        assertNull(guesser.guess(new byte[] { 'P', 'K', 3, 4, 0, 0 }, 6, 6L));
+        // space separated text
+        assertNull(guess("a b\n1 x\n2 y\n3 x\n4 y\n", true));
+    }
+
+    public void test_calcChunkSize() {
+        guesser.setCloud(1, 4);
+        assertEquals(4 * 1024 * 1024, guesser.calcChunkSize(1024L, 3, 10));
+        // a parse spreads over 4 cores
+        assertEquals(64 * 1024 * 1024 + 512, guesser.calcChunkSize(1024L * 1024L * 1024L, 3, 100));
+        assertEquals(16 * 1024 * 1024 + 512, guesser.calcChunkSize(256L * 1024L * 1024L, 3, 100));
+        // 10 lines in a chunk
+        assertEquals(20 * 1024 * 1024, guesser.calcChunkSize(16L * 1024L * 1024L, 3, 2 * 1024 * 1024));
+        // over nodes
+        guesser.setCloud(4, 4);
+        assertEquals(16 * 1024 * 1024 + 512, guesser.calcChunkSize(1024L * 1024L * 1024L, 3, 100));
+        assertEquals((1 << 28) - 1, guesser.calcChunkSize(1024L * 1024L * 1024L * 1024L, 3, 100));
+    }
+
+    private ParseV3 guess(final String csv, final boolean complete) {
+        final byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
+        return guesser.guess(bytes, bytes.length, complete ? bytes.length : bytes.length + 1L);
+    }
+}
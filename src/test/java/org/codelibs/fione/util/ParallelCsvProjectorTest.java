@@ -0,0 +1,85 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+public class ParallelCsvProjectorTest extends PlainTestCase {
+
+    private ExecutorService executor;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        executor.shutdownNow();
+        super.tearDown();
+    }
+
+    public void test_writeTo() throws Exception {
+        final StringBuilder buf = new StringBuilder("id,name,\"score\",memo\r\n");
+        for (int i = 0; i < 500; i++) {
+            buf.append(i).append(',');
+            if (i % 7 == 0) {
+                buf.append("\"n\n").append(i).append(",x\n\"\"y\"\"\"");
+            } else {
+                buf.append('n').append(i);
+            }
+            buf.append(',').append(i % 10).append('.').append(i % 3);
+            if (i % 11 == 0) {
+                buf.append(",\"").append("m\n,".repeat(i % 30)).append("\"\r\n");
+            } else {
+                buf.append(",m\n");
+            }
+        }
+        final byte[] bytes = buf.toString().getBytes(StandardCharsets.UTF_8);
+        final Map<String, String> columnMap = new LinkedHashMap<>();
+        columnMap.put("score", "predict");
+        columnMap.put("name", "name");
+
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        assertEquals(500L, new CsvProjector(new ByteArrayInputStream(bytes), columnMap).writeTo(expected));
+
+        long respliceCount = 0L;
+        for (final int chunkSize : new int[] { 1, 3, 17, 64, 1000, bytes.length, bytes.length * 2 }) {
+            final ParallelCsvProjector projector = new ParallelCsvProjector((offset, length) -> {
+                assertTrue(offset >= 0L && length > 0L && offset + length <= bytes.length);
+                return new ByteArrayInputStream(bytes, (int) offset, (int) length);
+            }, bytes.length, executor);
+            projector.setChunkSize(chunkSize);
+            projector.setReadAheadSize(5);
+            projector.setMaxChunksInFlight(3);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(500L, projector.writeTo(new CsvProjector(new ByteArrayInputStream(bytes), columnMap), out));
+            assertEquals(new String(expected.toByteArray(), StandardCharsets.UTF_8), new String(out.toByteArray(), StandardCharsets.UTF_8));
+            respliceCount += projector.getRespliceCount();
+        }
+        // some chunks start in quoted fields
+        assertTrue(respliceCount > 0L);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2012-2020 CodeLibs Project and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.codelibs.fione.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.codelibs.core.lang.ThreadUtil;
+import org.codelibs.fione.util.StripedLock.LockStats;
+import org.dbflute.utflute.core.PlainTestCase;
+
+public class StripedLockTest extends PlainTestCase {
+
+    private ExecutorService executor;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        executor.shutdownNow();
+        super.tearDown();
+    }
+
+    public void test_write_holdTime() {
+        final StripedLock lock = new StripedLock(16);
+        assertEquals("x", lock.write("p1", () -> {
+            ThreadUtil.sleepQuietly(50L);
+            // reentrant
+            return lock.write("p1", () -> "x");
+        }));
+
+        final LockStats stats = lock.getWriteStats();
+        assertEquals(2, stats.getCount());
+        assertEquals(0, stats.getContendedCount());
+        assertTrue(stats.getTotalHoldTime() >= 50L);
+        assertTrue(stats.getMaxHoldTime() >= 50L);
+        assertEquals(0, lock.getReadStats().getCount());
+
+        stats.reset();
+        assertEquals(0, stats.getCount());
+        assertEquals(0L, stats.getMaxHoldTime());
+    }
+
+    public void test_write_waitTime() throws Exception {
+        // one stripe, so different keys share the lock
+        final StripedLock lock = new StripedLock(1);
+        final CountDownLatch locked = new CountDownLatch(1);
+        final Future<?> holder = executor.submit(() -> lock.write("p1", () -> {
+            locked.countDown();
+            ThreadUtil.sleepQuietly(100L);
+        }));
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+        lock.write("p2", () -> {});
+        holder.get();
+
+        final LockStats stats = lock.getWriteStats();
+        assertEquals(2, stats.getCount());
+        assertEquals(1, stats.getContendedCount());
+        assertTrue(stats.getMaxWaitTime() >= 50L);
+        assertTrue(stats.getTotalWaitTime() >= stats.getMaxWaitTime());
+    }
+
+    public void test_read_shared() throws Exception {
+        final StripedLock lock = new StripedLock(1);
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        final Future<?> holder = executor.submit(() -> lock.read("p1", () -> {
+            locked.countDown();
+            try {
+                done.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+        assertEquals("y", lock.read("p1", () -> "y"));
+        done.countDown();
+        holder.get();
+
+        final LockStats stats = lock.getReadStats();
+        assertEquals(2, stats.getCount());
+        assertEquals(0, stats.getContendedCount());
+    }
+}
@@ -186,6 +186,174 @@ def generate_schema(class_name, schema):
     yield "}"
 
 
+#-----------------------------------------------------------------------------------------------------------------------
+# Generate TypeAdapters
+#-----------------------------------------------------------------------------------------------------------------------
+
+# readers of PojoTypeAdapter for types that are read without Gson
+adapter_value_readers = {
+    "String": "readString(in)",
+    "String[]": "readStringArray(in)",
+    "String[][]": "readStringArray2(in)",
+    "double[]": "readDoubleArray(in)",
+    "double[][]": "readDoubleArray2(in)",
+    "float[]": "readFloatArray(in)",
+    "int[]": "readIntArray(in)",
+    "long[]": "readLongArray(in)",
+}
+adapter_primitive_readers = {
+    "boolean": "readBoolean",
+    "byte": "readByte",
+    "short": "readShort",
+    "int": "readInt",
+    "long": "readLong",
+    "float": "readFloat",
+    "double": "readDouble",
+}
+
+
+def is_model_schema(name, schemas_map):
+    """
+    Models and model builders are read by H2oApi.ModelV3TypeAdapter, which resolves their classes by "algo".
+    """
+    while name in schemas_map:
+        if name in ("ModelSchemaBaseV3", "ModelBuilderSchema"): return True
+        name = schemas_map[name]["superclass"]
+    return False
+
+
+def adapter_fields(schema):
+    return [(field["name"], translate_name(field["name"]), translate_type(field["type"], field["schema_name"]))
+            for field in schema["fields"] if field["name"] != "__meta"]
+
+
+def java_type_expr(java_type):
+    """Java expression of java.lang.reflect.Type for the given type."""
+    if java_type.startswith("Map<"):
+        args = [a.strip() for a in java_type[4:-1].split(",")]
+        return "TypeToken.getParameterized(Map.class, %s).getType()" % ", ".join(a + ".class" for a in args)
+    return java_type + ".class"
+
+
+def adapter_imported_types(fields):
+    types = set()
+    for _, _, java_type in fields:
+        for t in re.findall(r"[A-Z]\w*", java_type):
+            if t not in ("String", "Object", "Map"): types.add(t)
+    return types
+
+
+def generate_adapter(class_name, fields):
+    """
+    Generate a TypeAdapter that reads the fields of the schema class without reflection.
+
+    :param class_name: name of the schema class
+    :param fields: list of (json name, java name, java type) including inherited fields
+    """
+    object_fields = [f for f in fields if f[2] not in adapter_value_readers and f[2] not in adapter_primitive_readers]
+    has_map = any(f[2].startswith("Map<") for f in object_fields)
+
+    yield "/*"
+    yield " * This file is auto-generated by h2o-3/h2o-bindings/bin/gen_java.py"
+    yield " * Copyright 2016 H2O.ai;  Apache License Version 2.0 (see LICENSE for details)"
+    yield " */"
+    yield "package org.codelibs.fione.h2o.bindings.adapters;"
+    yield ""
+    yield "import java.io.IOException;"
+    yield "import java.util.Map;" if has_map else None
+    yield ""
+    for t in sorted(adapter_imported_types(fields) | {class_name}):
+        yield "import org.codelibs.fione.h2o.bindings.pojos.%s;" % t
+    yield ""
+    yield "import com.google.gson.Gson;"
+    yield "import com.google.gson.TypeAdapterFactory;"
+    yield "import com.google.gson.reflect.TypeToken;" if has_map else None
+    yield "import com.google.gson.stream.JsonReader;"
+    yield ""
+    yield "public class %sAdapter extends PojoTypeAdapter<%s> {" % (class_name, class_name)
+    yield ""
+    yield "    public %sAdapter(final Gson gson, final TypeAdapterFactory factory) {" % class_name
+    if object_fields:
+        yield "        super(gson, factory, %s.class, //" % class_name
+        for i, (_, _, java_type) in enumerate(object_fields):
+            yield "                %s%s" % (java_type_expr(java_type), ");" if i == len(object_fields) - 1 else ",")
+    else:
+        yield "        super(gson, factory, %s.class);" % class_name
+    yield "    }"
+    yield ""
+    yield "    @Override"
+    yield "    protected %s newInstance() {" % class_name
+    yield "        return new %s();" % class_name
+    yield "    }"
+    yield ""
+    yield "    @Override"
+    decl = "    protected void readField(final JsonReader in, final String name, final %s obj)" % class_name
+    if len(decl) + len(" throws IOException {") > 140:
+        yield decl
+        yield "            throws IOException {"
+    else:
+        yield decl + " throws IOException {"
+    yield "        switch (name) {"
+    for json_name, java_name, java_type in fields:
+        yield "        case \"%s\":" % json_name
+        if java_type in adapter_primitive_readers:
+            yield "            obj.%s = %s(in, obj.%s);" % (java_name, adapter_primitive_readers[java_type], java_name)
+        elif java_type in adapter_value_readers:
+            yield "            obj.%s = %s;" % (java_name, adapter_value_readers[java_type])
+        else:
+            yield "            obj.%s = readObject(in, %d);" % (java_name, object_fields.index((json_name, java_name, java_type)))
+        yield "            break;"
+    yield "        default:"
+    yield "            in.skipValue();"
+    yield "            break;"
+    yield "        }"
+    yield "    }"
+    yield "}"
+
+
+def generate_adapter_factory(class_names):
+    yield "/*"
+    yield " * This file is auto-generated by h2o-3/h2o-bindings/bin/gen_java.py"
+    yield " * Copyright 2016 H2O.ai;  Apache License Version 2.0 (see LICENSE for details)"
+    yield " */"
+    yield "package org.codelibs.fione.h2o.bindings.adapters;"
+    yield ""
+    yield "import java.util.HashMap;"
+    yield "import java.util.Map;"
+    yield "import java.util.function.BiFunction;"
+    yield ""
+    for name in sorted(class_names):
+        yield "import org.codelibs.fione.h2o.bindings.pojos.%s;" % name
+    yield ""
+    yield "import com.google.gson.Gson;"
+    yield "import com.google.gson.TypeAdapter;"
+    yield "import com.google.gson.TypeAdapterFactory;"
+    yield "import com.google.gson.reflect.TypeToken;"
+    yield ""
+    yield "/**"
+    yield " * Provides the generated TypeAdapters of the schema classes."
+    yield " */"
+    yield "public class PojoTypeAdapterFactory implements TypeAdapterFactory {"
+    yield ""
+    yield ("    private static final Map<Class<?>, BiFunction<Gson, TypeAdapterFactory, TypeAdapter<?>>> ADAPTER_MAP = new HashMap<>(%d);"
+           % (len(class_names) * 2))
+    yield "    static {"
+    for name in sorted(class_names):
+        yield "        ADAPTER_MAP.put(%s.class, %sAdapter::new);" % (name, name)
+    yield "    }"
+    yield ""
+    yield "    @SuppressWarnings(\"unchecked\")"
+    yield "    @Override"
+    yield "    public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> type) {"
+    yield "        final BiFunction<Gson, TypeAdapterFactory, TypeAdapter<?>> constructor = ADAPTER_MAP.get(type.getRawType());"
+    yield "        if (constructor == null) {"
+    yield "            return null;"
+    yield "        }"
+    yield "        return (TypeAdapter<T>) constructor.apply(gson, this);"
+    yield "    }"
+    yield "}"
+
+
 #-----------------------------------------------------------------------------------------------------------------------
 # Generate Enum classes
 #-----------------------------------------------------------------------------------------------------------------------
@@ -353,6 +521,7 @@ def generate_main_class(endpoints):
          */
         package org.codelibs.fione.h2o.bindings;
 
+        import org.codelibs.fione.h2o.bindings.adapters.PojoTypeAdapterFactory;
         import org.codelibs.fione.h2o.bindings.pojos.*;
         import org.codelibs.fione.h2o.bindings.proxies.retrofit.*;
         import retrofit2.*;
@@ -519,6 +688,7 @@ def generate_main_class(endpoints):
 
           private void initializeRetrofit() {
             Gson gson = new GsonBuilder()
+              .registerTypeAdapterFactory(new PojoTypeAdapterFactory())
               .registerTypeAdapterFactory(new ModelV3TypeAdapter())
               .registerTypeAdapter(KeyV3.class, new KeySerializer())
               .registerTypeAdapter(ColSpecifierV3.class, new ColSerializer())
@@ -763,6 +933,16 @@ def main():
         bi.vprint("Generating schema: " + name)
         bi.write_to_file("org/codelibs/fione/h2o/bindings/pojos/%s.java" % name, generate_schema(name, schema))
 
+    adapter_names = []
+    for name, schema in schemas_map.items():
+        if "generics" in schema or "super_generics" in schema or is_model_schema(name, schemas_map): continue
+        bi.vprint("Generating adapter: " + name)
+        bi.write_to_file("org/codelibs/fione/h2o/bindings/adapters/%sAdapter.java" % name,
+                         generate_adapter(name, adapter_fields(schema)))
+        adapter_names.append(name)
+    bi.write_to_file("org/codelibs/fione/h2o/bindings/adapters/PojoTypeAdapterFactory.java",
+                     generate_adapter_factory(adapter_names))
+
     for name, values in bi.enums().items():
         bi.vprint("Generating enum: " + name)
         bi.write_to_file("org/codelibs/fione/h2o/bindings/pojos/%s.java" % name, generate_enum(name, sorted(values)))